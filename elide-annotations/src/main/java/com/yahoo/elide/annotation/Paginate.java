@@ -37,4 +37,22 @@ public @interface Paginate {
      * @return the maximum limit
      */
     int maxLimit() default 10000;
+
+    /**
+     * How page totals are computed when they are requested.  Requests may override it with page[totals]=exact or
+     * page[totals]=cached.
+     * @return the totals mode
+     */
+    Totals totals() default Totals.EXACT;
+
+    /**
+     * Modes of computing page totals.
+     */
+    enum Totals {
+        /** Count the records of every request. */
+        EXACT,
+
+        /** Reuse the count of an identical filter for a short time.  Such totals are reported as approximate. */
+        CACHED
+    }
 }
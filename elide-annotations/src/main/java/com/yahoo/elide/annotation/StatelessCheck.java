@@ -0,0 +1,26 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link com.yahoo.elide.security.checks.Check} as safe to share between requests and threads.
+ * Elide creates (and injects) a single instance of a stateless check instead of one instance per use.
+ * <br><br>
+ * {@link com.yahoo.elide.security.checks.UserCheck} and {@link com.yahoo.elide.security.checks.OperationCheck}
+ * subclasses without instance fields are treated as stateless without this annotation.  Checks with injected
+ * dependencies (but no per-request state) can use this annotation to be shared as well.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface StatelessCheck {
+}
@@ -7,13 +7,31 @@ package com.yahoo.elide.security;
 
 import lombok.Getter;
 
+import java.security.Principal;
+
 /**
  * Wrapper for opaque user passed in every request.
  */
 public class User {
     @Getter private final Object opaqueUser;
 
+    /**
+     * A stable identifier of the user (e.g. a principal name) or null.  User check results are only shared
+     * between requests of users with an identity.
+     */
+    @Getter private final Object identity;
+
+    /**
+     * Wraps an opaque user.  When the opaque user is a {@link Principal}, the principal name is its identity.
+     *
+     * @param opaqueUser The opaque user
+     */
     public User(Object opaqueUser) {
+        this(opaqueUser, opaqueUser instanceof Principal ? ((Principal) opaqueUser).getName() : null);
+    }
+
+    public User(Object opaqueUser, Object identity) {
         this.opaqueUser = opaqueUser;
+        this.identity = identity;
     }
 }
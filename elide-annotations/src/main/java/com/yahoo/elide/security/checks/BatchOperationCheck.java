@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.security.checks;
+
+import com.yahoo.elide.security.ChangeSpec;
+import com.yahoo.elide.security.RequestScope;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Operation check which evaluates a page of objects at once.
+ * @see OperationCheck
+ *
+ * When a collection is read, the check is invoked once with the objects of the whole page (e.g. to load memberships
+ * with a single query) and the result for each object is reused when the permissions of that object are evaluated.
+ * Objects checked on their own, or with a change spec, are passed to {@link #ok(Object, RequestScope, Optional)}.
+ *
+ * A batch check never sees a change spec: the default single object evaluation discards it.  Checks which depend on
+ * the change spec must override {@link #ok(Object, RequestScope, Optional)} or extend {@link OperationCheck}.
+ *
+ * @param <T> Type parameter
+ */
+public abstract class BatchOperationCheck<T> extends OperationCheck<T> {
+
+    /**
+     * Determines which objects the user can access.
+     *
+     * @param objects The objects to check
+     * @param requestScope Request scope object
+     * @return Whether the check passed for each object, in the order of {@code objects}
+     */
+    public abstract List<Boolean> ok(List<T> objects, RequestScope requestScope);
+
+    /**
+     * Evaluates a single object as a batch of one.  The change spec is not passed to the batch check.
+     *
+     * @param object The object to check
+     * @param requestScope Request scope object
+     * @param changeSpec Change spec, which is ignored
+     * @return Whether the check passed for the object
+     */
+    @Override
+    public boolean ok(T object, RequestScope requestScope, Optional<ChangeSpec> changeSpec) {
+        return ok(Collections.singletonList(object), requestScope).get(0);
+    }
+}
@@ -55,6 +55,7 @@ import org.owasp.encoder.Encode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Set;
@@ -63,6 +64,7 @@ import java.util.function.Supplier;
 import javax.validation.ConstraintViolationException;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * REST Entry point handler.
@@ -266,7 +268,9 @@ public class Elide {
                                           Supplier<DataStoreTransaction> transaction,
                                           Handler<DataStoreTransaction, User, HandlerResult> handler) {
         boolean isVerbose = false;
-        try (DataStoreTransaction tx = transaction.get()) {
+        ElideResponse response = null;
+        DataStoreTransaction tx = transaction.get();
+        try {
             final User user = tx.accessUser(opaqueUser);
             HandlerResult result = handler.handle(tx, user);
             RequestScope requestScope = result.getRequestScope();
@@ -282,16 +286,10 @@ public class Elide {
 
             requestScope.runQueuedPreCommitTriggers();
 
-            ElideResponse response = buildResponse(responder.get());
-
-            auditLogger.commit(requestScope);
-            tx.commit(requestScope);
-            requestScope.runQueuedPostCommitTriggers();
-
-            if (log.isTraceEnabled()) {
-                requestScope.getPermissionExecutor().printCheckStats();
-            }
-
+            Pair<Integer, JsonNode> responsePair = responder.get();
+            response = isStreamed(isReadOnly, responsePair)
+                    ? buildStreamingResponse(responsePair, tx, requestScope)
+                    : buildCommittedResponse(responsePair, tx, requestScope);
             return response;
 
         } catch (WebApplicationException e) {
@@ -333,7 +331,110 @@ public class Elide {
             throw e;
 
         } finally {
+            closeUnlessStreaming(tx, response);
+        }
+    }
+
+    /**
+     * Whether a response body is streamed.  Only read only requests are streamed, since the body is written after
+     * the request handler has returned.
+     *
+     * @param isReadOnly if the transaction is read only
+     * @param response the response status and (possibly deferred) document
+     * @return true if the body should be streamed
+     */
+    private boolean isStreamed(boolean isReadOnly, Pair<Integer, JsonNode> response) {
+        return isReadOnly && elideSettings.isStreamResponses() && response.getRight() != null;
+    }
+
+    /**
+     * Build a response whose body is materialized before the transaction is committed.
+     *
+     * @param response the response status and document
+     * @param tx the open transaction
+     * @param requestScope the request scope
+     * @return the response
+     * @throws IOException if the audit log cannot be committed
+     */
+    private ElideResponse buildCommittedResponse(Pair<Integer, JsonNode> response, DataStoreTransaction tx,
+                                                 RequestScope requestScope) throws IOException {
+        ElideResponse committed = buildResponse(response);
+
+        auditLogger.commit(requestScope);
+        tx.commit(requestScope);
+        requestScope.runQueuedPostCommitTriggers();
+
+        if (log.isTraceEnabled()) {
+            requestScope.getPermissionExecutor().printCheckStats();
+        }
+
+        return committed;
+    }
+
+    /**
+     * Close the transaction of a request unless its body is streamed, in which case the transaction is committed
+     * and closed once the body has been written.
+     *
+     * @param tx the transaction
+     * @param response the response or null if the request failed
+     */
+    private void closeUnlessStreaming(DataStoreTransaction tx, ElideResponse response) {
+        if (response != null && response.isStreaming()) {
+            return;
+        }
+        auditLogger.clear();
+        closeTransaction(tx);
+    }
+
+    /**
+     * Build a response whose body is serialized straight to the client output stream.  The read transaction
+     * remains open while the body is written (so lazily loaded relationships can still be fetched) and is
+     * committed and closed afterwards.  If the body is never written, closing it closes the transaction.
+     *
+     * @param response the response status and (possibly deferred) document
+     * @param tx the open transaction
+     * @param requestScope the request scope
+     * @return the streaming response
+     */
+    protected ElideResponse buildStreamingResponse(Pair<Integer, JsonNode> response, DataStoreTransaction tx,
+                                                   RequestScope requestScope) {
+        StreamingOutput body = outputStream -> {
+            try {
+                mapper.writeJsonApiDocument(response.getRight(), outputStream);
+
+                auditLogger.commit(requestScope);
+                tx.commit(requestScope);
+                requestScope.runQueuedPostCommitTriggers();
+
+                if (log.isTraceEnabled()) {
+                    requestScope.getPermissionExecutor().printCheckStats();
+                }
+            } catch (IOException | RuntimeException e) {
+                // Headers have already been sent, so there is no way to report an error to the client
+                log.error("Error while streaming response", e);
+                throw e;
+            } finally {
+                auditLogger.clear();
+                tx.close();
+            }
+        };
+
+        Closeable abandon = () -> {
             auditLogger.clear();
+            tx.close();
+        };
+
+        return ElideResponse.builder()
+                .responseCode(response.getLeft())
+                .streamingBody(new SingleUseStreamingOutput(body, abandon))
+                .build();
+    }
+
+    private static void closeTransaction(DataStoreTransaction tx) {
+        try {
+            tx.close();
+        } catch (IOException e) {
+            log.error("IO Exception while closing transaction", e);
         }
     }
 
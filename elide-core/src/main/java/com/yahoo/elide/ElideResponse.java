@@ -8,13 +8,28 @@ package com.yahoo.elide;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.core.StreamingOutput;
+
 /**
  * Elide response object.
  */
 @Builder
-public class ElideResponse {
+public class ElideResponse implements Closeable {
     @Getter private final int responseCode;
-    @Getter private final String body;
+    private String body;
+
+    /**
+     * Writes the response body when the response is streamed rather than materialized as a string.
+     * Writing the body completes the underlying request (commit and close of the read transaction) so
+     * it can be invoked once.  Containers which do not write the body must {@link #close} the response.
+     */
+    @Getter private final StreamingOutput streamingBody;
 
     /**
      * Constructor.
@@ -23,7 +38,59 @@ public class ElideResponse {
      * @param body returned body string
      */
     public ElideResponse(int responseCode, String body) {
+        this(responseCode, body, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param responseCode HTTP response code
+     * @param body returned body string
+     * @param streamingBody writer for a streamed body
+     */
+    public ElideResponse(int responseCode, String body, StreamingOutput streamingBody) {
         this.responseCode = responseCode;
         this.body = body;
+        this.streamingBody = streamingBody;
+    }
+
+    /**
+     * Whether the body of this response must be written through the streaming body.
+     *
+     * @return true if the response is streamed
+     */
+    public boolean isStreaming() {
+        return streamingBody != null;
+    }
+
+    /**
+     * Get the response body.  Streamed responses are materialized on first access, which writes the streaming body.
+     *
+     * @return returned body string
+     * @throws UncheckedIOException if writing the streamed body fails
+     */
+    public String getBody() {
+        if (body == null && streamingBody != null) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try {
+                streamingBody.write(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            body = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    /**
+     * Releases the resources held by a streamed response whose body has not been written.  Does nothing otherwise.
+     *
+     * @throws IOException if the resources cannot be released
+     */
+    @Override
+    public void close() throws IOException {
+        if (streamingBody instanceof Closeable) {
+            ((Closeable) streamingBody).close();
+        }
     }
 }
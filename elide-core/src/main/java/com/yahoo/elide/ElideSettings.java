@@ -9,10 +9,13 @@ import com.yahoo.elide.audit.AuditLogger;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreMetrics;
 import com.yahoo.elide.core.filter.dialect.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.security.PermissionExecutor;
+import com.yahoo.elide.security.PermissionMetrics;
+import com.yahoo.elide.security.permissions.UserCheckCache;
 import com.yahoo.elide.utils.coerce.converters.Serde;
 
 import lombok.AllArgsConstructor;
@@ -41,4 +44,8 @@ public class ElideSettings {
     @Getter private final boolean returnErrorObjects;
     @Getter private final Map<Class, Serde> serdes;
     @Getter private final boolean encodeErrorResponses;
+    @Getter private final boolean streamResponses;
+    @Getter private final UserCheckCache userCheckCache;
+    @Getter private final PermissionMetrics permissionMetrics;
+    @Getter private final DataStoreMetrics dataStoreMetrics;
 }
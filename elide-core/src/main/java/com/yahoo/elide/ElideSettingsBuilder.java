@@ -11,6 +11,7 @@ import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.HttpStatus;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreMetrics;
 import com.yahoo.elide.core.filter.dialect.DefaultFilterDialect;
 import com.yahoo.elide.core.filter.dialect.JoinFilterDialect;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
@@ -18,7 +19,9 @@ import com.yahoo.elide.core.filter.dialect.SubqueryFilterDialect;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.jsonapi.JsonApiMapper;
 import com.yahoo.elide.security.PermissionExecutor;
+import com.yahoo.elide.security.PermissionMetrics;
 import com.yahoo.elide.security.executors.ActivePermissionExecutor;
+import com.yahoo.elide.security.permissions.UserCheckCache;
 import com.yahoo.elide.utils.coerce.converters.EpochToDateConverter;
 import com.yahoo.elide.utils.coerce.converters.ISO8601DateSerde;
 import com.yahoo.elide.utils.coerce.converters.Serde;
@@ -51,6 +54,10 @@ public class ElideSettingsBuilder {
     private int updateStatusCode;
     private boolean returnErrorObjects;
     private boolean encodeErrorResponses;
+    private boolean streamResponses;
+    private UserCheckCache userCheckCache;
+    private PermissionMetrics permissionMetrics = PermissionMetrics.NONE;
+    private DataStoreMetrics dataStoreMetrics = DataStoreMetrics.NONE;
 
     /**
      * A new builder used to generate Elide instances. Instantiates an {@link EntityDictionary} without
@@ -96,7 +103,11 @@ public class ElideSettingsBuilder {
                 updateStatusCode,
                 returnErrorObjects,
                 serdes,
-                encodeErrorResponses);
+                encodeErrorResponses,
+                streamResponses,
+                userCheckCache,
+                permissionMetrics,
+                dataStoreMetrics);
     }
 
     public ElideSettingsBuilder withAuditLogger(AuditLogger auditLogger) {
@@ -201,4 +212,50 @@ public class ElideSettingsBuilder {
         this.encodeErrorResponses = encodeErrorResponses;
         return this;
     }
+
+    /**
+     * Writes read-only JSON-API responses directly to the response stream while the read transaction is open.
+     * The response status is sent before the transaction commits, so a commit failure after the first byte
+     * results in a truncated 200 response.
+     *
+     * @param streamResponses whether read responses are streamed
+     * @return the builder
+     */
+    public ElideSettingsBuilder withStreamResponses(boolean streamResponses) {
+        this.streamResponses = streamResponses;
+        return this;
+    }
+
+    /**
+     * Shares the results of user checks between requests of the same user.
+     *
+     * @param userCheckCache the cache of user check results
+     * @return the builder
+     */
+    public ElideSettingsBuilder withUserCheckCache(UserCheckCache userCheckCache) {
+        this.userCheckCache = userCheckCache;
+        return this;
+    }
+
+    /**
+     * Records per check evaluation counts, latencies and cache hits.
+     *
+     * @param permissionMetrics the metrics implementation
+     * @return the builder
+     */
+    public ElideSettingsBuilder withPermissionMetrics(PermissionMetrics permissionMetrics) {
+        this.permissionMetrics = permissionMetrics;
+        return this;
+    }
+
+    /**
+     * Records the sizes of the write batches flushed by data stores.
+     *
+     * @param dataStoreMetrics the metrics implementation
+     * @return the builder
+     */
+    public ElideSettingsBuilder withDataStoreMetrics(DataStoreMetrics dataStoreMetrics) {
+        this.dataStoreMetrics = dataStoreMetrics;
+        return this;
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * A streamed response body which holds request resources (such as an open read transaction) until it is written.
+ *
+ * The body can be written once.  A body which will never be written must be closed so the resources are released;
+ * closing a body which has been written does nothing.
+ */
+public class SingleUseStreamingOutput implements StreamingOutput, Closeable {
+    private final StreamingOutput writer;
+    private final Closeable release;
+    private final AtomicBoolean used = new AtomicBoolean(false);
+
+    /**
+     * Constructor.
+     *
+     * @param writer writes the body and releases the request resources
+     * @param release releases the request resources if the body is never written
+     */
+    public SingleUseStreamingOutput(StreamingOutput writer, Closeable release) {
+        this.writer = writer;
+        this.release = release;
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+        if (!used.compareAndSet(false, true)) {
+            throw new IllegalStateException("The response body has already been written or closed");
+        }
+        writer.write(outputStream);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (used.compareAndSet(false, true)) {
+            release.close();
+        }
+    }
+}
@@ -25,7 +25,20 @@ public interface CheckInstantiator {
      */
     default Check getCheck(EntityDictionary dictionary, String checkName) {
         Class<? extends Check> checkCls = dictionary.getCheck(checkName);
-        return instantiateCheck(checkCls);
+        return getCheck(dictionary, checkCls);
+    }
+
+    /**
+     * Gets a check instance.  Stateless checks are shared, while other checks are instantiated for every use.
+     * Both are created by {@link #instantiateCheck} and injected by the dictionary.
+     * @param dictionary the entity dictionary which holds the stateless check instances
+     * @param checkCls the check class
+     * @return the check instance
+     * @throws IllegalArgumentException if the check class cannot be instantiated with a zero argument constructor
+     */
+    default Check getCheck(EntityDictionary dictionary, Class<? extends Check> checkCls) {
+        return dictionary.getStatelessCheck(checkCls, this)
+                .orElseGet(() -> dictionary.injectCheck(instantiateCheck(checkCls)));
     }
 
     /**
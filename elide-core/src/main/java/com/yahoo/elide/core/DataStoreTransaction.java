@@ -14,7 +14,11 @@ import com.yahoo.elide.security.User;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -84,6 +88,20 @@ public interface DataStoreTransaction extends Closeable {
     default void preCommit() {
     }
 
+    /**
+     * Called when Elide no longer needs an entity loaded by this transaction because it has been serialized into
+     * a streamed response.  Data stores may release their own state for the entity (for example, detach it from a
+     * persistence context so its dirty checking snapshot can be collected).  This does not bound the memory of a
+     * response: Elide still holds every resource of the page until the response is written.  The entity is never
+     * modified afterwards.  Entities with lifecycle hooks or audit annotations are never evicted, since Elide may
+     * access them after the response has been written.
+     *
+     * @param entity - the serialized object
+     * @param scope - contains request level metadata.
+     */
+    default void evict(Object entity, RequestScope scope) {
+    }
+
     /**
      * Elide will create and populate the object with the attributes and relationships before
      * calling this method.  Operation security checks will be evaluated before invocation but commit
@@ -189,6 +207,67 @@ public interface DataStoreTransaction extends Closeable {
         return PersistentResource.getValue(entity, relationName, scope);
     }
 
+    /**
+     * Retrieve a relation from a batch of objects of the same type.  Data stores which can load the relation
+     * for every object at once (for example, with a single query) should override this to avoid a round trip
+     * per object.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationName - name of the relationship.
+     * @param filterExpression - filtering which can be pushed down to the data store.
+     * It is optional for the data store to attempt evaluation.
+     * @param sorting - sorting which can be pushed down to the data store.
+     * @param pagination - pagination which can be pushed down to the data store.
+     * @param scope - contains request level metadata.
+     * @return the object(s) in the relation for each entity, keyed by entity identity
+     */
+    default Map<Object, Object> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<?> entities,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            Optional<Pagination> pagination,
+            RequestScope scope) {
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        for (Object entity : entities) {
+            relations.put(entity,
+                    getRelation(relationTx, entity, relationName, filterExpression, sorting, pagination, scope));
+        }
+        return relations;
+    }
+
+    /**
+     * Retrieve the identifiers of the objects in a to-many relation for a batch of objects of the same type.
+     * This is used to render relationship linkage without loading the related objects.  Data stores which can
+     * read the identifiers directly (for example, with a single query) should override this.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationName - name of the relationship.
+     * @param scope - contains request level metadata.
+     * @return the identifiers of the related objects for each entity, keyed by entity identity
+     */
+    default Map<Object, Collection<String>> getRelationIds(
+            DataStoreTransaction relationTx,
+            Collection<?> entities,
+            String relationName,
+            RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+        Map<Object, Collection<String>> relationIds = new IdentityHashMap<>();
+        getRelations(relationTx, entities, relationName, Optional.empty(), Optional.empty(), Optional.empty(), scope)
+                .forEach((entity, relation) -> {
+                    Collection<String> ids = new ArrayList<>();
+                    if (relation instanceof Iterable) {
+                        ((Iterable<?>) relation).forEach(related -> ids.add(dictionary.getId(related)));
+                    } else if (relation != null) {
+                        ids.add(dictionary.getId(relation));
+                    }
+                    relationIds.put(entity, ids);
+                });
+        return relationIds;
+    }
 
     /**
      * Elide core will update the in memory representation of the objects to the requested state.
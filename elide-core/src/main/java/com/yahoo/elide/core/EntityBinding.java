@@ -26,6 +26,7 @@ import com.yahoo.elide.annotation.ToMany;
 import com.yahoo.elide.annotation.ToOne;
 import com.yahoo.elide.core.exceptions.DuplicateMappingException;
 import com.yahoo.elide.functions.LifeCycleHook;
+import com.yahoo.elide.security.checks.Check;
 
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
@@ -53,6 +54,7 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Predicate;
@@ -111,11 +113,18 @@ public class EntityBinding {
     public final ConcurrentHashMap<String, String> relationshipToInverse = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, CascadeType[]> relationshipToCascadeTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, AccessibleObject> fieldsToValues = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, FieldAccessor> fieldsToAccessors = new ConcurrentHashMap<>();
     public final MultiValuedMap<Pair<Class, String>, LifeCycleHook> fieldsToTriggers = new HashSetValuedHashMap<>();
     public final MultiValuedMap<Class, LifeCycleHook> classToTriggers = new HashSetValuedHashMap<>();
     public final ConcurrentHashMap<String, Class<?>> fieldsToTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, String> aliasesToFields = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<Method, Boolean> requestScopeableMethods = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<Class<? extends Annotation>, List<String>> fieldsWithPermissions =
+            new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<Class<? extends Annotation>, Set<Class<? extends Check>>> checksForPermission =
+            new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<Class<? extends Annotation>, Set<Class<? extends Check>>>
+            fieldChecksForPermission = new ConcurrentHashMap<>();
 
     public final ConcurrentHashMap<Object, Annotation> annotations = new ConcurrentHashMap<>();
 
@@ -295,7 +304,7 @@ public class EntityBinding {
         idType = fieldType;
         idFieldName = fieldName;
 
-        fieldsToValues.put(fieldName, fieldOrMethod);
+        bindFieldOrMethod(fieldName, fieldOrMethod, fieldType);
 
         if (idField != null && !fieldOrMethod.equals(idField)) {
             throw new DuplicateMappingException(type + " " + cls.getName() + ":" + fieldName);
@@ -389,14 +398,33 @@ public class EntityBinding {
         relationshipToCascadeTypes.put(fieldName, cascadeTypes);
 
         relationshipsDeque.push(fieldName);
-        fieldsToValues.put(fieldName, fieldOrMethod);
-        fieldsToTypes.put(fieldName, fieldType);
+        bindFieldOrMethod(fieldName, fieldOrMethod, fieldType);
     }
 
     private void bindAttr(AccessibleObject fieldOrMethod, String fieldName, Class<?> fieldType) {
         attributesDeque.push(fieldName);
+        bindFieldOrMethod(fieldName, fieldOrMethod, fieldType);
+    }
+
+    /**
+     * Binds the field or getter method of a field along with an accessor to read and write it.
+     *
+     * @param fieldName The field name
+     * @param fieldOrMethod Field or method to bind
+     * @param fieldType The type of the field
+     */
+    private void bindFieldOrMethod(String fieldName, AccessibleObject fieldOrMethod, Class<?> fieldType) {
         fieldsToValues.put(fieldName, fieldOrMethod);
         fieldsToTypes.put(fieldName, fieldType);
+
+        boolean requestScopeable = fieldOrMethod instanceof Method
+                && requestScopeableMethods.getOrDefault(fieldOrMethod, false);
+        FieldAccessor accessor = FieldAccessor.of(entityClass, fieldName, fieldOrMethod, fieldType, requestScopeable);
+        if (accessor == null) {
+            fieldsToAccessors.remove(fieldName);
+        } else {
+            fieldsToAccessors.put(fieldName, accessor);
+        }
     }
 
     /**
@@ -548,6 +576,15 @@ public class EntityBinding {
         return methods == null ? Collections.emptyList() : methods;
     }
 
+    /**
+     * Whether lifecycle hooks must be run for the entity.
+     *
+     * @return whether any lifecycle hook is bound to the entity or its fields
+     */
+    public boolean hasTriggers() {
+        return !classToTriggers.isEmpty() || !fieldsToTriggers.isEmpty();
+    }
+
     /**
      * Cache placeholder for no annotation.
      */
@@ -9,6 +9,7 @@ package com.yahoo.elide.core;
 import static com.yahoo.elide.core.EntityBinding.EMPTY_BINDING;
 
 import com.yahoo.elide.Injector;
+import com.yahoo.elide.annotation.Audit;
 import com.yahoo.elide.annotation.ComputedAttribute;
 import com.yahoo.elide.annotation.ComputedRelationship;
 import com.yahoo.elide.annotation.Exclude;
@@ -16,15 +17,22 @@ import com.yahoo.elide.annotation.Include;
 import com.yahoo.elide.annotation.MappedInterface;
 import com.yahoo.elide.annotation.SecurityCheck;
 import com.yahoo.elide.annotation.SharePermission;
+import com.yahoo.elide.annotation.StatelessCheck;
 import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.InternalServerErrorException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.functions.LifeCycleHook;
+import com.yahoo.elide.generated.parsers.ExpressionBaseVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionParser;
+import com.yahoo.elide.parsers.expression.PermissionExpressionCompiler;
 import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.OperationCheck;
+import com.yahoo.elide.security.checks.UserCheck;
 import com.yahoo.elide.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.security.checks.prefab.Collections.RemoveOnly;
 import com.yahoo.elide.security.checks.prefab.Common;
 import com.yahoo.elide.security.checks.prefab.Role;
+import com.yahoo.elide.security.permissions.PermissionExpressionTemplate;
 import com.yahoo.elide.utils.ClassScanner;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
@@ -82,6 +90,11 @@ public class EntityDictionary {
     protected final ConcurrentHashMap<Class<?>, List<Class<?>>> subclassingEntities = new ConcurrentHashMap<>();
     protected final BiMap<String, Class<? extends Check>> checkNames;
     protected final Injector injector;
+    protected final ConcurrentHashMap<ParseTree, PermissionExpressionTemplate> permissionTemplates =
+            new ConcurrentHashMap<>();
+    //The shared instance of each check class, or empty for checks which are not stateless.
+    protected final ConcurrentHashMap<Class<? extends Check>, Optional<Check>> statelessChecks =
+            new ConcurrentHashMap<>();
 
     public final static String REGULAR_ID_NAME = "id";
     private final static ConcurrentHashMap<Class, String> SIMPLE_NAMES = new ConcurrentHashMap<>();
@@ -273,6 +286,39 @@ public class EntityDictionary {
         return binding.entityPermissions.getFieldChecksForPermission(field, annotationClass);
     }
 
+    /**
+     * Gets the compiled form of a permission definition.  Each definition is compiled once and the template is
+     * shared by every request.
+     *
+     * @param permissions the permission definition from {@link #getPermissionsForClass} or
+     *                    {@link #getPermissionsForField}
+     * @return the permission template or {@code null} if there is no permission definition
+     */
+    public PermissionExpressionTemplate getPermissionTemplate(ParseTree permissions) {
+        if (permissions == null) {
+            return null;
+        }
+
+        return permissionTemplates.computeIfAbsent(permissions,
+                (tree) -> new PermissionExpressionCompiler(this).visit(tree));
+    }
+
+    /**
+     * Gets the fields of an entity which define a permission, in the order of {@link #getAllFields(Class)}.
+     *
+     * @param resourceClass the entity to check
+     * @param annotationClass the permission to look for
+     * @return the fields which specify the permission
+     */
+    public List<String> getFieldsWithPermission(Class<?> resourceClass, Class<? extends Annotation> annotationClass) {
+        EntityBinding binding = getEntityBinding(resourceClass);
+        return binding.fieldsWithPermissions.computeIfAbsent(annotationClass, (permission) ->
+                Collections.unmodifiableList(getAllFields(resourceClass).stream()
+                        .filter(field -> binding.entityPermissions
+                                .getFieldChecksForPermission(field, permission) != null)
+                        .collect(Collectors.toList())));
+    }
+
     /**
      * Returns the check mapped to a particular identifier.
      *
@@ -290,6 +336,127 @@ public class EntityDictionary {
         });
     }
 
+    /**
+     * Gets every check referenced by a permission on an entity or on any of its fields.
+     *
+     * @param resourceClass the entity to check
+     * @param annotationClass the permission to look for
+     * @return the check classes
+     */
+    public Set<Class<? extends Check>> getChecksForPermission(Class<?> resourceClass,
+                                                              Class<? extends Annotation> annotationClass) {
+        EntityBinding binding = getEntityBinding(resourceClass);
+        return binding.checksForPermission.computeIfAbsent(annotationClass, (permission) -> {
+            Set<Class<? extends Check>> checks = new LinkedHashSet<>();
+            ParseTree classPermissions = getPermissionsForClass(resourceClass, permission);
+            if (classPermissions != null) {
+                collectChecks(classPermissions, checks);
+            }
+            checks.addAll(getFieldChecksForPermission(resourceClass, permission));
+            return Collections.unmodifiableSet(checks);
+        });
+    }
+
+    /**
+     * Gets every check referenced by a permission on any field of an entity.
+     *
+     * @param resourceClass the entity to check
+     * @param annotationClass the permission to look for
+     * @return the check classes
+     */
+    public Set<Class<? extends Check>> getFieldChecksForPermission(Class<?> resourceClass,
+                                                                   Class<? extends Annotation> annotationClass) {
+        EntityBinding binding = getEntityBinding(resourceClass);
+        return binding.fieldChecksForPermission.computeIfAbsent(annotationClass, (permission) -> {
+            Set<Class<? extends Check>> checks = new LinkedHashSet<>();
+            for (String field : getFieldsWithPermission(resourceClass, permission)) {
+                collectChecks(getPermissionsForField(resourceClass, field, permission), checks);
+            }
+            return Collections.unmodifiableSet(checks);
+        });
+    }
+
+    private void collectChecks(ParseTree permissions, Set<Class<? extends Check>> checks) {
+        new ExpressionBaseVisitor<Void>() {
+            @Override
+            public Void visitPermissionClass(ExpressionParser.PermissionClassContext ctx) {
+                checks.add(getCheck(ctx.getText()));
+                return null;
+            }
+        }.visit(permissions);
+    }
+
+    /**
+     * Returns the shared instance of a stateless check.  The instance is created with the default
+     * {@link CheckInstantiator} and injected the first time it is requested.
+     *
+     * @param checkClass the check class
+     * @return the shared check instance or empty if instances of the check must not be shared
+     * @see StatelessCheck
+     */
+    public Optional<Check> getStatelessCheck(Class<? extends Check> checkClass) {
+        return getStatelessCheck(checkClass, new CheckInstantiator() { });
+    }
+
+    /**
+     * Returns the shared instance of a stateless check.  The first request for the check creates the instance with
+     * {@link CheckInstantiator#instantiateCheck} and injects it, exactly as a stateful check is created for every
+     * use.
+     *
+     * @param checkClass the check class
+     * @param instantiator creates the shared instance
+     * @return the shared check instance or empty if instances of the check must not be shared
+     * @see StatelessCheck
+     */
+    public Optional<Check> getStatelessCheck(Class<? extends Check> checkClass, CheckInstantiator instantiator) {
+        if (checkClass == null) {
+            return Optional.empty();
+        }
+
+        return statelessChecks.computeIfAbsent(checkClass, (cls) -> isStatelessCheck(cls)
+                ? Optional.of(injectCheck(instantiator.instantiateCheck(cls)))
+                : Optional.empty());
+    }
+
+    /**
+     * Injects the dependencies of a new check instance.
+     *
+     * @param check the check instance
+     * @return the check instance
+     */
+    public Check injectCheck(Check check) {
+        if (injector != null) {
+            injector.inject(check);
+        }
+        return check;
+    }
+
+    /**
+     * Determines whether a check can be shared by every request.  Checks annotated with {@link StatelessCheck}
+     * are stateless, as are user and operation checks without instance fields.
+     *
+     * @param checkClass the check class
+     * @return {@code true} if one instance of the check can be shared
+     */
+    public static boolean isStatelessCheck(Class<? extends Check> checkClass) {
+        if (checkClass.isAnnotationPresent(StatelessCheck.class)) {
+            return true;
+        }
+
+        if (!UserCheck.class.isAssignableFrom(checkClass) && !OperationCheck.class.isAssignableFrom(checkClass)) {
+            return false;
+        }
+
+        for (Class<?> cls = checkClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Get inherited entity names for a particular entity.
      *
@@ -901,6 +1068,30 @@ public class EntityDictionary {
         return getEntityBinding(cls).getTriggers(annotationClass);
     }
 
+    /**
+     * Whether any lifecycle hook is bound to an entity or its fields.
+     *
+     * @param cls the entity class
+     * @return true if the entity has lifecycle hooks
+     */
+    public boolean hasTriggers(Class<?> cls) {
+        return getEntityBinding(cls).hasTriggers();
+    }
+
+    /**
+     * Whether an entity or any of its attributes and relationships is annotated with {@link Audit}.
+     *
+     * @param cls the entity class
+     * @return true if the entity is audited
+     */
+    public boolean isAudited(Class<?> cls) {
+        if (cls.getAnnotationsByType(Audit.class).length > 0) {
+            return true;
+        }
+        return getEntityBinding(cls).fieldsToValues.values().stream()
+                .anyMatch(fieldOrMethod -> fieldOrMethod.getAnnotationsByType(Audit.class).length > 0);
+    }
+
     /**
      * Return a single annotation from field or accessor method.
      *
@@ -1327,6 +1518,15 @@ public class EntityDictionary {
      * @return the value
      */
     public Object getValue(Object target, String fieldName, RequestScope scope) {
+        FieldAccessor fieldAccessor = getEntityBinding(target.getClass()).fieldsToAccessors.get(fieldName);
+        if (fieldAccessor != null) {
+            try {
+                return fieldAccessor.getValue(target, scope);
+            } catch (InvocationTargetException e) {
+                throw handleInvocationTargetException(e);
+            }
+        }
+
         AccessibleObject accessor = getAccessibleObject(target, fieldName);
         try {
             if (accessor instanceof Method) {
@@ -1361,6 +1561,13 @@ public class EntityDictionary {
             Class<?> fieldClass = getType(targetClass, fieldName);
             String realName = getNameFromAlias(target, fieldName);
             fieldAlias = (realName != null) ? realName : fieldName;
+
+            FieldAccessor fieldAccessor = getEntityBinding(targetClass).fieldsToAccessors.get(fieldAlias);
+            if (fieldAccessor != null && fieldAccessor.hasSetter()) {
+                fieldAccessor.setValue(target, coerce(target, value, fieldAlias, fieldClass));
+                return;
+            }
+
             String setMethod = "set" + StringUtils.capitalize(fieldAlias);
             Method method = EntityDictionary.findMethod(targetClass, setMethod, fieldClass);
             method.invoke(target, coerce(target, value, fieldAlias, fieldClass));
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Reads and writes a field (attribute, relationship, or identifier) of a bound entity.
+ *
+ * The getter and setter are resolved to method handles once when the entity is bound so that reads and writes
+ * do not need to look up or reflectively invoke methods.  Exceptions thrown by the entity are wrapped in an
+ * {@link InvocationTargetException} just as {@link Method#invoke} would.
+ */
+public class FieldAccessor {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SCOPED_GETTER_TYPE =
+            MethodType.methodType(Object.class, Object.class, RequestScope.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle getter;
+    private final boolean requestScopeable;
+    private final MethodHandle setter;
+    private final Method setterMethod;
+    private final Class<?> setterParameterType;
+
+    private FieldAccessor(MethodHandle getter, boolean requestScopeable, MethodHandle setter, Method setterMethod) {
+        this.getter = getter;
+        this.requestScopeable = requestScopeable;
+        this.setter = setter;
+        this.setterMethod = setterMethod;
+        this.setterParameterType = setterMethod == null ? null : setterMethod.getParameterTypes()[0];
+    }
+
+    /**
+     * Creates an accessor for the field or getter method bound to a field name.  The setter is the public
+     * <code>set[FieldName]</code> method accepting the field type, if there is one.
+     *
+     * @param entityClass The bound entity class
+     * @param fieldName The field name
+     * @param fieldOrMethod The field or getter method
+     * @param fieldType The type of the field
+     * @param requestScopeable Whether the getter accepts the request scope
+     * @return The accessor or null if the field cannot be accessed through method handles
+     */
+    public static FieldAccessor of(Class<?> entityClass, String fieldName, AccessibleObject fieldOrMethod,
+                                   Class<?> fieldType, boolean requestScopeable) {
+        try {
+            MethodHandle getter;
+            if (fieldOrMethod instanceof Method) {
+                getter = LOOKUP.unreflect((Method) fieldOrMethod)
+                        .asType(requestScopeable ? SCOPED_GETTER_TYPE : GETTER_TYPE);
+            } else {
+                getter = LOOKUP.unreflectGetter((Field) fieldOrMethod).asType(GETTER_TYPE);
+            }
+
+            Method setterMethod = null;
+            MethodHandle setter = null;
+            if (fieldType != null) {
+                try {
+                    setterMethod = EntityDictionary.findMethod(entityClass,
+                            "set" + StringUtils.capitalize(fieldName), fieldType);
+                    setter = LOOKUP.unreflect(setterMethod).asType(SETTER_TYPE);
+                } catch (NoSuchMethodException e) {
+                    setterMethod = null;
+                }
+            }
+
+            return new FieldAccessor(getter, requestScopeable, setter, setterMethod);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the field.
+     *
+     * @param target The entity
+     * @param scope The request scope passed to computed getters which accept it
+     * @return The value of the field
+     * @throws InvocationTargetException if the getter throws an exception
+     */
+    public Object getValue(Object target, RequestScope scope) throws InvocationTargetException {
+        try {
+            return requestScopeable
+                    ? (Object) getter.invokeExact(target, scope)
+                    : (Object) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Whether the field has a setter method.
+     *
+     * @return true if {@link #setValue} can be used
+     */
+    public boolean hasSetter() {
+        return setter != null;
+    }
+
+    /**
+     * Writes the field through its setter method.
+     *
+     * @param target The entity
+     * @param value The new value, which must already be coerced to the type of the field
+     * @throws InvocationTargetException if the setter throws an exception
+     * @throws IllegalAccessException if the setter is not accessible
+     */
+    public void setValue(Object target, Object value) throws InvocationTargetException, IllegalAccessException {
+        if (!isExactlyAssignable(value)) {
+            //Let reflection widen or reject the value.
+            setterMethod.invoke(target, value);
+            return;
+        }
+
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private boolean isExactlyAssignable(Object value) {
+        if (value == null) {
+            return !setterParameterType.isPrimitive();
+        }
+        return ClassUtils.primitiveToWrapper(setterParameterType).isInstance(value);
+    }
+}
@@ -23,6 +23,7 @@ import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.KeysetPagination;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.jsonapi.models.Data;
@@ -305,9 +306,27 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             }
         }
 
-        Set<PersistentResource> existingResources = filter(ReadPermission.class, filter,
-                new PersistentResourceSet(tx.loadObjects(loadClass, Optional.ofNullable(filterExpression), sorting,
-                pagination.map(p -> p.evaluate(loadClass)), requestScope), requestScope));
+        Optional<Pagination> computedPagination = pagination.map(p -> p.evaluate(loadClass));
+        Optional<KeysetPagination> keyset = computedPagination
+                .filter(Pagination::isKeyset)
+                .map(p -> new KeysetPagination(loadClass, sorting, p, dictionary));
+        Optional<FilterExpression> loadFilter = Optional.ofNullable(filterExpression);
+        Optional<Sorting> loadSorting = sorting;
+        if (keyset.isPresent()) {
+            loadFilter = keyset.get().addSeekFilter(loadFilter);
+            loadSorting = Optional.of(keyset.get().getSorting());
+        }
+
+        Iterable<Object> loaded = tx.loadObjects(loadClass, loadFilter, loadSorting, computedPagination, requestScope);
+        if (keyset.isPresent()) {
+            loaded = keyset.get().page(loaded);
+        }
+
+        // The seek filter discloses the sort key values of the cursor, so it is checked like the request filter.
+        Optional<FilterExpression> checkedFilter = keyset.isPresent() ? keyset.get().addSeekFilter(filter) : filter;
+        Set<PersistentResource> existingResources = filter(ReadPermission.class, checkedFilter,
+                new PersistentResourceSet(loaded, requestScope));
+        keyset.ifPresent(k -> k.setCursors(existingResources));
 
         Set<PersistentResource> allResources = Sets.union(newResources, existingResources);
 
@@ -912,8 +931,20 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
             Optional<Sorting> sorting,
             Optional<Pagination> pagination) {
 
-        return filter(ReadPermission.class, filterExpression,
+        Optional<KeysetPagination> keyset = pagination
+                .filter(p -> p.isKeyset() && getRelationshipType(relationName).isToMany())
+                .map(p -> new KeysetPagination(dictionary.getParameterizedType(obj, relationName), sorting, p,
+                        dictionary));
+
+        // The seek filter discloses the sort key values of the cursor, so it is checked like the request filter.
+        Optional<FilterExpression> checkedFilter = keyset.isPresent()
+                ? keyset.get().addSeekFilter(filterExpression)
+                : filterExpression;
+        Set<PersistentResource> resources = filter(ReadPermission.class, checkedFilter,
                 getRelation(relationName, filterExpression, sorting, pagination, true));
+
+        keyset.ifPresent(k -> k.setCursors(resources));
+        return resources;
     }
 
     private Set<PersistentResource> getRelationUncheckedUnfiltered(String relationName) {
@@ -1005,21 +1036,28 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         }
 
         Optional<Pagination> computedPagination = pagination.map(p -> p.evaluate(relationClass));
+        Optional<FilterExpression> computedFilters = getComputedFilters(relationClass, filterExpression, requestScope);
 
-        //Invoke filterExpressionCheck and then merge with filterExpression.
-        Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(relationClass, requestScope);
-        Optional<FilterExpression> computedFilters = filterExpression;
+        Optional<KeysetPagination> keyset = type.isToMany()
+                ? computedPagination
+                        .filter(Pagination::isKeyset)
+                        .map(p -> new KeysetPagination(relationClass, sorting, p, dictionary))
+                : Optional.empty();
+        Optional<Sorting> computedSorting = sorting;
+        if (keyset.isPresent()) {
+            computedFilters = keyset.get().addSeekFilter(computedFilters);
+            computedSorting = Optional.of(keyset.get().getSorting());
+        }
 
-        if (permissionFilter.isPresent() && filterExpression.isPresent()) {
-            FilterExpression mergedExpression =
-                    new AndFilterExpression(filterExpression.get(), permissionFilter.get());
-            computedFilters = Optional.of(mergedExpression);
-        } else if (permissionFilter.isPresent()) {
-            computedFilters = permissionFilter;
+        Optional<Object> prefetched = Optional.empty();
+        if (!computedSorting.isPresent() && !computedPagination.isPresent()) {
+            prefetched = requestScope.getPrefetchedRelation(obj, relationName, computedFilters);
         }
 
-        Object val = transaction.getRelation(transaction, obj, relationName,
-                    computedFilters, sorting, computedPagination, requestScope);
+        Object val = prefetched.isPresent()
+                ? prefetched.get()
+                : transaction.getRelation(transaction, obj, relationName,
+                    computedFilters, computedSorting, computedPagination, requestScope);
 
         if (val == null) {
             return Collections.emptySet();
@@ -1027,7 +1065,9 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
 
         Set<PersistentResource> resources = Sets.newLinkedHashSet();
         if (val instanceof Iterable) {
-            Iterable filteredVal = (Iterable) val;
+            Iterable filteredVal = keyset.isPresent()
+                    ? keyset.get().page((Iterable<Object>) val)
+                    : (Iterable) val;
             resources = new PersistentResourceSet(this, filteredVal, requestScope);
         } else if (type.isToOne()) {
             resources = new SingleElementSet<>(
@@ -1039,6 +1079,152 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
         return resources;
     }
 
+    /**
+     * Invoke filterExpressionCheck and then merge with filterExpression.
+     *
+     * @param relationClass The relationship type
+     * @param filterExpression An optional filter expression
+     * @param requestScope Request scope
+     * @return The merged filter expression
+     */
+    private static Optional<FilterExpression> getComputedFilters(Class<?> relationClass,
+            Optional<FilterExpression> filterExpression,
+            RequestScope requestScope) {
+        Optional<FilterExpression> permissionFilter = getPermissionFilterExpression(relationClass, requestScope);
+
+        if (permissionFilter.isPresent() && filterExpression.isPresent()) {
+            FilterExpression mergedExpression =
+                    new AndFilterExpression(filterExpression.get(), permissionFilter.get());
+            return Optional.of(mergedExpression);
+        } else if (permissionFilter.isPresent()) {
+            return permissionFilter;
+        }
+        return filterExpression;
+    }
+
+    /**
+     * Loads the to-many relationships that will be serialized for a batch of resources with one data store
+     * call per relationship rather than one per resource.  Where possible, only the identifiers of the related
+     * objects are loaded.  Permissions are still evaluated per resource when the relationships are read.
+     *
+     * @param resources The resources whose relationships will be read
+     */
+    public static void loadRelationships(Collection<? extends PersistentResource> resources) {
+        groupByType(resources).forEach((type, group) -> {
+            PersistentResource<?> first = group.get(0);
+            first.dictionary.getRelationships(first.obj).stream()
+                    .filter(relationName -> checkIncludeSparseField(
+                            first.requestScope.getSparseFields(), first.type, relationName))
+                    .filter(relationName -> !loadRelationshipIds(group, relationName))
+                    .forEach(relationName -> loadRelationship(group, relationName));
+        });
+    }
+
+    /**
+     * Loads only the identifiers of a to-many relationship's members for a batch of resources.  This is only
+     * possible if the related objects do not need to be loaded to filter them or to evaluate their read
+     * permissions, and their type is known without loading them.
+     *
+     * @param resources The resources whose relationship linkage will be read
+     * @param relationName The relationship to load
+     * @return true if the relationship linkage was loaded or does not need to be loaded
+     */
+    private static boolean loadRelationshipIds(List<PersistentResource<?>> resources, String relationName) {
+        PersistentResource<?> first = resources.get(0);
+        EntityDictionary dictionary = first.dictionary;
+        RequestScope requestScope = first.requestScope;
+
+        if (!dictionary.getRelationships(first.obj).contains(relationName)
+                || !first.getRelationshipType(relationName).isToMany()) {
+            return false;
+        }
+
+        Class<?> relationClass = dictionary.getParameterizedType(first.obj, relationName);
+        if (relationClass == null || dictionary.isMappedInterface(relationClass)
+                || !dictionary.getSubclassingEntities(relationClass).isEmpty()) {
+            return false;
+        }
+
+        if (shouldSkipCollection(relationClass, ReadPermission.class, requestScope)) {
+            return true;
+        }
+
+        if (getComputedFilters(relationClass, requestScope.getExpressionForRelation(first, relationName),
+                requestScope).isPresent()
+                || requestScope.getPermissionExecutor().checkUserPermissions(relationClass, ReadPermission.class)
+                        != ExpressionResult.PASS) {
+            return false;
+        }
+
+        List<Object> entities = resources.stream()
+                .map(PersistentResource::getObject)
+                .collect(Collectors.toList());
+
+        requestScope.setPrefetchedRelationIds(relationName,
+                first.transaction.getRelationIds(first.transaction, entities, relationName, requestScope));
+        return true;
+    }
+
+    /**
+     * Loads a to-many relationship for a batch of resources with one data store call per resource type rather
+     * than one per resource.  Permissions are still evaluated per resource when the relationship is read.
+     *
+     * @param resources The resources whose relationship will be read
+     * @param relationName The relationship to load
+     */
+    public static void loadRelationship(Collection<? extends PersistentResource> resources, String relationName) {
+        groupByType(resources).forEach((type, group) -> loadRelationship(group, relationName));
+    }
+
+    private static void loadRelationship(List<PersistentResource<?>> resources, String relationName) {
+        if (resources.size() < 2) {
+            return;
+        }
+
+        PersistentResource<?> first = resources.get(0);
+        EntityDictionary dictionary = first.dictionary;
+        RequestScope requestScope = first.requestScope;
+
+        if (!dictionary.getRelationships(first.obj).contains(relationName)
+                || !first.getRelationshipType(relationName).isToMany()) {
+            return;
+        }
+
+        Class<?> relationClass = dictionary.getParameterizedType(first.obj, relationName);
+        if (relationClass == null || dictionary.isMappedInterface(relationClass)
+                || shouldSkipCollection(relationClass, ReadPermission.class, requestScope)) {
+            return;
+        }
+
+        Optional<FilterExpression> computedFilters = getComputedFilters(relationClass,
+                requestScope.getExpressionForRelation(first, relationName), requestScope);
+
+        List<Object> entities = resources.stream()
+                .map(PersistentResource::getObject)
+                .filter(entity -> !requestScope.isRelationPrefetched(entity, relationName, computedFilters))
+                .collect(Collectors.toList());
+
+        if (entities.size() < 2) {
+            return;
+        }
+
+        Map<Object, Object> relations = first.transaction.getRelations(first.transaction, entities, relationName,
+                computedFilters, Optional.empty(), Optional.empty(), requestScope);
+
+        requestScope.setPrefetchedRelations(relationName, computedFilters, relations);
+    }
+
+    private static Map<Class<?>, List<PersistentResource<?>>> groupByType(
+            Collection<? extends PersistentResource> resources) {
+        Map<Class<?>, List<PersistentResource<?>>> groups = new LinkedHashMap<>();
+        for (PersistentResource<?> resource : resources) {
+            if (resource.obj != null) {
+                groups.computeIfAbsent(resource.getResourceClass(), key -> new ArrayList<>()).add(resource);
+            }
+        }
+        return groups;
+    }
+
     /**
      * Determine whether or not to skip loading a collection.
      *
@@ -1216,9 +1402,25 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
      * @return Relationship mapping
      */
     protected Map<String, Relationship> getRelationships() {
-        return getRelationshipsWithRelationshipFunction((relationName) -> {
+        return getRelationshipsWithLinkageFunction((relationName) -> {
             Optional<FilterExpression> filterExpression = requestScope.getExpressionForRelation(this, relationName);
-            return getRelationCheckedFiltered(relationName, filterExpression, Optional.empty(), Optional.empty());
+            Optional<Collection<String>> relationIds = filterExpression.isPresent()
+                    ? Optional.empty()
+                    : requestScope.getPrefetchedRelationIds(obj, relationName);
+
+            if (!relationIds.isPresent()) {
+                return toResourceIdentifiers(getRelationCheckedFiltered(relationName,
+                        filterExpression, Optional.empty(), Optional.empty()));
+            }
+
+            if (!checkRelation(relationName)) {
+                return Collections.emptyList();
+            }
+
+            String relationType = dictionary.getJsonAliasFor(dictionary.getParameterizedType(obj, relationName));
+            return relationIds.get().stream()
+                    .map(id -> new ResourceIdentifier(relationType, id))
+                    .collect(Collectors.toList());
         });
     }
 
@@ -1246,15 +1448,32 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
      */
     protected Map<String, Relationship> getRelationshipsWithRelationshipFunction(
             final Function<String, Set<PersistentResource>> relationshipFunction) {
+        return getRelationshipsWithLinkageFunction(
+                (relationName) -> toResourceIdentifiers(relationshipFunction.apply(relationName)));
+    }
+
+    private static List<ResourceIdentifier> toResourceIdentifiers(Set<PersistentResource> resources) {
+        return resources.stream()
+                .map(resource -> new ResourceIdentifier(resource.getType(), resource.getId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get relationship mappings.
+     *
+     * @param linkageFunction a function to load the linkage of a relationship. Takes a string of the relationship
+     * name and returns the identifiers of the relationship's members.
+     * @return Relationship mapping
+     */
+    private Map<String, Relationship> getRelationshipsWithLinkageFunction(
+            final Function<String, Collection<ResourceIdentifier>> linkageFunction) {
         final Map<String, Relationship> relationshipMap = new LinkedHashMap<>();
         final Set<String> relationshipFields = filterFields(dictionary.getRelationships(obj));
 
         for (String field : relationshipFields) {
             TreeMap<String, Resource> orderedById = new TreeMap<>(lengthFirstComparator);
-            for (PersistentResource relationship : relationshipFunction.apply(field)) {
-                orderedById.put(relationship.getId(),
-                        new ResourceIdentifier(relationship.getType(), relationship.getId()).castToResource());
-
+            for (ResourceIdentifier identifier : linkageFunction.apply(field)) {
+                orderedById.put(identifier.getId(), identifier.castToResource());
             }
             Collection<Resource> resources = orderedById.values();
 
@@ -1561,8 +1780,19 @@ public class PersistentResource<T> implements com.yahoo.elide.security.Persisten
     protected static Set<PersistentResource> filter(Class<? extends Annotation> permission,
             Optional<FilterExpression> filter,
             Set<PersistentResource> resources) {
+        // Resource sets may be lazy, so the page is collected once for the batch checks and the filtering below.
+        List<PersistentResource> page = new ArrayList<>();
+        resources.forEach(page::add);
+
+        if (page.size() > 1) {
+            RequestScope requestScope = page.get(0).getRequestScope();
+            requestScope.getPermissionExecutor().evaluateBatchChecks(permission, page.stream()
+                    .filter(resource -> !requestScope.getNewResources().contains(resource))
+                    .collect(Collectors.toList()));
+        }
+
         Set<PersistentResource> filteredSet = new LinkedHashSet<>();
-        for (PersistentResource resource : resources) {
+        for (PersistentResource resource : page) {
             try {
                 // NOTE: This is for avoiding filtering on _newly created_ objects within this transaction.
                 // Namely-- in a JSONPATCH request or GraphQL request-- we need to read all newly created
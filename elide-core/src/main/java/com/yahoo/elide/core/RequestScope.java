@@ -34,13 +34,18 @@ import com.yahoo.elide.security.PermissionExecutor;
 import com.yahoo.elide.security.User;
 import com.yahoo.elide.security.executors.ActivePermissionExecutor;
 
+import org.apache.commons.lang3.tuple.Pair;
+
 import io.reactivex.Observable;
 import io.reactivex.subjects.PublishSubject;
 import io.reactivex.subjects.ReplaySubject;
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -48,6 +53,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
@@ -56,6 +62,8 @@ import javax.ws.rs.core.MultivaluedMap;
  * Request scope object for relaying request-related data to various subsystems.
  */
 public class RequestScope implements com.yahoo.elide.security.RequestScope {
+    private static final String INCLUDE = "include";
+
     @Getter private final JsonApiDocument jsonApiDocument;
     @Getter private final DataStoreTransaction transaction;
     @Getter private final User user;
@@ -78,6 +86,8 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
 
     @Getter private final MultipleFilterDialect filterDialect;
     private final Map<String, FilterExpression> expressionsByType;
+    private final Map<Pair<String, Optional<FilterExpression>>, Map<Object, Object>> prefetchedRelations;
+    private final Map<String, Map<Object, Collection<String>>> prefetchedRelationIds;
 
     private PublishSubject<CRUDEvent> lifecycleEvents;
     private Observable<CRUDEvent> distinctLifecycleEvents;
@@ -86,6 +96,9 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
     /* Used to filter across heterogeneous types during the first load */
     private FilterExpression globalFilterExpression;
 
+    /* The type of the resources being returned whose relationships are included */
+    private Class<?> includeRootType;
+
     /**
      * Create a new RequestScope with specified update status code.
      *
@@ -122,6 +135,8 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
 
         this.globalFilterExpression = null;
         this.expressionsByType = new HashMap<>();
+        this.prefetchedRelations = new HashMap<>();
+        this.prefetchedRelationIds = new HashMap<>();
         this.objectEntityCache = new ObjectEntityCache();
         this.newPersistentResources = new LinkedHashSet<>();
         this.dirtyResources = new LinkedHashSet<>();
@@ -210,6 +225,8 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         this.deletedResources = outerRequestScope.deletedResources;
         this.filterDialect = outerRequestScope.filterDialect;
         this.expressionsByType = outerRequestScope.expressionsByType;
+        this.prefetchedRelations = outerRequestScope.prefetchedRelations;
+        this.prefetchedRelationIds = outerRequestScope.prefetchedRelationIds;
         this.elideSettings = outerRequestScope.elideSettings;
         this.useFilterExpressions = outerRequestScope.useFilterExpressions;
         this.updateStatusCode = outerRequestScope.updateStatusCode;
@@ -227,6 +244,128 @@ public class RequestScope implements com.yahoo.elide.security.RequestScope {
         return newPersistentResources.stream().filter(r -> r.getObject() == entity).findAny().isPresent();
     }
 
+    /**
+     * Sets the type of the resources being returned.  Relationship paths in the include query parameter are
+     * relative to this type.
+     *
+     * @param includeRootType The type of the resources being returned
+     */
+    public void setIncludeRootType(Class<?> includeRootType) {
+        this.includeRootType = includeRootType;
+    }
+
+    /**
+     * Returns the relationship paths requested with the include query parameter when loading the resources being
+     * returned.  Data stores may use these to load the included objects with the same query.
+     *
+     * @param entityClass The type being loaded
+     * @return The dot separated relationship paths to include, or nothing if the type is not being returned
+     */
+    public Set<String> getIncludedRelationships(Class<?> entityClass) {
+        if (includeRootType == null || !includeRootType.equals(entityClass) || !queryParams.isPresent()
+                || !queryParams.get().containsKey(INCLUDE)) {
+            return Collections.emptySet();
+        }
+
+        return queryParams.get().get(INCLUDE).stream()
+                .flatMap(param -> Arrays.stream(param.split(",")))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Returns the fields of a type requested with the sparse fieldset (fields[type]) query parameters.
+     * Data stores may use these as a projection hint to avoid loading fields which will not be returned.
+     *
+     * @param entityClass The type being loaded
+     * @return The requested fields, or nothing if every field is requested
+     */
+    public Optional<Set<String>> getSparseFields(Class<?> entityClass) {
+        if (sparseFields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(sparseFields.getOrDefault(dictionary.getJsonAliasFor(entityClass),
+                Collections.emptySet()));
+    }
+
+    /**
+     * Records relationship values that were loaded for a batch of entities so that subsequent reads of the
+     * same relationship with the same filters do not return to the data store.
+     *
+     * @param relationName The relationship name
+     * @param filterExpression The filters the relationship values were loaded with
+     * @param relations The relationship values keyed by entity identity
+     */
+    public void setPrefetchedRelations(String relationName,
+                                       Optional<FilterExpression> filterExpression,
+                                       Map<Object, Object> relations) {
+        prefetchedRelations.computeIfAbsent(Pair.of(relationName, filterExpression), key -> new IdentityHashMap<>())
+                .putAll(relations);
+    }
+
+    /**
+     * Whether a relationship value was already loaded for the given entity.
+     *
+     * @param entity The entity which owns the relationship
+     * @param relationName The relationship name
+     * @param filterExpression The filters the relationship is being read with
+     * @return true if the relationship value was loaded
+     */
+    public boolean isRelationPrefetched(Object entity,
+                                        String relationName,
+                                        Optional<FilterExpression> filterExpression) {
+        Map<Object, Object> relations = prefetchedRelations.get(Pair.of(relationName, filterExpression));
+        return relations != null && relations.containsKey(entity);
+    }
+
+    /**
+     * Returns a relationship value previously loaded for a batch of entities.  Nothing is returned once the
+     * request has created, modified, or deleted resources since the loaded values may be stale.
+     *
+     * @param entity The entity which owns the relationship
+     * @param relationName The relationship name
+     * @param filterExpression The filters the relationship is being read with
+     * @return The loaded relationship value if present
+     */
+    public Optional<Object> getPrefetchedRelation(Object entity,
+                                                  String relationName,
+                                                  Optional<FilterExpression> filterExpression) {
+        if (!newPersistentResources.isEmpty() || !dirtyResources.isEmpty() || !deletedResources.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Object, Object> relations = prefetchedRelations.get(Pair.of(relationName, filterExpression));
+        return relations == null ? Optional.empty() : Optional.ofNullable(relations.get(entity));
+    }
+
+    /**
+     * Records the identifiers of related objects that were loaded for a batch of entities so that relationship
+     * linkage can be rendered without loading the related objects.
+     *
+     * @param relationName The relationship name
+     * @param relationIds The related identifiers keyed by entity identity
+     */
+    public void setPrefetchedRelationIds(String relationName, Map<Object, Collection<String>> relationIds) {
+        prefetchedRelationIds.computeIfAbsent(relationName, key -> new IdentityHashMap<>()).putAll(relationIds);
+    }
+
+    /**
+     * Returns the identifiers of related objects previously loaded for a batch of entities.  Nothing is returned
+     * once the request has created, modified, or deleted resources since the loaded identifiers may be stale.
+     *
+     * @param entity The entity which owns the relationship
+     * @param relationName The relationship name
+     * @return The related identifiers if present
+     */
+    public Optional<Collection<String>> getPrefetchedRelationIds(Object entity, String relationName) {
+        if (!newPersistentResources.isEmpty() || !dirtyResources.isEmpty() || !deletedResources.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Object, Collection<String>> relationIds = prefetchedRelationIds.get(relationName);
+        return relationIds == null ? Optional.empty() : Optional.ofNullable(relationIds.get(entity));
+    }
+
     /**
      * Parses queryParams and produces sparseFields map.
      * @param queryParams The request query parameters
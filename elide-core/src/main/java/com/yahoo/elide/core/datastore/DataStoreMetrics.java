@@ -0,0 +1,30 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore;
+
+/**
+ * Receives measurements of writes from data store transactions.  Implementations forward them to a metrics library
+ * and must be thread safe.  Every method does nothing by default.
+ */
+public interface DataStoreMetrics {
+    DataStoreMetrics NONE = new DataStoreMetrics() { };
+
+    /**
+     * Kinds of writes.
+     */
+    enum Operation { CREATE, UPDATE, DELETE }
+
+    /**
+     * A data store flushed a JDBC statement batch: consecutive writes of the same kind and entity type, at most the
+     * configured batch size.  Only reported when JDBC batching is enabled.
+     *
+     * @param entityClass the written entity type
+     * @param operation the kind of write
+     * @param size the number of writes in the batch
+     */
+    default void writeBatchFlushed(Class<?> entityClass, Operation operation, int size) {
+    }
+}
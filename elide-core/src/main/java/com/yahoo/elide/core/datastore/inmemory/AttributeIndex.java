@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Secondary index which maps the committed values of an attribute to the identifiers of the entities holding them.
+ * Null values are not indexed.
+ */
+class AttributeIndex {
+    private static final Set<Operator> HASH_OPERATORS = EnumSet.of(Operator.IN);
+    private static final Set<Operator> SORTED_OPERATORS = EnumSet.of(Operator.IN, Operator.LT, Operator.LE,
+            Operator.GT, Operator.GE, Operator.PREFIX);
+
+    private final EntityDictionary dictionary;
+    @Getter private final Class<?> entityClass;
+    @Getter private final String fieldName;
+    @Getter private final Indexed.Type type;
+    private final Class<?> fieldType;
+    private final Map<Object, Set<String>> valuesToIds;
+    private final Map<String, Object> idsToValues = new ConcurrentHashMap<>();
+
+    AttributeIndex(EntityDictionary dictionary, Class<?> entityClass, String fieldName, Indexed.Type type) {
+        this.dictionary = dictionary;
+        this.entityClass = entityClass;
+        this.fieldName = fieldName;
+        this.type = type;
+        this.fieldType = ClassUtils.primitiveToWrapper(dictionary.getType(entityClass, fieldName));
+
+        if (type == Indexed.Type.SORTED) {
+            if (!Comparable.class.isAssignableFrom(fieldType)) {
+                throw new IllegalArgumentException(
+                        "Sorted index requires a comparable attribute: " + entityClass.getName() + "." + fieldName);
+            }
+            valuesToIds = new ConcurrentSkipListMap<>();
+        } else {
+            valuesToIds = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Indexes the current value of an entity's attribute, replacing the value indexed before.
+     *
+     * @param id The entity identifier
+     * @param entity The entity
+     * @param scope The request scope
+     */
+    void put(String id, Object entity, RequestScope scope) {
+        remove(id);
+
+        Object value = dictionary.getValue(entity, fieldName, scope);
+        if (value == null) {
+            return;
+        }
+
+        valuesToIds.computeIfAbsent(value, (key) -> ConcurrentHashMap.newKeySet()).add(id);
+        idsToValues.put(id, value);
+    }
+
+    /**
+     * Removes an entity from the index.
+     *
+     * @param id The entity identifier
+     */
+    void remove(String id) {
+        Object value = idsToValues.remove(id);
+        if (value == null) {
+            return;
+        }
+
+        valuesToIds.computeIfPresent(value, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * Whether the index can answer a filter predicate.
+     *
+     * @param predicate The filter predicate
+     * @return true if {@link #lookup} narrows the entities matching the predicate
+     */
+    boolean supports(FilterPredicate predicate) {
+        Set<Operator> operators = type == Indexed.Type.SORTED ? SORTED_OPERATORS : HASH_OPERATORS;
+
+        return predicate.getPath().getPathElements().size() == 1
+                && predicate.getEntityType().equals(entityClass)
+                && predicate.getField().equals(fieldName)
+                && operators.contains(predicate.getOperator())
+                && (predicate.getOperator() != Operator.PREFIX || String.class.equals(fieldType));
+    }
+
+    /**
+     * Finds the identifiers of the entities which may match a filter predicate.
+     *
+     * @param predicate A predicate for which {@link #supports} is true
+     * @return The identifiers or empty if the predicate values cannot be looked up
+     */
+    Optional<Set<String>> lookup(FilterPredicate predicate) {
+        List<Object> values = predicate.getValues();
+        Operator operator = predicate.getOperator();
+
+        if (operator != Operator.IN && values.size() != 1) {
+            return Optional.empty();
+        }
+
+        Object[] keys = new Object[values.size()];
+        try {
+            for (int idx = 0; idx < keys.length; idx++) {
+                keys[idx] = CoerceUtil.coerce(values.get(idx), fieldType);
+                if (keys[idx] == null) {
+                    return Optional.empty();
+                }
+            }
+        } catch (RuntimeException e) {
+            //The in memory filter reports invalid values.
+            return Optional.empty();
+        }
+
+        if (operator == Operator.IN) {
+            Set<String> ids = new HashSet<>();
+            for (Object key : keys) {
+                ids.addAll(valuesToIds.getOrDefault(key, Collections.emptySet()));
+            }
+            return Optional.of(ids);
+        }
+
+        ConcurrentNavigableMap<Object, Set<String>> sorted = (ConcurrentNavigableMap<Object, Set<String>>) valuesToIds;
+        Object key = keys[0];
+        switch (operator) {
+            case LT:
+                return Optional.of(flatten(sorted.headMap(key, false).values()));
+            case LE:
+                return Optional.of(flatten(sorted.headMap(key, true).values()));
+            case GT:
+                return Optional.of(flatten(sorted.tailMap(key, false).values()));
+            case GE:
+                return Optional.of(flatten(sorted.tailMap(key, true).values()));
+            case PREFIX:
+                Set<String> ids = new HashSet<>();
+                for (Map.Entry<Object, Set<String>> entry : sorted.tailMap(key, true).entrySet()) {
+                    if (!((String) entry.getKey()).startsWith((String) key)) {
+                        break;
+                    }
+                    ids.addAll(entry.getValue());
+                }
+                return Optional.of(ids);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static Set<String> flatten(Collection<Set<String>> idSets) {
+        Set<String> ids = new HashSet<>();
+        idSets.forEach(ids::addAll);
+        return ids;
+    }
+}
@@ -15,22 +15,33 @@ import com.yahoo.elide.utils.ClassScanner;
 import com.google.common.collect.Sets;
 import lombok.Getter;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Simple in-memory only database.
+ *
+ * Transactions read lock-free snapshots of the entities and commits only serialize on the types they change.
+ * A commit copies about the square root of the number of stored entities of each type it changes (amortized), so
+ * write heavy applications with large tables should prefer a database backed store.
+ * Commits can be persisted to local disk with a {@link HashMapJournal}, which is closed with the store.
  */
-public class HashMapDataStore implements DataStore, DataStoreTestHarness {
-    private final Map<Class<?>, Map<String, Object>> dataStore = Collections.synchronizedMap(new HashMap<>());
+public class HashMapDataStore implements DataStore, DataStoreTestHarness, Closeable {
+    private final Map<Class<?>, Map<String, Object>> dataStore = new ConcurrentHashMap<>();
+    private final HashMapStoreLocks locks = new HashMapStoreLocks();
     @Getter private EntityDictionary dictionary;
     @Getter private final Set<Package> beanPackages;
     @Getter private final ConcurrentHashMap<Class<?>, AtomicLong> typeIds = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, Indexed.Type>> declaredIndexes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, AttributeIndex>> indexes = new ConcurrentHashMap<>();
+    private HashMapJournal journal;
 
     public HashMapDataStore(Package beanPackage) {
         this(Sets.newHashSet(beanPackage));
@@ -42,7 +53,47 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
         for (Package beanPackage : beanPackages) {
             ClassScanner.getAnnotatedClasses(beanPackage, Include.class).stream()
                 .filter(modelClass -> modelClass.getName().startsWith(beanPackage.getName()))
-                .forEach(modelClass -> dataStore.put(modelClass, Collections.synchronizedMap(new LinkedHashMap<>())));
+                .forEach(modelClass -> dataStore.put(modelClass, Collections.emptyMap()));
+        }
+    }
+
+    /**
+     * Declares a secondary index on an attribute in addition to the attributes annotated with {@link Indexed}.
+     *
+     * @param entityClass The entity type
+     * @param fieldName The attribute
+     * @param type The kind of index
+     * @return this data store
+     */
+    public HashMapDataStore withIndex(Class<?> entityClass, String fieldName, Indexed.Type type) {
+        declaredIndexes.computeIfAbsent(entityClass, (key) -> new ConcurrentHashMap<>()).put(fieldName, type);
+
+        if (dictionary != null) {
+            addIndex(entityClass, fieldName, type);
+        }
+        return this;
+    }
+
+    /**
+     * Persists commits to a journal and recovers the entities from it when the dictionary is populated.
+     *
+     * @param journal The journal
+     * @return this data store
+     */
+    public HashMapDataStore withJournal(HashMapJournal journal) {
+        this.journal = journal;
+        return this;
+    }
+
+    /**
+     * Closes the journal, if any.
+     *
+     * @throws IOException if the journal cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
         }
     }
 
@@ -53,11 +104,43 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
         }
 
         this.dictionary = dictionary;
+
+        if (journal != null) {
+            journal.recover(dictionary, dataStore, typeIds, locks);
+        }
+
+        for (Class<?> clazz : dataStore.keySet()) {
+            for (String attribute : dictionary.getAttributes(clazz)) {
+                Indexed indexed = dictionary.getAttributeOrRelationAnnotation(clazz, Indexed.class, attribute);
+                if (indexed != null) {
+                    addIndex(clazz, attribute, indexed.value());
+                }
+            }
+        }
+
+        declaredIndexes.forEach((clazz, fields) -> fields.forEach((field, type) -> addIndex(clazz, field, type)));
+    }
+
+    private void addIndex(Class<?> entityClass, String fieldName, Indexed.Type type) {
+        AttributeIndex index = new AttributeIndex(dictionary, entityClass, fieldName, type);
+
+        if (!dataStore.containsKey(entityClass)) {
+            throw new IllegalArgumentException("Unknown entity: " + entityClass.getName());
+        }
+
+        List<Lock> typeLocks = locks.lockTypes(Collections.singleton(entityClass));
+        try {
+            dataStore.get(entityClass).forEach((id, entity) -> index.put(id, entity, null));
+            locks.publish(() ->
+                    indexes.computeIfAbsent(entityClass, (key) -> new ConcurrentHashMap<>()).put(fieldName, index));
+        } finally {
+            locks.unlockTypes(typeLocks);
+        }
     }
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new HashMapStoreTransaction(dataStore, dictionary, typeIds);
+        return new HashMapStoreTransaction(dataStore, dictionary, typeIds, indexes, locks, journal);
     }
 
     @Override
@@ -81,8 +164,15 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
 
     @Override
     public void cleanseTestData() {
-        for (Map<String, Object> objects : dataStore.values()) {
-            objects.clear();
+        List<Lock> typeLocks = locks.lockTypes(dataStore.keySet());
+        try {
+            locks.publish(() -> {
+                dataStore.replaceAll((type, objects) -> Collections.emptyMap());
+                indexes.values().forEach(fieldIndexes -> fieldIndexes.replaceAll((field, index) ->
+                        new AttributeIndex(dictionary, index.getEntityClass(), field, index.getType())));
+            });
+        } finally {
+            locks.unlockTypes(typeLocks);
         }
         typeIds.clear();
     }
@@ -0,0 +1,681 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RelationshipType;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Optional persistence for a {@link HashMapDataStore}.
+ *
+ * Every commit is appended to a write-ahead log as one JSON line holding the attributes and relationship
+ * identifiers of the changed entities.  Every <code>snapshotInterval</code> commits, the log is rolled over to a
+ * new segment and a background thread compacts the previous snapshot and the closed segments into a new snapshot,
+ * so commits never wait for snapshots.  Snapshots are built from log records rather than from the live entities,
+ * which transactions modify before they commit.  Older segments and snapshots are then deleted.  On startup the
+ * latest snapshot is loaded and the newer segments are replayed.  The journal must be closed (for example by closing
+ * its {@link HashMapDataStore}) to stop the background thread and close the open segment.
+ *
+ * Computed attributes and relationships are not persisted.
+ */
+@Slf4j
+public class HashMapJournal implements Closeable {
+
+    /**
+     * When appended commits are forced to disk.
+     */
+    public enum SyncPolicy {
+        /**
+         * A commit returns once it is on disk.  Concurrent commits share a single sync.
+         */
+        ALWAYS,
+
+        /**
+         * The log is synced in the background at a fixed interval.
+         */
+        PERIODIC,
+
+        /**
+         * The log is never explicitly synced.
+         */
+        NEVER
+    }
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10000;
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d+)\\.json");
+    private static final byte[] NEWLINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Path directory;
+    private final SyncPolicy syncPolicy;
+    private final long syncIntervalMillis;
+    private final int snapshotInterval;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Object syncLock = new Object();
+    private final AtomicLong commitsSinceSnapshot = new AtomicLong();
+    private final AtomicBoolean snapshotting = new AtomicBoolean();
+
+    private EntityDictionary dictionary;
+    private Map<Class<?>, Map<String, Object>> dataStore;
+    private Map<Class<?>, AtomicLong> typeIds;
+    private HashMapStoreLocks locks;
+    private ScheduledExecutorService executor;
+
+    private volatile FileChannel segment;
+    private long segmentNumber;
+    private final AtomicLong appendedSequence = new AtomicLong();
+    private volatile long syncedSequence;
+
+    public HashMapJournal(Path directory) {
+        this(directory, SyncPolicy.ALWAYS, DEFAULT_SYNC_INTERVAL_MILLIS, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Creates a journal.
+     *
+     * @param directory The directory holding the log segments and snapshots
+     * @param syncPolicy When appended commits are forced to disk
+     * @param syncIntervalMillis The interval between syncs for {@link SyncPolicy#PERIODIC}
+     * @param snapshotInterval The number of commits between snapshots
+     */
+    public HashMapJournal(Path directory, SyncPolicy syncPolicy, long syncIntervalMillis, int snapshotInterval) {
+        this.directory = directory;
+        this.syncPolicy = syncPolicy;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Loads the persisted entities into the store and opens a new log segment.
+     *
+     * @param dictionary The dictionary of the store
+     * @param dataStore The entity maps of the store, which are replaced by the recovered entities
+     * @param typeIds The identifier counters of the store
+     * @param locks The locks of the store
+     */
+    void recover(EntityDictionary dictionary, Map<Class<?>, Map<String, Object>> dataStore,
+                 Map<Class<?>, AtomicLong> typeIds, HashMapStoreLocks locks) {
+        this.dictionary = dictionary;
+        this.dataStore = dataStore;
+        this.typeIds = typeIds;
+        this.locks = locks;
+
+        try {
+            Files.createDirectories(directory);
+
+            Map<String, Class<?>> types = new HashMap<>();
+            dataStore.keySet().forEach(type -> types.put(type.getName(), type));
+
+            Recovery recovery = new Recovery(types);
+            long snapshot = latest(SNAPSHOT_NAME).orElse(-1L);
+            if (snapshot >= 0) {
+                recovery.apply(readSnapshot(snapshotPath(snapshot)));
+            }
+            for (long number : numbers(SEGMENT_NAME).tailMap(Math.max(snapshot, 0L)).keySet()) {
+                replaySegment(segmentPath(number), recovery::apply);
+            }
+            recovery.finish();
+
+            segmentNumber = Math.max(snapshot, numbers(SEGMENT_NAME).isEmpty()
+                    ? 0L : numbers(SEGMENT_NAME).lastKey()) + 1;
+            segment = openSegment(segmentNumber);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hashmap-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (syncPolicy == SyncPolicy.PERIODIC) {
+            executor.scheduleWithFixedDelay(this::syncAll, syncIntervalMillis, syncIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Serializes the operations of a commit.  Called before the commit is published, while the changed types are
+     * locked.
+     *
+     * @param operations The operations of the commit
+     * @return The log record
+     */
+    byte[] toRecord(List<Operation> operations) {
+        ObjectNode record = mapper.createObjectNode();
+        ArrayNode entities = record.putArray("entities");
+        ObjectNode ids = record.putObject("ids");
+
+        //Only the last operation on each entity matters.
+        Map<List<Object>, Operation> latest = new LinkedHashMap<>();
+        operations.forEach(op -> latest.put(Arrays.asList(op.getType(), op.getId()), op));
+
+        for (Operation op : latest.values()) {
+            entities.add(toJson(op.getType(), op.getId(),
+                    op.getOpType() == Operation.OpType.DELETE ? null : op.getInstance()));
+
+            AtomicLong nextId = typeIds.get(op.getType());
+            if (nextId != null) {
+                ids.put(op.getType().getName(), nextId.get());
+            }
+        }
+
+        try {
+            return mapper.writeValueAsBytes(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a commit to the log.  Called while the commit is published so that the log order is the
+     * publication order.
+     *
+     * @param record The log record
+     * @return The sequence number of the record
+     * @throws IOException if the record cannot be written
+     */
+    long append(byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(record.length + NEWLINE.length);
+        // Flip through Buffer so that builds on newer JDKs do not link the covariant ByteBuffer.flip().
+        ((Buffer) buffer.put(record).put(NEWLINE)).flip();
+
+        long position = segment.size();
+        try {
+            while (buffer.hasRemaining()) {
+                segment.write(buffer);
+            }
+        } catch (IOException e) {
+            discardPartialRecord(position, e);
+            throw e;
+        }
+        return appendedSequence.incrementAndGet();
+    }
+
+    /**
+     * Removes the bytes of a record which could only be partially written, so that the next record starts on a new
+     * line.  If the segment cannot be truncated, the log is rolled over to a new segment instead.
+     *
+     * @param position The size of the segment before the record was appended
+     * @param failure The write failure, to which further failures are added
+     */
+    private void discardPartialRecord(long position, IOException failure) {
+        try {
+            segment.truncate(position);
+        } catch (IOException truncateFailure) {
+            failure.addSuppressed(truncateFailure);
+            try {
+                rollOver();
+            } catch (IOException rollOverFailure) {
+                failure.addSuppressed(rollOverFailure);
+            }
+        }
+    }
+
+    /**
+     * Waits for a commit to be durable (according to the sync policy) and schedules a snapshot when one is due.
+     * Called after the commit is published and the changed types are unlocked.
+     *
+     * @param sequence The sequence number of the commit
+     */
+    void committed(long sequence) {
+        if (syncPolicy == SyncPolicy.ALWAYS) {
+            sync(sequence);
+        }
+
+        if (commitsSinceSnapshot.incrementAndGet() >= snapshotInterval && snapshotting.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::takeSnapshot);
+            } catch (RejectedExecutionException e) {
+                //The journal is closing.
+                snapshotting.set(false);
+            }
+        }
+    }
+
+    /**
+     * Rolls the log over to a new segment and writes the store to a snapshot on the calling thread.
+     */
+    public void snapshot() {
+        if (snapshotting.compareAndSet(false, true)) {
+            takeSnapshot();
+        }
+    }
+
+    private void takeSnapshot() {
+        try {
+            Map<String, Long> ids = new HashMap<>();
+            long[] number = new long[1];
+
+            locks.publish(() -> {
+                try {
+                    rollOver();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                number[0] = segmentNumber;
+                typeIds.forEach((type, nextId) -> ids.put(type.getName(), nextId.get()));
+            });
+            commitsSinceSnapshot.set(0);
+
+            writeSnapshot(number[0], ids);
+
+            for (long older : numbers(SEGMENT_NAME).headMap(number[0]).keySet()) {
+                Files.deleteIfExists(segmentPath(older));
+            }
+            for (long older : numbers(SNAPSHOT_NAME).headMap(number[0]).keySet()) {
+                Files.deleteIfExists(snapshotPath(older));
+            }
+        } catch (IOException | RuntimeException e) {
+            //The older segments are kept, so nothing is lost.
+            log.error("Unable to write snapshot", e);
+        } finally {
+            snapshotting.set(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (executor != null) {
+            //A snapshot in progress is finished first.
+            executor.shutdown();
+            try {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (syncLock) {
+            if (segment != null && segment.isOpen()) {
+                segment.force(false);
+                segment.close();
+            }
+        }
+    }
+
+    private void sync(long sequence) {
+        if (syncedSequence >= sequence) {
+            return;
+        }
+
+        synchronized (syncLock) {
+            if (syncedSequence >= sequence) {
+                return;
+            }
+            syncAll();
+        }
+    }
+
+    private void syncAll() {
+        synchronized (syncLock) {
+            //Every record appended so far is covered, so the commits waiting behind this one need not sync again.
+            long target = appendedSequence.get();
+            try {
+                segment.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            syncedSequence = Math.max(syncedSequence, target);
+        }
+    }
+
+    private void rollOver() throws IOException {
+        synchronized (syncLock) {
+            segment.force(false);
+            segment.close();
+            syncedSequence = appendedSequence.get();
+            segmentNumber++;
+            segment = openSegment(segmentNumber);
+        }
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentPath(number),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes the snapshot which precedes a segment by compacting the latest older snapshot and the segments in
+     * between.  Only the last record of each entity is kept.
+     *
+     * @param number The number of the first segment which is not covered by the snapshot
+     * @param ids The identifier counters of the store when the log was rolled over
+     * @throws IOException if the snapshot or the segments cannot be read or the snapshot cannot be written
+     */
+    private void writeSnapshot(long number, Map<String, Long> ids) throws IOException {
+        Map<List<String>, JsonNode> entities = new LinkedHashMap<>();
+        Consumer<JsonNode> compaction = record -> {
+            Iterator<Map.Entry<String, JsonNode>> counters = record.path("ids").fields();
+            while (counters.hasNext()) {
+                Map.Entry<String, JsonNode> counter = counters.next();
+                ids.merge(counter.getKey(), counter.getValue().asLong(), Math::max);
+            }
+            for (JsonNode node : record.path("entities")) {
+                List<String> key = Arrays.asList(node.path("type").asText(), node.path("id").asText());
+                if (node.path("deleted").asBoolean()) {
+                    entities.remove(key);
+                } else {
+                    entities.put(key, node);
+                }
+            }
+        };
+
+        Optional<Long> previous = Optional.ofNullable(numbers(SNAPSHOT_NAME).lowerKey(number));
+        if (previous.isPresent()) {
+            compaction.accept(readSnapshot(snapshotPath(previous.get())));
+        }
+        for (long older : numbers(SEGMENT_NAME).subMap(previous.orElse(0L), number).keySet()) {
+            replaySegment(segmentPath(older), compaction);
+        }
+
+        Path temporary = directory.resolve("snapshot.tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             JsonGenerator generator = mapper.getFactory().createGenerator(
+                     new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            generator.writeStartObject();
+            generator.writeObjectField("ids", ids);
+            generator.writeArrayFieldStart("entities");
+            for (JsonNode entity : entities.values()) {
+                mapper.writeTree(generator, entity);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, snapshotPath(number), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private JsonNode readSnapshot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try (InputStream input = new ByteBufferBackedInputStream(buffer)) {
+                return mapper.readTree(input);
+            }
+        }
+    }
+
+    private void replaySegment(Path path, Consumer<JsonNode> recovery) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Files.newInputStream(path), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonNode record;
+                try {
+                    record = mapper.readTree(line);
+                } catch (IOException e) {
+                    //A commit which was only partially written.  The records after it are still valid.
+                    log.warn("Ignoring incomplete journal record in {}", path);
+                    continue;
+                }
+                recovery.accept(record);
+            }
+        }
+    }
+
+    private ObjectNode toJson(Class<?> type, String id, Object entity) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put("type", type.getName());
+        node.put("id", id);
+
+        if (entity == null) {
+            node.put("deleted", true);
+            return node;
+        }
+
+        ObjectNode attributes = node.putObject("attributes");
+        for (String attribute : dictionary.getAttributes(type)) {
+            if (!dictionary.isComputed(type, attribute)) {
+                attributes.set(attribute, mapper.valueToTree(dictionary.getValue(entity, attribute, null)));
+            }
+        }
+
+        ObjectNode relationships = node.putObject("relationships");
+        for (String relationship : dictionary.getRelationships(type)) {
+            if (dictionary.isComputed(type, relationship)) {
+                continue;
+            }
+            Object value = dictionary.getValue(entity, relationship, null);
+            if (value instanceof Collection) {
+                ArrayNode relatedIds = relationships.putArray(relationship);
+                ((Collection<?>) value).forEach(related -> relatedIds.add(dictionary.getId(related)));
+            } else {
+                relationships.put(relationship, value == null ? null : dictionary.getId(value));
+            }
+        }
+        return node;
+    }
+
+    private Type getGenericType(Class<?> type, String fieldName) {
+        AccessibleObject accessor = dictionary.getAccessibleObject(type, fieldName);
+        if (accessor instanceof Field) {
+            return ((Field) accessor).getGenericType();
+        }
+        return ((Method) accessor).getGenericReturnType();
+    }
+
+    private TreeMap<Long, Path> numbers(Pattern pattern) throws IOException {
+        TreeMap<Long, Path> numbers = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    numbers.put(Long.parseLong(matcher.group(1)), file);
+                }
+            });
+        }
+        return numbers;
+    }
+
+    private Optional<Long> latest(Pattern pattern) throws IOException {
+        TreeMap<Long, Path> numbers = numbers(pattern);
+        return numbers.isEmpty() ? Optional.empty() : Optional.of(numbers.lastKey());
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve("journal-" + number + ".log");
+    }
+
+    private Path snapshotPath(long number) {
+        return directory.resolve("snapshot-" + number + ".json");
+    }
+
+    /**
+     * Rebuilds the entities from a snapshot and log records.  Relationships are linked once every entity is known.
+     */
+    private class Recovery {
+        private final Map<String, Class<?>> types;
+        private final Map<Class<?>, Map<String, Object>> entities = new HashMap<>();
+        private final Map<Object, JsonNode> relationships = new IdentityHashMap<>();
+        private final Map<Class<?>, Long> ids = new HashMap<>();
+        private final Map<Class<?>, Map<String, Object>> relatedByType = new HashMap<>();
+
+        Recovery(Map<String, Class<?>> types) {
+            this.types = types;
+            types.values().forEach(type -> entities.put(type, new LinkedHashMap<>()));
+        }
+
+        void apply(JsonNode record) {
+            Iterator<Map.Entry<String, JsonNode>> counters = record.path("ids").fields();
+            while (counters.hasNext()) {
+                Map.Entry<String, JsonNode> counter = counters.next();
+                Class<?> type = types.get(counter.getKey());
+                if (type != null) {
+                    ids.merge(type, counter.getValue().asLong(), Math::max);
+                }
+            }
+
+            for (JsonNode node : record.path("entities")) {
+                Class<?> type = types.get(node.path("type").asText());
+                if (type == null) {
+                    continue;
+                }
+
+                String id = node.path("id").asText();
+                Object previous = node.path("deleted").asBoolean()
+                        ? entities.get(type).remove(id)
+                        : entities.get(type).put(id, toEntity(type, id, node));
+                if (previous != null) {
+                    relationships.remove(previous);
+                }
+            }
+        }
+
+        private Object toEntity(Class<?> type, String id, JsonNode node) {
+            Object entity;
+            try {
+                entity = type.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot recover " + type.getName(), e);
+            }
+
+            dictionary.setValue(entity, dictionary.getIdFieldName(type), id);
+
+            Iterator<Map.Entry<String, JsonNode>> attributes = node.path("attributes").fields();
+            while (attributes.hasNext()) {
+                Map.Entry<String, JsonNode> attribute = attributes.next();
+                if (!dictionary.getAttributes(type).contains(attribute.getKey())) {
+                    continue;
+                }
+                Object value = mapper.convertValue(attribute.getValue(),
+                        mapper.getTypeFactory().constructType(getGenericType(type, attribute.getKey())));
+                dictionary.setValue(entity, attribute.getKey(), value);
+            }
+
+            relationships.put(entity, node.path("relationships"));
+            return entity;
+        }
+
+        /**
+         * Returns the recovered entities which a relationship can refer to.  Entities are stored under their
+         * concrete class, which may be a subclass of the declared type of the relationship.
+         *
+         * @param declaredType The declared type of the relationship
+         * @return The entities of the type and its subclasses by identifier
+         */
+        private Map<String, Object> related(Class<?> declaredType) {
+            return relatedByType.computeIfAbsent(declaredType, unused -> {
+                List<Class<?>> subclasses = dictionary.getSubclassingEntities(declaredType);
+                if (subclasses.isEmpty()) {
+                    return entities.getOrDefault(declaredType, Collections.emptyMap());
+                }
+
+                Map<String, Object> related = new HashMap<>(
+                        entities.getOrDefault(declaredType, Collections.emptyMap()));
+                subclasses.forEach(subclass ->
+                        related.putAll(entities.getOrDefault(subclass, Collections.emptyMap())));
+                return related;
+            });
+        }
+
+        void finish() {
+            relationships.forEach((entity, links) -> {
+                Class<?> type = entity.getClass();
+                Iterator<Map.Entry<String, JsonNode>> fields = links.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    String relationship = field.getKey();
+                    if (!dictionary.getRelationships(type).contains(relationship)) {
+                        continue;
+                    }
+
+                    Map<String, Object> related = related(dictionary.getParameterizedType(type, relationship));
+                    RelationshipType relationshipType = dictionary.getRelationshipType(type, relationship);
+
+                    if (relationshipType.isToMany()) {
+                        Collection<Object> values = Set.class.isAssignableFrom(dictionary.getType(type, relationship))
+                                ? new LinkedHashSet<>()
+                                : new ArrayList<>();
+                        for (JsonNode relatedId : field.getValue()) {
+                            Object value = related.get(relatedId.asText());
+                            if (value != null) {
+                                values.add(value);
+                            }
+                        }
+                        dictionary.setValue(entity, relationship, values);
+                    } else if (!field.getValue().isNull()) {
+                        dictionary.setValue(entity, relationship, related.get(field.getValue().asText()));
+                    }
+                }
+            });
+
+            entities.forEach((type, byId) -> {
+                dataStore.put(type, Collections.unmodifiableMap(byId));
+
+                long maxId = byId.keySet().stream()
+                        .filter(id -> id.matches("\\d+"))
+                        .mapToLong(Long::parseLong)
+                        .max()
+                        .orElse(0);
+                long nextId = Math.max(maxId + 1, ids.getOrDefault(type, 0L));
+                if (nextId > 1) {
+                    typeIds.put(type, new AtomicLong(nextId));
+                }
+            });
+        }
+    }
+}
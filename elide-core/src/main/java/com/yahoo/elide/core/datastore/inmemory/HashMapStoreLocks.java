@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Coordinates the transactions of a {@link HashMapDataStore}.
+ *
+ * Each type's entities are held in an immutable map which commits replace.  Writers serialize on a lock per type
+ * while they copy and change the maps of the types they modify.  The new maps (and the indexes) are then published
+ * together under a short exclusive lock, so readers take an optimistic, lock-free snapshot of every type at once.
+ */
+class HashMapStoreLocks {
+
+    /**
+     * Locks shared by transactions which were not created by a data store.
+     */
+    static final HashMapStoreLocks SHARED = new HashMapStoreLocks();
+
+    private final Map<Class<?>, Lock> typeLocks = new ConcurrentHashMap<>();
+    private final StampedLock publication = new StampedLock();
+
+    /**
+     * Locks the given types in a consistent order.
+     *
+     * @param types The types to lock
+     * @return The held locks, to be passed to {@link #unlockTypes}
+     */
+    List<Lock> lockTypes(Collection<Class<?>> types) {
+        List<Lock> locks = types.stream()
+                .distinct()
+                .sorted(Comparator.comparing(Class::getName))
+                .map(type -> typeLocks.computeIfAbsent(type, (key) -> new ReentrantLock()))
+                .collect(Collectors.toList());
+
+        locks.forEach(Lock::lock);
+        return locks;
+    }
+
+    void unlockTypes(List<Lock> locks) {
+        for (int idx = locks.size() - 1; idx >= 0; idx--) {
+            locks.get(idx).unlock();
+        }
+    }
+
+    /**
+     * Makes changes visible to readers atomically.
+     *
+     * @param changes Replaces the entity maps and updates the indexes
+     */
+    void publish(Runnable changes) {
+        long stamp = publication.writeLock();
+        try {
+            changes.run();
+        } finally {
+            publication.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies the entity maps of every type without observing a partially published commit.
+     *
+     * @param dataStore The entity maps by type
+     * @return The copy
+     */
+    Map<Class<?>, Map<String, Object>> snapshot(Map<Class<?>, Map<String, Object>> dataStore) {
+        return read(() -> new HashMap<>(dataStore));
+    }
+
+    /**
+     * Reads published state optimistically and retries under a shared lock if a commit was published meanwhile.
+     *
+     * @param reader Reads the published state
+     * @param <T> The type read
+     * @return The consistent result of the reader
+     */
+    <T> T read(Supplier<T> reader) {
+        long stamp = publication.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = reader.get();
+                if (publication.validate(stamp)) {
+                    return result;
+                }
+            } catch (ConcurrentModificationException e) {
+                //A commit was published during the read.
+            }
+        }
+
+        stamp = publication.readLock();
+        try {
+            return reader.get();
+        } finally {
+            publication.unlockRead(stamp);
+        }
+    }
+}
@@ -9,35 +9,73 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 
+import com.google.common.collect.Sets;
+
+import lombok.AllArgsConstructor;
+
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javax.persistence.GeneratedValue;
 
 /**
  * HashMapDataStore transaction handler.
+ *
+ * Reads see a snapshot of the store taken at the first read (and again after each commit) and never block.
+ * Commits copy the entity maps of the types they change and publish them together.  The maps are
+ * {@link LayeredMap}s, which share the bulk of their entities with the previous commit, so a write copies about the
+ * square root of the number of stored entities of each type it changes (amortized) rather than all of them.
+ * Commits without changes (every read request) take no locks.
  */
 public class HashMapStoreTransaction implements DataStoreTransaction {
     private final Map<Class<?>, Map<String, Object>> dataStore;
     private final List<Operation> operations;
     private final EntityDictionary dictionary;
     private final Map<Class<?>, AtomicLong> typeIds;
+    private final Map<Class<?>, Map<String, AttributeIndex>> indexes;
+    private final HashMapStoreLocks locks;
+    private final HashMapJournal journal;
+    private Map<Class<?>, Map<String, Object>> snapshot;
 
     public HashMapStoreTransaction(Map<Class<?>, Map<String, Object>> dataStore,
                                    EntityDictionary dictionary, Map<Class<?>, AtomicLong> typeIds) {
+        this(dataStore, dictionary, typeIds, Collections.emptyMap(), HashMapStoreLocks.SHARED, null);
+    }
+
+    HashMapStoreTransaction(Map<Class<?>, Map<String, Object>> dataStore,
+                            EntityDictionary dictionary, Map<Class<?>, AtomicLong> typeIds,
+                            Map<Class<?>, Map<String, AttributeIndex>> indexes, HashMapStoreLocks locks,
+                            HashMapJournal journal) {
         this.dataStore = dataStore;
         this.dictionary = dictionary;
         this.operations = new ArrayList<>();
         this.typeIds = typeIds;
+        this.indexes = indexes;
+        this.locks = locks;
+        this.journal = journal;
     }
 
     @Override
@@ -70,23 +108,69 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
 
     @Override
     public void commit(RequestScope scope) {
-        synchronized (dataStore) {
-            operations.stream()
-                    .filter(op -> op.getInstance() != null)
-                    .forEach(op -> {
-                        Object instance = op.getInstance();
-                        String id = op.getId();
-                        Map<String, Object> data = dataStore.get(op.getType());
-                        if (op.getOpType() == Operation.OpType.DELETE) {
-                            data.remove(id);
-                        } else {
-                            if (op.getOpType() == Operation.OpType.CREATE && data.get(id) != null) {
-                                throw new TransactionException(new IllegalStateException("Duplicate key"));
-                            }
-                            data.put(id, instance);
-                        }
-                    });
+        List<Operation> changes = operations.stream()
+                .filter(op -> op.getInstance() != null)
+                .collect(Collectors.toList());
+
+        if (changes.isEmpty()) {
             operations.clear();
+            snapshot = null;
+            return;
+        }
+
+        long[] sequence = new long[1];
+        List<Lock> typeLocks = locks.lockTypes(changes.stream().map(Operation::getType).collect(Collectors.toList()));
+        try {
+            Map<Class<?>, LayeredMap.Editor<String, Object>> changed = new HashMap<>();
+            for (Operation op : changes) {
+                LayeredMap.Editor<String, Object> data = changed.computeIfAbsent(op.getType(),
+                        (type) -> LayeredMap.of(dataStore.get(type)).edit());
+                if (op.getOpType() == Operation.OpType.DELETE) {
+                    data.remove(op.getId());
+                } else {
+                    if (op.getOpType() == Operation.OpType.CREATE && data.get(op.getId()) != null) {
+                        throw new TransactionException(new IllegalStateException("Duplicate key"));
+                    }
+                    data.put(op.getId(), op.getInstance());
+                }
+            }
+
+            Map<Class<?>, Map<String, Object>> published = new HashMap<>();
+            changed.forEach((type, data) -> published.put(type, data.build()));
+
+            //The record is serialized before publishing so that the exclusive lock only covers the append.
+            byte[] record = journal == null ? null : journal.toRecord(changes);
+
+            locks.publish(() -> {
+                if (record != null) {
+                    try {
+                        sequence[0] = journal.append(record);
+                    } catch (IOException e) {
+                        throw new TransactionException(e);
+                    }
+                }
+                dataStore.putAll(published);
+                changes.forEach(op -> updateIndexes(op, scope));
+            });
+        } finally {
+            locks.unlockTypes(typeLocks);
+        }
+
+        if (sequence[0] > 0) {
+            journal.committed(sequence[0]);
+        }
+
+        operations.clear();
+        snapshot = null;
+    }
+
+    private void updateIndexes(Operation op, RequestScope scope) {
+        for (AttributeIndex index : getIndexes(op.getType()).values()) {
+            if (op.getOpType() == Operation.OpType.DELETE) {
+                index.remove(op.getId());
+            } else {
+                index.put(op.getId(), op.getInstance(), scope);
+            }
         }
     }
 
@@ -104,17 +188,14 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
         //GeneratedValue means the DB needs to assign the ID.
         if (dictionary.getAttributeOrRelationAnnotation(entityClass, GeneratedValue.class, idFieldName) != null) {
             // TODO: Id's are not necessarily numeric.
-            AtomicLong nextId;
-            synchronized (dataStore) {
-                nextId = typeIds.computeIfAbsent(entityClass,
-                        (key) -> {
-                            long maxId = dataStore.get(key).keySet().stream()
-                                    .mapToLong(Long::parseLong)
-                                    .max()
-                                    .orElse(0);
-                            return new AtomicLong(maxId + 1);
-                        });
-            }
+            AtomicLong nextId = typeIds.computeIfAbsent(entityClass,
+                    (key) -> {
+                        long maxId = dataStore.get(key).keySet().stream()
+                                .mapToLong(Long::parseLong)
+                                .max()
+                                .orElse(0);
+                        return new AtomicLong(maxId + 1);
+                    });
             id = String.valueOf(nextId.getAndIncrement());
             setId(entity, id);
         } else {
@@ -136,17 +217,75 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
                               Optional<Sorting> sorting,
                               Optional<Pagination> pagination,
                               RequestScope scope) {
-        return dictionary.getValue(entity, relationName, scope);
+        Object values = dictionary.getValue(entity, relationName, scope);
+
+        //Filters are only pushed to this store when indexes cover them, so they must be applied here.
+        if (filterExpression.isPresent() && values instanceof Collection && supportsFiltering(
+                dictionary.getParameterizedType(entity, relationName), filterExpression.get()) != FeatureSupport.NONE) {
+            Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
+            return ((Collection<Object>) values).stream()
+                    .filter(predicate::test)
+                    .collect(Collectors.toList());
+        }
+        return values;
     }
 
     @Override
     public Iterable<Object> loadObjects(Class<?> entityClass, Optional<FilterExpression> filterExpression,
                                         Optional<Sorting> sorting, Optional<Pagination> pagination,
                                         RequestScope scope) {
-        synchronized (dataStore) {
-            Map<String, Object> data = dataStore.get(entityClass);
-            return data.values();
+        if (filterExpression.isPresent()
+                && supportsFiltering(entityClass, filterExpression.get()) != FeatureSupport.NONE) {
+            return loadFilteredObjects(entityClass, filterExpression.get(), scope);
+        }
+
+        return getSnapshot(entityClass).values();
+    }
+
+    /**
+     * Loads the entities matching a filter.  Only the entities found in the indexes are tested unless this
+     * transaction or request has changes which the indexes do not reflect yet.
+     */
+    private Iterable<Object> loadFilteredObjects(Class<?> entityClass, FilterExpression filterExpression,
+                                                 RequestScope scope) {
+        Predicate predicate = filterExpression.accept(new InMemoryFilterExecutor(scope));
+
+        Map<String, Object> data = getSnapshot(entityClass);
+
+        //The indexes describe the latest commit, which may be newer than this transaction's snapshot.
+        Optional<Set<String>> ids = hasPendingChanges(scope)
+                ? Optional.empty()
+                : locks.read(() -> dataStore.get(entityClass) == data
+                        ? filterExpression.accept(new IndexLookupVisitor(getIndexes(entityClass)))
+                        : Optional.empty());
+
+        Collection<Object> candidates = ids
+                .<Collection<Object>>map(idSet -> idSet.stream()
+                        .map(data::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()))
+                .orElseGet(data::values);
+
+        return candidates.stream()
+                .filter(predicate::test)
+                .collect(Collectors.toList());
+    }
+
+    private boolean hasPendingChanges(RequestScope scope) {
+        return !operations.isEmpty()
+                || (scope != null
+                    && (!scope.getNewPersistentResources().isEmpty() || !scope.getDirtyResources().isEmpty()));
+    }
+
+    private Map<String, Object> getSnapshot(Class<?> entityClass) {
+        if (snapshot == null) {
+            snapshot = locks.snapshot(dataStore);
         }
+        return snapshot.get(entityClass);
+    }
+
+    private Map<String, AttributeIndex> getIndexes(Class<?> entityClass) {
+        return indexes.getOrDefault(entityClass, Collections.emptyMap());
     }
 
     @Override
@@ -154,13 +293,11 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
                              Optional<FilterExpression> filterExpression,
                              RequestScope scope) {
 
-        synchronized (dataStore) {
-            Map<String, Object> data = dataStore.get(entityClass);
-            if (data == null) {
-                return null;
-            }
-            return data.get(id.toString());
+        Map<String, Object> data = getSnapshot(entityClass);
+        if (data == null) {
+            return null;
         }
+        return data.get(id.toString());
     }
 
     @Override
@@ -170,7 +307,11 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
 
     @Override
     public FeatureSupport supportsFiltering(Class<?> entityClass, FilterExpression expression) {
-        return FeatureSupport.NONE;
+        Map<String, AttributeIndex> typeIndexes = getIndexes(entityClass);
+        if (typeIndexes.isEmpty()) {
+            return FeatureSupport.NONE;
+        }
+        return expression.accept(new IndexSupportVisitor(typeIndexes));
     }
 
     @Override
@@ -184,6 +325,98 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     }
 
     private boolean containsObject(Object obj) {
-        return dataStore.get(obj.getClass()).containsValue(obj);
+        String id = dictionary.getId(obj);
+        return id != null && obj.equals(dataStore.get(obj.getClass()).get(id));
+    }
+
+    private static Optional<AttributeIndex> findIndex(Map<String, AttributeIndex> typeIndexes,
+                                                      FilterPredicate predicate) {
+        return Optional.ofNullable(typeIndexes.get(predicate.getField()))
+                .filter(index -> index.supports(predicate));
+    }
+
+    /**
+     * Determines how much of a filter expression the indexes can answer.
+     */
+    @AllArgsConstructor
+    private static class IndexSupportVisitor implements FilterExpressionVisitor<FeatureSupport> {
+        private final Map<String, AttributeIndex> typeIndexes;
+
+        @Override
+        public FeatureSupport visitPredicate(FilterPredicate filterPredicate) {
+            return findIndex(typeIndexes, filterPredicate).isPresent() ? FeatureSupport.FULL : FeatureSupport.NONE;
+        }
+
+        @Override
+        public FeatureSupport visitAndExpression(AndFilterExpression expression) {
+            FeatureSupport left = expression.getLeft().accept(this);
+            FeatureSupport right = expression.getRight().accept(this);
+            if (left == FeatureSupport.FULL && right == FeatureSupport.FULL) {
+                return FeatureSupport.FULL;
+            }
+            if (left == FeatureSupport.NONE && right == FeatureSupport.NONE) {
+                return FeatureSupport.NONE;
+            }
+            return FeatureSupport.PARTIAL;
+        }
+
+        @Override
+        public FeatureSupport visitOrExpression(OrFilterExpression expression) {
+            FeatureSupport left = expression.getLeft().accept(this);
+            FeatureSupport right = expression.getRight().accept(this);
+            if (left == FeatureSupport.NONE || right == FeatureSupport.NONE) {
+                return FeatureSupport.NONE;
+            }
+            if (left == FeatureSupport.FULL && right == FeatureSupport.FULL) {
+                return FeatureSupport.FULL;
+            }
+            return FeatureSupport.PARTIAL;
+        }
+
+        @Override
+        public FeatureSupport visitNotExpression(NotFilterExpression expression) {
+            return FeatureSupport.NONE;
+        }
+    }
+
+    /**
+     * Finds the identifiers of the entities which may match a filter expression.  Empty means every entity may match.
+     */
+    @AllArgsConstructor
+    private static class IndexLookupVisitor implements FilterExpressionVisitor<Optional<Set<String>>> {
+        private final Map<String, AttributeIndex> typeIndexes;
+
+        @Override
+        public Optional<Set<String>> visitPredicate(FilterPredicate filterPredicate) {
+            return findIndex(typeIndexes, filterPredicate).flatMap(index -> index.lookup(filterPredicate));
+        }
+
+        @Override
+        public Optional<Set<String>> visitAndExpression(AndFilterExpression expression) {
+            Optional<Set<String>> left = expression.getLeft().accept(this);
+            Optional<Set<String>> right = expression.getRight().accept(this);
+            if (!left.isPresent()) {
+                return right;
+            }
+            if (!right.isPresent()) {
+                return left;
+            }
+            return Optional.of(Sets.intersection(left.get(), right.get()));
+        }
+
+        @Override
+        public Optional<Set<String>> visitOrExpression(OrFilterExpression expression) {
+            Optional<Set<String>> left = expression.getLeft().accept(this);
+            Optional<Set<String>> right = expression.getRight().accept(this);
+            if (!left.isPresent() || !right.isPresent()) {
+                return Optional.empty();
+            }
+            return Optional.of(Sets.union(left.get(), right.get()));
+        }
+
+        @Override
+        public Optional<Set<String>> visitNotExpression(NotFilterExpression expression) {
+            return Optional.empty();
+        }
     }
 }
@@ -18,16 +18,25 @@ import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.security.User;
+
+import com.google.common.collect.Iterables;
+
 import org.apache.commons.lang3.tuple.Pair;
 
+import lombok.Getter;
+
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -53,6 +62,8 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         }
     };
 
+    private static final int MAXIMUM_INITIAL_HEAP_SIZE = 1024;
+
     private DataStoreTransaction tx;
 
     /**
@@ -92,6 +103,11 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         tx.preCommit();
     }
 
+    @Override
+    public void evict(Object entity, RequestScope scope) {
+        tx.evict(entity, scope);
+    }
+
     @Override
     public <T> T createNewObject(Class<T> entityClass) {
         return tx.createNewObject(entityClass);
@@ -128,6 +144,55 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return fetchData(fetcher, relationClass, filterExpression, sorting, pagination, filterInMemory, scope);
     }
 
+    @Override
+    public Map<Object, Object> getRelations(DataStoreTransaction relationTx,
+                                            Collection<?> entities,
+                                            String relationName,
+                                            Optional<FilterExpression> filterExpression,
+                                            Optional<Sorting> sorting,
+                                            Optional<Pagination> pagination,
+                                            RequestScope scope) {
+        if (entities.isEmpty()) {
+            return new IdentityHashMap<>();
+        }
+
+        Class<?> relationClass = scope.getDictionary()
+                .getParameterizedType(entities.iterator().next(), relationName);
+
+        boolean filterInMemory = scope.getNewPersistentResources().size() > 0;
+
+        Pair<Optional<FilterExpression>, Optional<FilterExpression>> expressionSplit = splitFilterExpression(
+                relationClass, filterExpression, filterInMemory, scope);
+
+        Pair<Optional<Sorting>, Optional<Sorting>> sortSplit = splitSorting(relationClass,
+                sorting, expressionSplit.getRight().isPresent());
+
+        Pair<Optional<Pagination>, Optional<Pagination>> paginationSplit = splitPagination(relationClass,
+                pagination, expressionSplit.getRight().isPresent(), sortSplit.getRight().isPresent());
+
+        /*
+         * The batch can only be delegated to the wrapped transaction when it can evaluate everything itself.
+         * Otherwise, each relationship is fetched and post processed in memory individually.
+         */
+        if (expressionSplit.getRight().isPresent()
+                || sortSplit.getRight().isPresent()
+                || paginationSplit.getRight().isPresent()) {
+            return DataStoreTransaction.super.getRelations(relationTx, entities, relationName,
+                    filterExpression, sorting, pagination, scope);
+        }
+
+        return tx.getRelations(relationTx, entities, relationName, expressionSplit.getLeft(), sortSplit.getLeft(),
+                paginationSplit.getLeft(), scope);
+    }
+
+    @Override
+    public Map<Object, Collection<String>> getRelationIds(DataStoreTransaction relationTx,
+                                                         Collection<?> entities,
+                                                         String relationName,
+                                                         RequestScope scope) {
+        return tx.getRelationIds(relationTx, entities, relationName, scope);
+    }
+
     @Override
     public void updateToManyRelation(DataStoreTransaction relationTx,
                                      Object entity,
@@ -221,9 +286,16 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
 
         Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
 
-        return StreamSupport.stream(loadedRecords.spliterator(), false)
-                            .filter(predicate::test)
-                            .collect(Collectors.toList());
+        /*
+         * Collections are copied so that the result does not change with the wrapped store's collection.
+         * Any other iterable (like a database cursor) is filtered lazily as it is consumed.
+         */
+        if (loadedRecords instanceof Collection) {
+            return StreamSupport.stream(loadedRecords.spliterator(), false)
+                    .filter(predicate::test)
+                    .collect(Collectors.toList());
+        }
+        return Iterables.filter(loadedRecords, predicate::test);
     }
 
     private Object fetchData(DataFetcher fetcher,
@@ -296,76 +368,146 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         if (sortRules.isEmpty() && ! pagination.isPresent()) {
             return loadedRecords;
         }
-        //We need an in memory copy to sort or paginate.
-        List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false).collect(Collectors.toList());
-
-        if (! sortRules.isEmpty()) {
-            results = sortInMemory(results, sortRules, scope);
+        if (sortRules.isEmpty()) {
+            return paginateInMemory(loadedRecords, pagination.get());
         }
 
         if (pagination.isPresent()) {
-            results = paginateInMemory(results, pagination.get());
+            return sortAndPaginateInMemory(loadedRecords, sortRules, pagination.get(), scope);
         }
 
-        return results;
+        return sortInMemory(loadedRecords, sortRules, scope);
     }
 
-    private List<Object> paginateInMemory(List<Object> records, Pagination pagination) {
+    /**
+     * Returns a single page of records without copying the records outside of the page.
+     */
+    private List<Object> paginateInMemory(Iterable<Object> records, Pagination pagination) {
         int offset = pagination.getOffset();
-        int limit = pagination.getLimit();
-        if (offset < 0 || offset >= records.size()) {
-            return Collections.emptyList();
+        long endIdx = (long) offset + pagination.getLimit();
+
+        List<Object> page = new ArrayList<>();
+        int total = 0;
+        for (Object record : records) {
+            if (total >= offset && total < endIdx) {
+                page.add(record);
+            }
+            total++;
         }
 
-        int endIdx = offset + limit;
-        if (endIdx > records.size()) {
-            endIdx = records.size();
+        return toPage(page, offset, total, pagination);
+    }
+
+    /**
+     * Sorts every record.  The sort keys of each record are extracted once rather than on every comparison.
+     */
+    private List<Object> sortInMemory(Iterable<Object> records,
+                                      Map<Path, Sorting.SortOrder> sortRules,
+                                      RequestScope scope) {
+        List<SortKeys> keyed = new ArrayList<>();
+        for (Object record : records) {
+            keyed.add(new SortKeys(record, keyed.size(), sortRules.keySet(), scope));
         }
 
-        if (pagination.isGenerateTotals()) {
-            pagination.setPageTotals(records.size());
+        keyed.sort(getComparator(sortRules));
+
+        return keyed.stream().map(SortKeys::getRecord).collect(Collectors.toList());
+    }
+
+    /**
+     * Sorts and paginates the records by keeping only the first offset + limit records in a bounded heap.
+     * Every record is still visited to compute the page totals.
+     */
+    private List<Object> sortAndPaginateInMemory(Iterable<Object> records,
+                                                 Map<Path, Sorting.SortOrder> sortRules,
+                                                 Pagination pagination,
+                                                 RequestScope scope) {
+        int offset = pagination.getOffset();
+        long bound = Math.max(0L, (long) offset + pagination.getLimit());
+
+        Comparator<SortKeys> comparator = getComparator(sortRules);
+
+        //The heap root is the record that sorts last among the records kept so far.
+        PriorityQueue<SortKeys> heap = new PriorityQueue<>(
+                (int) Math.min(bound, MAXIMUM_INITIAL_HEAP_SIZE) + 1, comparator.reversed());
+
+        int total = 0;
+        for (Object record : records) {
+            SortKeys keyed = new SortKeys(record, total++, sortRules.keySet(), scope);
+            if (heap.size() < bound) {
+                heap.add(keyed);
+            } else if (bound > 0 && comparator.compare(keyed, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(keyed);
+            }
         }
-        return records.subList(offset, endIdx);
+
+        List<SortKeys> firstRecords = new ArrayList<>(heap);
+        firstRecords.sort(comparator);
+
+        List<Object> page = firstRecords.stream()
+                .skip(Math.max(offset, 0))
+                .map(SortKeys::getRecord)
+                .collect(Collectors.toList());
+
+        return toPage(page, offset, total, pagination);
     }
 
-    private List<Object> sortInMemory(List<Object> records,
-                                        Map<Path, Sorting.SortOrder> sortRules,
-                                        RequestScope scope) {
-        //Build a comparator that handles multiple comparison rules.
-        Comparator<Object> noSort = (left, right) -> 0;
-
-        Comparator<Object> comp = sortRules.entrySet().stream()
-            .map(entry -> getComparator(entry.getKey(), entry.getValue(), scope))
-            .reduce(noSort, (comparator1, comparator2) -> (left, right) -> {
-                int comparison = comparator1.compare(left, right);
-                if (comparison == 0) {
-                    return comparator2.compare(left, right);
-                }
-                return comparison;
-            });
+    private List<Object> toPage(List<Object> page, int offset, int total, Pagination pagination) {
+        if (offset < 0 || offset >= total) {
+            return Collections.emptyList();
+        }
 
-        records.sort(comp);
-        return records;
+        if (pagination.isGenerateTotals()) {
+            pagination.setPageTotals(total);
+        }
+        return page;
     }
 
-    private Comparator<Object> getComparator(Path path, Sorting.SortOrder order, RequestScope requestScope) {
+    /**
+     * Builds a comparator that handles multiple comparison rules.  Ties are broken by the original position of
+     * the records so that the sort is stable.
+     */
+    private Comparator<SortKeys> getComparator(Map<Path, Sorting.SortOrder> sortRules) {
+        Sorting.SortOrder[] orders = sortRules.values().toArray(new Sorting.SortOrder[0]);
+
         return (left, right) -> {
-            Object leftCompare = left;
-            Object rightCompare = right;
-
-            // Drill down into path to find value for comparison
-            for (Path.PathElement pathElement : path.getPathElements()) {
-                leftCompare = (leftCompare == null ? null
-                        : PersistentResource.getValue(leftCompare, pathElement.getFieldName(), requestScope));
-                rightCompare = (rightCompare == null ? null
-                        : PersistentResource.getValue(rightCompare, pathElement.getFieldName(), requestScope));
+            for (int idx = 0; idx < orders.length; idx++) {
+                int comparison = orders[idx] == Sorting.SortOrder.asc
+                        ? NULL_SAFE_COMPARE.compare(left.keys[idx], right.keys[idx])
+                        : NULL_SAFE_COMPARE.compare(right.keys[idx], left.keys[idx]);
+                if (comparison != 0) {
+                    return comparison;
+                }
             }
+            return Integer.compare(left.position, right.position);
+        };
+    }
 
-            if (order == Sorting.SortOrder.asc) {
-                return NULL_SAFE_COMPARE.compare(leftCompare, rightCompare);
+    /**
+     * A record decorated with the values it is sorted by.
+     */
+    private static class SortKeys {
+        @Getter private final Object record;
+        private final int position;
+        private final Object[] keys;
+
+        SortKeys(Object record, int position, Collection<Path> paths, RequestScope scope) {
+            this.record = record;
+            this.position = position;
+            this.keys = new Object[paths.size()];
+
+            int idx = 0;
+            for (Path path : paths) {
+                // Drill down into path to find value for comparison
+                Object value = record;
+                for (Path.PathElement pathElement : path.getPathElements()) {
+                    value = (value == null ? null
+                            : PersistentResource.getValue(value, pathElement.getFieldName(), scope));
+                }
+                keys[idx++] = value;
             }
-            return NULL_SAFE_COMPARE.compare(rightCompare, leftCompare);
-        };
+        }
     }
 
     /**
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a secondary index on an attribute of an entity stored in the {@link HashMapDataStore}.
+ */
+@Target({METHOD, FIELD})
+@Retention(RUNTIME)
+public @interface Indexed {
+
+    /**
+     * The kind of index.
+     */
+    enum Type {
+        /**
+         * Answers equality (in) filters.
+         */
+        HASH,
+
+        /**
+         * Answers equality (in), range (lt, le, gt, ge), and prefix filters.
+         */
+        SORTED
+    }
+
+    Type value() default Type.HASH;
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Immutable map of the entities of a type which a commit can change without copying every entity.
+ *
+ * The map is a base map plus an overlay of the keys replaced, removed and appended since the base was built.
+ * Editing the map copies the overlay only, and the overlay is folded into a new base once it outgrows the square
+ * root of the base.  A commit therefore copies O(sqrt(n)) entries amortized rather than all n entities of the type.
+ * Iteration follows insertion order like a {@link LinkedHashMap}.  Values must not be null.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class LayeredMap<K, V> extends AbstractMap<K, V> {
+    static final int MINIMUM_OVERLAY_SIZE = 64;
+
+    private final Map<K, V> base;
+    private final Map<K, V> replaced;
+    private final Set<K> removed;
+    private final Map<K, V> appended;
+    private final int size;
+
+    private LayeredMap(Map<K, V> base, Map<K, V> replaced, Set<K> removed, Map<K, V> appended, int size) {
+        this.base = base;
+        this.replaced = replaced;
+        this.removed = removed;
+        this.appended = appended;
+        this.size = size;
+    }
+
+    /**
+     * Converts a map to a layered map.  Maps which are not layered yet are copied once.
+     *
+     * @param map the map
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the layered map
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> LayeredMap<K, V> of(Map<K, V> map) {
+        if (map instanceof LayeredMap) {
+            return (LayeredMap<K, V>) map;
+        }
+        return compact(map);
+    }
+
+    private static <K, V> LayeredMap<K, V> compact(Map<K, V> map) {
+        return new LayeredMap<>(Collections.unmodifiableMap(new LinkedHashMap<>(map)), Collections.emptyMap(),
+                Collections.emptySet(), Collections.emptyMap(), map.size());
+    }
+
+    /**
+     * Starts editing a copy of this map.
+     *
+     * @return the editor of the copy
+     */
+    Editor<K, V> edit() {
+        return new Editor<>(this);
+    }
+
+    @Override
+    public V get(Object key) {
+        return lookup(base, replaced, removed, appended, key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return entries().iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private Stream<Entry<K, V>> entries() {
+        if (replaced.isEmpty() && removed.isEmpty() && appended.isEmpty()) {
+            return base.entrySet().stream();
+        }
+
+        Stream<Entry<K, V>> kept = base.entrySet().stream()
+                .filter(entry -> !removed.contains(entry.getKey()))
+                .map(entry -> {
+                    V value = replaced.get(entry.getKey());
+                    return value == null ? entry : new SimpleImmutableEntry<>(entry.getKey(), value);
+                });
+        return Stream.concat(kept, appended.entrySet().stream());
+    }
+
+    private static <K, V> V lookup(Map<K, V> base, Map<K, V> replaced, Set<K> removed, Map<K, V> appended,
+                                   Object key) {
+        V value = appended.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (removed.contains(key)) {
+            return null;
+        }
+        value = replaced.get(key);
+        return value != null ? value : base.get(key);
+    }
+
+    /**
+     * Mutable copy of a layered map, which shares the base of the original.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    static final class Editor<K, V> {
+        private final Map<K, V> base;
+        private final Map<K, V> replaced;
+        private final Set<K> removed;
+        private final Map<K, V> appended;
+        private int size;
+
+        private Editor(LayeredMap<K, V> map) {
+            this.base = map.base;
+            this.replaced = new HashMap<>(map.replaced);
+            this.removed = new HashSet<>(map.removed);
+            this.appended = new LinkedHashMap<>(map.appended);
+            this.size = map.size;
+        }
+
+        /**
+         * Reads the value of a key including the changes made so far.
+         *
+         * @param key the key
+         * @return the value or null
+         */
+        V get(K key) {
+            return lookup(base, replaced, removed, appended, key);
+        }
+
+        /**
+         * Sets the value of a key.  New keys (including removed keys which are added again) are iterated last.
+         *
+         * @param key the key
+         * @param value the value
+         */
+        void put(K key, V value) {
+            Objects.requireNonNull(value);
+            if (appended.containsKey(key)) {
+                appended.put(key, value);
+            } else if (!removed.contains(key) && base.containsKey(key)) {
+                replaced.put(key, value);
+            } else {
+                appended.put(key, value);
+                size++;
+            }
+        }
+
+        /**
+         * Removes a key.
+         *
+         * @param key the key
+         */
+        void remove(K key) {
+            if (appended.remove(key) != null) {
+                size--;
+            } else if (base.containsKey(key) && removed.add(key)) {
+                replaced.remove(key);
+                size--;
+            }
+        }
+
+        /**
+         * Builds the edited map.  The overlay is folded into a new base when it has outgrown the square root of
+         * the base.
+         *
+         * @return the edited map
+         */
+        LayeredMap<K, V> build() {
+            int overlaySize = replaced.size() + removed.size() + appended.size();
+            LayeredMap<K, V> map = new LayeredMap<>(base, Collections.unmodifiableMap(replaced),
+                    Collections.unmodifiableSet(removed), Collections.unmodifiableMap(appended), size);
+
+            if (overlaySize <= Math.max(MINIMUM_OVERLAY_SIZE, (int) Math.sqrt(base.size()))) {
+                return map;
+            }
+            return compact(map);
+        }
+    }
+}
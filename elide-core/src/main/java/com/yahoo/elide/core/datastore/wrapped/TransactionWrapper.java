@@ -17,6 +17,8 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -38,6 +40,11 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         tx.preCommit();
     }
 
+    @Override
+    public void evict(Object entity, RequestScope scope) {
+        tx.evict(entity, scope);
+    }
+
     @Override
     public <T> T createNewObject(Class<T> entityClass) {
         return tx.createNewObject(entityClass);
@@ -56,6 +63,20 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.getRelation(relationTx, entity, relationName, filterExpression, sorting, pagination, scope);
     }
 
+    @Override
+    public Map<Object, Object> getRelations(DataStoreTransaction relationTx, Collection<?> entities,
+                                            String relationName, Optional<FilterExpression> filterExpression,
+                                            Optional<Sorting> sorting, Optional<Pagination> pagination,
+                                            RequestScope scope) {
+        return tx.getRelations(relationTx, entities, relationName, filterExpression, sorting, pagination, scope);
+    }
+
+    @Override
+    public Map<Object, Collection<String>> getRelationIds(DataStoreTransaction relationTx, Collection<?> entities,
+                                                         String relationName, RequestScope scope) {
+        return tx.getRelationIds(relationTx, entities, relationName, scope);
+    }
+
     @Override
     public void updateToManyRelation(DataStoreTransaction relationTx, Object entity, String relationName,
                                      Set<Object> newRelationships, Set<Object> deletedRelationships,
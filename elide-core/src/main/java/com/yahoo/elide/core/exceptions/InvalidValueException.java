@@ -6,6 +6,8 @@
 package com.yahoo.elide.core.exceptions;
 import com.yahoo.elide.core.HttpStatus;
 
+import java.util.function.Supplier;
+
 /**
  * Exception when an invalid value is used.
  *
@@ -24,4 +26,8 @@ public class InvalidValueException extends HttpStatusException {
     public InvalidValueException(String message, Throwable cause) {
         super(HttpStatus.SC_BAD_REQUEST, message, cause, null);
     }
+
+    public InvalidValueException(String message, Supplier<String> verboseMessageSupplier) {
+        super(HttpStatus.SC_BAD_REQUEST, message, null, verboseMessageSupplier);
+    }
 }
@@ -89,13 +89,22 @@ public class FilterPredicate implements FilterExpression, Function<RequestScope,
     }
 
     /**
-     * Compute the parameter value/name pairings.
+     * Compute the parameter value/name pairings for a predicate that is not part of a larger expression.
      * @return the filter parameters for this predicate
      */
     public List<FilterParameter> getParameters() {
-        String baseName = String.format("%s_%s_",
-                getFieldPath().replace(PERIOD, UNDERSCORE),
-                Integer.toHexString(hashCode()));
+        return getParameters(0);
+    }
+
+    /**
+     * Compute the parameter value/name pairings.  Names are derived from the field path and the position of this
+     * predicate within its filter expression - never from the filter values - so that expressions of the same
+     * shape always produce the same query text.
+     * @param ordinal the position of this predicate within the enclosing filter expression
+     * @return the filter parameters for this predicate
+     */
+    public List<FilterParameter> getParameters(int ordinal) {
+        String baseName = String.format("%s_%d_", getFieldPath().replace(PERIOD, UNDERSCORE), ordinal);
         return IntStream.range(0, values.size())
                 .mapToObj(idx -> new FilterParameter(String.format("%s%d", baseName, idx), values.get(idx)))
                 .collect(Collectors.toList());
@@ -12,15 +12,22 @@ import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidOperatorNegationException;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
+import com.google.common.base.Suppliers;
+import org.apache.commons.lang3.tuple.Pair;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Operator enum for predicates.
@@ -44,14 +51,14 @@ public enum Operator {
     NOT("not", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope).negate();
         }
     },
 
     NOT_INSENSITIVE("noti", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope, FOLD_CASE).test(entity);
+            return Operator.<T>in(fieldPath, values, requestScope, FOLD_CASE).negate();
         }
     },
 
@@ -107,7 +114,7 @@ public enum Operator {
     NOTNULL("notnull", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (val) -> !isNull(fieldPath, requestScope).test(val);
+            return Operator.<T>isNull(fieldPath, requestScope).negate();
         }
     },
 
@@ -164,7 +171,7 @@ public enum Operator {
     NOTEMPTY("notempty", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (entity) -> !isEmpty(fieldPath, requestScope).test(entity);
+            return Operator.<T>isEmpty(fieldPath, requestScope).negate();
         }
     },
 
@@ -178,7 +185,7 @@ public enum Operator {
     HASNOMEMBER("hasnomember", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entiry -> !hasMember(fieldPath, values, requestScope).test(entiry);
+            return Operator.<T>hasMember(fieldPath, values, requestScope).negate();
         }
     }
     ;
@@ -233,12 +240,13 @@ public enum Operator {
     //
     // In with strict equality
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        String[] fieldNames = getFieldNames(fieldPath);
+        CoercedValues<Set<Object>> coercedValues = new CoercedValues<>(values, HashSet::new);
+
         return (T entity) -> {
-            Object val = getFieldValue(entity, fieldPath, requestScope);
+            Object val = getFieldValue(entity, fieldNames, requestScope);
 
-            return val != null && values.stream()
-                    .map(v -> CoerceUtil.coerce(v, val.getClass()))
-                    .anyMatch(val::equals);
+            return val != null && coercedValues.get(val.getClass()).contains(val);
         };
     }
 
@@ -246,8 +254,13 @@ public enum Operator {
     // String-like In with optional transformation
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values,
                                        RequestScope requestScope, Function<String, String> transform) {
+        String[] fieldNames = getFieldNames(fieldPath);
+        Supplier<Set<String>> transformedValues = Suppliers.memoize(() -> values.stream()
+                .map(v -> transform.apply(CoerceUtil.coerce(v, String.class)))
+                .collect(Collectors.toSet()));
+
         return (T entity) -> {
-            Object fieldValue = getFieldValue(entity, fieldPath, requestScope);
+            Object fieldValue = getFieldValue(entity, fieldNames, requestScope);
 
             if (fieldValue == null) {
                 return false;
@@ -258,9 +271,7 @@ public enum Operator {
             }
 
             String val = transform.apply((String) fieldValue);
-            return val != null && values.stream()
-                    .map(v -> transform.apply(CoerceUtil.coerce(v, String.class)))
-                    .anyMatch(val::equals);
+            return val != null && transformedValues.get().contains(val);
         };
     }
 
@@ -268,18 +279,20 @@ public enum Operator {
     // String-like prefix matching with optional transformation
     private static <T> Predicate<T> prefix(Path fieldPath, List<Object> values,
                                            RequestScope requestScope, Function<String, String> transform) {
+        String[] fieldNames = getFieldNames(fieldPath);
+        Supplier<String> filterStr = getFilterString(values, transform);
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new BadRequestException("PREFIX can only take one argument");
             }
 
-            Object val = getFieldValue(entity, fieldPath, requestScope);
+            Object val = getFieldValue(entity, fieldNames, requestScope);
             String valStr = CoerceUtil.coerce(val, String.class);
-            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
 
             return valStr != null
-                    && filterStr != null
-                    && transform.apply(valStr).startsWith(transform.apply(filterStr));
+                    && filterStr.get() != null
+                    && transform.apply(valStr).startsWith(filterStr.get());
         };
     }
 
@@ -287,18 +300,20 @@ public enum Operator {
     // String-like postfix matching with optional transformation
     private static <T> Predicate<T> postfix(Path fieldPath, List<Object> values,
                                             RequestScope requestScope, Function<String, String> transform) {
+        String[] fieldNames = getFieldNames(fieldPath);
+        Supplier<String> filterStr = getFilterString(values, transform);
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new BadRequestException("POSTFIX can only take one argument");
             }
 
-            Object val = getFieldValue(entity, fieldPath, requestScope);
+            Object val = getFieldValue(entity, fieldNames, requestScope);
             String valStr = CoerceUtil.coerce(val, String.class);
-            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
 
             return valStr != null
-                    && filterStr != null
-                    && transform.apply(valStr).endsWith(transform.apply(filterStr));
+                    && filterStr.get() != null
+                    && transform.apply(valStr).endsWith(filterStr.get());
         };
     }
 
@@ -306,25 +321,28 @@ public enum Operator {
     // String-like infix matching with optional transformation
     private static <T> Predicate<T> infix(Path fieldPath, List<Object> values,
                                           RequestScope requestScope, Function<String, String> transform) {
+        String[] fieldNames = getFieldNames(fieldPath);
+        Supplier<String> filterStr = getFilterString(values, transform);
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new BadRequestException("INFIX can only take one argument");
             }
 
-            Object val = getFieldValue(entity, fieldPath, requestScope);
+            Object val = getFieldValue(entity, fieldNames, requestScope);
             String valStr = CoerceUtil.coerce(val, String.class);
-            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
 
             return valStr != null
-                    && filterStr != null
-                    && transform.apply(valStr).contains(transform.apply(filterStr));
+                    && filterStr.get() != null
+                    && transform.apply(valStr).contains(filterStr.get());
         };
     }
 
     //
     // Null checking
     private static <T> Predicate<T> isNull(Path fieldPath, RequestScope requestScope) {
-        return (T entity) -> getFieldValue(entity, fieldPath, requestScope) == null;
+        String[] fieldNames = getFieldNames(fieldPath);
+        return (T entity) -> getFieldValue(entity, fieldNames, requestScope) == null;
     }
 
     private static <T> Predicate<T> lt(Path fieldPath, List<Object> values, RequestScope requestScope) {
@@ -352,9 +370,10 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> isEmpty(Path fieldPath, RequestScope requestScope) {
+        String[] fieldNames = getFieldNames(fieldPath);
         return (T entity) -> {
 
-            Object val = getFieldValue(entity, fieldPath, requestScope);
+            Object val = getFieldValue(entity, fieldNames, requestScope);
             if (val == null) { return false; }
             if (val instanceof Collection<?>) {
                 return ((Collection<?>) val).isEmpty();
@@ -368,14 +387,17 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> hasMember(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        String[] fieldNames = getFieldNames(fieldPath);
+        Supplier<Object> filterValue = Suppliers.memoize(() -> fieldPath.lastElement()
+                .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
+                .orElse(CoerceUtil.coerce(values.get(0), String.class)));
+
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new BadRequestException("HasMember can only take one argument");
             }
-            Object val = getFieldValue(entity, fieldPath, requestScope);
-            Object filterStr = fieldPath.lastElement()
-                    .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
-                    .orElse(CoerceUtil.coerce(values.get(0), String.class));
+            Object val = getFieldValue(entity, fieldNames, requestScope);
+            Object filterStr = filterValue.get();
 
             if (val == null) { return false; }
             if (val instanceof Collection<?>) {
@@ -389,49 +411,102 @@ public enum Operator {
         };
     }
 
+    /**
+     * Return the names of the fields along a path, skipping references to the entity itself.
+     *
+     * @param fieldPath field value/path
+     * @return the field names to walk
+     */
+    private static String[] getFieldNames(Path fieldPath) {
+        return fieldPath.getPathElements().stream()
+                .map(Path.PathElement::getFieldName)
+                .filter(fieldName -> !"this".equals(fieldName))
+                .toArray(String[]::new);
+    }
+
     /**
      * Return value of field/path for given entity.  For example this.book.author
      *
      * @param <T> the type of entity to retrieve a value from
      * @param entity Entity bean
-     * @param fieldPath field value/path
+     * @param fieldNames field names along the path
      * @param requestScope Request scope
      * @return the value of the field
      */
-    private static <T> Object getFieldValue(T entity, Path fieldPath, RequestScope requestScope) {
+    private static <T> Object getFieldValue(T entity, String[] fieldNames, RequestScope requestScope) {
         Object val = entity;
-        for (Path.PathElement field : fieldPath.getPathElements()) {
-            if ("this".equals(field.getFieldName())) {
-                continue;
-            }
+        for (String fieldName : fieldNames) {
             if (val == null) {
                 break;
             }
-            val = PersistentResource.getValue(val, field.getFieldName(), requestScope);
+            val = PersistentResource.getValue(val, fieldName, requestScope);
         }
         return val;
     }
 
+    /**
+     * Return the transformed string form of a single filter value, computed the first time it is needed.
+     *
+     * @param values The filter values
+     * @param transform The transformation (such as case folding) to apply
+     * @return the transformed filter value
+     */
+    private static Supplier<String> getFilterString(List<Object> values, Function<String, String> transform) {
+        return Suppliers.memoize(() -> {
+            String filterStr = CoerceUtil.coerce(values.get(0), String.class);
+            return filterStr == null ? null : transform.apply(filterStr);
+        });
+    }
+
     private static <T> Predicate<T> getComparator(Path fieldPath, List<Object> values,
                                                   RequestScope requestScope, Predicate<Integer> condition) {
+        String[] fieldNames = getFieldNames(fieldPath);
+        CoercedValues<List<Comparable>> testValues = new CoercedValues<>(values, coerced -> coerced.stream()
+                .map(testValue -> CoerceUtil.coerce(testValue, Comparable.class))
+                .collect(Collectors.toList()));
+
         return (T entity) -> {
             if (values.size() == 0) {
                 throw new BadRequestException("No value to compare");
             }
-            Object fieldVal = getFieldValue(entity, fieldPath, requestScope);
-            return fieldVal != null
-                    && values.stream()
-                    .anyMatch(testVal -> condition.test(compare(fieldVal, testVal)));
-        };
+            Object fieldVal = getFieldValue(entity, fieldNames, requestScope);
+            if (fieldVal == null) {
+                return false;
+            }
 
+            Comparable fieldComp = CoerceUtil.coerce(fieldVal, Comparable.class);
+            return testValues.get(fieldVal.getClass()).stream()
+                    .anyMatch(testComp -> condition.test(fieldComp.compareTo(testComp)));
+        };
     }
 
-    private static int compare(Object fieldValue, Object rawTestValue) {
-        Object testValue = CoerceUtil.coerce(rawTestValue, fieldValue.getClass());
-        Comparable testComp = CoerceUtil.coerce(testValue, Comparable.class);
-        Comparable fieldComp = CoerceUtil.coerce(fieldValue, Comparable.class);
+    /**
+     * Filter values coerced to the type of the field values they are tested against.  The coercion is computed
+     * once per field value type (typically once per filter) rather than for every entity.
+     *
+     * @param <R> The collection of coerced values
+     */
+    private static class CoercedValues<R> {
+        private final List<Object> values;
+        private final Function<List<Object>, R> collector;
+        private volatile Pair<Class<?>, R> coerced;
+
+        CoercedValues(List<Object> values, Function<List<Object>, R> collector) {
+            this.values = values;
+            this.collector = collector;
+        }
 
-        return fieldComp.compareTo(testComp);
+        R get(Class<?> fieldClass) {
+            Pair<Class<?>, R> current = coerced;
+            if (current == null || current.getLeft() != fieldClass) {
+                List<Object> coercedValues = values.stream()
+                        .map(v -> CoerceUtil.coerce(v, fieldClass))
+                        .collect(Collectors.toList());
+                current = Pair.of(fieldClass, collector.apply(coercedValues));
+                coerced = current;
+            }
+            return current.getRight();
+        }
     }
 
     public Operator negate() {
@@ -25,9 +25,13 @@ import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.parsers.JsonApiParser;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableMap;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.tuple.Triple;
 
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.RSQLParserException;
@@ -54,8 +58,13 @@ import javax.ws.rs.core.MultivaluedMap;
 
 /**
  * FilterDialect which implements support for RSQL filter dialect.
+ * <p>
+ * Parsed expressions (and parse errors) are cached by entity type and filter text so that repeated filters skip the
+ * RSQL parser and path resolution.  Cached expressions are shared between requests and must not be modified.
  */
 public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDialect {
+    public static final long DEFAULT_CACHE_SIZE = 1000;
+
     private static final String SINGLE_PARAMETER_ONLY = "There can only be a single filter query parameter";
     private static final String INVALID_QUERY_PARAMETER = "Invalid query parameter: ";
     private static final Pattern TYPED_FILTER_PATTERN = Pattern.compile("filter\\[([^\\]]+)\\]");
@@ -79,15 +88,32 @@ public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDiale
     private final RSQLParser parser;
     private final EntityDictionary dictionary;
     private final CaseSensitivityStrategy caseSensitivityStrategy;
+    private final Cache<Triple<Class<?>, String, Boolean>, ParseResult> parseCache;
 
     public RSQLFilterDialect(EntityDictionary dictionary) {
         this(dictionary, new CaseSensitivityStrategy.FIQLCompliant());
     }
 
     public RSQLFilterDialect(EntityDictionary dictionary, CaseSensitivityStrategy caseSensitivityStrategy) {
+        this(dictionary, caseSensitivityStrategy, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dictionary The entity dictionary
+     * @param caseSensitivityStrategy How string comparisons treat case
+     * @param cacheSize The maximum number of parsed expressions to cache.  Zero disables the cache.
+     */
+    public RSQLFilterDialect(EntityDictionary dictionary, CaseSensitivityStrategy caseSensitivityStrategy,
+                             long cacheSize) {
         parser = new RSQLParser(getDefaultOperatorsWithIsnull());
         this.dictionary = dictionary;
         this.caseSensitivityStrategy = caseSensitivityStrategy;
+        this.parseCache = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
     }
 
     //add rsql isnull op to the default ops
@@ -186,12 +212,59 @@ public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDiale
     public FilterExpression parseFilterExpression(String expressionText,
                                                   Class<?> entityType,
                                                   boolean allowNestedToManyAssociations) throws ParseException {
-        try {
-            Node ast = parser.parse(expressionText);
-            RSQL2FilterExpressionVisitor visitor = new RSQL2FilterExpressionVisitor(allowNestedToManyAssociations);
-            return ast.accept(visitor, entityType);
-        } catch (RSQLParserException e) {
-            throw new ParseException(e.getMessage());
+        Triple<Class<?>, String, Boolean> key = Triple.of(entityType, expressionText, allowNestedToManyAssociations);
+        ParseResult result = parseCache.getIfPresent(key);
+
+        if (result == null) {
+            try {
+                Node ast = parser.parse(expressionText);
+                RSQL2FilterExpressionVisitor visitor =
+                        new RSQL2FilterExpressionVisitor(allowNestedToManyAssociations);
+                result = new ParseResult(ast.accept(visitor, entityType), null, null, null);
+            } catch (RSQLParserException e) {
+                //Unknown fields, invalid operators and operator values: the common repeated client errors.
+                result = new ParseResult(null, e.getMessage(), null, null);
+            } catch (InvalidValueException e) {
+                //Values which cannot be coerced to the type of their field.
+                result = new ParseResult(null, null, e.getMessage(), e.getVerboseMessage());
+            }
+            parseCache.put(key, result);
+        }
+
+        if (result.error != null) {
+            throw new ParseException(result.error);
+        }
+        if (result.invalidValue != null) {
+            String verboseMessage = result.invalidValueVerbose;
+            throw new InvalidValueException(result.invalidValue, () -> verboseMessage);
+        }
+        return result.expression;
+    }
+
+    /**
+     * Hit, miss and eviction counts of the parsed expression cache.
+     *
+     * @return The cache statistics
+     */
+    public CacheStats getCacheStats() {
+        return parseCache.stats();
+    }
+
+    /**
+     * A parsed filter expression, the message of the parse error or the messages of the invalid value error.
+     * Only messages are kept so that every request throws its own exception.
+     */
+    private static class ParseResult {
+        private final FilterExpression expression;
+        private final String error;
+        private final String invalidValue;
+        private final String invalidValueVerbose;
+
+        ParseResult(FilterExpression expression, String error, String invalidValue, String invalidValueVerbose) {
+            this.expression = expression;
+            this.error = error;
+            this.invalidValue = invalidValue;
+            this.invalidValueVerbose = invalidValueVerbose;
         }
     }
 
@@ -340,7 +413,7 @@ public class RSQLFilterDialect implements SubqueryFilterDialect, JoinFilterDiale
                                     : argument
                     )
                     .map((argument) -> (Object) CoerceUtil.coerce(argument, relationshipType))
-                    .collect(Collectors.toList());
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
 
             if (op.equals(RSQLOperators.EQUAL) || op.equals(RSQLOperators.IN)) {
                 return equalityExpression(arguments.get(0), path, values);
@@ -11,7 +11,8 @@ import com.yahoo.elide.core.filter.FilterPredicate;
 import java.util.function.Predicate;
 
 /**
- * Visitor for in memory filterExpressions.
+ * Visitor for in memory filterExpressions.  The filter expression is compiled into a single predicate once so
+ * that filter values are only coerced once no matter how many objects are tested.
  */
 public class InMemoryFilterExecutor implements FilterExpressionVisitor<Predicate> {
     private final RequestScope requestScope;
@@ -29,19 +30,19 @@ public class InMemoryFilterExecutor implements FilterExpressionVisitor<Predicate
     public Predicate visitAndExpression(AndFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.and(rightPredicate).test(t);
+        return leftPredicate.and(rightPredicate);
     }
 
     @Override
     public Predicate visitOrExpression(OrFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.or(rightPredicate).test(t);
+        return leftPredicate.or(rightPredicate);
     }
 
     @Override
     public Predicate visitNotExpression(NotFilterExpression expression) {
         Predicate predicate = expression.getNegated().accept(this);
-        return t -> predicate.negate().test(t);
+        return predicate.negate();
     }
 }
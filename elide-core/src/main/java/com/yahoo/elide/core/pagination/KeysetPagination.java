@@ -0,0 +1,258 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.pagination;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.core.sort.Sorting.SortOrder;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+import com.yahoo.elide.utils.coerce.converters.Serde;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keyset (cursor) pagination of a collection.
+ * <p>
+ * Rather than skipping {@code offset} records, a page starts after (or ends before) the record identified by a
+ * cursor.  The cursor holds the values of the sort keys of that record: the requested sort rules followed by the
+ * entity id, so that every record has a distinct key.  It is translated into a seek filter on the sort keys.  For
+ * example {@code sort=-publishDate&page[after]=...} becomes
+ *
+ * <pre>publishDate &lt; :date OR (publishDate = :date AND id &gt; :id)</pre>
+ *
+ * which data stores apply like any other filter, so the cost of loading a page does not depend on its depth.
+ * Sort keys must not be null.
+ */
+public class KeysetPagination {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Object>> CURSOR_TYPE = new TypeReference<List<Object>>() { };
+
+    private final Map<Path, SortOrder> keys;
+    private final Pagination pagination;
+
+    /**
+     * Constructor.
+     *
+     * @param entityClass The type of the paged collection
+     * @param sorting The requested sort rules
+     * @param pagination The pagination of the request
+     * @param dictionary The entity dictionary
+     */
+    public KeysetPagination(Class<?> entityClass, Optional<Sorting> sorting, Pagination pagination,
+                            EntityDictionary dictionary) {
+        this.pagination = pagination;
+        this.keys = sorting.map(rules -> rules.getValidSortingRules(entityClass, dictionary))
+                .orElseGet(LinkedHashMap::new);
+
+        Path idPath = new Path(entityClass, dictionary, dictionary.getIdFieldName(entityClass));
+        keys.putIfAbsent(idPath, SortOrder.asc);
+    }
+
+    /**
+     * Whether the client asked for the page which precedes the cursor.
+     * @return true for page[before]
+     */
+    private boolean isBackward() {
+        return pagination.getBefore() != null;
+    }
+
+    /**
+     * The sort rules to load the page with.  When paging backwards the order is reversed so the records closest to
+     * the cursor come first.
+     *
+     * @return the sorting on every sort key
+     */
+    public Sorting getSorting() {
+        Map<String, SortOrder> rules = new LinkedHashMap<>();
+        keys.forEach((path, order) -> rules.put(path.getFieldPath(), isBackward() ? reverse(order) : order));
+        return new Sorting(rules);
+    }
+
+    /**
+     * Adds the seek filter of the cursor to a filter.
+     *
+     * @param filter The filter of the request
+     * @return The combined filter
+     */
+    public Optional<FilterExpression> addSeekFilter(Optional<FilterExpression> filter) {
+        Optional<FilterExpression> seekFilter = getSeekFilter();
+        if (!seekFilter.isPresent()) {
+            return filter;
+        }
+        return Optional.of(filter
+                .map(expression -> (FilterExpression) new AndFilterExpression(expression, seekFilter.get()))
+                .orElse(seekFilter.get()));
+    }
+
+    /**
+     * Builds the seek filter for the cursor: key1 &gt; v1 OR (key1 = v1 AND (key2 &gt; v2 OR (key2 = v2 AND ...))).
+     *
+     * @return The filter or empty for the first page
+     */
+    private Optional<FilterExpression> getSeekFilter() {
+        String cursor = isBackward() ? pagination.getBefore() : pagination.getAfter();
+        if (cursor == null || cursor.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Object> values = decode(cursor);
+        if (values.size() != keys.size()) {
+            throw new InvalidValueException("Invalid page cursor: " + cursor);
+        }
+
+        List<Map.Entry<Path, SortOrder>> entries = new ArrayList<>(keys.entrySet());
+        FilterExpression seek = null;
+        for (int idx = entries.size() - 1; idx >= 0; idx--) {
+            Path path = entries.get(idx).getKey();
+            Class<?> fieldType = path.lastElement().map(Path.PathElement::getFieldType).orElse(Object.class);
+            Object value = CoerceUtil.coerce(values.get(idx), fieldType);
+            if (value == null) {
+                throw new InvalidValueException("Keyset pagination requires non-null sort keys");
+            }
+
+            boolean ascending = entries.get(idx).getValue() == SortOrder.asc;
+            Operator operator = ascending != isBackward() ? Operator.GT : Operator.LT;
+            FilterExpression beyond = new FilterPredicate(path, operator, Collections.singletonList(value));
+
+            seek = seek == null
+                    ? beyond
+                    : new OrFilterExpression(beyond, new AndFilterExpression(
+                            new FilterPredicate(path, Operator.IN, Collections.singletonList(value)), seek));
+        }
+        return Optional.ofNullable(seek);
+    }
+
+    /**
+     * Collects the loaded page in the requested order.
+     *
+     * @param objects The records loaded with the sorting and seek filter of this pagination
+     * @param <T> The type of the records
+     * @return The page
+     */
+    public <T> List<T> page(Iterable<T> objects) {
+        List<T> page = Lists.newArrayList(objects);
+        if (isBackward()) {
+            Collections.reverse(page);
+        }
+        return page;
+    }
+
+    /**
+     * Records the cursors of the first and last records of the page.  The page must only hold the records the client
+     * can read, since the cursors disclose their sort key values.  If the client cannot read a sort key of either
+     * record, no cursors are recorded.
+     *
+     * @param page The page in the requested order, filtered by read permission
+     */
+    public void setCursors(Collection<PersistentResource> page) {
+        if (page.isEmpty()) {
+            return;
+        }
+
+        Optional<String> startCursor = getCursor(page.iterator().next());
+        Optional<String> endCursor = getCursor(Iterables.getLast(page));
+        if (startCursor.isPresent() && endCursor.isPresent()) {
+            pagination.setStartCursor(startCursor.get());
+            pagination.setEndCursor(endCursor.get());
+        }
+    }
+
+    /**
+     * Encodes the sort key values of a record.  Values are read like the serializer reads them, checking the read
+     * permission of every field on the path.
+     *
+     * @param resource The record
+     * @return The cursor or empty if the client cannot read a sort key
+     */
+    private Optional<String> getCursor(PersistentResource resource) {
+        List<Object> values = new ArrayList<>();
+        try {
+            for (Path path : keys.keySet()) {
+                List<Path.PathElement> elements = path.getPathElements();
+                PersistentResource record = resource;
+                for (Path.PathElement element : elements.subList(0, elements.size() - 1)) {
+                    Set<PersistentResource> related = record.getRelationCheckedFiltered(element.getFieldName(),
+                            Optional.empty(), Optional.empty(), Optional.empty());
+                    record = Iterables.getFirst(related, null);
+                    if (record == null) {
+                        break;
+                    }
+                }
+
+                Object value = record == null
+                        ? null
+                        : record.getAttribute(elements.get(elements.size() - 1).getFieldName());
+                Serde serde = value == null ? null : CoerceUtil.lookup(value.getClass());
+                values.add(serde == null ? value : serde.serialize(value));
+            }
+        } catch (ForbiddenAccessException e) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] encoded = MAPPER.writeValueAsBytes(values);
+            return Optional.of(Base64.getUrlEncoder().withoutPadding().encodeToString(encoded));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot encode page cursor", e);
+        }
+    }
+
+    /**
+     * Whether a page parameter is a keyset cursor.
+     *
+     * @param value The parameter
+     * @return true for an empty value (first page) or an encoded cursor
+     */
+    public static boolean isCursor(String value) {
+        if (value == null) {
+            return false;
+        }
+        if (value.isEmpty()) {
+            return true;
+        }
+        try {
+            decode(value);
+            return true;
+        } catch (InvalidValueException e) {
+            return false;
+        }
+    }
+
+    private static List<Object> decode(String cursor) {
+        try {
+            return MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), CURSOR_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidValueException("Invalid page cursor: " + cursor);
+        }
+    }
+
+    private static SortOrder reverse(SortOrder order) {
+        return order == SortOrder.asc ? SortOrder.desc : SortOrder.asc;
+    }
+}
@@ -12,10 +12,16 @@ import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.google.common.collect.ImmutableMap;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -30,7 +36,7 @@ public class Pagination {
     /**
      * Denotes the internal field names for paging.
      */
-    public enum PaginationKey { offset, number, size, limit, totals }
+    public enum PaginationKey { offset, number, size, limit, totals, after, before }
 
     public static final int DEFAULT_OFFSET = 0;
     public static final int DEFAULT_PAGE_LIMIT = 500;
@@ -51,6 +57,12 @@ public class Pagination {
     // For requesting total pages/records be included in the response page meta data
     public static final String PAGE_TOTALS_KEY = "page[totals]";
 
+    // For requesting the records which follow the record identified by a cursor
+    public static final String PAGE_AFTER_KEY = "page[after]";
+
+    // For requesting the records which precede the record identified by a cursor
+    public static final String PAGE_BEFORE_KEY = "page[before]";
+
     public static final Map<String, PaginationKey> PAGE_KEYS = new HashMap<>();
     static {
         PAGE_KEYS.put(PAGE_NUMBER_KEY, PaginationKey.number);
@@ -58,6 +70,8 @@ public class Pagination {
         PAGE_KEYS.put(PAGE_OFFSET_KEY, PaginationKey.offset);
         PAGE_KEYS.put(PAGE_LIMIT_KEY, PaginationKey.limit);
         PAGE_KEYS.put(PAGE_TOTALS_KEY, PaginationKey.totals);
+        PAGE_KEYS.put(PAGE_AFTER_KEY, PaginationKey.after);
+        PAGE_KEYS.put(PAGE_BEFORE_KEY, PaginationKey.before);
     }
 
     private long pageTotals = 0;
@@ -76,6 +90,30 @@ public class Pagination {
     @Getter
     private boolean generateTotals;
 
+    // How totals are computed: requested by the client with page[totals]=exact|cached or set by the entity
+    @Getter
+    private Paginate.Totals totalsMode = Paginate.Totals.EXACT;
+
+    private Paginate.Totals requestedTotalsMode;
+
+    // Whether the page totals were estimated rather than counted for this request
+    @Getter @Setter
+    private boolean pageTotalsApproximate;
+
+    // Keyset cursors requested by the client.  An empty cursor requests the first (or last) page.
+    @Getter
+    private String after;
+
+    @Getter
+    private String before;
+
+    // Keyset cursors of the first and last records of the page, set once the page is loaded
+    @Getter @Setter
+    private String startCursor;
+
+    @Getter @Setter
+    private String endCursor;
+
     private final int defaultMaxPageSize;
     private final int defaultPageSize;
 
@@ -114,10 +152,11 @@ public class Pagination {
     }
 
     /**
-     * Given an offset and first parameter from GraphQL, generate page and pageSize values.
+     * Given an offset and first parameter from GraphQL, generate page and pageSize values.  The offset may also be
+     * a keyset cursor (or empty to request the first page of keyset pagination).
      *
      * @param firstOpt Provided first string
-     * @param offsetOpt Provided offset string
+     * @param offsetOpt Provided offset string or cursor
      * @param generatePageTotals True if page totals should be generated, false otherwise
      * @param elideSettings Elide settings object containing default pagination values
      * @return The new Pagination object.
@@ -126,6 +165,31 @@ public class Pagination {
                                                           Optional<String> offsetOpt,
                                                           boolean generatePageTotals,
                                                           ElideSettings elideSettings) {
+        Optional<String> cursor = offsetOpt.filter(KeysetPagination::isCursor);
+        if (cursor.isPresent()) {
+            Map<PaginationKey, Integer> pageData = new HashMap<>();
+            pageData.put(PaginationKey.after, 0);
+            if (firstOpt.isPresent()) {
+                int first;
+                try {
+                    first = Integer.parseInt(firstOpt.get());
+                } catch (NumberFormatException e) {
+                    throw new InvalidValueException("Offset and first must be numeric values.");
+                }
+                if (first < 1) {
+                    throw new InvalidValueException("Limit values must be positive.");
+                }
+                pageData.put(PaginationKey.limit, first);
+            }
+            if (generatePageTotals) {
+                pageData.put(PaginationKey.totals, 1);
+            }
+
+            Pagination pagination = getPagination(pageData, elideSettings);
+            pagination.after = cursor.get();
+            return Optional.of(pagination);
+        }
+
         return firstOpt.map(firstString -> {
             int offset;
             int first;
@@ -173,15 +237,27 @@ public class Pagination {
                                               ElideSettings elideSettings)
             throws InvalidValueException {
         final Map<PaginationKey, Integer> pageData = new HashMap<>();
+        final Map<PaginationKey, String> cursors = new HashMap<>();
+        final List<Paginate.Totals> totalsModes = new ArrayList<>();
         queryParams.entrySet()
                 .forEach(paramEntry -> {
                     final String queryParamKey = paramEntry.getKey();
                     if (PAGE_KEYS.containsKey(queryParamKey)) {
                         PaginationKey paginationKey = PAGE_KEYS.get(queryParamKey);
                         if (paginationKey.equals(PaginationKey.totals)) {
-                            // page[totals] is a valueless parameter, use value of 0 just so that its presence can
-                            // be recorded in the map
+                            // page[totals] takes an optional totals mode, use value of 0 just so that its presence
+                            // can be recorded in the map
                             pageData.put(paginationKey, 0);
+                            totalsModes.add(parseTotalsMode(paramEntry.getValue()));
+                        } else if (paginationKey.equals(PaginationKey.after)
+                                || paginationKey.equals(PaginationKey.before)) {
+                            // Cursors are not integers, only their presence is recorded in the page data
+                            final String value = paramEntry.getValue().get(0);
+                            if (!KeysetPagination.isCursor(value)) {
+                                throw new InvalidValueException("Invalid page cursor: " + value);
+                            }
+                            pageData.put(paginationKey, 0);
+                            cursors.put(paginationKey, value);
                         } else {
                             final String value = paramEntry.getValue().get(0);
                             try {
@@ -196,7 +272,42 @@ public class Pagination {
                                 + PAGE_KEYS_CSV);
                     }
                 });
-        return getPagination(pageData, elideSettings);
+        Pagination pagination = getPagination(pageData, elideSettings);
+        pagination.after = cursors.get(PaginationKey.after);
+        pagination.before = cursors.get(PaginationKey.before);
+        pagination.requestedTotalsMode = totalsModes.stream().filter(Objects::nonNull).findFirst().orElse(null);
+        return pagination;
+    }
+
+    /**
+     * Parses the value of page[totals].
+     *
+     * @param values The parameter values
+     * @return The requested totals mode or null to use the default of the entity
+     * @throws InvalidValueException for an unknown mode
+     */
+    private static Paginate.Totals parseTotalsMode(List<String> values) {
+        String value = values == null || values.isEmpty() || values.get(0) == null ? "" : values.get(0).trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        for (Paginate.Totals mode : Paginate.Totals.values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new InvalidValueException("page[totals] must be empty or one of "
+                + Arrays.stream(Paginate.Totals.values())
+                        .map(mode -> mode.name().toLowerCase(Locale.ENGLISH))
+                        .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Whether records are paged by keyset cursors rather than by offset.
+     * @return true if a page[after] or page[before] cursor was provided
+     */
+    public boolean isKeyset() {
+        return after != null || before != null;
     }
 
     /**
@@ -215,6 +326,31 @@ public class Pagination {
         return pageTotals;
     }
 
+    /**
+     * Whether only the page totals were requested (page[size]=0 or page[limit]=0).  Data stores need not load any
+     * records.
+     * @return true if totals are requested for an empty page
+     */
+    public boolean isTotalsOnly() {
+        return generateTotals && limit == 0;
+    }
+
+    /**
+     * Derives the page totals from the number of records loaded for the page.  A page which is not full is the last
+     * one, so the total is its offset plus its size and no count is needed.  This does not apply to keyset pages or
+     * to empty pages past the first, which do not tell how many records precede them.
+     *
+     * @param pageSize the number of records loaded for the page
+     * @return true if the totals were set
+     */
+    public boolean setPageTotalsFromPage(int pageSize) {
+        if (isKeyset() || pageSize >= limit || (pageSize == 0 && offset > 0)) {
+            return false;
+        }
+        setPageTotals((long) offset + pageSize);
+        return true;
+    }
+
     /**
      * Construct a pagination object from page data and elide settings.
      *
@@ -257,8 +393,12 @@ public class Pagination {
     }
 
     private boolean hasInvalidCombination(Map<PaginationKey, Integer> pageData) {
-        return (pageData.containsKey(PaginationKey.size) || pageData.containsKey(PaginationKey.number))
-                && (pageData.containsKey(PaginationKey.limit) || pageData.containsKey(PaginationKey.offset));
+        boolean keyset = pageData.containsKey(PaginationKey.after) || pageData.containsKey(PaginationKey.before);
+        return ((pageData.containsKey(PaginationKey.size) || pageData.containsKey(PaginationKey.number))
+                && (pageData.containsKey(PaginationKey.limit) || pageData.containsKey(PaginationKey.offset)))
+                || (keyset && (pageData.containsKey(PaginationKey.number)
+                        || pageData.containsKey(PaginationKey.offset)))
+                || (pageData.containsKey(PaginationKey.after) && pageData.containsKey(PaginationKey.before));
     }
 
     private void pageByOffset(int defaultLimit, int maxLimit) {
@@ -310,6 +450,9 @@ public class Pagination {
         evaluate(defaultLimit, maxLimit);
 
         generateTotals = generateTotals && (paginate == null || paginate.countable());
+        totalsMode = requestedTotalsMode != null
+                ? requestedTotalsMode
+                : paginate != null ? paginate.totals() : Paginate.Totals.EXACT;
 
         return this;
     }
@@ -12,6 +12,7 @@ import com.yahoo.elide.core.exceptions.InvalidValueException;
 import lombok.ToString;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -93,6 +94,14 @@ public class Sorting {
         return true;
     }
 
+    /**
+     * Returns the requested sorting rules in the order they were requested.
+     * @return the sorting rules keyed by field path
+     */
+    public Map<String, SortOrder> getSortRules() {
+        return Collections.unmodifiableMap(sortRules);
+    }
+
     /**
      * Informs if the structure is default instance.
      * @return true if this instance is empty - no sorting rules
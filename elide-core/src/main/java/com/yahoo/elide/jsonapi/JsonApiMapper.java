@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
 
@@ -119,6 +120,28 @@ public class JsonApiMapper {
         return mapper.writeValueAsString(node);
     }
 
+    /**
+     * Write json api document directly to an output stream.  The stream is flushed but not closed.
+     *
+     * @param node the node
+     * @param outputStream the stream to write to
+     * @throws IOException the iO exception
+     */
+    public void writeJsonApiDocument(JsonNode node, OutputStream outputStream) throws IOException {
+        mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, node);
+    }
+
+    /**
+     * Wrap a json api document in a node which is serialized only when written.  Unlike
+     * {@link #toJsonObject(JsonApiDocument)}, no intermediate tree is built.
+     *
+     * @param jsonApiDocument the json api document
+     * @return the json node
+     */
+    public JsonNode toDeferredJsonObject(JsonApiDocument jsonApiDocument) {
+        return JsonNodeFactory.instance.pojoNode(jsonApiDocument);
+    }
+
     /**
      * Read json api document.
      *
@@ -14,7 +14,13 @@ import com.google.common.collect.Lists;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -36,7 +42,7 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, PersistentResource resource,
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-            addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE));
+            addIncludedResources(jsonApiDocument, Collections.singletonList(resource), queryParams.get().get(INCLUDE));
         }
     }
 
@@ -48,56 +54,81 @@ public class IncludedProcessor implements DocumentProcessor {
     public void execute(JsonApiDocument jsonApiDocument, Set<PersistentResource> resources,
                         Optional<MultivaluedMap<String, String>> queryParams) {
         if (isPresent(queryParams, INCLUDE)) {
-
-            // Process include for each resource
-            resources.forEach(resource ->
-                    addIncludedResources(jsonApiDocument, resource, queryParams.get().get(INCLUDE)));
+            addIncludedResources(jsonApiDocument, resources, queryParams.get().get(INCLUDE));
         }
     }
 
     /**
      * Adds the requested relation resources to the included block of the JsonApiDocument.
      */
-    private void addIncludedResources(JsonApiDocument jsonApiDocument, PersistentResource rec,
+    private void addIncludedResources(JsonApiDocument jsonApiDocument, Collection<PersistentResource> records,
             List<String> requestedRelationPaths) {
+        // Resources already added to the included block
+        Set<PersistentResource> included = new HashSet<>();
+
         // Process each include relation path
         requestedRelationPaths.forEach(pathParam -> {
             List<String> pathList = Arrays.asList(pathParam.split(RELATION_PATH_SEPARATOR));
 
             pathList.forEach(requestedRelationPath -> {
                 List<String> relationPath = Lists.newArrayList(requestedRelationPath.split(RELATION_PATH_DELIMITER));
-                addResourcesForPath(jsonApiDocument, rec, relationPath);
+                addResourcesForPath(jsonApiDocument, records, relationPath, included);
             });
         });
     }
 
     /**
      * Adds all the relation resources for a given relation path to the included block of the
-     * JsonApiDocument.
+     * JsonApiDocument.  Each level of the path is loaded for all of the records at that level at once, and the
+     * resources are then added in the same depth first order as they are traversed.  Resources which are
+     * reached more than once are only loaded and serialized once.
      */
-    private void addResourcesForPath(JsonApiDocument jsonApiDocument, PersistentResource<?> rec,
-                                     List<String> relationPath) {
+    private void addResourcesForPath(JsonApiDocument jsonApiDocument, Collection<PersistentResource> records,
+                                     List<String> relationPath, Set<PersistentResource> included) {
+        List<Map<PersistentResource, Set<PersistentResource>>> levels = new ArrayList<>();
+
+        Collection<PersistentResource> parents = records;
+        for (String relation : relationPath) {
+            PersistentResource.loadRelationship(parents, relation);
+
+            Map<PersistentResource, Set<PersistentResource>> level = new IdentityHashMap<>();
+            Set<PersistentResource> children = new LinkedHashSet<>();
+            for (PersistentResource<?> rec : parents) {
+                Optional<FilterExpression> filterExpression =
+                        rec.getRequestScope().getExpressionForRelation(rec, relation);
+                try {
+                    Set<PersistentResource> collection = rec.getRelationCheckedFiltered(relation,
+                            filterExpression, Optional.empty(), Optional.empty());
+                    level.put(rec, collection);
+                    children.addAll(collection);
+                } catch (ForbiddenAccessException e) {
+                    // Skip relationships the user cannot read.
+                }
+            }
 
-        //Pop off a relation of relation path
-        String relation = relationPath.remove(0);
+            PersistentResource.loadRelationships(children);
+            levels.add(level);
+            parents = children;
+        }
 
-        Optional<FilterExpression> filterExpression = rec.getRequestScope().getExpressionForRelation(rec, relation);
-        Set<PersistentResource> collection;
-        try {
-            collection = rec.getRelationCheckedFiltered(relation, filterExpression, Optional.empty(), Optional.empty());
-        } catch (ForbiddenAccessException e) {
+        addResources(jsonApiDocument, records, levels, 0, included);
+    }
+
+    private void addResources(JsonApiDocument jsonApiDocument, Collection<PersistentResource> records,
+                              List<Map<PersistentResource, Set<PersistentResource>>> levels, int depth,
+                              Set<PersistentResource> included) {
+        if (depth == levels.size()) {
             return;
         }
 
-        collection.forEach(resource -> {
-            jsonApiDocument.addIncluded(resource.toResource());
+        records.forEach(rec -> levels.get(depth).getOrDefault(rec, Collections.emptySet()).forEach(resource -> {
+            if (included.add(resource)) {
+                jsonApiDocument.addIncluded(resource.toResource());
+            }
 
             //If more relations left in the path, process a level deeper
-            if (!relationPath.isEmpty()) {
-                //Use a copy of the relationPath to preserve the path for remaining branches of the relationship tree
-                addResourcesForPath(jsonApiDocument, resource, new ArrayList<>(relationPath));
-            }
-        });
+            addResources(jsonApiDocument, Collections.singletonList(resource), levels, depth + 1, included);
+        }));
     }
 
     private static boolean isPresent(Optional<MultivaluedMap<String, String>> queryParams, String key) {
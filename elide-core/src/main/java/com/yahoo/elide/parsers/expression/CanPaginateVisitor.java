@@ -15,6 +15,10 @@ import com.yahoo.elide.generated.parsers.ExpressionParser;
 import com.yahoo.elide.security.FilterExpressionCheck;
 import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.UserCheck;
+import com.yahoo.elide.security.permissions.ExpressionResult;
+import com.yahoo.elide.security.permissions.ExpressionResultCache;
+import com.yahoo.elide.security.permissions.expressions.CheckExpression;
+import com.yahoo.elide.security.permissions.expressions.Expression;
 
 import org.antlr.v4.runtime.tree.ParseTree;
 
@@ -144,11 +148,15 @@ public class CanPaginateVisitor
 
     private final EntityDictionary dictionary;
     private final RequestScope scope;
+    private final ExpressionResultCache cache;
 
 
     public CanPaginateVisitor(EntityDictionary dictionary, RequestScope scope) {
         this.dictionary = dictionary;
         this.scope = scope;
+        this.cache = new ExpressionResultCache(
+                scope.getElideSettings() == null ? null : scope.getElideSettings().getUserCheckCache(),
+                scope.getUser());
     }
 
     @Override
@@ -215,7 +223,8 @@ public class CanPaginateVisitor
             return PaginationStatus.CAN_PAGINATE;
         }
         if (check instanceof UserCheck) {
-            if (check.ok(scope.getUser())) {
+            Expression userCheck = new CheckExpression(check, null, scope, null, cache);
+            if (userCheck.evaluate(Expression.EvaluationMode.ALL_CHECKS) == ExpressionResult.PASS) {
                 return PaginationStatus.USER_CHECK_TRUE;
             }
             return PaginationStatus.USER_CHECK_FALSE;
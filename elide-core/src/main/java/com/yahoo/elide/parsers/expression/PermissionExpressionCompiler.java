@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.parsers.expression;
+
+import com.yahoo.elide.core.CheckInstantiator;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.generated.parsers.ExpressionBaseVisitor;
+import com.yahoo.elide.generated.parsers.ExpressionParser;
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.permissions.PermissionExpressionTemplate;
+import com.yahoo.elide.security.permissions.expressions.AndExpression;
+import com.yahoo.elide.security.permissions.expressions.NotExpression;
+import com.yahoo.elide.security.permissions.expressions.OrExpression;
+
+import java.util.Optional;
+
+/**
+ * Compiles a permission parse tree into a {@link PermissionExpressionTemplate}.  Check identifiers are resolved
+ * once at compile time so that binding a template only instantiates stateful checks and the expression nodes.
+ */
+public class PermissionExpressionCompiler extends ExpressionBaseVisitor<PermissionExpressionTemplate>
+        implements CheckInstantiator {
+    private final EntityDictionary dictionary;
+
+    public PermissionExpressionCompiler(EntityDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitNOT(ExpressionParser.NOTContext ctx) {
+        PermissionExpressionTemplate negated = visit(ctx.expression());
+        return (checkFn) -> new NotExpression(negated.bind(checkFn));
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitOR(ExpressionParser.ORContext ctx) {
+        PermissionExpressionTemplate left = visit(ctx.left);
+        PermissionExpressionTemplate right = visit(ctx.right);
+        return (checkFn) -> new OrExpression(left.bind(checkFn), right.bind(checkFn));
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitAND(ExpressionParser.ANDContext ctx) {
+        PermissionExpressionTemplate left = visit(ctx.left);
+        PermissionExpressionTemplate right = visit(ctx.right);
+        return (checkFn) -> new AndExpression(left.bind(checkFn), right.bind(checkFn));
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitPAREN(ExpressionParser.PARENContext ctx) {
+        return visit(ctx.expression());
+    }
+
+    @Override
+    public PermissionExpressionTemplate visitPermissionClass(ExpressionParser.PermissionClassContext ctx) {
+        Class<? extends Check> checkClass = dictionary.getCheck(ctx.getText());
+        Optional<Check> stateless = dictionary.getStatelessCheck(checkClass, this);
+        if (stateless.isPresent()) {
+            Check check = stateless.get();
+            return (checkFn) -> checkFn.apply(check);
+        }
+        return (checkFn) -> checkFn.apply(getCheck(dictionary, checkClass));
+    }
+}
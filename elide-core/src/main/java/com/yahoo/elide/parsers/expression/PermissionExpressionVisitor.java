@@ -20,7 +20,11 @@ import java.util.function.Function;
 
 /**
  * Expression Visitor.
+ *
+ * @deprecated Permission expressions are built from templates compiled by {@link PermissionExpressionCompiler}.
+ * Use {@link EntityDictionary#getPermissionTemplate} and bind the template to the checks instead.
  */
+@Deprecated
 public class PermissionExpressionVisitor extends ExpressionBaseVisitor<Expression> implements CheckInstantiator {
     private final EntityDictionary dictionary;
     private final Function<Check, Expression> expressionGenerator;
@@ -21,6 +21,10 @@ import com.yahoo.elide.security.FilterExpressionCheck;
 import com.yahoo.elide.security.RequestScope;
 import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.UserCheck;
+import com.yahoo.elide.security.permissions.ExpressionResult;
+import com.yahoo.elide.security.permissions.ExpressionResultCache;
+import com.yahoo.elide.security.permissions.expressions.CheckExpression;
+import com.yahoo.elide.security.permissions.expressions.Expression;
 
 import java.util.Objects;
 
@@ -38,6 +42,7 @@ public class PermissionToFilterExpressionVisitor extends ExpressionBaseVisitor<F
     private final EntityDictionary dictionary;
     private final Class entityClass;
     private final RequestScope requestScope;
+    private final ExpressionResultCache cache;
 
     /**
      * This is a constant that represents a check that we cannot evaluate at extraction time.
@@ -84,9 +89,23 @@ public class PermissionToFilterExpressionVisitor extends ExpressionBaseVisitor<F
 
     public PermissionToFilterExpressionVisitor(EntityDictionary dictionary, RequestScope requestScope,
             Class entityClass) {
+        this(dictionary, requestScope, entityClass, new ExpressionResultCache());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param dictionary The entity dictionary
+     * @param requestScope The request scope
+     * @param entityClass The entity class being filtered
+     * @param cache The cache of check results, which user checks are evaluated through
+     */
+    public PermissionToFilterExpressionVisitor(EntityDictionary dictionary, RequestScope requestScope,
+            Class entityClass, ExpressionResultCache cache) {
         this.dictionary = dictionary;
         this.requestScope = requestScope;
         this.entityClass = entityClass;
+        this.cache = cache;
     }
 
     @Override
@@ -177,7 +196,8 @@ public class PermissionToFilterExpressionVisitor extends ExpressionBaseVisitor<F
         }
 
         if (check instanceof UserCheck) {
-            boolean userCheckResult = check.ok(requestScope.getUser());
+            Expression userCheck = new CheckExpression(check, null, requestScope, null, cache);
+            boolean userCheckResult = userCheck.evaluate(Expression.EvaluationMode.ALL_CHECKS) == ExpressionResult.PASS;
             return userCheckResult ? TRUE_USER_CHECK_EXPRESSION : FALSE_USER_CHECK_EXPRESSION;
         }
 
@@ -182,6 +182,19 @@ public abstract class BaseState {
     }
 
     protected static JsonNode getResponseBody(PersistentResource resource, RequestScope requestScope) {
+        return getResponseBody(resource, requestScope, false);
+    }
+
+    /**
+     * Build the response document for a single resource.
+     *
+     * @param resource the resource to return
+     * @param requestScope the request scope
+     * @param deferred true to defer serialization of the document until the response is written
+     * @return the response body
+     */
+    protected static JsonNode getResponseBody(PersistentResource resource, RequestScope requestScope,
+                                              boolean deferred) {
         Optional<MultivaluedMap<String, String>> queryParams = requestScope.getQueryParams();
         JsonApiDocument jsonApiDocument = new JsonApiDocument();
 
@@ -193,6 +206,8 @@ public abstract class BaseState {
         DocumentProcessor includedProcessor = new IncludedProcessor();
         includedProcessor.execute(jsonApiDocument, resource, queryParams);
 
-        return requestScope.getMapper().toJsonObject(jsonApiDocument);
+        return deferred
+                ? requestScope.getMapper().toDeferredJsonObject(jsonApiDocument)
+                : requestScope.getMapper().toJsonObject(jsonApiDocument);
     }
 }
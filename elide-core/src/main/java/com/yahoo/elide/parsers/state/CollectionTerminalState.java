@@ -5,6 +5,8 @@
  */
 package com.yahoo.elide.parsers.state;
 
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.HttpStatus;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
@@ -35,9 +37,11 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import lombok.ToString;
 
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -70,9 +74,13 @@ public class CollectionTerminalState extends BaseState {
         RequestScope requestScope = state.getRequestScope();
         Optional<MultivaluedMap<String, String>> queryParams = requestScope.getQueryParams();
 
+        boolean streamResponse = requestScope.getElideSettings().isStreamResponses();
+
         Set<PersistentResource> collection = getResourceCollection(requestScope);
+        PersistentResource.loadRelationships(collection);
+
         // Set data
-        jsonApiDocument.setData(getData(collection));
+        jsonApiDocument.setData(streamResponse ? getLazyData(collection, requestScope) : getData(collection));
 
         // Run include processor
         DocumentProcessor includedProcessor = new IncludedProcessor();
@@ -82,16 +90,29 @@ public class CollectionTerminalState extends BaseState {
         Pagination pagination = requestScope.getPagination();
         if (!pagination.isEmpty()) {
 
-            Map<String, Number> pageMetaData = new HashMap<>();
-            pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
+            Map<String, Object> pageMetaData = new HashMap<>();
+            if (pagination.isKeyset()) {
+                // Cursors for page[before] and page[after] to request the previous and next pages
+                if (pagination.getStartCursor() != null) {
+                    pageMetaData.put("startCursor", pagination.getStartCursor());
+                    pageMetaData.put("endCursor", pagination.getEndCursor());
+                }
+            } else if (pagination.getLimit() > 0) {
+                pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
+            }
             pageMetaData.put("limit", pagination.getLimit());
 
             // Get total records if it has been requested and add to the page meta data
             if (pagination.isGenerateTotals()) {
                 Long totalRecords = pagination.getPageTotals();
-                pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
-                        + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
+                if (pagination.getLimit() > 0) {
+                    pageMetaData.put("totalPages", totalRecords / pagination.getLimit()
+                            + ((totalRecords % pagination.getLimit()) > 0 ? 1 : 0));
+                }
                 pageMetaData.put("totalRecords", totalRecords);
+                if (pagination.isPageTotalsApproximate()) {
+                    pageMetaData.put("approximate", true);
+                }
             }
 
             Map<String, Object> allMetaData = new HashMap<>();
@@ -101,7 +122,9 @@ public class CollectionTerminalState extends BaseState {
             jsonApiDocument.setMeta(meta);
         }
 
-        JsonNode responseBody = requestScope.getMapper().toJsonObject(jsonApiDocument);
+        JsonNode responseBody = streamResponse
+                ? requestScope.getMapper().toDeferredJsonObject(jsonApiDocument)
+                : requestScope.getMapper().toJsonObject(jsonApiDocument);
 
         return () -> Pair.of(HttpStatus.SC_OK, responseBody);
     }
@@ -141,6 +164,7 @@ public class CollectionTerminalState extends BaseState {
         } else {
             Optional<FilterExpression> filterExpression = requestScope.getLoadFilterExpression(entityClass);
 
+            requestScope.setIncludeRootType(entityClass);
             collection = PersistentResource.loadRecords(
                 entityClass,
                 new ArrayList<>(), //Empty list of IDs
@@ -159,6 +183,59 @@ public class CollectionTerminalState extends BaseState {
         return new Data<>(resources);
     }
 
+    /**
+     * Resources are converted one at a time while the document is being written so that only the
+     * resource currently being serialized is held as a JSON-API resource.  The persistent resources of the
+     * page are already held by the collection (permission filtering and relationship loading read it in full).
+     * Entities with lifecycle hooks or audit annotations are not evicted, since post commit hooks and the audit
+     * logger may still access them once the document has been written.
+     */
+    private Data getLazyData(Set<PersistentResource> collection, RequestScope requestScope) {
+        Preconditions.checkNotNull(collection);
+        DataStoreTransaction transaction = requestScope.getTransaction();
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Map<Class<?>, Boolean> evictable = new HashMap<>();
+        return new Data<>(new AbstractCollection<Resource>() {
+            @Override
+            public Iterator<Resource> iterator() {
+                Iterator<PersistentResource> resources = collection.iterator();
+                return new Iterator<Resource>() {
+                    private PersistentResource serialized;
+
+                    @Override
+                    public boolean hasNext() {
+                        evictSerialized();
+                        return resources.hasNext();
+                    }
+
+                    @Override
+                    public Resource next() {
+                        evictSerialized();
+                        serialized = resources.next();
+                        return serialized.toResource();
+                    }
+
+                    // The previous resource has been written once the serializer asks for the next one
+                    private void evictSerialized() {
+                        if (serialized != null) {
+                            boolean evict = evictable.computeIfAbsent(serialized.getResourceClass(),
+                                    type -> !dictionary.hasTriggers(type) && !dictionary.isAudited(type));
+                            if (evict) {
+                                transaction.evict(serialized.getObject(), requestScope);
+                            }
+                            serialized = null;
+                        }
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return collection.size();
+            }
+        });
+    }
+
     private PersistentResource createObject(RequestScope requestScope)
         throws ForbiddenAccessException, InvalidObjectIdentifierException {
         JsonApiDocument doc = requestScope.getJsonApiDocument();
@@ -22,6 +22,7 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import lombok.ToString;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -48,7 +49,10 @@ public class RecordTerminalState extends BaseState {
     @Override
     public Supplier<Pair<Integer, JsonNode>> handleGet(StateContext state) {
         ObjectMapper mapper = state.getRequestScope().getMapper().getObjectMapper();
-        return () -> Pair.of(HttpStatus.SC_OK, getResponseBody(record, state.getRequestScope()));
+        RequestScope requestScope = state.getRequestScope();
+        boolean streamResponse = requestScope.getElideSettings().isStreamResponses();
+        PersistentResource.loadRelationships(Collections.singletonList(record));
+        return () -> Pair.of(HttpStatus.SC_OK, getResponseBody(record, requestScope, streamResponse));
     }
 
     @Override
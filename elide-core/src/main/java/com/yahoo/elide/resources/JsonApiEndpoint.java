@@ -126,7 +126,15 @@ public class JsonApiEndpoint {
         return build(elide.delete(path, jsonApiDocument, getUser.apply(securityContext)));
     }
 
+    /**
+     * Streamed bodies are written by the container after the resource method returns.  JAX-RS has no portable
+     * callback for responses which are never written, so containers should close those bodies when the request
+     * completes (Elide standalone registers a Jersey filter which does).
+     */
     private static Response build(ElideResponse response) {
+        if (response.isStreaming()) {
+            return Response.status(response.getResponseCode()).entity(response.getStreamingBody()).build();
+        }
         return Response.status(response.getResponseCode()).entity(response.getBody()).build();
     }
 }
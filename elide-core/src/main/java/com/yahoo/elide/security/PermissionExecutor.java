@@ -12,6 +12,7 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.security.permissions.ExpressionResult;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -116,6 +117,19 @@ public interface PermissionExecutor {
      */
     void executeCommitChecks();
 
+    /**
+     * Evaluates the batch checks of a permission once for a collection of resources (e.g. a page of results) before
+     * the permission is checked on each resource.
+     *
+     * @param annotationClass the permission
+     * @param resources the resources which are about to be checked
+     * @param <A> type parameter
+     * @see com.yahoo.elide.security.checks.BatchOperationCheck
+     */
+    default <A extends Annotation> void evaluateBatchChecks(Class<A> annotationClass,
+                                                            Collection<? extends PersistentResource> resources) {
+    }
+
     /**
      * Return useful information about the check evaluation.
      *
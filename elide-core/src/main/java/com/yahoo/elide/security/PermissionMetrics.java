@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.security;
+
+import com.yahoo.elide.security.checks.Check;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Receives measurements of permission evaluation from the {@link PermissionExecutor}.  Implementations forward them
+ * to a metrics library and must be thread safe.  Every method does nothing by default.
+ */
+public interface PermissionMetrics {
+    PermissionMetrics NONE = new PermissionMetrics() { };
+
+    /**
+     * A check was evaluated.
+     *
+     * @param checkClass the check
+     * @param durationNanos how long the evaluation took
+     */
+    default void checkEvaluated(Class<? extends Check> checkClass, long durationNanos) {
+    }
+
+    /**
+     * The result of a check was found in the expression result cache rather than evaluated.
+     *
+     * @param checkClass the check
+     */
+    default void checkCacheHit(Class<? extends Check> checkClass) {
+    }
+
+    /**
+     * A permission was looked up in the per-request cache of user permission results.
+     *
+     * @param annotationClass the permission
+     * @param hit whether the result was cached
+     */
+    default void userPermissionCacheLookup(Class<? extends Annotation> annotationClass, boolean hit) {
+    }
+
+    /**
+     * The deferred commit checks of a request are about to be evaluated.
+     *
+     * @param queueSize the number of deferred permission expressions
+     */
+    default void commitChecksExecuted(int queueSize) {
+    }
+}
@@ -9,6 +9,7 @@ import static com.yahoo.elide.security.permissions.ExpressionResult.DEFERRED;
 import static com.yahoo.elide.security.permissions.ExpressionResult.FAIL;
 import static com.yahoo.elide.security.permissions.ExpressionResult.PASS;
 
+import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.annotation.CreatePermission;
 import com.yahoo.elide.annotation.DeletePermission;
 import com.yahoo.elide.annotation.ReadPermission;
@@ -20,7 +21,10 @@ import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PermissionExecutor;
+import com.yahoo.elide.security.PermissionMetrics;
 import com.yahoo.elide.security.PersistentResource;
+import com.yahoo.elide.security.checks.BatchOperationCheck;
+import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.permissions.ExpressionResult;
 import com.yahoo.elide.security.permissions.ExpressionResultCache;
 import com.yahoo.elide.security.permissions.PermissionExpressionBuilder;
@@ -33,13 +37,19 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Default permission executor.
@@ -50,6 +60,8 @@ public class ActivePermissionExecutor implements PermissionExecutor {
     private final Queue<QueuedCheck> commitCheckQueue = new LinkedBlockingQueue<>();
 
     private final RequestScope requestScope;
+    private final ExpressionResultCache cache;
+    private final PermissionMetrics metrics;
     private final PermissionExpressionBuilder expressionBuilder;
     private final Map<Triple<Class<? extends Annotation>, Class, String>, ExpressionResult> userPermissionCheckCache;
     private final Map<String, Long> checkStats;
@@ -71,9 +83,15 @@ public class ActivePermissionExecutor implements PermissionExecutor {
      * @param requestScope Request scope
      */
     public ActivePermissionExecutor(boolean verbose, final RequestScope requestScope) {
-        ExpressionResultCache cache = new ExpressionResultCache();
+        ElideSettings settings = requestScope.getElideSettings();
+        this.metrics = settings == null ? PermissionMetrics.NONE : settings.getPermissionMetrics();
+        ExpressionResultCache cache = new ExpressionResultCache(
+                settings == null ? null : settings.getUserCheckCache(),
+                requestScope.getUser(),
+                metrics);
 
         this.requestScope = requestScope;
+        this.cache = cache;
         this.expressionBuilder = new PermissionExpressionBuilder(cache, requestScope.getDictionary());
         userPermissionCheckCache = new HashMap<>();
         checkStats = new HashMap<>();
@@ -273,6 +291,7 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         // If the user check has already been evaluated before, return the result directly and save the building cost
         ExpressionResult expressionResult
                 = userPermissionCheckCache.get(Triple.of(annotationClass, resourceClass, field.orElse(null)));
+        metrics.userPermissionCacheLookup(annotationClass, expressionResult != null);
 
         if (expressionResult == PASS) {
             return expressionResult;
@@ -365,11 +384,79 @@ public class ActivePermissionExecutor implements PermissionExecutor {
         return Optional.ofNullable(filterExpression);
     }
 
+    /**
+     * Evaluates the batch checks of a permission for all of the resources of each type which have not been evaluated
+     * yet.  The results are stored in the expression result cache where the check expression of each resource finds
+     * them.  Batch checks referenced by the entity permission and by field permissions are both evaluated; when user
+     * checks alone grant the entity permission only the field permission checks are.
+     *
+     * @param annotationClass the permission
+     * @param resources the resources which are about to be checked
+     * @param <A> type parameter
+     */
+    @Override
+    public <A extends Annotation> void evaluateBatchChecks(Class<A> annotationClass,
+                                                           Collection<? extends PersistentResource> resources) {
+        EntityDictionary dictionary = requestScope.getDictionary();
+        Map<Class<?>, List<PersistentResource>> resourcesByClass = new LinkedHashMap<>();
+        for (PersistentResource resource : resources) {
+            resourcesByClass.computeIfAbsent(resource.getResourceClass(), unused -> new ArrayList<>()).add(resource);
+        }
+
+        resourcesByClass.forEach((resourceClass, classResources) -> {
+            // User checks alone already grant the entity permission, which leaves the field permissions.
+            Set<Class<? extends Check>> checks =
+                    userPermissionCheckCache.get(Triple.of(annotationClass, resourceClass, null)) == PASS
+                            ? dictionary.getFieldChecksForPermission(resourceClass, annotationClass)
+                            : dictionary.getChecksForPermission(resourceClass, annotationClass);
+            for (Class<? extends Check> checkClass : checks) {
+                if (!BatchOperationCheck.class.isAssignableFrom(checkClass)) {
+                    continue;
+                }
+
+                List<PersistentResource> unevaluated = classResources.stream()
+                        .filter(resource -> !cache.hasStoredResultFor(checkClass, resource))
+                        .collect(Collectors.toList());
+
+                // A single resource is evaluated by its check expression.
+                if (unevaluated.size() < 2) {
+                    continue;
+                }
+
+                BatchOperationCheck check = (BatchOperationCheck) expressionBuilder.getCheck(dictionary, checkClass);
+                List<Object> objects = unevaluated.stream()
+                        .map(PersistentResource::getObject)
+                        .collect(Collectors.toList());
+
+                long start = System.nanoTime();
+                List<Boolean> results = check.ok(objects, requestScope);
+                metrics.checkEvaluated(checkClass, System.nanoTime() - start);
+                if (results == null || results.size() != objects.size()) {
+                    throw new IllegalStateException("Batch check " + checkClass.getName()
+                            + " must return one result per object: expected " + objects.size() + " but got "
+                            + (results == null ? "null" : String.valueOf(results.size())));
+                }
+
+                for (int idx = 0; idx < results.size(); idx++) {
+                    if (results.get(idx) == null) {
+                        throw new IllegalStateException("Batch check " + checkClass.getName()
+                                + " returned a null result at index " + idx);
+                    }
+                }
+
+                for (int idx = 0; idx < unevaluated.size(); idx++) {
+                    cache.putResultFor(checkClass, unevaluated.get(idx), results.get(idx) ? PASS : FAIL);
+                }
+            }
+        });
+    }
+
     /**
      * Execute commmit checks.
      */
     @Override
     public void executeCommitChecks() {
+        metrics.commitChecksExecuted(commitCheckQueue.size());
         commitCheckQueue.forEach((expr) -> {
             Expression expression = expr.getExpression();
             ExpressionResult result = expression.evaluate(Expression.EvaluationMode.ALL_CHECKS);
@@ -5,9 +5,13 @@
  */
 package com.yahoo.elide.security.permissions;
 
+import com.yahoo.elide.security.PermissionMetrics;
 import com.yahoo.elide.security.PersistentResource;
+import com.yahoo.elide.security.User;
 import com.yahoo.elide.security.checks.Check;
 
+import lombok.Getter;
+
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -17,24 +21,76 @@ import java.util.Map;
  */
 public class ExpressionResultCache {
     private final Map<Class<? extends Check>, Map<PersistentResource, ExpressionResult>> computedResults;
+    private final UserCheckCache userCheckCache;
+    private final User user;
+    @Getter private final PermissionMetrics metrics;
 
     public ExpressionResultCache() {
+        this(null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param userCheckCache Cache of user check results shared between requests or null
+     * @param user The user of the request
+     */
+    public ExpressionResultCache(UserCheckCache userCheckCache, User user) {
+        this(userCheckCache, user, PermissionMetrics.NONE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param userCheckCache Cache of user check results shared between requests or null
+     * @param user The user of the request
+     * @param metrics Records check evaluations and cache hits
+     */
+    public ExpressionResultCache(UserCheckCache userCheckCache, User user, PermissionMetrics metrics) {
         computedResults = new HashMap<>();
+        this.userCheckCache = userCheckCache;
+        this.user = user;
+        this.metrics = metrics;
     }
 
 
     public boolean hasStoredResultFor(Class<? extends Check> checkClass, PersistentResource resource) {
-        return computedResults.containsKey(checkClass)
-                && computedResults.get(checkClass).containsKey(resource);
+        if (computedResults.containsKey(checkClass)
+                && computedResults.get(checkClass).containsKey(resource)) {
+            metrics.checkCacheHit(checkClass);
+            return true;
+        }
+
+        if (isShared(checkClass, resource)) {
+            ExpressionResult result = userCheckCache.getResultFor(checkClass, user);
+            if (result != null) {
+                storeResultFor(checkClass, resource, result);
+                metrics.checkCacheHit(checkClass);
+                return true;
+            }
+        }
+        return false;
     }
 
     public void putResultFor(Class<? extends Check> checkClass, PersistentResource resource, ExpressionResult result) {
+        storeResultFor(checkClass, resource, result);
+        if (isShared(checkClass, resource)) {
+            userCheckCache.putResultFor(checkClass, user, result);
+        }
+    }
+
+    public ExpressionResult getResultFor(Class<? extends Check> checkClass, PersistentResource resource) {
+        return computedResults.get(checkClass).get(resource);
+    }
+
+    private void storeResultFor(Class<? extends Check> checkClass, PersistentResource resource,
+                                ExpressionResult result) {
         Map<PersistentResource, ExpressionResult> cache = computedResults.computeIfAbsent(checkClass,
                 unused -> new IdentityHashMap<>());
         cache.put(resource, result);
     }
 
-    public ExpressionResult getResultFor(Class<? extends Check> checkClass, PersistentResource resource) {
-        return computedResults.get(checkClass).get(resource);
+    private boolean isShared(Class<? extends Check> checkClass, PersistentResource resource) {
+        return userCheckCache != null && resource == null && userCheckCache.isCacheable(checkClass, user);
     }
 }
@@ -17,7 +17,6 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.parsers.expression.FilterExpressionNormalizationVisitor;
-import com.yahoo.elide.parsers.expression.PermissionExpressionVisitor;
 import com.yahoo.elide.parsers.expression.PermissionToFilterExpressionVisitor;
 import com.yahoo.elide.security.ChangeSpec;
 import com.yahoo.elide.security.PersistentResource;
@@ -208,8 +207,9 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
         ParseTree classPermissions = entityDictionary.getPermissionsForClass(resourceClass, annotationClass);
         Expression entityExpression = expressionFromParseTree(classPermissions, checkFn);
 
+        //Fields without permissions of their own cannot change the result, so only fields with permissions are bound.
         OrExpression allFieldsExpression = new OrExpression(FAILURE, null);
-        List<String> fields = entityDictionary.getAllFields(resourceClass);
+        List<String> fields = entityDictionary.getFieldsWithPermission(resourceClass, annotationClass);
         Set<String> sparseFields = scope.getSparseFields().get(entityDictionary.getJsonAliasFor(resourceClass));
 
         for (String field : fields) {
@@ -291,7 +291,7 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
             return null;
         }
 
-        return new PermissionExpressionVisitor(entityDictionary, checkFn).visit(permissions);
+        return entityDictionary.getPermissionTemplate(permissions).bind(checkFn);
     }
 
     private FilterExpression filterExpressionFromParseTree(ParseTree permissions, Class type, RequestScope scope) {
@@ -299,7 +299,7 @@ public class PermissionExpressionBuilder implements CheckInstantiator {
             return null;
         }
 
-        FilterExpression expression = new PermissionToFilterExpressionVisitor(entityDictionary, scope, type)
+        FilterExpression expression = new PermissionToFilterExpressionVisitor(entityDictionary, scope, type, cache)
                 .visit(permissions);
         return expression.accept(new FilterExpressionNormalizationVisitor());
     }
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.security.permissions;
+
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.permissions.expressions.Expression;
+
+import java.util.function.Function;
+
+/**
+ * A permission expression compiled once from its parse tree.  Templates are immutable and are bound to the checks
+ * of a particular resource each time a permission is evaluated.
+ */
+@FunctionalInterface
+public interface PermissionExpressionTemplate {
+
+    /**
+     * Creates the expression for a resource.
+     *
+     * @param checkFn Creates the expression which evaluates a check
+     * @return The expression
+     */
+    Expression bind(Function<Check, Expression> checkFn);
+}
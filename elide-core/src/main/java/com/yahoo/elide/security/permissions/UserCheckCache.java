@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.security.permissions;
+
+import com.yahoo.elide.security.User;
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.UserCheck;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the results of {@link UserCheck}s between requests.  Results are keyed by the
+ * {@link User#getIdentity() identity} of the user and the check class, so users without an identity are never cached.
+ * <p>
+ * The cache is bounded and results expire a fixed time after they are computed.  Applications should invalidate a
+ * user's results when that user's roles or entitlements change.
+ */
+public class UserCheckCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+    public static final long DEFAULT_EXPIRATION_SECONDS = 60;
+
+    private final Cache<Pair<Object, Class<? extends Check>>, ExpressionResult> results;
+
+    public UserCheckCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRATION_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize The maximum number of (user, check) results
+     * @param expiration How long a result is used after it is computed
+     * @param unit The unit of the expiration
+     */
+    public UserCheckCache(long maximumSize, long expiration, TimeUnit unit) {
+        results = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expiration, unit)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Whether the results of a check by a user can be cached.
+     *
+     * @param checkClass The check
+     * @param user The user
+     * @return True for user checks of users with an identity
+     */
+    public boolean isCacheable(Class<? extends Check> checkClass, User user) {
+        return user != null && user.getIdentity() != null && UserCheck.class.isAssignableFrom(checkClass);
+    }
+
+    /**
+     * Gets the cached result of a check.
+     *
+     * @param checkClass The check
+     * @param user The user
+     * @return The result or null if there is no cached result
+     */
+    public ExpressionResult getResultFor(Class<? extends Check> checkClass, User user) {
+        return results.getIfPresent(Pair.of(user.getIdentity(), checkClass));
+    }
+
+    /**
+     * Caches the result of a check.
+     *
+     * @param checkClass The check
+     * @param user The user
+     * @param result The result of the check
+     */
+    public void putResultFor(Class<? extends Check> checkClass, User user, ExpressionResult result) {
+        if (result == ExpressionResult.PASS || result == ExpressionResult.FAIL) {
+            results.put(Pair.of(user.getIdentity(), checkClass), result);
+        }
+    }
+
+    /**
+     * Removes the cached results of a user.
+     *
+     * @param identity The user identity
+     */
+    public void invalidateUser(Object identity) {
+        results.asMap().keySet().removeIf(key -> key.getLeft().equals(identity));
+    }
+
+    /**
+     * Removes the cached results of a check for every user.
+     *
+     * @param checkClass The check
+     */
+    public void invalidateCheck(Class<? extends Check> checkClass) {
+        results.asMap().keySet().removeIf(key -> key.getRight().equals(checkClass));
+    }
+
+    /**
+     * Removes every cached result.
+     */
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    /**
+     * Hit, miss and eviction counts of the cache.
+     *
+     * @return The cache statistics
+     */
+    public CacheStats getStats() {
+        return results.stats();
+    }
+}
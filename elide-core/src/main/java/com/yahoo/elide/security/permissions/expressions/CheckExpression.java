@@ -82,7 +82,8 @@ public class CheckExpression implements Expression {
         }
 
         // If we have a valid change spec, do not cache the result or look for a cached result.
-        if (changeSpec.isPresent()) {
+        // User checks do not use the change spec.
+        if (changeSpec.isPresent() && !(check instanceof UserCheck)) {
             log.trace("-- Check has changespec: {}", changeSpec);
             result = computeCheck();
             log.trace("-- Check returned with result: {}", result);
@@ -112,7 +113,9 @@ public class CheckExpression implements Expression {
      */
     private ExpressionResult computeCheck() {
         Object entity = (resource == null) ? null : resource.getObject();
+        long start = System.nanoTime();
         result = check.ok(entity, requestScope, changeSpec) ? PASS : FAIL;
+        cache.getMetrics().checkEvaluated(check.getClass(), System.nanoTime() - start);
         return result;
     }
 
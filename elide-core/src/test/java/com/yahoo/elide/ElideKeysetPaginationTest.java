@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import example.FunWithPermissions;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Tests paging through collections with page[after] and page[before] cursors.
+ */
+public class ElideKeysetPaginationTest extends InMemoryElideTestSetup {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static Elide elide;
+
+    @BeforeAll
+    public static void setup() throws Exception {
+        HashMapDataStore dataStore = createDataStore();
+        elide = getElide(new InMemoryDataStore(dataStore));
+
+        // Two books share a title so that the id breaks the tie.
+        for (String title : new String[] {"Hyperion", "Dune", "Foundation", "Dune", "Solaris"}) {
+            create(elide, "book", "{\"title\":\"" + title + "\"}");
+        }
+
+        // field3 can only be read by users with a non-negative id.
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            for (long id = 1; id <= 2; id++) {
+                FunWithPermissions fun = new FunWithPermissions();
+                fun.setId(id);
+                fun.setField3("secret" + id);
+                tx.save(fun, null);
+            }
+            tx.commit(null);
+        }
+    }
+
+    @Test
+    public void testPageForward() throws Exception {
+        JsonNode first = get("-title", "page[after]", "");
+        assertEquals(Arrays.asList("Solaris", "Hyperion"), titles(first));
+
+        JsonNode second = get("-title", "page[after]", endCursor(first));
+        assertEquals(Arrays.asList("Foundation", "Dune"), titles(second));
+
+        JsonNode third = get("-title", "page[after]", endCursor(second));
+        assertEquals(Arrays.asList("Dune"), titles(third));
+        assertFalse(third.get("data").get(0).get("id").equals(second.get("data").get(1).get("id")));
+
+        JsonNode end = get("-title", "page[after]", endCursor(third));
+        assertEquals(0, end.get("data").size());
+        assertFalse(end.get("meta").get("page").has("endCursor"));
+    }
+
+    @Test
+    public void testPageBackward() throws Exception {
+        JsonNode first = get("title", "page[after]", "");
+        JsonNode second = get("title", "page[after]", endCursor(first));
+        assertEquals(Arrays.asList("Foundation", "Hyperion"), titles(second));
+
+        JsonNode previous = get("title", "page[before]", second.get("meta").get("page").get("startCursor").asText());
+        assertEquals(titles(first), titles(previous));
+        assertEquals(Arrays.asList("Dune", "Dune"), titles(previous));
+    }
+
+    @Test
+    public void testNoCursorsForUnreadableSortKeys() throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("sort", "field3");
+        queryParams.putSingle("page[size]", "1");
+        queryParams.putSingle("page[after]", "");
+
+        ElideResponse response = elide.get("/fun", queryParams, -1);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        JsonNode page = MAPPER.readTree(response.getBody());
+        assertEquals(1, page.get("data").size());
+        assertFalse(page.get("data").get(0).get("attributes").has("field3"));
+        assertFalse(page.get("meta").get("page").has("endCursor"));
+    }
+
+    @Test
+    public void testForgedCursorOnUnreadableSortKey() throws Exception {
+        // A client which cannot read field3 must not learn its values by seeking past guessed values.
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(MAPPER.writeValueAsBytes(Arrays.asList("secret1", 1)));
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("sort", "field3");
+        queryParams.putSingle("page[size]", "2");
+        queryParams.putSingle("page[after]", forged);
+
+        ElideResponse response = elide.get("/fun", queryParams, -1);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertEquals(0, MAPPER.readTree(response.getBody()).get("data").size());
+
+        // The same cursor is honored for a client which can read field3.
+        response = elide.get("/fun", queryParams, 1);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        JsonNode page = MAPPER.readTree(response.getBody());
+        assertEquals(1, page.get("data").size());
+        assertEquals("2", page.get("data").get(0).get("id").asText());
+    }
+
+    @Test
+    public void testInvalidCursor() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("page[after]", "notACursor");
+
+        assertEquals(HttpStatus.SC_BAD_REQUEST, elide.get("/book", queryParams, null).getResponseCode());
+    }
+
+    private static JsonNode get(String sort, String cursorParam, String cursor) throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("sort", sort);
+        queryParams.putSingle("page[size]", "2");
+        queryParams.putSingle(cursorParam, cursor);
+
+        ElideResponse response = elide.get("/book", queryParams, null);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        return MAPPER.readTree(response.getBody());
+    }
+
+    private static String endCursor(JsonNode document) {
+        return document.get("meta").get("page").get("endCursor").asText();
+    }
+
+    private static List<String> titles(JsonNode document) {
+        List<String> titles = new ArrayList<>();
+        document.get("data").forEach(book -> titles.add(book.get("attributes").get("title").asText()));
+        return titles;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+
+import example.Author;
+import example.Book;
+import example.TestCheckMappings;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Tests for loading relationships for many resources at once.
+ */
+public class ElideRelationshipBatchLoadingTest extends InMemoryElideTestSetup {
+    private static HashMapDataStore dataStore;
+    private static Elide elide;
+
+    @BeforeAll
+    public static void setup() {
+        dataStore = createDataStore();
+        elide = getElide(new InMemoryDataStore(dataStore));
+
+        for (String name : new String[] {"Asimov", "Simmons", "Herbert"}) {
+            create(elide, "author", "{\"name\":\"" + name + "\"}");
+        }
+
+        for (int id = 1; id <= 3; id++) {
+            create(elide, "book", "{\"title\":\"Book " + id + "\"}",
+                    "{\"authors\": {\"data\": [{\"type\":\"author\",\"id\":\"" + id + "\"}]}}");
+        }
+    }
+
+    @Test
+    public void testCollectionRelationshipsLoadedOnce() {
+        SpiedDataStore spiedStore = new SpiedDataStore(dataStore);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("include", "authors");
+
+        ElideResponse expected = elide.get("/book", queryParams, null);
+        ElideResponse response = getElide(spiedStore).get("/book", queryParams, null);
+
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertEquals(expected.getBody(), response.getBody());
+        assertTrue(response.getBody().contains("\"included\""));
+
+        verify(spiedStore.getTransaction(), times(1)).getRelations(any(), any(), eq("authors"), any(), any(), any(), any());
+        verify(spiedStore.getTransaction(), never()).getRelation(any(), any(), eq("authors"), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testIncludePathsPassedToRootCollectionLoad() {
+        SpiedDataStore spiedStore = new SpiedDataStore(dataStore);
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("include", "authors,authors.books");
+
+        ElideResponse response = getElide(spiedStore).get("/book", queryParams, null);
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+
+        //Each included resource is serialized once even if it is reachable along several paths.
+        String body = response.getBody();
+        for (int id = 1; id <= 3; id++) {
+            String author = "{\"type\":\"author\",\"id\":\"" + id + "\",\"attributes\"";
+            assertEquals(body.indexOf(author), body.lastIndexOf(author));
+        }
+
+        ArgumentCaptor<RequestScope> scope = ArgumentCaptor.forClass(RequestScope.class);
+        verify(spiedStore.getTransaction()).loadObjects(eq(Book.class), any(), any(), any(), scope.capture());
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList("authors", "authors.books")),
+                scope.getValue().getIncludedRelationships(Book.class));
+        assertEquals(Collections.emptySet(), scope.getValue().getIncludedRelationships(Author.class));
+    }
+
+    @Test
+    public void testLinkageLoadsOnlyIdentifiers() {
+        SpiedDataStore spiedStore = new SpiedDataStore(dataStore);
+
+        ElideResponse expected = elide.get("/book", new MultivaluedHashMap<>(), null);
+        ElideResponse response = getElide(spiedStore).get("/book", new MultivaluedHashMap<>(), null);
+
+        assertEquals(HttpStatus.SC_OK, response.getResponseCode());
+        assertEquals(expected.getBody(), response.getBody());
+        assertTrue(response.getBody().contains("{\"type\":\"author\",\"id\":\"2\"}"));
+
+        verify(spiedStore.getTransaction(), times(1)).getRelationIds(any(), any(), eq("authors"), any());
+        verify(spiedStore.getTransaction(), never()).getRelations(any(), any(), eq("authors"), any(), any(), any(), any());
+        verify(spiedStore.getTransaction(), never()).getRelation(any(), any(), eq("authors"), any(), any(), any(), any());
+    }
+
+    @Test
+    public void testDefaultGetRelationIdsReadsEachEntity() {
+        Book first = new Book();
+        Book second = new Book();
+        Author author = new Author();
+        author.setId(5L);
+        EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
+        dictionary.bindEntity(Author.class);
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        when(tx.getRelationIds(any(), any(), any(), any())).thenCallRealMethod();
+        when(tx.getRelations(any(), any(), any(), any(), any(), any(), any())).thenCallRealMethod();
+        when(tx.getRelation(tx, first, "authors", Optional.empty(), Optional.empty(), Optional.empty(), scope))
+                .thenReturn(Arrays.asList(author));
+
+        Map<Object, Collection<String>> relationIds = tx.getRelationIds(tx, Arrays.asList(first, second),
+                "authors", scope);
+
+        assertEquals(Arrays.asList("5"), relationIds.get(first));
+        assertEquals(Collections.emptyList(), relationIds.get(second));
+    }
+
+    @Test
+    public void testDefaultGetRelationsFetchesEachEntity() {
+        Book first = new Book();
+        Book second = new Book();
+        Author author = new Author();
+        RequestScope scope = mock(RequestScope.class);
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        when(tx.getRelations(any(), any(), any(), any(), any(), any(), any())).thenCallRealMethod();
+        when(tx.getRelation(tx, first, "authors", Optional.empty(), Optional.empty(), Optional.empty(), scope))
+                .thenReturn(Arrays.asList(author));
+
+        Map<Object, Object> relations = tx.getRelations(tx, Arrays.asList(first, second), "authors",
+                Optional.empty(), Optional.empty(), Optional.empty(), scope);
+
+        assertEquals(2, relations.size());
+        assertEquals(Arrays.asList(author), relations.get(first));
+        assertSame(null, relations.get(second));
+        assertTrue(relations.containsKey(second));
+    }
+}
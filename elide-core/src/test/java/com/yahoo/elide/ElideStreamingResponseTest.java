@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+
+import example.Post;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Tests for JSON-API responses written directly to an output stream.
+ */
+public class ElideStreamingResponseTest extends InMemoryElideTestSetup {
+    private static HashMapDataStore dataStore;
+    private static Elide materializingElide;
+    private static Elide streamingElide;
+
+    @BeforeAll
+    public static void setup() {
+        dataStore = createDataStore();
+        materializingElide = getElide(new InMemoryDataStore(dataStore), false);
+        streamingElide = getElide(new InMemoryDataStore(dataStore), true);
+
+        for (String title : new String[] {"Foundation", "Hyperion", "Dune"}) {
+            create(materializingElide, "book", "{\"title\":\"" + title + "\"}");
+        }
+        for (String title : new String[] {"First", "Second"}) {
+            create(materializingElide, "post", "{\"title\":\"" + title + "\"}");
+        }
+    }
+
+    @Test
+    public void testStreamedCollectionMatchesMaterialized() throws Exception {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("sort", "title");
+
+        ElideResponse materialized = materializingElide.get("/book", queryParams, null);
+        ElideResponse streamed = streamingElide.get("/book", queryParams, null);
+
+        assertFalse(materialized.isStreaming());
+        assertTrue(streamed.isStreaming());
+        assertEquals(HttpStatus.SC_OK, streamed.getResponseCode());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        streamed.getStreamingBody().write(outputStream);
+
+        assertEquals(materialized.getBody(), new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStreamedRecordMatchesMaterialized() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+
+        ElideResponse materialized = materializingElide.get("/book/1", queryParams, null);
+        ElideResponse streamed = streamingElide.get("/book/1", queryParams, null);
+
+        assertTrue(streamed.isStreaming());
+        assertEquals(materialized.getBody(), streamed.getBody());
+    }
+
+    @Test
+    public void testTransactionClosedAfterBodyWritten() throws Exception {
+        SpiedDataStore spiedStore = new SpiedDataStore(dataStore);
+
+        ElideResponse streamed = getElide(spiedStore, true).get("/book", new MultivaluedHashMap<>(), null);
+
+        verify(spiedStore.getTransaction(), never()).commit(any());
+        verify(spiedStore.getTransaction(), never()).close();
+
+        streamed.getStreamingBody().write(new ByteArrayOutputStream());
+
+        verify(spiedStore.getTransaction()).commit(any());
+        verify(spiedStore.getTransaction()).close();
+    }
+
+    @Test
+    public void testStreamingBodyIsSingleUse() throws Exception {
+        SpiedDataStore spiedStore = new SpiedDataStore(dataStore);
+
+        ElideResponse streamed = getElide(spiedStore, true).get("/book", new MultivaluedHashMap<>(), null);
+        String body = streamed.getBody();
+
+        assertThrows(IllegalStateException.class,
+                () -> streamed.getStreamingBody().write(new ByteArrayOutputStream()));
+        assertEquals(body, streamed.getBody());
+
+        streamed.close();
+
+        verify(spiedStore.getTransaction(), times(1)).commit(any());
+        verify(spiedStore.getTransaction(), times(1)).close();
+    }
+
+    @Test
+    public void testAbandonedBodyClosesTransaction() throws Exception {
+        SpiedDataStore spiedStore = new SpiedDataStore(dataStore);
+
+        ElideResponse streamed = getElide(spiedStore, true).get("/book", new MultivaluedHashMap<>(), null);
+        streamed.close();
+
+        verify(spiedStore.getTransaction(), never()).commit(any());
+        verify(spiedStore.getTransaction()).close();
+
+        assertThrows(IllegalStateException.class,
+                () -> streamed.getStreamingBody().write(new ByteArrayOutputStream()));
+        verify(spiedStore.getTransaction(), never()).commit(any());
+    }
+
+    @Test
+    public void testSerializedEntitiesAreEvicted() throws Exception {
+        SpiedDataStore spiedStore = new SpiedDataStore(dataStore);
+
+        ElideResponse streamed = getElide(spiedStore, true).get("/post", new MultivaluedHashMap<>(), null);
+        verify(spiedStore.getTransaction(), never()).evict(any(), any());
+
+        streamed.getStreamingBody().write(new ByteArrayOutputStream());
+
+        verify(spiedStore.getTransaction(), times(2)).evict(any(Post.class), any());
+    }
+
+    @Test
+    public void testEntitiesWithTriggersAreNotEvicted() throws Exception {
+        SpiedDataStore spiedStore = new SpiedDataStore(dataStore);
+
+        ElideResponse streamed = getElide(spiedStore, true).get("/book", new MultivaluedHashMap<>(), null);
+        streamed.getStreamingBody().write(new ByteArrayOutputStream());
+
+        verify(spiedStore.getTransaction(), never()).evict(any(), any());
+        verify(spiedStore.getTransaction()).commit(any());
+    }
+
+    @Test
+    public void testErrorsAreNotStreamed() {
+        ElideResponse response = streamingElide.get("/book/100", new MultivaluedHashMap<>(), null);
+
+        assertFalse(response.isStreaming());
+        assertEquals(HttpStatus.SC_NOT_FOUND, response.getResponseCode());
+    }
+
+    @Test
+    public void testMaterializedBodyForNonStreamingResponse() {
+        ElideResponse response = new ElideResponse(HttpStatus.SC_OK, "{}");
+
+        assertFalse(response.isStreaming());
+        assertEquals("{}", response.getBody());
+    }
+
+    @Test
+    public void testMaterializedBodyForStreamingResponse() {
+        ElideResponse response = ElideResponse.builder()
+                .responseCode(HttpStatus.SC_OK)
+                .streamingBody(outputStream -> outputStream.write("{}".getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        assertTrue(response.isStreaming());
+        assertEquals("{}", response.getBody());
+    }
+}
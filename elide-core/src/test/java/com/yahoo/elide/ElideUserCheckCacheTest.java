@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.yahoo.elide.audit.AuditLogger;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.security.User;
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.UserCheck;
+import com.yahoo.elide.security.permissions.UserCheckCache;
+
+import example.TestCheckMappings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.MultivaluedHashMap;
+
+/**
+ * Tests that user check results are shared between requests.
+ */
+public class ElideUserCheckCacheTest extends InMemoryElideTestSetup {
+    private UserCheckCache userCheckCache;
+    private Elide elide;
+
+    /**
+     * Allows everyone and counts its evaluations.
+     */
+    public static class CountingAllowAll extends UserCheck {
+        static int evaluations;
+
+        @Override
+        public boolean ok(User user) {
+            evaluations++;
+            return true;
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        Map<String, Class<? extends Check>> checks = new HashMap<>(TestCheckMappings.MAPPINGS);
+        checks.put("allow all", CountingAllowAll.class);
+
+        userCheckCache = new UserCheckCache();
+        elide = new Elide(new ElideSettingsBuilder(createDataStore())
+                .withEntityDictionary(new EntityDictionary(checks))
+                .withAuditLogger(mock(AuditLogger.class))
+                .withUserCheckCache(userCheckCache)
+                .build());
+
+        create(elide, "post", "{\"title\":\"First\"}");
+        CountingAllowAll.evaluations = 0;
+    }
+
+    @Test
+    public void testSecondRequestIsServedFromCache() {
+        Principal alice = () -> "alice";
+        Principal bob = () -> "bob";
+
+        assertEquals(HttpStatus.SC_OK, elide.get("/post", new MultivaluedHashMap<>(), alice).getResponseCode());
+        int evaluations = CountingAllowAll.evaluations;
+        assertTrue(evaluations > 0);
+        long hits = userCheckCache.getStats().hitCount();
+
+        //Principals are identified by their name.
+        assertEquals(HttpStatus.SC_OK, elide.get("/post", new MultivaluedHashMap<>(), (Principal) () -> "alice")
+                .getResponseCode());
+        assertEquals(evaluations, CountingAllowAll.evaluations);
+        assertTrue(userCheckCache.getStats().hitCount() > hits);
+
+        assertEquals(HttpStatus.SC_OK, elide.get("/post", new MultivaluedHashMap<>(), bob).getResponseCode());
+        assertTrue(CountingAllowAll.evaluations > evaluations);
+    }
+}
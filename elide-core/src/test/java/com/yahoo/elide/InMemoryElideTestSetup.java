@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+import com.yahoo.elide.audit.AuditLogger;
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.InMemoryDataStore;
+
+import example.Book;
+import example.TestCheckMappings;
+
+import lombok.Getter;
+
+/**
+ * Base class of tests which send requests to Elide backed by a HashMapDataStore of the example models.
+ */
+public abstract class InMemoryElideTestSetup {
+
+    protected static HashMapDataStore createDataStore() {
+        return new HashMapDataStore(Book.class.getPackage());
+    }
+
+    protected static Elide getElide(DataStore store) {
+        return getElide(store, false);
+    }
+
+    protected static Elide getElide(DataStore store, boolean streamResponses) {
+        return new Elide(new ElideSettingsBuilder(store)
+                .withEntityDictionary(new EntityDictionary(TestCheckMappings.MAPPINGS))
+                .withAuditLogger(mock(AuditLogger.class))
+                .withStreamResponses(streamResponses)
+                .build());
+    }
+
+    /**
+     * Creates a resource through Elide.
+     *
+     * @param elide Elide
+     * @param type The JSON-API type
+     * @param attributes The attributes object of the resource
+     */
+    protected static void create(Elide elide, String type, String attributes) {
+        create(elide, type, attributes, null);
+    }
+
+    /**
+     * Creates a resource through Elide.
+     *
+     * @param elide Elide
+     * @param type The JSON-API type
+     * @param attributes The attributes object of the resource
+     * @param relationships The relationships object of the resource or null
+     */
+    protected static void create(Elide elide, String type, String attributes, String relationships) {
+        String body = "{\"data\": {\"type\":\"" + type + "\",\"attributes\": " + attributes
+                + (relationships == null ? "" : ",\"relationships\": " + relationships) + "}}";
+        assertEquals(HttpStatus.SC_CREATED, elide.post("/" + type, body, null).getResponseCode());
+    }
+
+    /**
+     * In-memory data store which spies on the last read transaction it began.
+     */
+    protected static class SpiedDataStore extends InMemoryDataStore {
+        @Getter private DataStoreTransaction transaction;
+
+        public SpiedDataStore(DataStore dataStore) {
+            super(dataStore);
+        }
+
+        @Override
+        public DataStoreTransaction beginReadTransaction() {
+            transaction = spy(super.beginReadTransaction());
+            return transaction;
+        }
+    }
+}
@@ -7,18 +7,26 @@ package com.yahoo.elide.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.yahoo.elide.annotation.ComputedAttribute;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
 import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.MapsId;
 import javax.persistence.OneToOne;
+import javax.persistence.Transient;
 
 public class EntityBindingTest {
     private static EntityBinding entityBinding;
@@ -70,6 +78,40 @@ public class EntityBindingTest {
         assertFalse(eb.isIdGenerated());
     }
 
+    @Test
+    public void testFieldAccessorsForFields() throws Exception {
+        ChildClass child = new ChildClass();
+        child.childField = "child";
+
+        FieldAccessor accessor = entityBinding.fieldsToAccessors.get("childField");
+        assertNotNull(accessor);
+        assertEquals("child", accessor.getValue(child, null));
+        assertFalse(accessor.hasSetter());
+    }
+
+    @Test
+    public void testFieldAccessorsForProperties() throws Exception {
+        final EntityBinding eb = new EntityBinding(entityDictionary, PropertyClass.class, "test", "testBinding");
+        PropertyClass entity = new PropertyClass();
+        RequestScope scope = mock(RequestScope.class);
+
+        FieldAccessor count = eb.fieldsToAccessors.get("count");
+        assertTrue(count.hasSetter());
+        count.setValue(entity, 3L);
+        assertEquals(3L, count.getValue(entity, scope));
+
+        //Values that must be widened are set reflectively.
+        count.setValue(entity, 4);
+        assertEquals(4L, count.getValue(entity, scope));
+        assertThrows(IllegalArgumentException.class, () -> count.setValue(entity, null));
+
+        assertSame(scope, eb.fieldsToAccessors.get("scope").getValue(entity, scope));
+
+        InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> eb.fieldsToAccessors.get("broken").getValue(entity, scope));
+        assertEquals(IllegalStateException.class, e.getTargetException().getClass());
+    }
+
     private class ParentClass {
         @Id
         String parentField;
@@ -97,4 +139,31 @@ public class EntityBindingTest {
         @MapsId
         public ParentClass parent;
     }
+
+    public static class PropertyClass {
+        private long count;
+
+        @Id
+        public String getId() {
+            return "1";
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        @Transient
+        @ComputedAttribute
+        public Object getScope(RequestScope scope) {
+            return scope;
+        }
+
+        public String getBroken() {
+            throw new IllegalStateException();
+        }
+    }
 }
@@ -8,10 +8,13 @@ package com.yahoo.elide.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.yahoo.elide.Injector;
@@ -23,10 +26,12 @@ import com.yahoo.elide.annotation.MappedInterface;
 import com.yahoo.elide.annotation.OnUpdatePreSecurity;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.SecurityCheck;
+import com.yahoo.elide.annotation.StatelessCheck;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.functions.LifeCycleHook;
 import com.yahoo.elide.models.generics.Employee;
 import com.yahoo.elide.models.generics.Manager;
+import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.UserCheck;
 import com.yahoo.elide.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.security.checks.prefab.Collections.RemoveOnly;
@@ -59,6 +64,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -124,6 +130,69 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertEquals("User is Admin", testDictionary.getCheckIdentifier(Foo.class));
     }
 
+    public static class StatefulCheck extends UserCheck {
+        private int invocations;
+
+        @Override
+        public boolean ok(com.yahoo.elide.security.User user) {
+            return invocations++ == 0;
+        }
+    }
+
+    @StatelessCheck
+    public static class InjectedCheck extends UserCheck {
+        private Object service;
+
+        @Override
+        public boolean ok(com.yahoo.elide.security.User user) {
+            return service != null;
+        }
+    }
+
+    @Test
+    public void testStatelessChecks() {
+        assertTrue(isStatelessCheck(Role.ALL.class));
+        assertTrue(isStatelessCheck(InjectedCheck.class));
+        assertFalse(isStatelessCheck(StatefulCheck.class));
+        assertFalse(isStatelessCheck(AppendOnly.class));
+
+        Check check = getStatelessCheck(Role.ALL.class).get();
+        assertSame(check, getStatelessCheck(Role.ALL.class).get());
+        assertFalse(getStatelessCheck(StatefulCheck.class).isPresent());
+        //The decision is remembered for stateful checks too.
+        assertEquals(Optional.empty(), statelessChecks.get(StatefulCheck.class));
+
+        //Stateless checks are injected once.
+        getStatelessCheck(InjectedCheck.class);
+        Check injected = getStatelessCheck(InjectedCheck.class).get();
+        verify(injector, times(1)).inject(injected);
+
+        CheckInstantiator instantiator = new CheckInstantiator() { };
+        assertSame(check, instantiator.getCheck(this, "user has all access"));
+        assertNotSame(instantiator.getCheck(this, StatefulCheck.class),
+                instantiator.getCheck(this, StatefulCheck.class));
+    }
+
+    @Test
+    public void testChecksShareTheInstantiationPath() {
+        Check shared = new InjectedCheck();
+        Check stateful = new StatefulCheck();
+        CheckInstantiator instantiator = new CheckInstantiator() {
+            @Override
+            public Check instantiateCheck(Class<? extends Check> checkCls) {
+                return checkCls == InjectedCheck.class ? shared : stateful;
+            }
+        };
+
+        assertSame(shared, instantiator.getCheck(this, InjectedCheck.class));
+        assertSame(shared, instantiator.getCheck(this, InjectedCheck.class));
+        assertSame(stateful, instantiator.getCheck(this, StatefulCheck.class));
+
+        //Stateless checks are injected once, stateful checks on every use.
+        verify(injector, times(1)).inject(shared);
+        verify(injector, times(1)).inject(stateful);
+    }
+
     @Test
     public void testGetAttributeOrRelationAnnotation() {
         String[] fields = { "field1", "field2", "field3", "relation1", "relation2" };
@@ -199,6 +199,61 @@ public class PaginationLogicTest {
         assertFalse(pageData.isGenerateTotals());
     }
 
+    @Test
+    public void shouldParseTotalsMode() {
+        @Paginate(totals = Paginate.Totals.CACHED)
+        class CachedTotals { }
+
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[totals]", "");
+        assertEquals(Paginate.Totals.EXACT,
+                Pagination.parseQueryParams(queryParams, elideSettings).evaluate(PaginationLogicTest.class)
+                        .getTotalsMode());
+        assertEquals(Paginate.Totals.CACHED,
+                Pagination.parseQueryParams(queryParams, elideSettings).evaluate(CachedTotals.class)
+                        .getTotalsMode());
+
+        queryParams.putSingle("page[totals]", "exact");
+        assertEquals(Paginate.Totals.EXACT,
+                Pagination.parseQueryParams(queryParams, elideSettings).evaluate(CachedTotals.class)
+                        .getTotalsMode());
+
+        queryParams.putSingle("page[totals]", "cached");
+        Pagination pageData = Pagination.parseQueryParams(queryParams, elideSettings)
+                .evaluate(PaginationLogicTest.class);
+        assertTrue(pageData.isGenerateTotals());
+        assertEquals(Paginate.Totals.CACHED, pageData.getTotalsMode());
+
+        queryParams.putSingle("page[totals]", "estimated");
+        assertThrows(InvalidValueException.class, () -> Pagination.parseQueryParams(queryParams, elideSettings));
+    }
+
+    @Test
+    public void shouldRequestTotalsOnly() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[size]", "0");
+        Pagination pageData = Pagination.parseQueryParams(queryParams, elideSettings)
+                .evaluate(PaginationLogicTest.class);
+        assertFalse(pageData.isTotalsOnly());
+
+        queryParams.add("page[totals]", null);
+        pageData = Pagination.parseQueryParams(queryParams, elideSettings).evaluate(PaginationLogicTest.class);
+        assertTrue(pageData.isTotalsOnly());
+    }
+
+    @Test
+    public void shouldSetPageTotalsFromLastPage() {
+        Pagination pageData = Pagination.fromOffsetAndLimit(10, 20, true);
+
+        assertFalse(pageData.setPageTotalsFromPage(10));
+        assertTrue(pageData.setPageTotalsFromPage(3));
+        assertEquals(23, pageData.getPageTotals());
+
+        // An empty page past the end says nothing about the number of records
+        assertFalse(pageData.setPageTotalsFromPage(0));
+        assertTrue(Pagination.fromOffsetAndLimit(10, 0, true).setPageTotalsFromPage(0));
+    }
+
 
     @Test
     public void shouldUseDefaultsWhenNoParams() {
@@ -235,4 +290,46 @@ public class PaginationLogicTest {
         assertEquals(0, pageData.getOffset());
         assertEquals(10, result.getLimit());
     }
+
+    @Test
+    public void shouldParseKeysetCursor() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[size]", "10");
+        queryParams.add("page[after]", "");
+
+        Pagination pageData = Pagination.parseQueryParams(queryParams, elideSettings).evaluate(PaginationLogicTest.class);
+        assertTrue(pageData.isKeyset());
+        assertEquals("", pageData.getAfter());
+        assertEquals(0, pageData.getOffset());
+        assertEquals(10, pageData.getLimit());
+    }
+
+    @Test
+    public void shouldThrowExceptionForKeysetCursorWithOffset() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[offset]", "10");
+        queryParams.add("page[after]", "");
+
+        Pagination pageData = Pagination.parseQueryParams(queryParams, elideSettings);
+        assertThrows(InvalidValueException.class, () -> pageData.evaluate(PaginationLogicTest.class));
+    }
+
+    @Test
+    public void shouldThrowExceptionForInvalidKeysetCursor() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedStringMap();
+        queryParams.add("page[before]", "10");
+
+        assertThrows(InvalidValueException.class, () -> Pagination.parseQueryParams(queryParams, elideSettings));
+    }
+
+    @Test
+    public void shouldAcceptKeysetCursorAsGraphQLOffset() {
+        Pagination pageData =
+                Pagination.fromOffsetAndFirst(Optional.of("5"), Optional.of(""), false, elideSettings).get();
+        pageData.evaluate(PaginationLogicTest.class);
+
+        assertTrue(pageData.isKeyset());
+        assertEquals(0, pageData.getOffset());
+        assertEquals(5, pageData.getLimit());
+    }
 }
@@ -2245,6 +2245,20 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         assertEquals(0, scope.getPagination().getPageTotals());
     }
 
+    @Test
+    public void testSparseFieldsByType() {
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+
+        RequestScope scope = buildRequestScope("/", mock(DataStoreTransaction.class), new User(1), queryParams);
+        assertEquals(Optional.empty(), scope.getSparseFields(Author.class));
+
+        queryParams.add("fields[author]", "name");
+
+        scope = buildRequestScope("/", mock(DataStoreTransaction.class), new User(1), queryParams);
+        assertEquals(Optional.of(ImmutableSet.of("name")), scope.getSparseFields(Author.class));
+        assertEquals(Optional.of(Collections.emptySet()), scope.getSparseFields(Child.class));
+    }
+
     @Test
     public void testEqualsAndHashcode() {
         Child childWithId = newChild(1);
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.DataStoreTransaction.FeatureSupport;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+import example.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class HashMapDataStoreTest {
+    private EntityDictionary dictionary;
+    private HashMapDataStore dataStore;
+    private RequestScope scope;
+    private Book book1;
+    private Book book2;
+    private Book book3;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dataStore = new HashMapDataStore(Book.class.getPackage())
+                .withIndex(Book.class, "title", Indexed.Type.HASH)
+                .withIndex(Book.class, "publishDate", Indexed.Type.SORTED);
+        dataStore.populateEntityDictionary(dictionary);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        book1 = new Book(1, "Book 1", "Literary Fiction", "English", 1, null, null, null);
+        book2 = new Book(2, "Book 2", "Science Fiction", "English", 2, null, null, null);
+        book3 = new Book(3, "Book 3", "Literary Fiction", "English", 3, null, null, null);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            for (Book book : Arrays.asList(book1, book2, book3)) {
+                tx.createObject(book, scope);
+            }
+            tx.commit(scope);
+        }
+    }
+
+    @Test
+    public void testIndexedFilterSupport() throws IOException {
+        FilterExpression title = predicate("title", Operator.IN, "Book 1");
+        FilterExpression genre = predicate("genre", Operator.IN, "Literary Fiction");
+        FilterExpression published = predicate("publishDate", Operator.LT, 2L);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertEquals(FeatureSupport.FULL, tx.supportsFiltering(Book.class, title));
+            assertEquals(FeatureSupport.FULL, tx.supportsFiltering(Book.class, published));
+            assertEquals(FeatureSupport.FULL,
+                    tx.supportsFiltering(Book.class, new OrFilterExpression(title, published)));
+            assertEquals(FeatureSupport.PARTIAL,
+                    tx.supportsFiltering(Book.class, new AndFilterExpression(title, genre)));
+            assertEquals(FeatureSupport.NONE, tx.supportsFiltering(Book.class, new OrFilterExpression(title, genre)));
+            assertEquals(FeatureSupport.NONE, tx.supportsFiltering(Book.class, new NotFilterExpression(title)));
+            assertEquals(FeatureSupport.NONE, tx.supportsFiltering(Book.class, genre));
+            assertEquals(FeatureSupport.NONE, tx.supportsFiltering(Book.class,
+                    predicate("title", Operator.PREFIX, "Book")));
+        }
+    }
+
+    @Test
+    public void testIndexedLookups() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertEquals(Sets.newHashSet(book2), load(tx, predicate("title", Operator.IN, "Book 2", "Book 4")));
+            assertEquals(Sets.newHashSet(book2, book3), load(tx, predicate("publishDate", Operator.GE, 2L)));
+            assertEquals(Sets.newHashSet(book1), load(tx, predicate("publishDate", Operator.LT, 2L)));
+            assertEquals(Sets.newHashSet(book3), load(tx, new AndFilterExpression(
+                    predicate("publishDate", Operator.GT, 1L),
+                    predicate("genre", Operator.IN, "Literary Fiction"))));
+        }
+    }
+
+    @Test
+    public void testIndexesFollowCommits() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            book2.setTitle("Other");
+            tx.save(book2, scope);
+            tx.commit(scope);
+        }
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertEquals(Collections.emptySet(), load(tx, predicate("title", Operator.IN, "Book 2")));
+            assertEquals(Sets.newHashSet(book2), load(tx, predicate("title", Operator.IN, "Other")));
+
+            tx.delete(book2, scope);
+            tx.commit(scope);
+        }
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertEquals(Collections.emptySet(), load(tx, predicate("title", Operator.IN, "Other")));
+        }
+    }
+
+    @Test
+    public void testPendingChangesBypassIndexes() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            book1.setTitle("Changed");
+            tx.save(book1, scope);
+
+            assertEquals(Sets.newHashSet(book1), load(tx, predicate("title", Operator.IN, "Changed")));
+        }
+    }
+
+    @Test
+    public void testReadsUseSnapshot() throws IOException {
+        try (DataStoreTransaction reader = dataStore.beginTransaction()) {
+            Iterable<Object> loaded = reader.loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                    Optional.empty(), scope);
+
+            Book book4 = new Book(0, "Book 4", "Science Fiction", "English", 4, null, null, null);
+            try (DataStoreTransaction writer = dataStore.beginTransaction()) {
+                writer.createObject(book4, scope);
+                writer.commit(scope);
+            }
+
+            assertEquals(3, Iterables.size(loaded));
+            assertEquals(3, Iterables.size(reader.loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                    Optional.empty(), scope)));
+            assertNull(reader.loadObject(Book.class, book4.getId(), Optional.empty(), scope));
+        }
+
+        try (DataStoreTransaction reader = dataStore.beginTransaction()) {
+            assertEquals(4, Iterables.size(reader.loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                    Optional.empty(), scope)));
+        }
+    }
+
+    @Test
+    public void testCreatingStoredObjectFails() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertThrows(TransactionException.class, () -> tx.createObject(book1, scope));
+        }
+    }
+
+    @Test
+    public void testReadCommitsTakeNoLocks() throws IOException {
+        HashMapStoreLocks locks = spy(new HashMapStoreLocks());
+        Map<Class<?>, Map<String, Object>> data = new HashMap<>();
+        data.put(Book.class, Collections.singletonMap("1", book1));
+
+        try (DataStoreTransaction tx = new HashMapStoreTransaction(data, dictionary, new HashMap<>(),
+                Collections.emptyMap(), locks, null)) {
+            assertEquals(book1, tx.loadObject(Book.class, 1L, Optional.empty(), scope));
+            tx.commit(scope);
+        }
+
+        verify(locks, never()).lockTypes(any());
+        verify(locks, never()).publish(any());
+    }
+
+    @Test
+    public void testConcurrentCommits() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> commits = new ArrayList<>();
+            for (int idx = 0; idx < 100; idx++) {
+                commits.add(executor.submit(() -> {
+                    try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+                        tx.createObject(new Book(0, "Concurrent", "Fiction", "English", 0, null, null, null), scope);
+                        tx.commit(scope);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> commit : commits) {
+                commit.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertEquals(103, Iterables.size(tx.loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                    Optional.empty(), scope)));
+            assertEquals(100, load(tx, predicate("title", Operator.IN, "Concurrent")).size());
+        }
+    }
+
+    private FilterExpression predicate(String field, Operator operator, Object... values) {
+        return new FilterPredicate(new Path(Book.class, dictionary, field), operator, Arrays.asList(values));
+    }
+
+    private Set<Object> load(DataStoreTransaction tx, FilterExpression expression) {
+        return Sets.newHashSet(tx.loadObjects(Book.class, Optional.of(expression), Optional.empty(),
+                Optional.empty(), scope));
+    }
+}
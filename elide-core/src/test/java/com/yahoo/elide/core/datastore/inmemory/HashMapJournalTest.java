@@ -0,0 +1,263 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+
+import com.google.common.collect.Sets;
+import example.Author;
+import example.Book;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import inheritance.Animal;
+import inheritance.Dog;
+import inheritance.Owner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class HashMapJournalTest {
+    @TempDir
+    Path directory;
+
+    private HashMapJournal journal;
+    private HashMapDataStore dataStore;
+    private RequestScope scope;
+
+    @AfterEach
+    public void close() throws IOException {
+        dataStore.close();
+    }
+
+    @Test
+    public void testRecovery() throws IOException {
+        open(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL);
+
+        Author author = new Author();
+        author.setName("Author 1");
+        Book book1 = new Book(0, "Book 1", "Literary Fiction", "English", 1, null, null, Arrays.asList("Prize"));
+        Book book2 = new Book(0, "Book 2", "Science Fiction", "English", 2, null, null, null);
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            tx.createObject(author, scope);
+            tx.createObject(book1, scope);
+            tx.createObject(book2, scope);
+            book1.setAuthors(Collections.singletonList(author));
+            author.setBooks(Collections.singletonList(book1));
+            tx.commit(scope);
+        }
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            tx.delete(book2, scope);
+            tx.commit(scope);
+        }
+
+        reopen(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Book recovered = (Book) tx.loadObject(Book.class, 1L, Optional.empty(), scope);
+            assertEquals("Book 1", recovered.getTitle());
+            assertEquals(Arrays.asList("Prize"), recovered.getAwards());
+            assertEquals("Author 1", recovered.getAuthors().iterator().next().getName());
+            assertEquals(recovered, recovered.getAuthors().iterator().next().getBooks().iterator().next());
+            assertNull(tx.loadObject(Book.class, 2L, Optional.empty(), scope));
+
+            //Identifiers are not reused.
+            Book book3 = new Book(0, "Book 3", "Literary Fiction", "English", 3, null, null, null);
+            tx.createObject(book3, scope);
+            assertEquals(3, book3.getId());
+        }
+    }
+
+    @Test
+    public void testSnapshots() throws IOException {
+        open(2);
+
+        for (int idx = 1; idx <= 5; idx++) {
+            try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+                tx.createObject(new Book(0, "Book " + idx, "Fiction", "English", idx, null, null, null), scope);
+                tx.commit(scope);
+            }
+        }
+
+        //Snapshots are written in the background and finished before the journal closes.
+        journal.close();
+        Set<String> files = files();
+        assertEquals(2, files.size());
+        String snapshot = files.stream().filter(file -> file.startsWith("snapshot-")).findFirst().get();
+        String segment = snapshot.replace("snapshot-", "journal-").replace(".json", ".log");
+        assertTrue(files.contains(segment), files.toString());
+
+        reopen(2);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Set<String> titles = Sets.newHashSet(tx.loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                    Optional.empty(), scope)).stream()
+                    .map(book -> ((Book) book).getTitle())
+                    .collect(Collectors.toSet());
+            assertEquals(Sets.newHashSet("Book 1", "Book 2", "Book 3", "Book 4", "Book 5"), titles);
+        }
+    }
+
+    @Test
+    public void testSnapshotsOnlyHoldCommittedValues() throws IOException {
+        open(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL);
+
+        Book book = new Book(0, "Book 1", "Fiction", "English", 1, null, null, null);
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            tx.createObject(book, scope);
+            tx.commit(scope);
+        }
+
+        //Transactions modify the stored entities before they commit.
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Book loaded = (Book) tx.loadObject(Book.class, 1L, Optional.empty(), scope);
+            loaded.setTitle("Uncommitted");
+            tx.save(loaded, scope);
+
+            journal.snapshot();
+        }
+
+        Set<String> files = files();
+        assertTrue(files.contains("snapshot-2.json"), files.toString());
+        assertFalse(files.contains("snapshot.tmp"), files.toString());
+
+        reopen(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Book recovered = (Book) tx.loadObject(Book.class, 1L, Optional.empty(), scope);
+            assertEquals("Book 1", recovered.getTitle());
+        }
+    }
+
+    @Test
+    public void testIncompleteRecordIsIgnored() throws IOException {
+        open(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            tx.createObject(new Book(0, "Book 1", "Fiction", "English", 1, null, null, null), scope);
+            tx.commit(scope);
+        }
+        journal.close();
+
+        byte[] incomplete = "{\"entities\":[{\"type\":\"exa".getBytes(StandardCharsets.UTF_8);
+        Files.write(directory.resolve("journal-1.log"), incomplete, StandardOpenOption.APPEND);
+
+        reopen(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertEquals(1, Sets.newHashSet(tx.loadObjects(Book.class, Optional.empty(), Optional.empty(),
+                    Optional.empty(), scope)).size());
+        }
+        assertTrue(files().contains("journal-2.log"));
+    }
+
+    @Test
+    public void testRecordsAfterIncompleteRecordAreReplayed() throws IOException {
+        open(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL);
+        journal.close();
+
+        //A failed append followed by an acknowledged commit.
+        byte[] incomplete = "{\"entities\":[{\"type\":\"exa\n".getBytes(StandardCharsets.UTF_8);
+        Files.write(directory.resolve("journal-1.log"), incomplete, StandardOpenOption.APPEND);
+        reopen(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            tx.createObject(new Book(0, "Book 1", "Fiction", "English", 1, null, null, null), scope);
+            tx.commit(scope);
+        }
+        journal.close();
+
+        byte[] segment = Files.readAllBytes(directory.resolve("journal-2.log"));
+        Files.write(directory.resolve("journal-1.log"), segment, StandardOpenOption.APPEND);
+        Files.delete(directory.resolve("journal-2.log"));
+
+        reopen(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Book recovered = (Book) tx.loadObject(Book.class, 1L, Optional.empty(), scope);
+            assertEquals("Book 1", recovered.getTitle());
+        }
+    }
+
+    @Test
+    public void testRecoveryResolvesSubclasses() throws IOException {
+        open(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL, Owner.class.getPackage());
+
+        Dog dog = new Dog();
+        dog.setName("Rex");
+        dog.setBreed("Beagle");
+        Owner owner = new Owner();
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            tx.createObject(dog, scope);
+            tx.createObject(owner, scope);
+            owner.setFavorite(dog);
+            owner.setPets(Collections.singletonList(dog));
+            tx.commit(scope);
+        }
+
+        reopen(HashMapJournal.DEFAULT_SNAPSHOT_INTERVAL, Owner.class.getPackage());
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Owner recovered = (Owner) tx.loadObject(Owner.class, owner.getId(), Optional.empty(), scope);
+            Animal favorite = recovered.getFavorite();
+            assertTrue(favorite instanceof Dog);
+            assertEquals("Beagle", ((Dog) favorite).getBreed());
+            assertEquals(Collections.singletonList(favorite), recovered.getPets());
+        }
+    }
+
+    private void open(int snapshotInterval) {
+        open(snapshotInterval, Book.class.getPackage());
+    }
+
+    private void open(int snapshotInterval, Package beanPackage) {
+        journal = new HashMapJournal(directory, HashMapJournal.SyncPolicy.ALWAYS,
+                HashMapJournal.DEFAULT_SYNC_INTERVAL_MILLIS, snapshotInterval);
+
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dataStore = new HashMapDataStore(beanPackage).withJournal(journal);
+        dataStore.populateEntityDictionary(dictionary);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+    }
+
+    private void reopen(int snapshotInterval) throws IOException {
+        reopen(snapshotInterval, Book.class.getPackage());
+    }
+
+    private void reopen(int snapshotInterval, Package beanPackage) throws IOException {
+        journal.close();
+        open(snapshotInterval, beanPackage);
+    }
+
+    private Set<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
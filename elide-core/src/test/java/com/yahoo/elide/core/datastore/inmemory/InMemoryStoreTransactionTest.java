@@ -6,6 +6,7 @@
 package com.yahoo.elide.core.datastore.inmemory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -515,4 +516,96 @@ public class InMemoryStoreTransactionTest {
         assertTrue(loaded.contains(book2));
         assertTrue(loaded.contains(book3));
     }
+
+    @Test
+    public void testInMemorySortingAndPaginationKeepsOnlyPage() {
+        Pagination pagination = Pagination.fromOffsetAndLimit(1, 1, true);
+
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.desc);
+
+        Sorting sorting = new Sorting(sortOrder);
+
+        when(wrappedTransaction.supportsFiltering(eq(Book.class),
+                any())).thenReturn(DataStoreTransaction.FeatureSupport.FULL);
+        when(wrappedTransaction.supportsSorting(eq(Book.class),
+                any())).thenReturn(false);
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(true);
+
+        when(wrappedTransaction.loadObjects(eq(Book.class), eq(Optional.empty()),
+                eq(Optional.empty()), eq(Optional.empty()), eq(scope))).thenReturn((Set) books);
+
+        List<Object> loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.empty(),
+                Optional.of(sorting),
+                Optional.of(pagination),
+                scope));
+
+        assertEquals(Arrays.asList(book2), loaded);
+        assertEquals(3, pagination.getPageTotals());
+    }
+
+    @Test
+    public void testInMemorySortingIsStable() {
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("genre", Sorting.SortOrder.asc);
+
+        Sorting sorting = new Sorting(sortOrder);
+
+        when(wrappedTransaction.supportsFiltering(eq(Book.class),
+                any())).thenReturn(DataStoreTransaction.FeatureSupport.FULL);
+        when(wrappedTransaction.supportsSorting(eq(Book.class),
+                any())).thenReturn(false);
+        when(wrappedTransaction.supportsPagination(eq(Book.class))).thenReturn(true);
+
+        when(wrappedTransaction.loadObjects(eq(Book.class), eq(Optional.empty()),
+                eq(Optional.empty()), eq(Optional.empty()), eq(scope)))
+                .thenReturn(Arrays.asList(book2, book3, book1));
+
+        List<Object> sorted = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.empty(),
+                Optional.of(sorting),
+                Optional.empty(),
+                scope));
+
+        assertEquals(Arrays.asList(book3, book1, book2), sorted);
+
+        List<Object> paginated = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.empty(),
+                Optional.of(sorting),
+                Optional.of(Pagination.fromOffsetAndLimit(2, 0, false)),
+                scope));
+
+        assertEquals(Arrays.asList(book3, book1), paginated);
+    }
+
+    @Test
+    public void testInMemoryFilterOfCursorIsLazy() {
+        FilterExpression expression =
+                new InPredicate(new Path(Book.class, dictionary, "genre"), "Literary Fiction");
+
+        Iterable<Object> cursor = () -> ((Set) books).iterator();
+
+        when(wrappedTransaction.supportsFiltering(eq(Book.class),
+                any())).thenReturn(DataStoreTransaction.FeatureSupport.NONE);
+        when(wrappedTransaction.loadObjects(eq(Book.class), eq(Optional.empty()),
+                eq(Optional.empty()), eq(Optional.empty()), eq(scope))).thenReturn(cursor);
+
+        Iterable<Object> loaded = inMemoryStoreTransaction.loadObjects(
+                Book.class,
+                Optional.of(expression),
+                Optional.empty(),
+                Optional.empty(),
+                scope);
+
+        assertFalse(loaded instanceof Collection);
+
+        List<Object> filtered = Lists.newArrayList(loaded);
+        assertEquals(2, filtered.size());
+        assertTrue(filtered.contains(book1));
+        assertTrue(filtered.contains(book3));
+    }
 }
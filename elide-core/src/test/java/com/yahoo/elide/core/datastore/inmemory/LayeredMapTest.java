@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class LayeredMapTest {
+
+    @Test
+    public void testMatchesLinkedHashMap() {
+        Random random = new Random(42);
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        LayeredMap<String, Integer> map = LayeredMap.of(Collections.emptyMap());
+
+        for (int commit = 0; commit < 500; commit++) {
+            LayeredMap<String, Integer> previous = map;
+            Map<String, Integer> previousExpected = new LinkedHashMap<>(expected);
+
+            LayeredMap.Editor<String, Integer> editor = map.edit();
+            for (int change = 0; change < 1 + random.nextInt(8); change++) {
+                String key = String.valueOf(random.nextInt(400));
+                if (random.nextInt(4) == 0) {
+                    editor.remove(key);
+                    expected.remove(key);
+                } else {
+                    editor.put(key, commit);
+                    expected.put(key, commit);
+                }
+                assertEquals(expected.get(key), editor.get(key));
+            }
+            map = editor.build();
+
+            assertEquals(expected, map);
+            assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+
+            //Editing never changes the previous map.
+            assertEquals(new ArrayList<>(previousExpected.entrySet()), new ArrayList<>(previous.entrySet()));
+        }
+    }
+
+    @Test
+    public void testReaddedKeysMoveToTheEnd() {
+        Map<String, Integer> base = new LinkedHashMap<>();
+        base.put("a", 1);
+        base.put("b", 2);
+        base.put("c", 3);
+
+        LayeredMap.Editor<String, Integer> editor = LayeredMap.of(base).edit();
+        editor.remove("a");
+        editor.put("b", 20);
+        editor.put("a", 10);
+        LayeredMap<String, Integer> map = editor.build();
+
+        assertEquals(Arrays.asList("b", "c", "a"), new ArrayList<>(map.keySet()));
+        assertEquals(Integer.valueOf(20), map.get("b"));
+        assertEquals(3, map.size());
+
+        editor = map.edit();
+        editor.remove("a");
+        editor.remove("missing");
+        map = editor.build();
+        assertNull(map.get("a"));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testNullValues() {
+        LayeredMap.Editor<String, Integer> editor = LayeredMap.<String, Integer>of(Collections.emptyMap()).edit();
+        assertThrows(NullPointerException.class, () -> editor.put("a", null));
+    }
+}
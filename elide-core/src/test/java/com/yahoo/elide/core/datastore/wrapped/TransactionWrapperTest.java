@@ -19,6 +19,9 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.security.User;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public class TransactionWrapperTest {
@@ -236,6 +239,35 @@ public class TransactionWrapperTest {
         assertEquals(1L, actual);
     }
 
+    @Test
+    public void testGetRelations() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        Map<Object, Object> expected = new HashMap<>();
+        when(wrapped.getRelations(any(), any(), any(), any(), any(), any(), any())).thenReturn(expected);
+
+        Map<Object, Object> actual = wrapper.getRelations(null, null, null, null,
+                null, null, null);
+
+        verify(wrapped, times(1)).getRelations(any(), any(), any(), any(), any(), any(), any());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testGetRelationIds() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        Map<Object, Collection<String>> expected = new HashMap<>();
+        when(wrapped.getRelationIds(any(), any(), any(), any())).thenReturn(expected);
+
+        Map<Object, Collection<String>> actual = wrapper.getRelationIds(null, null, null, null);
+
+        verify(wrapped, times(1)).getRelationIds(any(), any(), any(), any());
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testLoadObject() {
         DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
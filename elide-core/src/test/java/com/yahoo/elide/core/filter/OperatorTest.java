@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.core.filter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -322,4 +323,45 @@ public class OperatorTest {
                 BadRequestException.class,
                 () -> Operator.GE.contextualize(constructPath(Author.class, "id"), Collections.emptyList(), requestScope).test(author));
     }
+
+    @Test
+    public void testPredicateReusedAcrossEntities() throws Exception {
+        Predicate in = Operator.IN.contextualize(constructPath(Author.class, "id"), Arrays.asList("1", "3"), requestScope);
+        Predicate lt = Operator.LT.contextualize(constructPath(Author.class, "id"), Arrays.asList("2"), requestScope);
+        Predicate ini = Operator.IN_INSENSITIVE.contextualize(constructPath(Author.class, "name"), Arrays.asList("AUTHOR1"), requestScope);
+        Predicate prefix = Operator.PREFIX_CASE_INSENSITIVE.contextualize(constructPath(Author.class, "name"), Arrays.asList("AUTH"), requestScope);
+
+        List<Boolean> inResults = new ArrayList<>();
+        List<Boolean> ltResults = new ArrayList<>();
+        List<Boolean> iniResults = new ArrayList<>();
+        List<Boolean> prefixResults = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            author = new Author();
+            author.setId(id);
+            author.setName("Author" + id);
+
+            inResults.add(in.test(author));
+            ltResults.add(lt.test(author));
+            iniResults.add(ini.test(author));
+            prefixResults.add(prefix.test(author));
+        }
+
+        assertEquals(Arrays.asList(true, false, true), inResults);
+        assertEquals(Arrays.asList(true, false, false), ltResults);
+        assertEquals(Arrays.asList(true, false, false), iniResults);
+        assertEquals(Arrays.asList(true, true, true), prefixResults);
+    }
+
+    @Test
+    public void testValuesCoercedWhenTested() throws Exception {
+        author = new Author();
+        author.setName("AuthorForTest");
+
+        // Invalid values are only reported once they are compared against a value
+        fn = Operator.IN.contextualize(constructPath(Author.class, "id"), Collections.singletonList("a"), requestScope);
+        assertFalse(fn.test(author));
+
+        author.setId(1L);
+        assertThrows(InvalidValueException.class, () -> fn.test(author));
+    }
 }
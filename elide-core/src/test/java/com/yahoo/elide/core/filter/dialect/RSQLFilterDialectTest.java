@@ -6,9 +6,12 @@
 package com.yahoo.elide.core.filter.dialect;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 
 import example.Author;
@@ -30,11 +33,12 @@ import javax.ws.rs.core.MultivaluedMap;
  * Tests RSQLFilterDialect
  */
 public class RSQLFilterDialectTest {
+    private static EntityDictionary dictionary;
     private static RSQLFilterDialect dialect;
 
     @BeforeAll
     public static void init() {
-        EntityDictionary dictionary = new EntityDictionary(Collections.EMPTY_MAP);
+        dictionary = new EntityDictionary(Collections.EMPTY_MAP);
 
         dictionary.bindEntity(Author.class);
         dictionary.bindEntity(Book.class);
@@ -417,4 +421,74 @@ public class RSQLFilterDialectTest {
         assertThrows(ParseException.class,
                 () -> dialect.parseTypedExpression("/book", queryParams));
     }
+
+    @Test
+    public void testParsedExpressionsAreCached() throws Exception {
+        RSQLFilterDialect cachingDialect = new RSQLFilterDialect(dictionary);
+
+        FilterExpression first = cachingDialect.parseFilterExpression("title==foo", Book.class, true);
+        FilterExpression second = cachingDialect.parseFilterExpression("title==foo", Book.class, true);
+        cachingDialect.parseFilterExpression("title==foo", Book.class, false);
+
+        assertSame(first, second);
+        assertEquals(1, cachingDialect.getCacheStats().hitCount());
+        assertEquals(2, cachingDialect.getCacheStats().missCount());
+    }
+
+    @Test
+    public void testParseErrorsAreCached() throws Exception {
+        RSQLFilterDialect cachingDialect = new RSQLFilterDialect(dictionary);
+
+        ParseException first = assertThrows(ParseException.class,
+                () -> cachingDialect.parseFilterExpression("title==", Book.class, true));
+        ParseException second = assertThrows(ParseException.class,
+                () -> cachingDialect.parseFilterExpression("title==", Book.class, true));
+
+        assertEquals(first.getMessage(), second.getMessage());
+        assertEquals(1, cachingDialect.getCacheStats().hitCount());
+    }
+
+    @Test
+    public void testInvalidFiltersAreCached() throws Exception {
+        RSQLFilterDialect cachingDialect = new RSQLFilterDialect(dictionary);
+
+        for (int idx = 0; idx < 2; idx++) {
+            assertThrows(ParseException.class,
+                    () -> cachingDialect.parseFilterExpression("unknown==foo", Book.class, true));
+            assertThrows(ParseException.class,
+                    () -> cachingDialect.parseFilterExpression("title=isnull=maybe", Book.class, true));
+            assertThrows(InvalidValueException.class,
+                    () -> cachingDialect.parseFilterExpression("publishDate==soon", Book.class, true));
+        }
+
+        assertEquals(3, cachingDialect.getCacheStats().hitCount());
+        assertEquals(3, cachingDialect.getCacheStats().missCount());
+    }
+
+    @Test
+    public void testCachedInvalidValuesThrowNewExceptions() throws Exception {
+        RSQLFilterDialect cachingDialect = new RSQLFilterDialect(dictionary);
+
+        InvalidValueException first = assertThrows(InvalidValueException.class,
+                () -> cachingDialect.parseFilterExpression("publishDate==soon", Book.class, true));
+        InvalidValueException second = assertThrows(InvalidValueException.class,
+                () -> cachingDialect.parseFilterExpression("publishDate==soon", Book.class, true));
+
+        assertNotSame(first, second);
+        assertEquals(first.getMessage(), second.getMessage());
+        assertEquals(first.getVerboseMessage(), second.getVerboseMessage());
+        assertEquals(1, cachingDialect.getCacheStats().hitCount());
+    }
+
+    @Test
+    public void testDisabledCache() throws Exception {
+        RSQLFilterDialect uncachedDialect = new RSQLFilterDialect(dictionary,
+                new CaseSensitivityStrategy.FIQLCompliant(), 0);
+
+        FilterExpression first = uncachedDialect.parseFilterExpression("title==foo", Book.class, true);
+        FilterExpression second = uncachedDialect.parseFilterExpression("title==foo", Book.class, true);
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.parsers.expression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.yahoo.elide.annotation.CreatePermission;
+import com.yahoo.elide.annotation.DeletePermission;
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.annotation.UpdatePermission;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.parsers.expression.PermissionExpressionVisitorTest.DummyExpression;
+import com.yahoo.elide.parsers.expression.PermissionExpressionVisitorTest.Permissions;
+import com.yahoo.elide.security.checks.Check;
+import com.yahoo.elide.security.checks.prefab.Role;
+import com.yahoo.elide.security.permissions.PermissionExpressionTemplate;
+import com.yahoo.elide.security.permissions.expressions.Expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * Test compiled permission expressions.
+ */
+public class PermissionExpressionCompilerTest {
+    private EntityDictionary dictionary;
+
+    @BeforeEach
+    public void setupEntityDictionary() {
+        Map<String, Class<? extends Check>> checks = new HashMap<>();
+        checks.put("Allow", Permissions.Succeeds.class);
+        checks.put("Deny", Permissions.Fails.class);
+        checks.put("user has all access", Role.ALL.class);
+        checks.put("user has no access", Role.NONE.class);
+
+        dictionary = new EntityDictionary(checks);
+        dictionary.bindEntity(Model.class);
+    }
+
+    @Test
+    public void testTemplatesMatchVisitor() {
+        for (Class<? extends Annotation> permission : Arrays.asList(ReadPermission.class, UpdatePermission.class,
+                DeletePermission.class, CreatePermission.class)) {
+            ParseTree tree = dictionary.getPermissionsForClass(Model.class, permission);
+
+            Expression visited = new PermissionExpressionVisitor(dictionary, DummyExpression::new).visit(tree);
+            Expression bound = dictionary.getPermissionTemplate(tree).bind(DummyExpression::new);
+
+            assertEquals(visited.evaluate(Expression.EvaluationMode.ALL_CHECKS),
+                    bound.evaluate(Expression.EvaluationMode.ALL_CHECKS));
+        }
+    }
+
+    @Test
+    public void testTemplatesAreCompiledOnce() {
+        ParseTree tree = dictionary.getPermissionsForField(Model.class, "secret", ReadPermission.class);
+        PermissionExpressionTemplate template = dictionary.getPermissionTemplate(tree);
+
+        assertSame(template, dictionary.getPermissionTemplate(tree));
+        assertNotSame(template.bind(DummyExpression::new), template.bind(DummyExpression::new));
+        assertNull(dictionary.getPermissionTemplate(null));
+    }
+
+    @Test
+    public void testFieldsWithPermission() {
+        assertEquals(new HashSet<>(Arrays.asList("secret", "owner")),
+                new HashSet<>(dictionary.getFieldsWithPermission(Model.class, ReadPermission.class)));
+        assertEquals(Collections.emptyList(),
+                dictionary.getFieldsWithPermission(Model.class, DeletePermission.class));
+    }
+
+    @Entity
+    @Include
+    @ReadPermission(expression = "user has all access AND Allow")
+    @UpdatePermission(expression = "Allow or Deny")
+    @DeletePermission(expression = "Not Deny")
+    @CreatePermission(expression = "not Allow or not (Deny and Allow)")
+    static class Model {
+        @Id
+        public long id;
+
+        public String name;
+
+        @ReadPermission(expression = "Deny")
+        public String secret;
+
+        @ReadPermission(expression = "user has no access or Allow")
+        public String owner;
+    }
+}
@@ -7,6 +7,7 @@ package com.yahoo.elide.security;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.ElideSettingsBuilder;
@@ -18,6 +19,8 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.ForbiddenAccessException;
+import com.yahoo.elide.security.checks.BatchOperationCheck;
+import com.yahoo.elide.security.checks.Check;
 import com.yahoo.elide.security.checks.CommitCheck;
 import com.yahoo.elide.security.checks.OperationCheck;
 import com.yahoo.elide.security.checks.UserCheck;
@@ -27,8 +30,18 @@ import example.TestCheckMappings;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -449,6 +462,187 @@ public class PermissionExecutorTest {
         assertEquals(ExpressionResult.DEFERRED, result);
     }
 
+    @Test
+    public void testPermissionMetrics() {
+        @Entity
+        @Include
+        @ReadPermission(expression = "sampleOperation")
+        @UpdatePermission(expression = "sampleCommit")
+        class Model { }
+
+        Map<Class<?>, AtomicInteger> evaluations = new HashMap<>();
+        Map<Class<?>, AtomicInteger> cacheHits = new HashMap<>();
+        List<Integer> queueSizes = new ArrayList<>();
+        PermissionMetrics metrics = new PermissionMetrics() {
+            @Override
+            public void checkEvaluated(Class<? extends Check> checkClass, long durationNanos) {
+                evaluations.computeIfAbsent(checkClass, key -> new AtomicInteger()).incrementAndGet();
+            }
+
+            @Override
+            public void checkCacheHit(Class<? extends Check> checkClass) {
+                cacheHits.computeIfAbsent(checkClass, key -> new AtomicInteger()).incrementAndGet();
+            }
+
+            @Override
+            public void commitChecksExecuted(int queueSize) {
+                queueSizes.add(queueSize);
+            }
+        };
+
+        EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
+        dictionary.bindEntity(Model.class);
+        ElideSettings settings = new ElideSettingsBuilder(null)
+                .withEntityDictionary(dictionary)
+                .withPermissionMetrics(metrics)
+                .build();
+        RequestScope requestScope = new RequestScope(null, null, null, null, null, settings);
+        Model model = new Model();
+        PersistentResource resource = new PersistentResource<>(model, null, requestScope.getUUIDFor(model),
+                requestScope);
+
+        PermissionExecutor executor = requestScope.getPermissionExecutor();
+        assertThrows(ForbiddenAccessException.class, () -> executor.checkPermission(ReadPermission.class, resource));
+        assertThrows(ForbiddenAccessException.class, () -> executor.checkPermission(ReadPermission.class, resource));
+        executor.checkPermission(UpdatePermission.class, resource, new ChangeSpec(null, null, null, null));
+        executor.executeCommitChecks();
+
+        assertEquals(1, evaluations.get(SampleOperationCheck.class).get());
+        assertEquals(1, cacheHits.get(SampleOperationCheck.class).get());
+        assertEquals(1, evaluations.get(SampleCommitCheck.class).get());
+        assertEquals(Collections.singletonList(1), queueSizes);
+    }
+
+    @Test
+    public void testBatchCheckIsEvaluatedOncePerPage() {
+        @Entity
+        @Include
+        @ReadPermission(expression = "com.yahoo.elide.security.PermissionExecutorTest$EvenIdBatchCheck")
+        class Model implements Identified {
+            @Id
+            public long id;
+
+            @Override
+            public long getId() {
+                return id;
+            }
+        }
+
+        EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
+        dictionary.bindEntity(Model.class);
+        RequestScope requestScope = new RequestScope(null, null, null, null, null, getElideSettings(dictionary));
+
+        List<PersistentResource> resources = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            Model model = new Model();
+            model.id = id;
+            resources.add(new PersistentResource<>(model, null, requestScope.getUUIDFor(model), requestScope));
+        }
+
+        EvenIdBatchCheck.BATCHES.set(0);
+        PermissionExecutor executor = requestScope.getPermissionExecutor();
+        executor.evaluateBatchChecks(ReadPermission.class, resources);
+
+        assertThrows(ForbiddenAccessException.class,
+                () -> executor.checkPermission(ReadPermission.class, resources.get(0)));
+        assertEquals(ExpressionResult.PASS, executor.checkPermission(ReadPermission.class, resources.get(1)));
+        assertThrows(ForbiddenAccessException.class,
+                () -> executor.checkPermission(ReadPermission.class, resources.get(2)));
+        assertEquals(ExpressionResult.PASS, executor.checkPermission(ReadPermission.class, resources.get(3)));
+
+        //Resources which were already evaluated are not passed to the check again.
+        executor.evaluateBatchChecks(ReadPermission.class, resources);
+        assertEquals(1, EvenIdBatchCheck.BATCHES.get());
+    }
+
+    @Test
+    public void testFieldBatchCheckIsEvaluatedWhenUserChecksGrantEntity() {
+        @Entity
+        @Include
+        @ReadPermission(expression = "allow all")
+        class Model implements Identified {
+            @Id
+            public long id;
+
+            @ReadPermission(expression = "allow all")
+            public String name;
+
+            @ReadPermission(expression = "com.yahoo.elide.security.PermissionExecutorTest$EvenIdBatchCheck")
+            public String secret;
+
+            @Override
+            public long getId() {
+                return id;
+            }
+        }
+
+        List<PersistentResource> resources = newBatchResources(Model.class, id -> {
+            Model model = new Model();
+            model.id = id;
+            return model;
+        });
+        RequestScope requestScope = resources.get(0).getRequestScope();
+
+        EvenIdBatchCheck.BATCHES.set(0);
+        PermissionExecutor executor = requestScope.getPermissionExecutor();
+        assertEquals(ExpressionResult.PASS, executor.checkUserPermissions(Model.class, ReadPermission.class));
+        executor.evaluateBatchChecks(ReadPermission.class, resources);
+        assertEquals(1, EvenIdBatchCheck.BATCHES.get());
+
+        assertThrows(ForbiddenAccessException.class,
+                () -> executor.checkSpecificFieldPermissions(resources.get(0), null, ReadPermission.class, "secret"));
+        assertEquals(ExpressionResult.PASS,
+                executor.checkSpecificFieldPermissions(resources.get(1), null, ReadPermission.class, "secret"));
+        assertEquals(1, EvenIdBatchCheck.BATCHES.get());
+    }
+
+    @Test
+    public void testBatchCheckResultsAreValidated() {
+        @Entity
+        @Include
+        @ReadPermission(expression = "com.yahoo.elide.security.PermissionExecutorTest$MalformedBatchCheck")
+        class Model implements Identified {
+            @Id
+            public long id;
+
+            @Override
+            public long getId() {
+                return id;
+            }
+        }
+
+        List<PersistentResource> resources = newBatchResources(Model.class, id -> {
+            Model model = new Model();
+            model.id = id;
+            return model;
+        });
+        PermissionExecutor executor = resources.get(0).getRequestScope().getPermissionExecutor();
+
+        MalformedBatchCheck.RESULTS.set(Arrays.asList(true, null, false, true));
+        IllegalStateException nullResult = assertThrows(IllegalStateException.class,
+                () -> executor.evaluateBatchChecks(ReadPermission.class, resources));
+        assertTrue(nullResult.getMessage().contains("null result at index 1"));
+
+        MalformedBatchCheck.RESULTS.set(Arrays.asList(true, false));
+        IllegalStateException wrongSize = assertThrows(IllegalStateException.class,
+                () -> executor.evaluateBatchChecks(ReadPermission.class, resources));
+        assertTrue(wrongSize.getMessage().contains("expected 4 but got 2"));
+    }
+
+    private <T extends Identified> List<PersistentResource> newBatchResources(Class<T> cls,
+                                                                              Function<Long, T> factory) {
+        EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
+        dictionary.bindEntity(cls);
+        RequestScope requestScope = new RequestScope(null, null, null, null, null, getElideSettings(dictionary));
+
+        List<PersistentResource> resources = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            T model = factory.apply(id);
+            resources.add(new PersistentResource<>(model, null, requestScope.getUUIDFor(model), requestScope));
+        }
+        return resources;
+    }
+
     public <T> PersistentResource<T> newResource(T obj, Class<T> cls) {
         EntityDictionary dictionary = new EntityDictionary(TestCheckMappings.MAPPINGS);
         dictionary.bindEntity(cls);
@@ -567,6 +761,31 @@ public class PermissionExecutorTest {
         public String hello;
     }
 
+    /* Batch check testing */
+
+    public interface Identified {
+        long getId();
+    }
+
+    public static class EvenIdBatchCheck extends BatchOperationCheck<Identified> {
+        static final AtomicInteger BATCHES = new AtomicInteger();
+
+        @Override
+        public List<Boolean> ok(List<Identified> objects, com.yahoo.elide.security.RequestScope requestScope) {
+            BATCHES.incrementAndGet();
+            return objects.stream().map(object -> object.getId() % 2 == 0).collect(Collectors.toList());
+        }
+    }
+
+    public static class MalformedBatchCheck extends BatchOperationCheck<Identified> {
+        static final AtomicReference<List<Boolean>> RESULTS = new AtomicReference<>();
+
+        @Override
+        public List<Boolean> ok(List<Identified> objects, com.yahoo.elide.security.RequestScope requestScope) {
+            return RESULTS.get();
+        }
+    }
+
     /* Cache testing */
 
     public static class ShouldCache extends OperationCheck<Object> {
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.security.permissions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.security.RequestScope;
+import com.yahoo.elide.security.User;
+import com.yahoo.elide.security.checks.UserCheck;
+import com.yahoo.elide.security.permissions.expressions.CheckExpression;
+import com.yahoo.elide.security.permissions.expressions.Expression;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class UserCheckCacheTest {
+    private UserCheckCache userCheckCache;
+
+    public static class CountingCheck extends UserCheck {
+        static int evaluations;
+
+        @Override
+        public boolean ok(User user) {
+            evaluations++;
+            return "admin".equals(user.getIdentity());
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        userCheckCache = new UserCheckCache(100, 1, TimeUnit.MINUTES);
+        CountingCheck.evaluations = 0;
+    }
+
+    @Test
+    public void testResultsAreSharedBetweenRequests() {
+        assertEquals(ExpressionResult.PASS, evaluate(new User(null, "admin")));
+        assertEquals(ExpressionResult.PASS, evaluate(new User(null, "admin")));
+        assertEquals(ExpressionResult.FAIL, evaluate(new User(null, "guest")));
+        assertEquals(ExpressionResult.FAIL, evaluate(new User(null, "guest")));
+
+        assertEquals(2, CountingCheck.evaluations);
+        assertEquals(2, userCheckCache.getStats().hitCount());
+        assertEquals(2, userCheckCache.getStats().missCount());
+    }
+
+    @Test
+    public void testUsersWithoutIdentityAreNotCached() {
+        evaluate(new User("anonymous"));
+        evaluate(new User("anonymous"));
+
+        assertEquals(2, CountingCheck.evaluations);
+        assertEquals(0, userCheckCache.getStats().requestCount());
+    }
+
+    @Test
+    public void testInvalidation() {
+        User admin = new User(null, "admin");
+        User guest = new User(null, "guest");
+        evaluate(admin);
+        evaluate(guest);
+
+        userCheckCache.invalidateUser("admin");
+        assertNull(userCheckCache.getResultFor(CountingCheck.class, admin));
+        assertEquals(ExpressionResult.FAIL, userCheckCache.getResultFor(CountingCheck.class, guest));
+
+        userCheckCache.invalidateCheck(CountingCheck.class);
+        assertNull(userCheckCache.getResultFor(CountingCheck.class, guest));
+
+        evaluate(admin);
+        userCheckCache.invalidateAll();
+        assertNull(userCheckCache.getResultFor(CountingCheck.class, admin));
+    }
+
+    private ExpressionResult evaluate(User user) {
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getUser()).thenReturn(user);
+
+        //Each request has its own expression result cache.
+        ExpressionResultCache cache = new ExpressionResultCache(userCheckCache, user);
+        return new CheckExpression(new CountingCheck(), null, scope, null, cache)
+                .evaluate(Expression.EvaluationMode.ALL_CHECKS);
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package inheritance;
+
+import com.yahoo.elide.annotation.Include;
+
+import javax.persistence.Entity;
+
+@Include(rootLevel = true)
+@Entity
+public class Dog extends Animal {
+    private String breed;
+
+    public String getBreed() {
+        return breed;
+    }
+
+    public void setBreed(String breed) {
+        this.breed = breed;
+    }
+}
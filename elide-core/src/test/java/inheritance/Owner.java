@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package inheritance;
+
+import com.yahoo.elide.annotation.Include;
+
+import java.util.Collection;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+@Include(rootLevel = true)
+@Entity
+public class Owner {
+    private long id;
+    private Animal favorite;
+    private Collection<Animal> pets;
+
+    @Id
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    @ManyToOne
+    public Animal getFavorite() {
+        return favorite;
+    }
+
+    public void setFavorite(Animal favorite) {
+        this.favorite = favorite;
+    }
+
+    @OneToMany
+    public Collection<Animal> getPets() {
+        return pets;
+    }
+
+    public void setPets(Collection<Animal> pets) {
+        this.pets = pets;
+    }
+}
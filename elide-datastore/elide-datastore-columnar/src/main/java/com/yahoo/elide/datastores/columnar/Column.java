@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import com.yahoo.elide.core.filter.Operator;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import lombok.Getter;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * The values of one attribute for every row of a {@link ColumnTable}.  Null values are tracked in a bitmap.
+ */
+abstract class Column {
+    private static final Set<Operator> COLLECTION_OPERATORS = EnumSet.of(Operator.ISEMPTY, Operator.NOTEMPTY,
+            Operator.HASMEMBER, Operator.HASNOMEMBER);
+    private static final int MINIMUM_CAPACITY = 16;
+
+    @Getter protected final Class<?> type;
+    protected final BitSet nulls = new BitSet();
+    private int capacity;
+
+    protected Column(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Creates the column for an attribute type.  Integral and floating point numbers are stored as primitives.
+     * Other comparable values are dictionary encoded.  Any other value is stored as is.
+     *
+     * @param fieldType The attribute type
+     * @param offHeap Whether primitive values are stored outside of the heap
+     * @return The column
+     */
+    static Column of(Class<?> fieldType, boolean offHeap) {
+        Class<?> type = ClassUtils.primitiveToWrapper(fieldType);
+
+        if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) {
+            return new LongColumn(type, offHeap);
+        }
+        if (type == Double.class || type == Float.class) {
+            return new DoubleColumn(type, offHeap);
+        }
+        if (Comparable.class.isAssignableFrom(type)) {
+            return new DictionaryColumn(type, offHeap);
+        }
+        return new ObjectColumn(type);
+    }
+
+    /**
+     * Writes the value of a row.
+     *
+     * @param row The row
+     * @param value The value, which must be of the column type
+     */
+    void set(int row, Object value) {
+        if (row >= capacity) {
+            capacity = Math.max(row + 1, Math.max(MINIMUM_CAPACITY, capacity * 2));
+            grow(capacity);
+        }
+
+        if (value == null) {
+            nulls.set(row);
+        } else {
+            nulls.clear(row);
+            setValue(row, value);
+        }
+    }
+
+    /**
+     * Reads the value of a row.
+     *
+     * @param row The row
+     * @return The value or null
+     */
+    Object get(int row) {
+        return nulls.get(row) ? null : getValue(row);
+    }
+
+    /**
+     * Whether filter predicates with an operator can be evaluated on the column.
+     *
+     * @param operator The filter operator
+     * @return true if {@link #filter} supports the operator
+     */
+    boolean supports(Operator operator) {
+        return !COLLECTION_OPERATORS.contains(operator);
+    }
+
+    /**
+     * Whether rows can be sorted by the column.
+     *
+     * @return true if {@link #comparator} is supported
+     */
+    boolean isSortable() {
+        return true;
+    }
+
+    /**
+     * Finds the rows whose value matches a filter predicate.
+     *
+     * @param operator A supported filter operator
+     * @param values The filter values
+     * @param rows The rows to test
+     * @return The matching rows
+     */
+    BitSet filter(Operator operator, List<Object> values, BitSet rows) {
+        if (operator == Operator.ISNULL || operator == Operator.NOTNULL) {
+            BitSet matches = (BitSet) rows.clone();
+            if (operator == Operator.ISNULL) {
+                matches.and(nulls);
+            } else {
+                matches.andNot(nulls);
+            }
+            return matches;
+        }
+
+        Predicate<Object> predicate = ValuePredicates.of(operator, values, type);
+        BitSet matches = new BitSet();
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (predicate.test(get(row))) {
+                matches.set(row);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Compares rows by their values in ascending order with null values first.
+     *
+     * @return The row comparator
+     */
+    Comparator<Integer> comparator() {
+        IntBinaryOperator values = valueComparator();
+        return (left, right) -> {
+            boolean leftNull = nulls.get(left);
+            boolean rightNull = nulls.get(right);
+            if (leftNull || rightNull) {
+                return leftNull == rightNull ? 0 : (leftNull ? -1 : 1);
+            }
+            return values.applyAsInt(left, right);
+        };
+    }
+
+    /**
+     * Compares the (non null) values of two rows.
+     *
+     * @return The comparison of two rows
+     */
+    protected abstract IntBinaryOperator valueComparator();
+
+    protected abstract void setValue(int row, Object value);
+
+    protected abstract Object getValue(int row);
+
+    /**
+     * Grows the storage of the column.
+     *
+     * @param capacity The new number of rows
+     */
+    protected abstract void grow(int capacity);
+}
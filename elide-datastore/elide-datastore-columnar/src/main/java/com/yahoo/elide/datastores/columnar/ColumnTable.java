@@ -0,0 +1,362 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import com.yahoo.elide.core.DataStoreTransaction.FeatureSupport;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+
+import lombok.Getter;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * The committed entities of one type, stored as a column per attribute.  Rows are appended as entities are created
+ * and are never reused once their entity is deleted.
+ */
+class ColumnTable {
+    private final EntityDictionary dictionary;
+    @Getter private final Class<?> entityClass;
+    private final String idFieldName;
+    private final Column idColumn;
+    private final Map<String, Column> attributes = new LinkedHashMap<>();
+    private final Map<String, ObjectColumn> relationships = new LinkedHashMap<>();
+    private final Map<String, Integer> rows = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private int size;
+
+    ColumnTable(EntityDictionary dictionary, Class<?> entityClass, boolean offHeap) {
+        this.dictionary = dictionary;
+        this.entityClass = entityClass;
+        this.idFieldName = dictionary.getIdFieldName(entityClass);
+        this.idColumn = Column.of(dictionary.getIdType(entityClass), offHeap);
+
+        for (String attribute : dictionary.getAttributes(entityClass)) {
+            if (!dictionary.isComputed(entityClass, attribute)) {
+                attributes.put(attribute, Column.of(dictionary.getType(entityClass, attribute), offHeap));
+            }
+        }
+
+        for (String relationship : dictionary.getRelationships(entityClass)) {
+            if (!dictionary.isComputed(entityClass, relationship)) {
+                relationships.put(relationship, new ObjectColumn(Object.class));
+            }
+        }
+    }
+
+    /**
+     * Finds the row of an entity.
+     *
+     * @param id The entity identifier
+     * @return The row or null if there is no such entity
+     */
+    Integer getRow(String id) {
+        return rows.get(id);
+    }
+
+    /**
+     * The rows of every entity.
+     *
+     * @return A copy of the live rows
+     */
+    BitSet getRows() {
+        return (BitSet) live.clone();
+    }
+
+    /**
+     * Generates an identifier for a new entity.
+     *
+     * @return The identifier
+     */
+    long nextId() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Writes the attributes and relationships of an entity to its row, appending a row for new entities.
+     *
+     * @param id The entity identifier
+     * @param entity The entity
+     * @return The row
+     */
+    int write(String id, Object entity) {
+        int row = rows.computeIfAbsent(id, (key) -> size++);
+
+        idColumn.set(row, dictionary.getValue(entity, idFieldName, null));
+        attributes.forEach((name, column) -> column.set(row, dictionary.getValue(entity, name, null)));
+
+        relationships.forEach((name, column) -> {
+            Object value = dictionary.getValue(entity, name, null);
+            if (value instanceof Collection) {
+                List<String> ids = ((Collection<?>) value).stream()
+                        .map(dictionary::getId)
+                        .collect(Collectors.toList());
+                column.set(row, Collections.unmodifiableList(ids));
+            } else {
+                column.set(row, value == null ? null : dictionary.getId(value));
+            }
+        });
+
+        live.set(row);
+        return row;
+    }
+
+    /**
+     * Deletes an entity.
+     *
+     * @param id The entity identifier
+     */
+    void remove(String id) {
+        Integer row = rows.remove(id);
+        if (row == null) {
+            return;
+        }
+
+        live.clear(row);
+        attributes.values().forEach(column -> column.set(row, null));
+        relationships.values().forEach(column -> column.set(row, null));
+    }
+
+    /**
+     * Creates an entity from the attributes of a row.  Relationships are left unset.
+     *
+     * @param row The row
+     * @return The entity
+     */
+    Object materialize(int row) {
+        Object entity;
+        try {
+            entity = entityClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Cannot create " + entityClass.getName(), e);
+        }
+
+        dictionary.setValue(entity, idFieldName, idColumn.get(row));
+        attributes.forEach((name, column) -> dictionary.setValue(entity, name, column.get(row)));
+        return entity;
+    }
+
+    /**
+     * The relationships stored by the table.
+     *
+     * @return The relationship names
+     */
+    Collection<String> getRelationships() {
+        return relationships.keySet();
+    }
+
+    /**
+     * Reads the identifiers of the entities related to a row.
+     *
+     * @param row The row
+     * @param relationship The relationship name
+     * @return The related identifiers for a to-many relationship, otherwise the related identifier or null
+     */
+    Object getRelated(int row, String relationship) {
+        return relationships.get(relationship).get(row);
+    }
+
+    /**
+     * Determines how much of a filter expression the columns can evaluate.
+     *
+     * @param expression The filter expression
+     * @return The support for the expression
+     */
+    FeatureSupport supports(FilterExpression expression) {
+        return expression.accept(new SupportVisitor());
+    }
+
+    /**
+     * Finds the rows which may match a filter expression.  The rows match exactly if the expression is fully
+     * supported.
+     *
+     * @param expression The filter expression
+     * @param rows The rows to filter
+     * @return The matching rows
+     */
+    BitSet filter(FilterExpression expression, BitSet rows) {
+        return expression.accept(new FilterVisitor(rows)).orElse(rows);
+    }
+
+    /**
+     * Compares rows by sorting rules.  Rows which sort equally are kept in row order.
+     *
+     * @param sortRules The sorting rules
+     * @return The row comparator, or empty if the rules cannot be evaluated on the columns
+     */
+    Optional<Comparator<Integer>> comparator(Map<Path, Sorting.SortOrder> sortRules) {
+        Comparator<Integer> comparator = null;
+        for (Map.Entry<Path, Sorting.SortOrder> rule : sortRules.entrySet()) {
+            Column column = getColumn(rule.getKey());
+            if (column == null || !column.isSortable()) {
+                return Optional.empty();
+            }
+
+            Comparator<Integer> columnComparator = rule.getValue() == Sorting.SortOrder.asc
+                    ? column.comparator()
+                    : column.comparator().reversed();
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        Comparator<Integer> byRow = Integer::compare;
+        return Optional.of(comparator == null ? byRow : comparator.thenComparing(byRow));
+    }
+
+    private Column getColumn(Path path) {
+        List<Path.PathElement> elements = path.getPathElements();
+        if (elements.size() != 1 || !elements.get(0).getType().equals(entityClass)) {
+            return null;
+        }
+
+        String fieldName = elements.get(0).getFieldName();
+        return idFieldName.equals(fieldName) ? idColumn : attributes.get(fieldName);
+    }
+
+    private Column getColumn(FilterPredicate predicate) {
+        Column column = getColumn(predicate.getPath());
+        return column != null && column.supports(predicate.getOperator()) ? column : null;
+    }
+
+    private static boolean isConstant(FilterPredicate predicate) {
+        return predicate.getOperator() == Operator.TRUE || predicate.getOperator() == Operator.FALSE;
+    }
+
+    /**
+     * Determines how much of a filter expression the columns can evaluate.
+     */
+    private class SupportVisitor implements FilterExpressionVisitor<FeatureSupport> {
+        @Override
+        public FeatureSupport visitPredicate(FilterPredicate filterPredicate) {
+            return isConstant(filterPredicate) || getColumn(filterPredicate) != null
+                    ? FeatureSupport.FULL
+                    : FeatureSupport.NONE;
+        }
+
+        @Override
+        public FeatureSupport visitAndExpression(AndFilterExpression expression) {
+            FeatureSupport left = expression.getLeft().accept(this);
+            FeatureSupport right = expression.getRight().accept(this);
+            if (left == FeatureSupport.FULL && right == FeatureSupport.FULL) {
+                return FeatureSupport.FULL;
+            }
+            if (left == FeatureSupport.NONE && right == FeatureSupport.NONE) {
+                return FeatureSupport.NONE;
+            }
+            return FeatureSupport.PARTIAL;
+        }
+
+        @Override
+        public FeatureSupport visitOrExpression(OrFilterExpression expression) {
+            FeatureSupport left = expression.getLeft().accept(this);
+            FeatureSupport right = expression.getRight().accept(this);
+            if (left == FeatureSupport.NONE || right == FeatureSupport.NONE) {
+                return FeatureSupport.NONE;
+            }
+            if (left == FeatureSupport.FULL && right == FeatureSupport.FULL) {
+                return FeatureSupport.FULL;
+            }
+            return FeatureSupport.PARTIAL;
+        }
+
+        @Override
+        public FeatureSupport visitNotExpression(NotFilterExpression expression) {
+            return expression.getNegated().accept(this) == FeatureSupport.FULL
+                    ? FeatureSupport.FULL
+                    : FeatureSupport.NONE;
+        }
+    }
+
+    /**
+     * Finds the rows which may match a filter expression.  Unsupported predicates match every row, so results are a
+     * superset of the matching rows unless the visitor remains exact.
+     */
+    private class FilterVisitor implements FilterExpressionVisitor<Optional<BitSet>> {
+        private final BitSet rows;
+        private boolean exact = true;
+
+        FilterVisitor(BitSet rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Optional<BitSet> visitPredicate(FilterPredicate filterPredicate) {
+            if (filterPredicate.getOperator() == Operator.TRUE) {
+                return Optional.of(rows);
+            }
+            if (filterPredicate.getOperator() == Operator.FALSE) {
+                return Optional.of(new BitSet());
+            }
+
+            Column column = getColumn(filterPredicate);
+            if (column == null) {
+                exact = false;
+                return Optional.empty();
+            }
+            return Optional.of(column.filter(filterPredicate.getOperator(), filterPredicate.getValues(), rows));
+        }
+
+        @Override
+        public Optional<BitSet> visitAndExpression(AndFilterExpression expression) {
+            Optional<BitSet> left = expression.getLeft().accept(this);
+            if (left.isPresent() && left.get().isEmpty()) {
+                return left;
+            }
+
+            //The right side only needs to test the rows matching the left side.
+            FilterVisitor rightVisitor = new FilterVisitor(left.orElse(rows));
+            Optional<BitSet> right = expression.getRight().accept(rightVisitor);
+            exact &= rightVisitor.exact;
+            return right.isPresent() ? right : left;
+        }
+
+        @Override
+        public Optional<BitSet> visitOrExpression(OrFilterExpression expression) {
+            Optional<BitSet> left = expression.getLeft().accept(this);
+            Optional<BitSet> right = expression.getRight().accept(this);
+            if (!left.isPresent() || !right.isPresent()) {
+                return Optional.empty();
+            }
+
+            BitSet union = (BitSet) left.get().clone();
+            union.or(right.get());
+            return Optional.of(union);
+        }
+
+        @Override
+        public Optional<BitSet> visitNotExpression(NotFilterExpression expression) {
+            //The complement of a superset of the matching rows would drop matches.
+            FilterVisitor negatedVisitor = new FilterVisitor(rows);
+            Optional<BitSet> negated = expression.getNegated().accept(negatedVisitor);
+            if (!negated.isPresent() || !negatedVisitor.exact) {
+                exact = false;
+                return Optional.empty();
+            }
+
+            BitSet complement = (BitSet) rows.clone();
+            complement.andNot(negated.get());
+            return Optional.of(complement);
+        }
+    }
+}
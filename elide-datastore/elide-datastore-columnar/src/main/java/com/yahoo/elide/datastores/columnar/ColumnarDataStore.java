@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.DataStore;
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.utils.ClassScanner;
+
+import com.google.common.collect.Sets;
+import lombok.Getter;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory data store for read-mostly entities which keeps each attribute in a column rather than keeping the
+ * entities themselves.
+ *
+ * Integral and floating point attributes are stored as primitive arrays (optionally outside of the heap) and other
+ * comparable attributes are dictionary encoded.  Filters, sorting, and pagination are evaluated on the columns and
+ * entities are only created for the rows which are returned.  Relationships are stored as the identifiers of the
+ * related entities, which must be managed by the same store.
+ */
+public class ColumnarDataStore implements DataStore {
+    private final Set<Class<?>> entityClasses = new LinkedHashSet<>();
+    private final Map<Class<?>, ColumnTable> tables = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    @Getter private final Set<Package> beanPackages;
+    @Getter private EntityDictionary dictionary;
+    private boolean offHeap;
+
+    public ColumnarDataStore(Package beanPackage) {
+        this(Sets.newHashSet(beanPackage));
+    }
+
+    public ColumnarDataStore(Set<Package> beanPackages) {
+        this.beanPackages = beanPackages;
+
+        for (Package beanPackage : beanPackages) {
+            ClassScanner.getAnnotatedClasses(beanPackage, Include.class).stream()
+                .filter(modelClass -> modelClass.getName().startsWith(beanPackage.getName()))
+                .forEach(entityClasses::add);
+        }
+    }
+
+    /**
+     * Stores numeric columns in direct buffers rather than on the heap.  Must be set before the entity dictionary
+     * is populated.
+     *
+     * @return this data store
+     */
+    public ColumnarDataStore withOffHeapColumns() {
+        this.offHeap = true;
+        return this;
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        for (Class<?> entityClass : entityClasses) {
+            dictionary.bindEntity(entityClass);
+        }
+
+        this.dictionary = dictionary;
+
+        for (Class<?> entityClass : entityClasses) {
+            tables.put(entityClass, new ColumnTable(dictionary, entityClass, offHeap));
+        }
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new ColumnarStoreTransaction(dictionary, tables, lock);
+    }
+}
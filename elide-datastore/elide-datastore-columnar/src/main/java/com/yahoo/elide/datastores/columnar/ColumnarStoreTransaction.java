@@ -0,0 +1,514 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.persistence.GeneratedValue;
+
+/**
+ * ColumnarDataStore transaction handler.
+ *
+ * Filters, sorting, and pagination are evaluated on the columns and only the entities of the requested page are
+ * created.  An entity is created at most once per transaction.  Filters and sorting which the columns cannot evaluate
+ * (such as paths through relationships) are evaluated on the entities of the rows the columns may match, so results
+ * are exact whether or not the store is wrapped by an InMemoryDataStore.  The rows of entities which the transaction
+ * (or request) has changed but not committed are also evaluated on their entities.
+ */
+public class ColumnarStoreTransaction implements DataStoreTransaction {
+    private final EntityDictionary dictionary;
+    private final Map<Class<?>, ColumnTable> tables;
+    private final ReadWriteLock lock;
+    private final List<Operation> operations = new ArrayList<>();
+    private final Map<Class<?>, Map<Integer, Object>> materialized = new HashMap<>();
+    private final Deque<Object> unlinked = new ArrayDeque<>();
+
+    ColumnarStoreTransaction(EntityDictionary dictionary, Map<Class<?>, ColumnTable> tables, ReadWriteLock lock) {
+        this.dictionary = dictionary;
+        this.tables = tables;
+        this.lock = lock;
+    }
+
+    @Override
+    public void save(Object entity, RequestScope scope) {
+        if (entity == null) {
+            return;
+        }
+
+        String id = dictionary.getId(entity);
+        if (id == null || "null".equals(id) || "0".equals(id)) {
+            createObject(entity, scope);
+        }
+        operations.add(new Operation(dictionary.getId(entity), entity, OperationType.UPDATE));
+    }
+
+    @Override
+    public void delete(Object entity, RequestScope scope) {
+        if (entity == null) {
+            return;
+        }
+        operations.add(new Operation(dictionary.getId(entity), entity, OperationType.DELETE));
+    }
+
+    @Override
+    public void flush(RequestScope scope) {
+        // Do nothing
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            for (Operation op : operations) {
+                if (op.getType() == OperationType.CREATE && getTable(op.getEntity()).getRow(op.getId()) != null) {
+                    throw new TransactionException(new IllegalStateException("Duplicate key"));
+                }
+            }
+
+            for (Operation op : operations) {
+                ColumnTable table = getTable(op.getEntity());
+                if (op.getType() == OperationType.DELETE) {
+                    table.remove(op.getId());
+                } else {
+                    int row = table.write(op.getId(), op.getEntity());
+                    materialized.computeIfAbsent(table.getEntityClass(), (key) -> new HashMap<>())
+                            .put(row, op.getEntity());
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        operations.clear();
+    }
+
+    @Override
+    public void createObject(Object entity, RequestScope scope) {
+        Class<?> entityClass = entity.getClass();
+        String idFieldName = dictionary.getIdFieldName(entityClass);
+
+        //GeneratedValue means the store needs to assign the ID.
+        if (dictionary.getAttributeOrRelationAnnotation(entityClass, GeneratedValue.class, idFieldName) != null) {
+            dictionary.setValue(entity, idFieldName, String.valueOf(getTable(entity).nextId()));
+        }
+
+        operations.add(new Operation(dictionary.getId(entity), entity, OperationType.CREATE));
+    }
+
+    @Override
+    public Object loadObject(Class<?> entityClass, Serializable id, Optional<FilterExpression> filterExpression,
+                             RequestScope scope) {
+        ColumnTable table = tables.get(entityClass);
+        if (table == null) {
+            return null;
+        }
+
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            Integer row = table.getRow(id.toString());
+            if (row == null) {
+                return null;
+            }
+
+            if (filterExpression.isPresent() && hasPendingChanges(scope)) {
+                Object entity = materialize(table, row);
+                Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
+                return predicate.test(entity) ? entity : null;
+            }
+
+            BitSet rows = new BitSet();
+            rows.set(row);
+            if (filterExpression.isPresent() && table.filter(filterExpression.get(), rows).isEmpty()) {
+                return null;
+            }
+            return materialize(table, row);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Iterable<Object> loadObjects(Class<?> entityClass, Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting, Optional<Pagination> pagination,
+                                        RequestScope scope) {
+        ColumnTable table = tables.get(entityClass);
+        if (table == null) {
+            return Collections.emptyList();
+        }
+
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            BitSet rows = table.getRows();
+            BitSet changedRows = getChangedRows(table, scope);
+            rows.andNot(changedRows);
+
+            BitSet matching = filterExpression
+                    .map(expression -> table.filter(expression, rows))
+                    .orElse(rows);
+            boolean isExactFilter = !filterExpression.isPresent()
+                    || table.supports(filterExpression.get()) == FeatureSupport.FULL;
+
+            Map<Path, Sorting.SortOrder> sortRules = getSortRules(entityClass, sorting);
+            Optional<Comparator<Integer>> comparator = table.comparator(sortRules);
+
+            if (!isExactFilter || !comparator.isPresent()) {
+                //The columns narrow down the rows and the entities of those rows are filtered and sorted.
+                matching.or(changedRows);
+                return inMemory(entityClass, materialize(table, matching), filterExpression, sorting, pagination,
+                        0, scope);
+            }
+
+            if (!changedRows.isEmpty()) {
+                if (!sortRules.isEmpty()) {
+                    //Only the unchanged rows which may be on the page are sorted with the changed entities.
+                    long limit = pagination
+                            .map(page -> Math.max(page.getOffset(), 0) + (long) page.getLimit())
+                            .orElse(Long.MAX_VALUE);
+                    BitSet candidates = new BitSet();
+                    firstRows(matching, comparator.get(), limit).forEach(candidates::set);
+                    int uncounted = matching.cardinality() - candidates.cardinality();
+
+                    candidates.or(changedRows);
+                    return inMemory(entityClass, materialize(table, candidates), filterExpression, sorting,
+                            pagination, uncounted, scope);
+                }
+
+                Predicate predicate = filterExpression
+                        .map(expression -> expression.accept(new InMemoryFilterExecutor(scope)))
+                        .orElse(entity -> true);
+                changedRows.stream()
+                        .filter(row -> predicate.test(materialize(table, row)))
+                        .forEach(matching::set);
+            }
+
+            Comparator<Integer> rowComparator = sortRules.isEmpty() ? null : comparator.get();
+            List<Integer> page = pagination.isPresent()
+                    ? sortAndPaginate(matching, rowComparator, pagination.get())
+                    : sort(matching, rowComparator);
+
+            return page.stream()
+                    .map(row -> materialize(table, row))
+                    .collect(Collectors.toList());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Filters, sorts, and paginates related entities in memory since relationship collections may hold changes
+     * which are not committed yet.
+     */
+    @Override
+    public Object getRelation(DataStoreTransaction relationTx, Object entity, String relationName,
+                              Optional<FilterExpression> filterExpression, Optional<Sorting> sorting,
+                              Optional<Pagination> pagination, RequestScope scope) {
+        Object values = dictionary.getValue(entity, relationName, scope);
+        if (!(values instanceof Collection)) {
+            return values;
+        }
+
+        Class<?> relationClass = dictionary.getParameterizedType(entity, relationName);
+        return inMemory(relationClass, new ArrayList<>((Collection<?>) values), filterExpression, sorting,
+                pagination, 0, scope);
+    }
+
+    @Override
+    public void close() throws IOException {
+        operations.clear();
+    }
+
+    @Override
+    public FeatureSupport supportsFiltering(Class<?> entityClass, FilterExpression expression) {
+        ColumnTable table = tables.get(entityClass);
+        return table == null ? FeatureSupport.NONE : table.supports(expression);
+    }
+
+    @Override
+    public boolean supportsSorting(Class<?> entityClass, Sorting sorting) {
+        ColumnTable table = tables.get(entityClass);
+        return table != null && table.comparator(getSortRules(entityClass, Optional.of(sorting))).isPresent();
+    }
+
+    @Override
+    public boolean supportsPagination(Class<?> entityClass) {
+        return tables.containsKey(entityClass);
+    }
+
+    private Map<Path, Sorting.SortOrder> getSortRules(Class<?> entityClass, Optional<Sorting> sorting) {
+        return sorting
+                .map(rules -> rules.getValidSortingRules(entityClass, dictionary))
+                .orElse(Collections.emptyMap());
+    }
+
+    private boolean hasPendingChanges(RequestScope scope) {
+        return !operations.isEmpty()
+                || (scope != null
+                    && (!scope.getNewPersistentResources().isEmpty() || !scope.getDirtyResources().isEmpty()));
+    }
+
+    /**
+     * Finds the rows of the entities which the transaction or request has changed but not committed.
+     */
+    private BitSet getChangedRows(ColumnTable table, RequestScope scope) {
+        List<Object> changed = operations.stream()
+                .map(Operation::getEntity)
+                .collect(Collectors.toList());
+        if (scope != null) {
+            scope.getNewPersistentResources().forEach(resource -> changed.add(resource.getObject()));
+            scope.getDirtyResources().forEach(resource -> changed.add(resource.getObject()));
+        }
+
+        BitSet rows = new BitSet();
+        for (Object entity : changed) {
+            if (table.getEntityClass().equals(entity.getClass())) {
+                Integer row = table.getRow(dictionary.getId(entity));
+                if (row != null) {
+                    rows.set(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private ColumnTable getTable(Object entity) {
+        ColumnTable table = tables.get(entity.getClass());
+        if (table == null) {
+            throw new IllegalArgumentException("Unknown entity: " + entity.getClass().getName());
+        }
+        return table;
+    }
+
+    /**
+     * Returns the entity of a row, creating it (and the entities it is related to) if this transaction has not yet.
+     */
+    private Object materialize(ColumnTable table, int row) {
+        Object entity = getOrCreate(table, row);
+
+        //Relationships are linked iteratively so that long chains of related entities cannot overflow the stack.
+        while (!unlinked.isEmpty()) {
+            link(unlinked.pop());
+        }
+        return entity;
+    }
+
+    private List<Object> materialize(ColumnTable table, BitSet rows) {
+        return rows.stream()
+                .mapToObj(row -> materialize(table, row))
+                .collect(Collectors.toList());
+    }
+
+    private Object getOrCreate(ColumnTable table, int row) {
+        Map<Integer, Object> entities = materialized.computeIfAbsent(table.getEntityClass(), (key) -> new HashMap<>());
+        Object entity = entities.get(row);
+        if (entity == null) {
+            entity = table.materialize(row);
+            entities.put(row, entity);
+            unlinked.push(entity);
+        }
+        return entity;
+    }
+
+    private void link(Object entity) {
+        ColumnTable table = getTable(entity);
+        Integer row = table.getRow(dictionary.getId(entity));
+        if (row == null) {
+            return;
+        }
+
+        for (String relationship : table.getRelationships()) {
+            ColumnTable relatedTable = tables.get(dictionary.getParameterizedType(table.getEntityClass(),
+                    relationship));
+            Object related = table.getRelated(row, relationship);
+            if (relatedTable == null || related == null) {
+                continue;
+            }
+
+            if (related instanceof Collection) {
+                List<Object> entities = new ArrayList<>();
+                for (Object relatedId : (Collection<?>) related) {
+                    Integer relatedRow = relatedTable.getRow((String) relatedId);
+                    if (relatedRow != null) {
+                        entities.add(getOrCreate(relatedTable, relatedRow));
+                    }
+                }
+                dictionary.setValue(entity, relationship, entities);
+            } else {
+                Integer relatedRow = relatedTable.getRow((String) related);
+                if (relatedRow != null) {
+                    dictionary.setValue(entity, relationship, getOrCreate(relatedTable, relatedRow));
+                }
+            }
+        }
+    }
+
+    private static List<Integer> sort(BitSet rows, Comparator<Integer> comparator) {
+        List<Integer> sorted = rows.stream().boxed().collect(Collectors.toList());
+        if (comparator != null) {
+            sorted.sort(comparator);
+        }
+        return sorted;
+    }
+
+    /**
+     * Keeps only the rows of the requested page.
+     */
+    private static List<Integer> sortAndPaginate(BitSet rows, Comparator<Integer> comparator, Pagination pagination) {
+        int offset = pagination.getOffset();
+        int total = rows.cardinality();
+
+        if (pagination.isGenerateTotals()) {
+            pagination.setPageTotals(total);
+        }
+        if (offset < 0 || offset >= total) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> firstRows = firstRows(rows, comparator, (long) offset + pagination.getLimit());
+        return firstRows.subList(offset, firstRows.size());
+    }
+
+    /**
+     * Finds the rows which sort first, using a bounded heap when the rows are sorted.
+     */
+    private static List<Integer> firstRows(BitSet rows, Comparator<Integer> comparator, long limit) {
+        long bound = Math.min(rows.cardinality(), limit);
+        if (comparator == null) {
+            return rows.stream().limit(bound).boxed().collect(Collectors.toList());
+        }
+
+        //The heap root is the row that sorts last among the rows kept so far.
+        PriorityQueue<Integer> heap = new PriorityQueue<>((int) bound + 1, comparator.reversed());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (heap.size() < bound) {
+                heap.add(row);
+            } else if (bound > 0 && comparator.compare(row, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(row);
+            }
+        }
+
+        List<Integer> firstRows = new ArrayList<>(heap);
+        firstRows.sort(comparator);
+        return firstRows;
+    }
+
+    /**
+     * Filters, sorts, and paginates entities.
+     *
+     * @param uncounted The number of matching entities which were left out because they cannot be on the page
+     */
+    private List<Object> inMemory(Class<?> entityClass, List<Object> entities,
+                                  Optional<FilterExpression> filterExpression, Optional<Sorting> sorting,
+                                  Optional<Pagination> pagination, int uncounted, RequestScope scope) {
+        List<Object> results = entities;
+        if (filterExpression.isPresent()) {
+            Predicate predicate = filterExpression.get().accept(new InMemoryFilterExecutor(scope));
+            results = results.stream().filter(predicate::test).collect(Collectors.toList());
+        }
+
+        Map<Path, Sorting.SortOrder> sortRules = getSortRules(entityClass, sorting);
+        if (!sortRules.isEmpty()) {
+            results = new ArrayList<>(results);
+            results.sort(new EntityComparator(sortRules, scope));
+        }
+
+        if (!pagination.isPresent()) {
+            return results;
+        }
+
+        Pagination page = pagination.get();
+        if (page.isGenerateTotals()) {
+            page.setPageTotals(results.size() + uncounted);
+        }
+        return results.stream()
+                .skip(Math.max(page.getOffset(), 0))
+                .limit(page.getLimit())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Compares entities by the values of the paths they are sorted by, with null values first.
+     */
+    @AllArgsConstructor
+    private class EntityComparator implements Comparator<Object> {
+        private final Map<Path, Sorting.SortOrder> sortRules;
+        private final RequestScope scope;
+
+        @Override
+        public int compare(Object left, Object right) {
+            for (Map.Entry<Path, Sorting.SortOrder> rule : sortRules.entrySet()) {
+                Comparable leftValue = getValue(left, rule.getKey());
+                Comparable rightValue = getValue(right, rule.getKey());
+
+                int comparison;
+                if (leftValue == null || rightValue == null) {
+                    comparison = leftValue == rightValue ? 0 : (leftValue == null ? -1 : 1);
+                } else {
+                    comparison = leftValue.compareTo(rightValue);
+                }
+
+                if (comparison != 0) {
+                    return rule.getValue() == Sorting.SortOrder.asc ? comparison : -comparison;
+                }
+            }
+            return 0;
+        }
+
+        private Comparable getValue(Object entity, Path path) {
+            Object value = entity;
+            for (Path.PathElement pathElement : path.getPathElements()) {
+                value = value == null ? null : dictionary.getValue(value, pathElement.getFieldName(), scope);
+            }
+            return (Comparable) value;
+        }
+    }
+
+    private enum OperationType {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class Operation {
+        private final String id;
+        private final Object entity;
+        private final OperationType type;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import com.yahoo.elide.core.filter.Operator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Comparable attribute values (strings, enums, dates...) stored as codes into a dictionary of the distinct values.
+ * Filters are evaluated once per distinct value rather than once per row.
+ */
+class DictionaryColumn extends Column {
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCH = 1;
+    private static final byte NO_MATCH = 2;
+
+    private final boolean offHeap;
+    private final List<Object> dictionary = new ArrayList<>();
+    private final Map<Object, Integer> codes = new HashMap<>();
+    private IntBuffer values;
+
+    DictionaryColumn(Class<?> type, boolean offHeap) {
+        super(type);
+        this.offHeap = offHeap;
+        this.values = IntBuffer.allocate(0);
+    }
+
+    @Override
+    BitSet filter(Operator operator, List<Object> values, BitSet rows) {
+        if (operator == Operator.ISNULL || operator == Operator.NOTNULL) {
+            return super.filter(operator, values, rows);
+        }
+
+        Predicate<Object> predicate = ValuePredicates.of(operator, values, type);
+
+        //Values are only tested once they are found in a row, so unused dictionary entries never fail a filter.
+        byte[] results = new byte[dictionary.size()];
+        BitSet matches = new BitSet();
+        Boolean nullMatches = null;
+
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            boolean match;
+            if (nulls.get(row)) {
+                if (nullMatches == null) {
+                    nullMatches = predicate.test(null);
+                }
+                match = nullMatches;
+            } else {
+                int code = this.values.get(row);
+                if (results[code] == UNKNOWN) {
+                    results[code] = predicate.test(dictionary.get(code)) ? MATCH : NO_MATCH;
+                }
+                match = results[code] == MATCH;
+            }
+
+            if (match) {
+                matches.set(row);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    protected IntBinaryOperator valueComparator() {
+        //Rank the distinct values once so rows are compared as integers.
+        int[] ranks = new int[dictionary.size()];
+        int[] sorted = IntStream.range(0, dictionary.size())
+                .boxed()
+                .sorted((left, right) -> ((Comparable) dictionary.get(left)).compareTo(dictionary.get(right)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        for (int rank = 0; rank < sorted.length; rank++) {
+            ranks[sorted[rank]] = rank;
+        }
+
+        return (left, right) -> Integer.compare(ranks[values.get(left)], ranks[values.get(right)]);
+    }
+
+    @Override
+    protected void setValue(int row, Object value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.add(value);
+            codes.put(value, code);
+        }
+        values.put(row, code);
+    }
+
+    @Override
+    protected Object getValue(int row) {
+        return dictionary.get(values.get(row));
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        IntBuffer grown = offHeap
+                ? ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer()
+                : IntBuffer.allocate(capacity);
+
+        IntBuffer current = values.duplicate();
+        current.clear();
+        grown.put(current);
+        grown.clear();
+        values = grown;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoublePredicate;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Floating point attribute values stored as primitive doubles.
+ */
+class DoubleColumn extends Column {
+    private final boolean offHeap;
+    private DoubleBuffer values;
+
+    DoubleColumn(Class<?> type, boolean offHeap) {
+        super(type);
+        this.offHeap = offHeap;
+        this.values = DoubleBuffer.allocate(0);
+    }
+
+    @Override
+    BitSet filter(Operator operator, List<Object> values, BitSet rows) {
+        switch (operator) {
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                if (values.isEmpty()) {
+                    break;
+                }
+                //A value matches if it compares to any of the filter values, so only the widest bound matters.
+                boolean upper = operator == Operator.LT || operator == Operator.LE;
+                //Null filter values compare to nothing, as in the long column.
+                OptionalDouble widest = values.stream()
+                        .map(value -> CoerceUtil.coerce(value, type))
+                        .filter(Objects::nonNull)
+                        .mapToDouble(value -> ((Number) value).doubleValue())
+                        .reduce((left, right) -> (Double.compare(left, right) > 0) == upper ? left : right);
+                if (!widest.isPresent()) {
+                    return new BitSet();
+                }
+                double bound = widest.getAsDouble();
+                switch (operator) {
+                    case LT:
+                        return scan(rows, value -> Double.compare(value, bound) < 0);
+                    case LE:
+                        return scan(rows, value -> Double.compare(value, bound) <= 0);
+                    case GT:
+                        return scan(rows, value -> Double.compare(value, bound) > 0);
+                    default:
+                        return scan(rows, value -> Double.compare(value, bound) >= 0);
+                }
+            default:
+                break;
+        }
+        return super.filter(operator, values, rows);
+    }
+
+    private BitSet scan(BitSet rows, DoublePredicate condition) {
+        BitSet matches = new BitSet();
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (!nulls.get(row) && condition.test(values.get(row))) {
+                matches.set(row);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    protected IntBinaryOperator valueComparator() {
+        return (left, right) -> Double.compare(values.get(left), values.get(right));
+    }
+
+    @Override
+    protected void setValue(int row, Object value) {
+        values.put(row, ((Number) value).doubleValue());
+    }
+
+    @Override
+    protected Object getValue(int row) {
+        double value = values.get(row);
+        return type == Float.class ? (Object) (float) value : (Object) value;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        DoubleBuffer grown = offHeap
+                ? ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer()
+                : DoubleBuffer.allocate(capacity);
+
+        DoubleBuffer current = values.duplicate();
+        current.clear();
+        grown.put(current);
+        grown.clear();
+        values = grown;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongPredicate;
+
+/**
+ * Integral attribute values stored as primitive longs.
+ */
+class LongColumn extends Column {
+    private final boolean offHeap;
+    private LongBuffer values;
+
+    LongColumn(Class<?> type, boolean offHeap) {
+        super(type);
+        this.offHeap = offHeap;
+        this.values = LongBuffer.allocate(0);
+    }
+
+    @Override
+    BitSet filter(Operator operator, List<Object> values, BitSet rows) {
+        switch (operator) {
+            case IN:
+            case NOT:
+                long[] keys = values.stream()
+                        .map(value -> CoerceUtil.coerce(value, type))
+                        .filter(Objects::nonNull)
+                        .mapToLong(value -> ((Number) value).longValue())
+                        .sorted()
+                        .toArray();
+                BitSet in = scan(rows, value -> Arrays.binarySearch(keys, value) >= 0);
+                if (operator == Operator.NOT) {
+                    //Null values are not in the set.
+                    BitSet notIn = (BitSet) rows.clone();
+                    notIn.andNot(in);
+                    return notIn;
+                }
+                return in;
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                if (values.isEmpty()) {
+                    break;
+                }
+                //A value matches if it compares to any of the filter values, so only the widest bound matters.
+                boolean upper = operator == Operator.LT || operator == Operator.LE;
+                //Null filter values compare to nothing, as in the IN branch.
+                OptionalLong widest = values.stream()
+                        .map(value -> CoerceUtil.coerce(value, type))
+                        .filter(Objects::nonNull)
+                        .mapToLong(value -> ((Number) value).longValue())
+                        .reduce(upper ? Math::max : Math::min);
+                if (!widest.isPresent()) {
+                    return new BitSet();
+                }
+                long bound = widest.getAsLong();
+                switch (operator) {
+                    case LT:
+                        return scan(rows, value -> value < bound);
+                    case LE:
+                        return scan(rows, value -> value <= bound);
+                    case GT:
+                        return scan(rows, value -> value > bound);
+                    default:
+                        return scan(rows, value -> value >= bound);
+                }
+            default:
+                break;
+        }
+        return super.filter(operator, values, rows);
+    }
+
+    private BitSet scan(BitSet rows, LongPredicate condition) {
+        BitSet matches = new BitSet();
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (!nulls.get(row) && condition.test(values.get(row))) {
+                matches.set(row);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    protected IntBinaryOperator valueComparator() {
+        return (left, right) -> Long.compare(values.get(left), values.get(right));
+    }
+
+    @Override
+    protected void setValue(int row, Object value) {
+        values.put(row, ((Number) value).longValue());
+    }
+
+    @Override
+    protected Object getValue(int row) {
+        long value = values.get(row);
+        if (type == Integer.class) {
+            return (int) value;
+        }
+        if (type == Short.class) {
+            return (short) value;
+        }
+        if (type == Byte.class) {
+            return (byte) value;
+        }
+        return value;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        LongBuffer grown = offHeap
+                ? ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer()
+                : LongBuffer.allocate(capacity);
+
+        LongBuffer current = values.duplicate();
+        current.clear();
+        grown.put(current);
+        grown.clear();
+        values = grown;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import com.yahoo.elide.core.filter.Operator;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Attribute values which are not comparable (such as collections and complex attributes) stored as is.
+ * Only null checks can be evaluated on the column.
+ */
+class ObjectColumn extends Column {
+    private Object[] values = new Object[0];
+
+    ObjectColumn(Class<?> type) {
+        super(type);
+    }
+
+    @Override
+    void set(int row, Object value) {
+        super.set(row, value);
+        if (value == null) {
+            //Do not hold on to the replaced value.
+            values[row] = null;
+        }
+    }
+
+    @Override
+    boolean supports(Operator operator) {
+        return operator == Operator.ISNULL || operator == Operator.NOTNULL;
+    }
+
+    @Override
+    boolean isSortable() {
+        return false;
+    }
+
+    @Override
+    protected IntBinaryOperator valueComparator() {
+        throw new UnsupportedOperationException("Column cannot be sorted: " + type.getName());
+    }
+
+    @Override
+    protected void setValue(int row, Object value) {
+        values[row] = value;
+    }
+
+    @Override
+    protected Object getValue(int row) {
+        return values[row];
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Tests attribute values (rather than entities) against filter operators with the same semantics as
+ * {@link Operator#contextualize}.
+ */
+final class ValuePredicates {
+
+    private ValuePredicates() {
+    }
+
+    /**
+     * Creates a predicate for the values of a column.
+     *
+     * @param operator The filter operator, which must not be a collection operator
+     * @param values The filter values
+     * @param type The (wrapper) type of the column values
+     * @return A predicate on column values, including null values
+     */
+    static Predicate<Object> of(Operator operator, List<Object> values, Class<?> type) {
+        switch (operator) {
+            case IN:
+                return in(values, type);
+            case NOT:
+                return in(values, type).negate();
+            case IN_INSENSITIVE:
+                return inInsensitive(values);
+            case NOT_INSENSITIVE:
+                return inInsensitive(values).negate();
+            case ISNULL:
+                return Objects::isNull;
+            case NOTNULL:
+                return Objects::nonNull;
+            case LT:
+                return compare(values, type, comparison -> comparison < 0);
+            case LE:
+                return compare(values, type, comparison -> comparison <= 0);
+            case GT:
+                return compare(values, type, comparison -> comparison > 0);
+            case GE:
+                return compare(values, type, comparison -> comparison >= 0);
+            case TRUE:
+                return value -> true;
+            case FALSE:
+                return value -> false;
+            default:
+                return match(operator, values);
+        }
+    }
+
+    /**
+     * Creates a predicate for the string matching operators.
+     *
+     * @param operator The filter operator
+     * @param values The filter values
+     * @return A predicate on column values, including null values
+     */
+    private static Predicate<Object> match(Operator operator, List<Object> values) {
+        switch (operator) {
+            case PREFIX:
+                return matches("PREFIX", values, Function.identity(), String::startsWith);
+            case PREFIX_CASE_INSENSITIVE:
+                return matches("PREFIX", values, Operator.FOLD_CASE, String::startsWith);
+            case POSTFIX:
+                return matches("POSTFIX", values, Function.identity(), String::endsWith);
+            case POSTFIX_CASE_INSENSITIVE:
+                return matches("POSTFIX", values, Operator.FOLD_CASE, String::endsWith);
+            case INFIX:
+                return matches("INFIX", values, Function.identity(), String::contains);
+            case INFIX_CASE_INSENSITIVE:
+                return matches("INFIX", values, Operator.FOLD_CASE, String::contains);
+            default:
+                throw new IllegalArgumentException("Unsupported column operator: " + operator);
+        }
+    }
+
+    private static Predicate<Object> in(List<Object> values, Class<?> type) {
+        Set<Object> coerced = values.stream()
+                .map(value -> CoerceUtil.coerce(value, type))
+                .collect(Collectors.toSet());
+
+        return value -> value != null && coerced.contains(value);
+    }
+
+    private static Predicate<Object> inInsensitive(List<Object> values) {
+        Set<String> folded = values.stream()
+                .map(value -> Operator.FOLD_CASE.apply(CoerceUtil.coerce(value, String.class)))
+                .collect(Collectors.toSet());
+
+        return value -> {
+            if (value == null) {
+                return false;
+            }
+            if (!(value instanceof String)) {
+                throw new IllegalStateException("Cannot case insensitive compare non-string values");
+            }
+            return folded.contains(Operator.FOLD_CASE.apply((String) value));
+        };
+    }
+
+    private static Predicate<Object> matches(String name, List<Object> values,
+                                             Function<String, String> transform,
+                                             StringMatcher matcher) {
+        String filter = values.size() != 1 ? null : CoerceUtil.coerce(values.get(0), String.class);
+        String transformed = filter == null ? null : transform.apply(filter);
+
+        return value -> {
+            if (values.size() != 1) {
+                throw new BadRequestException(name + " can only take one argument");
+            }
+
+            String valueString = CoerceUtil.coerce(value, String.class);
+            return valueString != null
+                    && transformed != null
+                    && matcher.matches(transform.apply(valueString), transformed);
+        };
+    }
+
+    private static Predicate<Object> compare(List<Object> values, Class<?> type, IntPredicate condition) {
+        List<Comparable> coerced = values.stream()
+                .map(value -> (Comparable) CoerceUtil.coerce(value, type))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return value -> {
+            if (values.isEmpty()) {
+                throw new BadRequestException("No value to compare");
+            }
+            if (value == null) {
+                return false;
+            }
+
+            Comparable comparable = (Comparable) value;
+            return coerced.stream().anyMatch(test -> condition.test(comparable.compareTo(test)));
+        };
+    }
+
+    /**
+     * Matches a (transformed) value against a (transformed) filter string.
+     */
+    @FunctionalInterface
+    private interface StringMatcher {
+        boolean matches(String value, String filter);
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.columnar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.DataStoreTransaction.FeatureSupport;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.example.columnar.Customer;
+import com.yahoo.elide.example.columnar.Sale;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * ColumnarDataStore tests.
+ */
+public class ColumnarDataStoreTest {
+    private EntityDictionary dictionary;
+    private ColumnarDataStore dataStore;
+    private RequestScope scope;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        setup(new ColumnarDataStore(Sale.class.getPackage()));
+    }
+
+    private void setup(ColumnarDataStore store) throws IOException {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dataStore = store;
+        dataStore.populateEntityDictionary(dictionary);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        Customer acme = customer("acme", "Acme");
+        Customer globex = customer("globex", "Globex");
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            tx.createObject(acme, scope);
+            tx.createObject(globex, scope);
+            tx.createObject(sale("west", 10.5, 1, Sale.Status.OPEN, acme), scope);
+            tx.createObject(sale("East", 99.0, 3, Sale.Status.SHIPPED, acme), scope);
+            tx.createObject(sale("east", null, 2, Sale.Status.SHIPPED, globex), scope);
+            tx.createObject(sale(null, 5.0, 7, Sale.Status.RETURNED, null), scope);
+            tx.createObject(sale("north", 10.5, 3, null, globex), scope);
+            tx.commit(scope);
+        }
+    }
+
+    @Test
+    public void testFiltersMatchInMemoryFilters() throws IOException {
+        List<FilterExpression> expressions = Arrays.asList(
+                predicate("region", Operator.IN, "east", "west"),
+                predicate("region", Operator.NOT, "east"),
+                predicate("region", Operator.IN_INSENSITIVE, "EAST"),
+                predicate("region", Operator.NOT_INSENSITIVE, "EAST"),
+                predicate("region", Operator.PREFIX, "ea"),
+                predicate("region", Operator.PREFIX_CASE_INSENSITIVE, "EA"),
+                predicate("region", Operator.POSTFIX, "st"),
+                predicate("region", Operator.INFIX_CASE_INSENSITIVE, "OR"),
+                predicate("region", Operator.ISNULL),
+                predicate("region", Operator.LT, "north"),
+                predicate("amount", Operator.GE, "10.5"),
+                predicate("amount", Operator.LT, 10.5, 50),
+                predicate("amount", Operator.IN, "10.5"),
+                predicate("amount", Operator.NOTNULL),
+                predicate("quantity", Operator.IN, 3, "7"),
+                predicate("quantity", Operator.NOT, 3),
+                predicate("quantity", Operator.GT, 2),
+                predicate("quantity", Operator.LE, 1, 2),
+                predicate("status", Operator.IN, "SHIPPED"),
+                predicate("status", Operator.GE, "SHIPPED"),
+                predicate("id", Operator.IN, 2, 4),
+                predicate("tags", Operator.ISNULL),
+                new AndFilterExpression(predicate("region", Operator.NOTNULL), predicate("quantity", Operator.GT, 1)),
+                new OrFilterExpression(predicate("amount", Operator.ISNULL), predicate("quantity", Operator.IN, 1)),
+                new NotFilterExpression(predicate("status", Operator.IN, "SHIPPED")),
+                predicate("quantity", Operator.FALSE),
+                predicate("quantity", Operator.TRUE)
+        );
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            List<Object> sales = Lists.newArrayList(tx.loadObjects(Sale.class, Optional.empty(), Optional.empty(),
+                    Optional.empty(), scope));
+            assertEquals(5, sales.size());
+
+            for (FilterExpression expression : expressions) {
+                assertEquals(FeatureSupport.FULL, tx.supportsFiltering(Sale.class, expression), expression.toString());
+
+                Predicate predicate = expression.accept(new InMemoryFilterExecutor(scope));
+                List<Object> expected = sales.stream().filter(predicate::test).collect(Collectors.toList());
+
+                assertEquals(expected, Lists.newArrayList(tx.loadObjects(Sale.class, Optional.of(expression),
+                        Optional.empty(), Optional.empty(), scope)), expression.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testNullComparisonValues() {
+        Map<Column, List<Object>> columns = ImmutableMap.of(
+                Column.of(long.class, false), Arrays.asList(1L, null, 3L),
+                Column.of(Double.class, true), Arrays.asList(1.5, null, 3.5),
+                Column.of(String.class, false), Arrays.asList("a", null, "c"));
+
+        BitSet rows = new BitSet();
+        rows.set(0, 3);
+        for (Map.Entry<Column, List<Object>> entry : columns.entrySet()) {
+            Column column = entry.getKey();
+            List<Object> values = entry.getValue();
+            for (int row = 0; row < values.size(); row++) {
+                column.set(row, values.get(row));
+            }
+
+            for (Operator operator : Arrays.asList(Operator.LT, Operator.LE, Operator.GT, Operator.GE)) {
+                assertEquals(new BitSet(), column.filter(operator, Arrays.asList((Object) null), rows));
+                assertEquals(column.filter(operator, Arrays.asList(values.get(2)), rows),
+                        column.filter(operator, Arrays.asList(null, values.get(2)), rows));
+            }
+        }
+    }
+
+    @Test
+    public void testFilterSupport() throws IOException {
+        FilterExpression region = predicate("region", Operator.IN_INSENSITIVE, "east");
+        FilterExpression tags = predicate("tags", Operator.HASMEMBER, "promo");
+        FilterExpression customer = new FilterPredicate(new Path(Sale.class, dictionary, "customer.name"),
+                Operator.IN, Arrays.asList("Acme"));
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertEquals(FeatureSupport.NONE, tx.supportsFiltering(Sale.class, tags));
+            assertEquals(FeatureSupport.NONE, tx.supportsFiltering(Sale.class, customer));
+            assertEquals(FeatureSupport.PARTIAL,
+                    tx.supportsFiltering(Sale.class, new AndFilterExpression(region, customer)));
+            assertEquals(FeatureSupport.NONE,
+                    tx.supportsFiltering(Sale.class, new OrFilterExpression(region, customer)));
+            assertEquals(FeatureSupport.NONE, tx.supportsFiltering(Sale.class, new NotFilterExpression(customer)));
+
+            //The predicates which the columns cannot evaluate are evaluated on the entities.
+            assertEquals(Arrays.asList(3L), ids(tx.loadObjects(Sale.class,
+                    Optional.of(new AndFilterExpression(new NotFilterExpression(customer), region)),
+                    Optional.empty(), Optional.empty(), scope)));
+            assertEquals(Arrays.asList(1L, 2L), ids(tx.loadObjects(Sale.class, Optional.of(customer),
+                    Optional.empty(), Optional.empty(), scope)));
+
+            //Negating a partially supported expression must not drop rows which match.
+            FilterExpression negatedPartial = new AndFilterExpression(predicate("quantity", Operator.GT, 0),
+                    new NotFilterExpression(new AndFilterExpression(region, customer)));
+            assertEquals(FeatureSupport.PARTIAL, tx.supportsFiltering(Sale.class, negatedPartial));
+            assertEquals(Arrays.asList(1L, 3L, 4L, 5L), ids(tx.loadObjects(Sale.class, Optional.of(negatedPartial),
+                    Optional.empty(), Optional.empty(), scope)));
+        }
+    }
+
+    @Test
+    public void testSortingAndPagination() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Sorting sorting = new Sorting(ImmutableMap.of("amount", Sorting.SortOrder.desc,
+                    "quantity", Sorting.SortOrder.asc));
+            assertTrue(tx.supportsSorting(Sale.class, sorting));
+            assertFalse(tx.supportsSorting(Sale.class,
+                    new Sorting(ImmutableMap.of("customer.name", Sorting.SortOrder.asc))));
+            assertFalse(tx.supportsSorting(Sale.class, new Sorting(ImmutableMap.of("tags", Sorting.SortOrder.asc))));
+
+            assertEquals(Arrays.asList(2L, 1L, 5L, 4L, 3L), ids(tx.loadObjects(Sale.class, Optional.empty(),
+                    Optional.of(sorting), Optional.empty(), scope)));
+
+            //Null values sort first in ascending order.
+            assertEquals(Arrays.asList(4L, 2L, 3L, 5L, 1L), ids(tx.loadObjects(Sale.class, Optional.empty(),
+                    Optional.of(new Sorting(ImmutableMap.of("region", Sorting.SortOrder.asc))), Optional.empty(),
+                    scope)));
+
+            Pagination pagination = Pagination.fromOffsetAndLimit(2, 1, true);
+            assertEquals(Arrays.asList(1L, 5L), ids(tx.loadObjects(Sale.class, Optional.empty(),
+                    Optional.of(sorting), Optional.of(pagination), scope)));
+            assertEquals(5, pagination.getPageTotals());
+
+            pagination = Pagination.fromOffsetAndLimit(10, 3, true);
+            assertEquals(Arrays.asList(5L), ids(tx.loadObjects(Sale.class,
+                    Optional.of(predicate("quantity", Operator.GT, 1)), Optional.empty(), Optional.of(pagination),
+                    scope)));
+            assertEquals(4, pagination.getPageTotals());
+        }
+    }
+
+    @Test
+    public void testSortingThroughRelationships() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Sorting sorting = new Sorting(ImmutableMap.of("customer.name", Sorting.SortOrder.desc,
+                    "quantity", Sorting.SortOrder.asc));
+
+            assertEquals(Arrays.asList(3L, 5L, 1L, 2L, 4L), ids(tx.loadObjects(Sale.class, Optional.empty(),
+                    Optional.of(sorting), Optional.empty(), scope)));
+
+            Pagination pagination = Pagination.fromOffsetAndLimit(2, 1, true);
+            assertEquals(Arrays.asList(5L, 1L), ids(tx.loadObjects(Sale.class,
+                    Optional.of(predicate("quantity", Operator.LT, 7)), Optional.of(sorting),
+                    Optional.of(pagination), scope)));
+            assertEquals(4, pagination.getPageTotals());
+        }
+    }
+
+    @Test
+    public void testRelationships() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Customer acme = (Customer) tx.loadObject(Customer.class, "acme", Optional.empty(), scope);
+            assertEquals(Arrays.asList(1L, 2L), ids(acme.getSales()));
+
+            Sale sale = (Sale) tx.loadObject(Sale.class, 1L, Optional.empty(), scope);
+            assertSame(acme, sale.getCustomer());
+            assertSame(sale, acme.getSales().iterator().next());
+            assertNull(((Sale) tx.loadObject(Sale.class, 4L, Optional.empty(), scope)).getCustomer());
+
+            assertEquals(Arrays.asList(2L), ids((Iterable<?>) tx.getRelation(tx, acme, "sales",
+                    Optional.of(predicate("quantity", Operator.GT, 1)), Optional.empty(), Optional.empty(), scope)));
+        }
+    }
+
+    @Test
+    public void testCommits() throws IOException {
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            Sale sale = (Sale) tx.loadObject(Sale.class, 1L, Optional.empty(), scope);
+            sale.setRegion("south");
+            tx.save(sale, scope);
+
+            //Uncommitted changes are filtered in memory.
+            assertEquals(Arrays.asList(1L), ids(tx.loadObjects(Sale.class,
+                    Optional.of(predicate("region", Operator.IN, "south")), Optional.empty(), Optional.empty(),
+                    scope)));
+
+            //Changed entities are sorted with the unchanged rows which may be on the page.
+            Sorting sorting = new Sorting(ImmutableMap.of("region", Sorting.SortOrder.desc));
+            Pagination pagination = Pagination.fromOffsetAndLimit(1, 1, true);
+            assertEquals(Arrays.asList(5L), ids(tx.loadObjects(Sale.class,
+                    Optional.of(predicate("quantity", Operator.LT, 7)), Optional.of(sorting),
+                    Optional.of(pagination), scope)));
+            assertEquals(4, pagination.getPageTotals());
+            assertEquals(Arrays.asList(1L, 5L, 3L, 2L, 4L), ids(tx.loadObjects(Sale.class, Optional.empty(),
+                    Optional.of(sorting), Optional.empty(), scope)));
+
+            tx.delete(tx.loadObject(Sale.class, 2L, Optional.empty(), scope), scope);
+            tx.createObject(sale("west", 1.0, 1, Sale.Status.OPEN, null), scope);
+            tx.commit(scope);
+        }
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertEquals(Arrays.asList(1L), ids(tx.loadObjects(Sale.class,
+                    Optional.of(predicate("region", Operator.IN, "south")), Optional.empty(), Optional.empty(),
+                    scope)));
+            assertNull(tx.loadObject(Sale.class, 2L, Optional.empty(), scope));
+            assertEquals(Arrays.asList(1L, 3L, 4L, 5L, 6L), ids(tx.loadObjects(Sale.class, Optional.empty(),
+                    Optional.empty(), Optional.empty(), scope)));
+
+            Customer duplicate = customer("acme", "Other");
+            tx.createObject(duplicate, scope);
+            assertThrows(TransactionException.class, () -> tx.commit(scope));
+        }
+    }
+
+    @Test
+    public void testOffHeapColumns() throws IOException {
+        setup(new ColumnarDataStore(Sale.class.getPackage()).withOffHeapColumns());
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            assertEquals(Arrays.asList(4L, 5L), ids(tx.loadObjects(Sale.class,
+                    Optional.of(predicate("quantity", Operator.GE, 3)), Optional.of(new Sorting(ImmutableMap.of(
+                            "amount", Sorting.SortOrder.asc))), Optional.empty(), scope)).subList(0, 2));
+
+            Sale sale = (Sale) tx.loadObject(Sale.class, 2L, Optional.empty(), scope);
+            assertEquals(99.0, sale.getAmount());
+            assertEquals(3, sale.getQuantity());
+        }
+    }
+
+    private FilterExpression predicate(String field, Operator operator, Object... values) {
+        return new FilterPredicate(new Path(Sale.class, dictionary, field), operator, Arrays.asList(values));
+    }
+
+    private static List<Object> ids(Iterable<?> entities) {
+        return Lists.newArrayList(entities).stream()
+                .map(entity -> entity instanceof Sale ? (Object) ((Sale) entity).getId() : entity)
+                .collect(Collectors.toList());
+    }
+
+    private static Customer customer(String id, String name) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setName(name);
+        return customer;
+    }
+
+    private static Sale sale(String region, Double amount, int quantity, Sale.Status status, Customer customer) {
+        Sale sale = new Sale();
+        sale.setRegion(region);
+        sale.setAmount(amount);
+        sale.setQuantity(quantity);
+        sale.setStatus(status);
+        sale.setCustomer(customer);
+        if (customer != null) {
+            customer.getSales().add(sale);
+        }
+        return sale;
+    }
+}
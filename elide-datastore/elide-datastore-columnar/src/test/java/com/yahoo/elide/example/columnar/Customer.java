@@ -0,0 +1,35 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.example.columnar;
+
+import com.yahoo.elide.annotation.Include;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+
+/**
+ * test bean.
+ */
+@Entity
+@Include
+@Getter
+@Setter
+public class Customer {
+    @Id
+    private String id;
+
+    private String name;
+
+    @OneToMany(mappedBy = "customer")
+    private Collection<Sale> sales = new ArrayList<>();
+}
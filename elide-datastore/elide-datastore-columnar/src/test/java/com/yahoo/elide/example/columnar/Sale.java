@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.example.columnar;
+
+import com.yahoo.elide.annotation.Include;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+/**
+ * test bean.
+ */
+@Entity
+@Include
+@Getter
+@Setter
+public class Sale {
+    public enum Status {
+        OPEN,
+        SHIPPED,
+        RETURNED
+    }
+
+    @Id
+    @GeneratedValue
+    private long id;
+
+    private String region;
+
+    private Double amount;
+
+    private int quantity;
+
+    private Status status;
+
+    private List<String> tags;
+
+    @ManyToOne
+    private Customer customer;
+}
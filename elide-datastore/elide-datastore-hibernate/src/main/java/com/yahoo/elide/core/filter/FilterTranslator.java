@@ -40,9 +40,12 @@ import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.google.common.base.Preconditions;
 import org.apache.commons.lang3.tuple.Triple;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +56,10 @@ public class FilterTranslator implements FilterOperation<String> {
 
     private static Map<Operator, JPQLPredicateGenerator> operatorGenerators;
     private static Map<Triple<Operator, Class<?>, String>, JPQLPredicateGenerator> predicateOverrides;
+    private static final EnumSet<Operator> IN_LIST_OPERATORS = EnumSet.of(IN, IN_INSENSITIVE, NOT, NOT_INSENSITIVE);
+    private static final AtomicLong GENERATOR_VERSION = new AtomicLong();
+
+    private final boolean inListPadding;
 
     static {
         predicateOverrides = new HashMap<>();
@@ -188,6 +195,23 @@ public class FilterTranslator implements FilterOperation<String> {
 
     }
 
+    /**
+     * Constructor.  IN and NOT IN parameter lists are not padded.
+     */
+    public FilterTranslator() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     * @param inListPadding Whether or not to pad IN and NOT IN parameter lists.  When enabled, list sizes are rounded
+     *                      up to the next power of two by repeating the last value so that filters with varying list
+     *                      lengths share a bounded number of query plans.
+     */
+    public FilterTranslator(boolean inListPadding) {
+        this.inListPadding = inListPadding;
+    }
+
     /**
      * Overrides the default JPQL generator for a given operator.
      * @param op The filter predicate operator
@@ -196,6 +220,7 @@ public class FilterTranslator implements FilterOperation<String> {
     public static void registerJPQLGenerator(Operator op,
                                              JPQLPredicateGenerator generator) {
         operatorGenerators.put(op, generator);
+        GENERATOR_VERSION.incrementAndGet();
     }
 
     /**
@@ -210,6 +235,7 @@ public class FilterTranslator implements FilterOperation<String> {
                                              String fieldName,
                                              JPQLPredicateGenerator generator) {
         predicateOverrides.put(Triple.of(op, entityClass, fieldName), generator);
+        GENERATOR_VERSION.incrementAndGet();
     }
 
     /**
@@ -225,6 +251,15 @@ public class FilterTranslator implements FilterOperation<String> {
         return predicateOverrides.get(Triple.of(op, entityClass, fieldName));
     }
 
+    /**
+     * Returns the number of JPQL generator registrations.  Generated query text is cached per version, so that
+     * queries are generated again with the registered generators.
+     * @return the version of the registered JPQL generators
+     */
+    public static long getGeneratorVersion() {
+        return GENERATOR_VERSION.get();
+    }
+
     /**
      * Returns the registered JPQL generator for the given operator.
      * @param op The filter predicate operator
@@ -234,6 +269,40 @@ public class FilterTranslator implements FilterOperation<String> {
         return operatorGenerators.get(op);
     }
 
+    /**
+     * Returns whether IN and NOT IN parameter lists are padded to the next power of two.
+     * @return true if IN list padding is enabled.
+     */
+    public boolean isInListPadding() {
+        return inListPadding;
+    }
+
+    /**
+     * Computes the named parameters for a predicate at a given position within its filter expression.
+     * The same names are used when generating the JPQL and when binding the parameter values.
+     * @param filterPredicate The predicate to compute parameters for
+     * @param ordinal The position of the predicate within the filter expression
+     * @return The (possibly padded) filter parameters
+     */
+    public List<FilterParameter> getParameters(FilterPredicate filterPredicate, int ordinal) {
+        List<FilterParameter> params = filterPredicate.getParameters(ordinal);
+
+        if (!inListPadding || params.size() < 2 || !IN_LIST_OPERATORS.contains(filterPredicate.getOperator())) {
+            return params;
+        }
+
+        int paddedSize = Integer.highestOneBit(params.size() - 1) << 1;
+        List<FilterParameter> padded = new ArrayList<>(paddedSize);
+        padded.addAll(params);
+
+        FilterParameter last = params.get(params.size() - 1);
+        String baseName = last.getName().substring(0, last.getName().lastIndexOf('_') + 1);
+        for (int idx = params.size(); idx < paddedSize; idx++) {
+            padded.add(new FilterParameter(baseName + idx, last.getValue()));
+        }
+        return padded;
+    }
+
     /**
      * Translates the filterPredicate to JPQL.
      * @param filterPredicate The predicate to translate
@@ -252,6 +321,18 @@ public class FilterTranslator implements FilterOperation<String> {
      * @return The hql query fragment.
      */
     protected String apply(FilterPredicate filterPredicate, boolean prefixWithAlias) {
+        return apply(filterPredicate, prefixWithAlias, 0);
+    }
+
+    /**
+     * Transforms a filter predicate into a JPQL query fragment.
+     * @param filterPredicate The predicate to transform.
+     * @param prefixWithAlias Whether or not to append the entity type to the predicate.
+     *                       This is useful for table aliases referenced in JPQL for some kinds of joins.
+     * @param ordinal The position of the predicate within its filter expression.
+     * @return The hql query fragment.
+     */
+    protected String apply(FilterPredicate filterPredicate, boolean prefixWithAlias, int ordinal) {
         String fieldPath = filterPredicate.getFieldPath();
 
         if (prefixWithAlias) {
@@ -263,7 +344,7 @@ public class FilterTranslator implements FilterOperation<String> {
         //JPQL doesn't support 'this', but it does support aliases.
         fieldPath = fieldPath.replaceAll("\\.this", "");
 
-        List<FilterParameter> params = filterPredicate.getParameters();
+        List<FilterParameter> params = getParameters(filterPredicate, ordinal);
 
         Operator op = filterPredicate.getOperator();
         JPQLPredicateGenerator generator = lookupJPQLGenerator(op, last.getType(), last.getFieldName());
@@ -297,10 +378,13 @@ public class FilterTranslator implements FilterOperation<String> {
     }
 
     /**
-     * Filter expression visitor which builds an JPQL query.
+     * Filter expression visitor which builds an JPQL query.  Predicates are numbered in the order they are visited,
+     * which matches the order in which {@link com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor}
+     * collects them into a list.
      */
     public class JPQLQueryVisitor implements FilterExpressionVisitor<String> {
         private boolean prefixWithAlias;
+        private int ordinal = 0;
 
         public JPQLQueryVisitor(boolean prefixWithAlias) {
             this.prefixWithAlias = prefixWithAlias;
@@ -308,7 +392,7 @@ public class FilterTranslator implements FilterOperation<String> {
 
         @Override
         public String visitPredicate(FilterPredicate filterPredicate) {
-            return apply(filterPredicate, prefixWithAlias);
+            return apply(filterPredicate, prefixWithAlias, ordinal++);
         }
 
         @Override
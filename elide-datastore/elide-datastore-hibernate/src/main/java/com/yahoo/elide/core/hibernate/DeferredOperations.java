@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RelationshipType;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreMetrics;
+import com.yahoo.elide.core.datastore.DataStoreMetrics.Operation;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToOne;
+
+/**
+ * Writes a transaction defers until flush.
+ * <p>
+ * The ORM sends the SQL of each write in the order the writes were scheduled, and the JDBC driver can only batch
+ * consecutive statements with the same SQL.  Writes of interleaved entity types (for example, a JSON-Patch request
+ * which creates authors and their books) therefore cost one round trip each.  When ordered, writes are replayed
+ * grouped by kind (creates, then updates, then deletes - the order in which the ORM executes them anyway) and by
+ * entity type, so each group can be sent in as few batches as possible.  Like the <code>order_inserts</code> setting
+ * of Hibernate, entity types are ordered by their foreign keys: a type is created after and deleted before the types
+ * it references, otherwise in the order each type was first written.  Writes of a kind keep their original order
+ * when the references between their types form a cycle.  Writes are only reordered when JDBC batching is enabled
+ * (a batch size greater than one).
+ */
+public class DeferredOperations {
+    private final List<DeferredOperation> operations = new ArrayList<>();
+
+    /**
+     * A deferred write.
+     */
+    private static class DeferredOperation {
+        private final Pair<Operation, Class<?>> group;
+        private final Runnable task;
+
+        private DeferredOperation(Pair<Operation, Class<?>> group, Runnable task) {
+            this.group = group;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Defers a write.
+     *
+     * @param operation The kind of write
+     * @param entity The written entity
+     * @param task Schedules the write with the ORM
+     */
+    public void add(Operation operation, Object entity, Runnable task) {
+        operations.add(new DeferredOperation(Pair.of(operation, entity.getClass()), task));
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    public void clear() {
+        operations.clear();
+    }
+
+    /**
+     * Runs and discards the deferred writes, reporting batch sizes to the data store metrics of the request.
+     *
+     * @param jdbcBatchSize The JDBC batch size of the session
+     * @param scope The request scope
+     */
+    public void run(int jdbcBatchSize, RequestScope scope) {
+        DataStoreMetrics metrics = scope == null || scope.getElideSettings() == null
+                ? DataStoreMetrics.NONE
+                : scope.getElideSettings().getDataStoreMetrics();
+        EntityDictionary dictionary = scope == null ? null : scope.getDictionary();
+        run(jdbcBatchSize, dictionary, metrics);
+    }
+
+    /**
+     * Runs and discards the deferred writes.
+     *
+     * @param jdbcBatchSize The JDBC batch size of the session.  Writes are grouped by kind and entity type and
+     *                      batches are reported when it is greater than one.
+     * @param dictionary Describes the references between the written entity types.  Writes are not reordered
+     *                   without a dictionary.
+     * @param metrics Receives the size of each JDBC batch the writes of a group are expected to be sent in
+     */
+    public void run(int jdbcBatchSize, EntityDictionary dictionary, DataStoreMetrics metrics) {
+        List<DeferredOperation> replay = new ArrayList<>(operations);
+        operations.clear();
+
+        boolean batched = jdbcBatchSize > 1;
+        if (batched && dictionary != null) {
+            replay = order(replay, dictionary);
+        }
+
+        int batchSize = 0;
+        for (int idx = 0; idx < replay.size(); idx++) {
+            DeferredOperation operation = replay.get(idx);
+            operation.task.run();
+            batchSize++;
+
+            //The driver sends a batch when it is full or the next statement differs.
+            if (batched && (batchSize == jdbcBatchSize
+                    || idx == replay.size() - 1 || !replay.get(idx + 1).group.equals(operation.group))) {
+                metrics.writeBatchFlushed(operation.group.getRight(), operation.group.getLeft(), batchSize);
+                batchSize = 0;
+            }
+        }
+    }
+
+    /**
+     * Groups writes by kind and then by entity type.
+     *
+     * @param replay The writes in the order they were scheduled
+     * @param dictionary Describes the references between the written entity types
+     * @return the writes in the order they are replayed
+     */
+    private static List<DeferredOperation> order(List<DeferredOperation> replay, EntityDictionary dictionary) {
+        Map<Operation, List<DeferredOperation>> byKind = new EnumMap<>(Operation.class);
+        replay.forEach(operation ->
+                byKind.computeIfAbsent(operation.group.getLeft(), unused -> new ArrayList<>()).add(operation));
+
+        List<DeferredOperation> ordered = new ArrayList<>(replay.size());
+        byKind.forEach((kind, writes) -> ordered.addAll(orderByType(writes, kind == Operation.DELETE, dictionary)));
+        return ordered;
+    }
+
+    /**
+     * Groups writes of one kind by entity type.  A type is written after the types it references (or, for deletes,
+     * before them), otherwise in the order each type was first written.
+     *
+     * @param writes The writes of one kind in the order they were scheduled
+     * @param deletes Whether the writes are deletes, which must precede the deletes of the types they reference
+     * @param dictionary Describes the references between the written entity types
+     * @return the grouped writes, or the original writes if the references between their types form a cycle
+     */
+    private static List<DeferredOperation> orderByType(List<DeferredOperation> writes, boolean deletes,
+                                                       EntityDictionary dictionary) {
+        Map<Class<?>, List<DeferredOperation>> byType = new LinkedHashMap<>();
+        writes.forEach(operation ->
+                byType.computeIfAbsent(operation.group.getRight(), unused -> new ArrayList<>()).add(operation));
+
+        List<Class<?>> pending = new ArrayList<>(byType.keySet());
+        List<DeferredOperation> ordered = new ArrayList<>(writes.size());
+        while (!pending.isEmpty()) {
+            Class<?> next = pending.stream()
+                    .filter(type -> pending.stream()
+                            .filter(other -> other != type)
+                            .noneMatch(other -> deletes
+                                    ? references(dictionary, other, type)
+                                    : references(dictionary, type, other)))
+                    .findFirst()
+                    .orElse(null);
+
+            if (next == null) {
+                return writes;
+            }
+
+            pending.remove(next);
+            ordered.addAll(byType.get(next));
+        }
+        return ordered;
+    }
+
+    /**
+     * Whether an entity type holds a foreign key to another type through an owning to-one relationship.
+     *
+     * @param dictionary The entity dictionary
+     * @param type The referencing entity type
+     * @param referenced The possibly referenced entity type
+     * @return true if rows of the type can reference rows of the other type
+     */
+    private static boolean references(EntityDictionary dictionary, Class<?> type, Class<?> referenced) {
+        if (dictionary.lookupBoundClass(type) == null) {
+            return false;
+        }
+
+        return dictionary.getRelationships(type).stream().anyMatch(relationship -> {
+            RelationshipType relationshipType = dictionary.getRelationshipType(type, relationship);
+            if (!relationshipType.isToOne() || relationshipType.isComputed()) {
+                return false;
+            }
+
+            OneToOne oneToOne = dictionary.getAttributeOrRelationAnnotation(type, OneToOne.class, relationship);
+            boolean owning = dictionary.getAttributeOrRelationAnnotation(type, ManyToOne.class, relationship) != null
+                    || (oneToOne != null && oneToOne.mappedBy().isEmpty());
+
+            return owning && dictionary.getParameterizedType(type, relationship).isAssignableFrom(referenced);
+        });
+    }
+}
@@ -10,4 +10,13 @@ package com.yahoo.elide.core.hibernate;
  */
 public interface Session {
     public Query createQuery(String queryText);
+
+    /**
+     * Whether the session understands the Hibernate specific <code>FETCH ALL PROPERTIES</code> clause, which
+     * selects the lazy attributes of an entity with the query.
+     * @return true if the clause can be used in queries of this session
+     */
+    default boolean supportsFetchAllProperties() {
+        return false;
+    }
 }
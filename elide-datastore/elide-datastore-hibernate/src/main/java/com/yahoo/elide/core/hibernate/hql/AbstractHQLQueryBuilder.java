@@ -9,6 +9,8 @@ import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RelationshipType;
 import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterPredicate.FilterParameter;
+import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
@@ -19,6 +21,7 @@ import com.yahoo.elide.core.sort.Sorting;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -26,8 +29,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.persistence.Basic;
+import javax.persistence.FetchType;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToOne;
+
 /**
  * Abstract class used to construct HQL queries.
  */
@@ -38,6 +47,8 @@ public abstract class AbstractHQLQueryBuilder {
     protected Optional<Sorting> sorting;
     protected Optional<Pagination> pagination;
     protected Optional<FilterExpression> filterExpression;
+    protected Optional<Set<String>> projection;
+    protected HQLQueryOptions queryOptions;
     protected static final String SPACE = " ";
     protected static final String UNDERSCORE = "_";
     protected static final String PERIOD = ".";
@@ -76,6 +87,8 @@ public abstract class AbstractHQLQueryBuilder {
         sorting = Optional.empty();
         pagination = Optional.empty();
         filterExpression = Optional.empty();
+        projection = Optional.empty();
+        queryOptions = HQLQueryOptions.NO_CACHING;
     }
 
     public abstract Query build();
@@ -95,18 +108,62 @@ public abstract class AbstractHQLQueryBuilder {
         return this;
     }
 
+    /**
+     * Configures the query with the options of the data store.
+     *
+     * @param queryOptions The query options of the data store
+     * @return the builder
+     */
+    public AbstractHQLQueryBuilder withQueryOptions(HQLQueryOptions queryOptions) {
+        this.queryOptions = queryOptions;
+        return this;
+    }
+
+    /**
+     * Restricts the columns and relationships of the queried entity that are eagerly fetched to the given fields
+     * (the JSON-API sparse fieldset).  With Hibernate, lazy attributes (<code>@Basic(fetch = FetchType.LAZY)</code>)
+     * are selected by the query if one of them is projected, and lazy to-one relationships outside of the projection
+     * are left to the ORM to load on demand.
+     *
+     * @param possibleProjection The fields that will be read from the queried entities
+     * @return the builder
+     */
+    public AbstractHQLQueryBuilder withPossibleProjection(final Optional<Set<String>> possibleProjection) {
+        this.projection = possibleProjection;
+        return this;
+    }
+
+    /**
+     * Returns the query text for the shape of this query, only generating it if it is not already cached.
+     *
+     * @param target Identifies what is being queried (the entity class, relationship, etc)
+     * @param generator Generates the query text on a cache miss
+     * @return The query text
+     */
+    protected String getQueryText(Object target, Supplier<String> generator) {
+        List<Object> shape = QueryShapeCache.getShape(getClass(),
+                Arrays.asList(dictionary, target, projection.orElse(null)),
+                filterExpression, sorting, pagination.isPresent(), queryOptions.getFilterTranslator());
+
+        return queryOptions.getQueryShapeCache().get(shape, generator);
+    }
+
     /**
      * Given a collection of filter predicates and a Hibernate query, populates the named parameters in the
-     * Hibernate query.
+     * Hibernate query.  The predicates must be ordered as they appear in the filter expression that was translated
+     * into the query (as extracted into a list by {@link PredicateExtractionVisitor}).
      *
      * @param query The HQL query
      * @param predicates The predicates to extract named parameter values from
      */
     protected void supplyFilterQueryParameters(Query query, Collection<FilterPredicate> predicates) {
+        FilterTranslator filterTranslator = queryOptions.getFilterTranslator();
+        int ordinal = 0;
         for (FilterPredicate filterPredicate : predicates) {
+            List<FilterParameter> params = filterTranslator.getParameters(filterPredicate, ordinal++);
             if (filterPredicate.getOperator().isParameterized()) {
                 boolean shouldEscape = filterPredicate.isMatchingOperator();
-                filterPredicate.getParameters().forEach(param -> {
+                params.forEach(param -> {
                     query.setParameter(param.getName(), shouldEscape ? param.escapeMatching() : param.getValue());
                 });
             }
@@ -219,7 +276,7 @@ public abstract class AbstractHQLQueryBuilder {
         for (String relationshipName : relationshipNames) {
             RelationshipType type = dictionary.getRelationshipType(entityClass, relationshipName);
             if (type.isToOne() && !type.isComputed()) {
-                if (skipRelation.apply(relationshipName)) {
+                if (skipRelation.apply(relationshipName) || isUnprojectedLazyRelation(entityClass, relationshipName)) {
                     continue;
                 }
                 String joinKey = alias + PERIOD + relationshipName;
@@ -236,6 +293,52 @@ public abstract class AbstractHQLQueryBuilder {
         return joinString.toString();
     }
 
+    /**
+     * Builds the clause which selects the lazy attributes of an entity with the query when any of them is in the
+     * projection.  Without a projection, or when the session does not understand the Hibernate specific clause,
+     * lazy attributes are left to the ORM to load on demand.
+     * @param entityClass The entity class that is being queried in the HQL query.
+     * @return The clause that can follow the alias of the entity in the FROM clause.
+     */
+    protected String extractLazyAttributeFetch(Class<?> entityClass) {
+        if (!projection.isPresent() || !session.supportsFetchAllProperties()) {
+            return "";
+        }
+
+        boolean fetchLazyAttributes = projection.get().stream()
+                .filter(field -> dictionary.isAttribute(entityClass, field))
+                .anyMatch(attribute -> {
+                    Basic basic = dictionary.getAttributeOrRelationAnnotation(entityClass, Basic.class, attribute);
+                    return basic != null && basic.fetch() == FetchType.LAZY;
+                });
+
+        return fetchLazyAttributes ? " FETCH ALL PROPERTIES" : "";
+    }
+
+    /**
+     * Whether a to-one relationship is excluded from the projection and can be loaded lazily by the ORM.
+     * The inverse side of a one-to-one relationship cannot be proxied and is always loaded.
+     *
+     * @param entityClass The entity class that is being queried
+     * @param relationshipName The to-one relationship
+     * @return true if the relationship does not need to be fetched
+     */
+    private boolean isUnprojectedLazyRelation(Class<?> entityClass, String relationshipName) {
+        if (!projection.isPresent() || projection.get().contains(relationshipName)) {
+            return false;
+        }
+
+        ManyToOne manyToOne = dictionary.getAttributeOrRelationAnnotation(entityClass, ManyToOne.class,
+                relationshipName);
+        if (manyToOne != null) {
+            return manyToOne.fetch() == FetchType.LAZY;
+        }
+
+        OneToOne oneToOne = dictionary.getAttributeOrRelationAnnotation(entityClass, OneToOne.class,
+                relationshipName);
+        return oneToOne != null && oneToOne.fetch() == FetchType.LAZY && oneToOne.mappedBy().isEmpty();
+    }
+
     /**
      * Returns a sorting object into a HQL ORDER BY string.
      * @param sorting The sorting object passed from the client
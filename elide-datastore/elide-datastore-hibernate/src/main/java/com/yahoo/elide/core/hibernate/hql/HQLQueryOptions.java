@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.filter.FilterTranslator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the HQL queries of a data store.  Each data store owns its options (and their caches), which are
+ * passed to the query builders of its transactions.
+ */
+public class HQLQueryOptions {
+
+    /**
+     * Options which cache nothing, used by query builders and transactions created without the options of a store.
+     */
+    public static final HQLQueryOptions NO_CACHING = new Builder()
+            .withQueryShapeCacheSize(0)
+            .withPageTotalsCacheSize(0)
+            .build();
+
+    private final FilterTranslator filterTranslator;
+    private final QueryShapeCache queryShapeCache;
+    private final PageTotalsCache pageTotalsCache;
+
+    /**
+     * Constructor with the default options.
+     */
+    public HQLQueryOptions() {
+        this(new Builder());
+    }
+
+    private HQLQueryOptions(Builder builder) {
+        this.filterTranslator = new FilterTranslator(builder.inListPadding);
+        this.queryShapeCache = new QueryShapeCache(builder.queryShapeCacheSize);
+        this.pageTotalsCache = new PageTotalsCache(builder.pageTotalsCacheSize, builder.pageTotalsTtl,
+                builder.pageTotalsTtlUnit);
+    }
+
+    /**
+     * Returns the translator of filter expressions into JPQL.
+     * @return the filter translator
+     */
+    public FilterTranslator getFilterTranslator() {
+        return filterTranslator;
+    }
+
+    /**
+     * Returns the cache of generated query text.
+     * @return the query shape cache
+     */
+    public QueryShapeCache getQueryShapeCache() {
+        return queryShapeCache;
+    }
+
+    /**
+     * Returns the cache of page totals.
+     * @return the page totals cache
+     */
+    public PageTotalsCache getPageTotalsCache() {
+        return pageTotalsCache;
+    }
+
+    /**
+     * Builder object to configure the HQL queries of a data store.
+     */
+    public static class Builder {
+        private boolean inListPadding = false;
+        private long queryShapeCacheSize = QueryShapeCache.DEFAULT_MAXIMUM_SIZE;
+        private long pageTotalsCacheSize = PageTotalsCache.DEFAULT_MAXIMUM_SIZE;
+        private long pageTotalsTtl = PageTotalsCache.DEFAULT_TTL_SECONDS;
+        private TimeUnit pageTotalsTtlUnit = TimeUnit.SECONDS;
+
+        /**
+         * Enables or disables padding of IN and NOT IN parameter lists to the next power of two.
+         * @param inListPadding Whether or not to pad IN lists
+         * @return the builder
+         * @see FilterTranslator#FilterTranslator(boolean)
+         */
+        public Builder withInListPadding(boolean inListPadding) {
+            this.inListPadding = inListPadding;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of query shapes whose query text is cached.
+         * @param queryShapeCacheSize The maximum number of cached queries.  Zero disables caching.
+         * @return the builder
+         */
+        public Builder withQueryShapeCacheSize(long queryShapeCacheSize) {
+            this.queryShapeCacheSize = queryShapeCacheSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of page totals which are cached.
+         * @param pageTotalsCacheSize The maximum number of cached counts.  Zero disables caching.
+         * @return the builder
+         */
+        public Builder withPageTotalsCacheSize(long pageTotalsCacheSize) {
+            this.pageTotalsCacheSize = pageTotalsCacheSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a cached page total is reused.
+         * @param ttl The time to live
+         * @param unit The unit of the time to live
+         * @return the builder
+         */
+        public Builder withPageTotalsTtl(long ttl, TimeUnit unit) {
+            this.pageTotalsTtl = ttl;
+            this.pageTotalsTtlUnit = unit;
+            return this;
+        }
+
+        public HQLQueryOptions build() {
+            return new HQLQueryOptions(this);
+        }
+    }
+}
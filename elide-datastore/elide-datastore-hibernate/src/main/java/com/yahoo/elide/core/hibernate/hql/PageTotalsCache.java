@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.annotation.Paginate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.Pagination;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Short lived cache of page totals keyed by what was counted and the complete filter expression (including its
+ * values).  Counts are only read from the cache for {@link Paginate.Totals#CACHED} totals, which are then reported
+ * as approximate.  Exact counts refresh the cache.  Each data store owns its cache through its
+ * {@link HQLQueryOptions}.
+ */
+public class PageTotalsCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 1024;
+    public static final long DEFAULT_TTL_SECONDS = 10;
+
+    private final Cache<List<Object>, Long> cache;
+
+    /**
+     * Constructor.
+     * @param maximumSize The maximum number of counts to retain.  Zero disables caching.
+     * @param ttl How long a count is reused
+     * @param unit The unit of the time to live
+     */
+    public PageTotalsCache(long maximumSize, long ttl, TimeUnit unit) {
+        cache = maximumSize > 0
+                ? CacheBuilder.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(ttl, unit)
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * Sets the page totals of a request, reusing a cached count if the request allows approximate totals.
+     *
+     * @param pagination The pagination of the request
+     * @param key Identifies what is counted
+     * @param counter Runs the count query
+     */
+    public void setPageTotals(Pagination pagination, List<Object> key, Supplier<Long> counter) {
+        if (cache == null) {
+            pagination.setPageTotals(counter.get());
+            return;
+        }
+
+        if (pagination.getTotalsMode() == Paginate.Totals.CACHED) {
+            Long total = cache.getIfPresent(key);
+            if (total != null) {
+                pagination.setPageTotals(total);
+                pagination.setPageTotalsApproximate(true);
+                return;
+            }
+        }
+
+        long total = counter.get();
+        cache.put(key, total);
+        pagination.setPageTotals(total);
+    }
+
+    /**
+     * Discards all cached counts.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    public long getHitCount() {
+        return cache == null ? 0 : cache.stats().hitCount();
+    }
+
+    public long size() {
+        return cache == null ? 0 : cache.size();
+    }
+
+    /**
+     * Computes the key of a count of a root collection.
+     *
+     * @param entityClass The counted entity
+     * @param filterExpression The filter expression
+     * @return the key
+     */
+    public static List<Object> getKey(Class<?> entityClass, Optional<FilterExpression> filterExpression) {
+        return Arrays.asList(entityClass, filterExpression.orElse(null));
+    }
+
+    /**
+     * Computes the key of a count of a relationship.
+     *
+     * @param parentType The type of the owner of the relationship
+     * @param parentId The id of the owner of the relationship
+     * @param relationName The relationship
+     * @param filterExpression The filter expression
+     * @return the key
+     */
+    public static List<Object> getKey(Class<?> parentType, Object parentId, String relationName,
+                                      Optional<FilterExpression> filterExpression) {
+        return Arrays.asList(parentType, parentId, relationName, filterExpression.orElse(null));
+    }
+}
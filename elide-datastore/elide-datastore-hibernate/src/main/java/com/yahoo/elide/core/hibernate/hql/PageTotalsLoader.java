@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+
+import java.util.Optional;
+
+/**
+ * Sets the page totals of root collections and relationships, reusing counts from the {@link PageTotalsCache} of the
+ * data store when the request allows it.
+ *
+ * Data stores supply how count queries are run.
+ */
+public abstract class PageTotalsLoader {
+
+    private final Session session;
+
+    protected PageTotalsLoader(Session session) {
+        this.session = session;
+    }
+
+    /**
+     * Runs a count query built by this loader.
+     *
+     * @param query the query
+     * @return the count
+     */
+    protected abstract Long uniqueResult(Query query);
+
+    /**
+     * Gets the query options of the data store, which hold the cache of page totals.
+     *
+     * @return the query options of the data store
+     */
+    protected abstract HQLQueryOptions getQueryOptions();
+
+    /**
+     * Sets the page totals of a root collection.
+     *
+     * @param pagination The pagination of the request
+     * @param entityClass The entity type to count
+     * @param filterExpression optional security and request filters
+     * @param dictionary the entity dictionary
+     */
+    public void setPageTotals(Pagination pagination,
+                              Class<?> entityClass,
+                              Optional<FilterExpression> filterExpression,
+                              EntityDictionary dictionary) {
+        getQueryOptions().getPageTotalsCache().setPageTotals(pagination,
+                PageTotalsCache.getKey(entityClass, filterExpression),
+                () -> uniqueResult(new RootCollectionPageTotalsQueryBuilder(entityClass, dictionary, session)
+                        .withPossibleFilterExpression(filterExpression)
+                        .withQueryOptions(getQueryOptions())
+                        .build()));
+    }
+
+    /**
+     * Sets the page totals of a relationship.
+     *
+     * @param pagination The pagination of the request
+     * @param relationship The relationship to count
+     * @param filterExpression optional security and request filters
+     * @param dictionary the entity dictionary
+     */
+    public void setPageTotals(Pagination pagination,
+                              RelationshipImpl relationship,
+                              Optional<FilterExpression> filterExpression,
+                              EntityDictionary dictionary) {
+        getQueryOptions().getPageTotalsCache().setPageTotals(pagination,
+                PageTotalsCache.getKey(relationship.getParentType(), dictionary.getId(relationship.getParent()),
+                        relationship.getRelationshipName(), filterExpression),
+                () -> uniqueResult(new SubCollectionPageTotalsQueryBuilder(relationship, dictionary, session)
+                        .withPossibleFilterExpression(filterExpression)
+                        .withQueryOptions(getQueryOptions())
+                        .build()));
+    }
+}
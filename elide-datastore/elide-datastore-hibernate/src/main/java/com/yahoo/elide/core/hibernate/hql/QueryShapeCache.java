@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.sort.Sorting;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of generated HQL query text keyed by the shape of the query: the builder, the queried types,
+ * the structure of the filter expression (paths, operators, and parameter counts but not values), the sorting
+ * rules, whether pagination is present and the version of the registered JPQL generators.
+ *
+ * Query text is only cacheable because filter parameter names do not depend on filter values.  Each data store owns
+ * its cache through its {@link HQLQueryOptions}.
+ */
+public class QueryShapeCache {
+    public static final long DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final Cache<List<Object>, String> cache;
+
+    /**
+     * Constructor.
+     * @param maximumSize The maximum number of query shapes to retain.  Zero disables caching.
+     */
+    public QueryShapeCache(long maximumSize) {
+        cache = maximumSize > 0
+                ? CacheBuilder.newBuilder()
+                        .maximumSize(maximumSize)
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * Returns the cached query text for the given shape, generating and caching it on a miss.
+     * Failures to generate the query are not cached.
+     *
+     * @param shape The query shape
+     * @param generator Generates the query text
+     * @return The query text
+     */
+    public String get(List<Object> shape, Supplier<String> generator) {
+        if (cache == null) {
+            return generator.get();
+        }
+
+        String queryText = cache.getIfPresent(shape);
+        if (queryText == null) {
+            queryText = generator.get();
+            cache.put(shape, queryText);
+        }
+        return queryText;
+    }
+
+    /**
+     * Discards all cached queries.
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    public long getHitCount() {
+        return cache == null ? 0 : cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache == null ? 0 : cache.stats().missCount();
+    }
+
+    public long size() {
+        return cache == null ? 0 : cache.size();
+    }
+
+    /**
+     * Computes the shape of a query.
+     *
+     * @param builder The query builder class
+     * @param target Identifies what is being queried (entity class, relationship, etc)
+     * @param filterExpression The filter expression
+     * @param sorting The sorting rules
+     * @param paginated Whether or not the query is paginated
+     * @param filterTranslator The translator of the filter expression
+     * @return A key that is equal for any two queries that produce the same query text
+     */
+    public static List<Object> getShape(Class<? extends AbstractHQLQueryBuilder> builder,
+                                        Object target,
+                                        Optional<FilterExpression> filterExpression,
+                                        Optional<Sorting> sorting,
+                                        boolean paginated,
+                                        FilterTranslator filterTranslator) {
+        return Arrays.asList(
+                builder,
+                target,
+                filterExpression.map(fe -> fe.accept(new FilterShapeVisitor(filterTranslator))).orElse(null),
+                sorting.map(Sorting::getSortRules).map(rules -> rules.entrySet().toArray())
+                        .map(Arrays::asList).orElse(Collections.emptyList()),
+                paginated,
+                FilterTranslator.getGeneratorVersion());
+    }
+
+    /**
+     * Reduces a filter expression to its structure, numbering predicates in the same order as the
+     * {@link FilterTranslator}.
+     */
+    private static class FilterShapeVisitor implements FilterExpressionVisitor<Object> {
+        private final FilterTranslator filterTranslator;
+        private int ordinal = 0;
+
+        FilterShapeVisitor(FilterTranslator filterTranslator) {
+            this.filterTranslator = filterTranslator;
+        }
+
+        @Override
+        public Object visitPredicate(FilterPredicate filterPredicate) {
+            return Arrays.asList(
+                    filterPredicate.getPath(),
+                    filterPredicate.getOperator(),
+                    filterTranslator.getParameters(filterPredicate, ordinal++).size());
+        }
+
+        @Override
+        public Object visitAndExpression(AndFilterExpression expression) {
+            return Arrays.asList("AND", expression.getLeft().accept(this), expression.getRight().accept(this));
+        }
+
+        @Override
+        public Object visitOrExpression(OrFilterExpression expression) {
+            return Arrays.asList("OR", expression.getLeft().accept(this), expression.getRight().accept(this));
+        }
+
+        @Override
+        public Object visitNotExpression(NotFilterExpression expression) {
+            return Arrays.asList("NOT", expression.getNegated().accept(this));
+        }
+    }
+}
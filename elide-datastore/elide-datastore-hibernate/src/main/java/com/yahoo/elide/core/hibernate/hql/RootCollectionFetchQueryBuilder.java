@@ -6,14 +6,20 @@
 package com.yahoo.elide.core.hibernate.hql;
 
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RelationshipType;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.FilterPredicate;
-import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Constructs a HQL query to fetch a root collection.
@@ -21,6 +27,7 @@ import java.util.Collection;
 public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
 
     private Class<?> entityClass;
+    private Set<String> includedRelationships = Collections.emptySet();
 
     public RootCollectionFetchQueryBuilder(Class<?> entityClass,
                                            EntityDictionary dictionary,
@@ -29,6 +36,19 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         this.entityClass = dictionary.lookupEntityClass(entityClass);
     }
 
+    /**
+     * Eagerly fetches the to-one relationships along the given JSON-API include paths
+     * (for example, <code>publisher.editor</code>).  Each path is followed until the first to-many
+     * or computed relationship.
+     *
+     * @param includedRelationships The include paths requested by the client
+     * @return the builder
+     */
+    public RootCollectionFetchQueryBuilder withIncludedRelationships(Set<String> includedRelationships) {
+        this.includedRelationships = new TreeSet<>(includedRelationships);
+        return this;
+    }
+
     /**
      * Constructs a query that fetches a root collection.
      *
@@ -36,19 +56,33 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
      */
     @Override
     public Query build() {
-        String entityName = entityClass.getCanonicalName();
-        String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+        Query query = session.createQuery(getQueryText(
+                Arrays.asList(entityClass, includedRelationships),
+                this::buildQueryText));
 
-        Query query;
         if (filterExpression.isPresent()) {
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
+            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor(new ArrayList<>());
             Collection<FilterPredicate> predicates = filterExpression.get().accept(extractor);
 
+            //Fill in the query parameters
+            supplyFilterQueryParameters(query, predicates);
+        }
+
+        addPaginationToQuery(query);
+        return query;
+    }
+
+    private String buildQueryText() {
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = FilterPredicate.getTypeAlias(entityClass);
+
+        if (filterExpression.isPresent()) {
             //Build the WHERE clause
-            String filterClause = new FilterTranslator().apply(filterExpression.get(), USE_ALIAS);
+            String filterClause = queryOptions.getFilterTranslator().apply(filterExpression.get(), USE_ALIAS);
 
             //Build the JOIN clause
             String joinClause =  getJoinClauseFromFilters(filterExpression.get())
+                    + extractIncludeFetchJoins()
                     + extractToOneMergeJoins(entityClass, entityAlias);
 
             boolean requiresDistinct = pagination.isPresent() && containsOneToMany(filterExpression.get());
@@ -61,38 +95,76 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                 throw new InvalidValueException("Combination of pagination, sorting over relationship and"
                     + " filtering over toMany relationships unsupported");
             }
-            query = session.createQuery(
-                    SELECT
-                        + (requiresDistinct ? DISTINCT : "")
-                        + entityAlias
-                        + FROM
-                        + entityName
-                        + AS
-                        + entityAlias
-                        + SPACE
-                        + joinClause
-                        + SPACE
-                        + filterClause
-                        + SPACE
-                        + getSortClause(sorting, entityClass, USE_ALIAS)
-            );
-
-            //Fill in the query parameters
-            supplyFilterQueryParameters(query, predicates);
-        } else {
-            query = session.createQuery(SELECT
+            return SELECT
+                    + (requiresDistinct ? DISTINCT : "")
                     + entityAlias
                     + FROM
                     + entityName
                     + AS
                     + entityAlias
+                    + extractLazyAttributeFetch(entityClass)
                     + SPACE
-                    + extractToOneMergeJoins(entityClass, entityAlias)
+                    + joinClause
                     + SPACE
-                    + getSortClause(sorting, entityClass, USE_ALIAS));
+                    + filterClause
+                    + SPACE
+                    + getSortClause(sorting, entityClass, USE_ALIAS);
         }
 
-        addPaginationToQuery(query);
-        return query;
+        return SELECT
+                + entityAlias
+                + FROM
+                + entityName
+                + AS
+                + entityAlias
+                + extractLazyAttributeFetch(entityClass)
+                + SPACE
+                + extractIncludeFetchJoins()
+                + extractToOneMergeJoins(entityClass, entityAlias)
+                + SPACE
+                + getSortClause(sorting, entityClass, USE_ALIAS);
+    }
+
+    /**
+     * Builds a JOIN clause that fetches the chains of to-one relationships named by the include paths.
+     * Hops already joined by the filter are reused.  Since the filter only fetches the first hop and the ORM
+     * cannot fetch an association whose owner is not fetched, a chain stops at any deeper hop joined by the filter.
+     *
+     * @return The JOIN clause that can be added to the FROM clause.
+     */
+    private String extractIncludeFetchJoins() {
+        StringBuilder joinClause = new StringBuilder();
+        Set<String> fetchJoined = new HashSet<>();
+
+        for (String includePath : includedRelationships) {
+            Class<?> pathClass = entityClass;
+            String previousAlias = null;
+
+            for (String fieldName : includePath.split("\\.")) {
+                RelationshipType type = dictionary.getRelationshipType(pathClass, fieldName);
+                if (!type.isToOne() || type.isComputed()) {
+                    break;
+                }
+
+                String typeAlias = FilterPredicate.getTypeAlias(pathClass);
+                String alias = typeAlias + UNDERSCORE + fieldName;
+                String joinKey = (previousAlias == null ? typeAlias : previousAlias) + PERIOD + fieldName;
+
+                if (alreadyJoined.contains(joinKey)) {
+                    if (previousAlias != null && !fetchJoined.contains(joinKey)) {
+                        break;
+                    }
+                } else {
+                    joinClause.append(LEFT + JOIN + FETCH.trim() + SPACE + joinKey + SPACE + alias + SPACE);
+                    alreadyJoined.add(joinKey);
+                    fetchJoined.add(joinKey);
+                }
+
+                previousAlias = alias;
+                pathClass = dictionary.lookupEntityClass(dictionary.getParameterizedType(pathClass, fieldName));
+            }
+        }
+
+        return joinClause.toString();
     }
 }
@@ -7,15 +7,14 @@ package com.yahoo.elide.core.hibernate.hql;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
-import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Optional;
 
 /**
@@ -54,31 +53,36 @@ public class RootCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilde
      */
     @Override
     public Query build() {
+        Query query = session.createQuery(getQueryText(entityClass, this::buildQueryText));
+
+        Collection<FilterPredicate> predicates = filterExpression
+                .map(fe -> fe.accept(new PredicateExtractionVisitor(new ArrayList<>())))
+                .orElseGet(ArrayList::new);
+
+        supplyFilterQueryParameters(query, predicates);
+        return query;
+    }
+
+    private String buildQueryText() {
         String entityName = entityClass.getCanonicalName();
         String entityAlias = FilterPredicate.getTypeAlias(entityClass);
 
-        Collection<FilterPredicate> predicates;
-
         String filterClause;
         String joinClause;
 
         if (filterExpression.isPresent()) {
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
-            predicates = filterExpression.get().accept(extractor);
-
             //Build the WHERE clause
-            filterClause = new FilterTranslator().apply(filterExpression.get(), USE_ALIAS);
+            filterClause = queryOptions.getFilterTranslator().apply(filterExpression.get(), USE_ALIAS);
 
             //Build the JOIN clause
             joinClause =  getJoinClauseFromFilters(filterExpression.get(), true);
 
         } else {
-            predicates = new HashSet<>();
             filterClause = "";
             joinClause = "";
         }
 
-        Query query = session.createQuery("SELECT COUNT(DISTINCT "
+        return "SELECT COUNT(DISTINCT "
                 + entityAlias
                 + ") "
                 + FROM
@@ -88,9 +92,6 @@ public class RootCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilde
                 + SPACE
                 + joinClause
                 + SPACE
-                + filterClause
-        );
-        supplyFilterQueryParameters(query, predicates);
-        return query;
+                + filterClause;
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Constructs a HQL query to fetch the members of a relationship for many parents at once.
+ *
+ * If the relationship does not require filtering or sorting, the query fetch joins the relationship so that the
+ * ORM initializes the collection proxies of every parent.  Otherwise, the query returns (parent, child) pairs.
+ * Pagination is not supported since it applies to each parent's collection individually.
+ */
+public class SubCollectionBatchFetchQueryBuilder extends AbstractHQLQueryBuilder {
+
+    private final Class<?> parentType;
+    private final Class<?> childType;
+    private final String relationshipName;
+    private final Collection<?> parentIds;
+
+    public SubCollectionBatchFetchQueryBuilder(Class<?> parentType,
+                                               Class<?> childType,
+                                               String relationshipName,
+                                               Collection<?> parentIds,
+                                               EntityDictionary dictionary,
+                                               Session session) {
+        super(dictionary, session);
+        this.parentType = parentType;
+        this.childType = childType;
+        this.relationshipName = relationshipName;
+        this.parentIds = parentIds;
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(final Optional<Pagination> possiblePagination) {
+        if (possiblePagination.isPresent()) {
+            throw new UnsupportedOperationException("Relationships cannot be paginated for many parents at once");
+        }
+        return this;
+    }
+
+    @Override
+    protected String extractToOneMergeJoins(Class<?> entityClass, String alias) {
+        Function<String, Boolean> shouldSkip = (name) -> {
+            String inverseRelationName = dictionary.getRelationInverse(entityClass, name);
+            if (inverseRelationName.isEmpty()) {
+                return false;
+            }
+
+            Class<?> relationshipClass = dictionary.getParameterizedType(entityClass, name);
+
+            //The parent is already selected.
+            return relationshipClass.equals(parentType) && inverseRelationName.equals(relationshipName);
+        };
+
+        return extractToOneMergeJoins(entityClass, alias, shouldSkip);
+    }
+
+    /**
+     * Whether the query initializes the parents' collection proxies rather than returning (parent, child) pairs.
+     *
+     * @return true if the query fetch joins the relationship
+     */
+    public boolean isFetchJoin() {
+        return !filterExpression.isPresent() && (!sorting.isPresent() || sorting.get().isDefaultInstance());
+    }
+
+    /**
+     * Constructs a query that returns the members of a relationship for a collection of parents.
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        Query query = session.createQuery(getQueryText(
+                Arrays.asList(parentType, childType, relationshipName),
+                this::buildQueryText));
+
+        filterExpression.ifPresent(fe -> {
+            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor(new ArrayList<>());
+            Collection<FilterPredicate> predicates = fe.accept(extractor);
+
+            supplyFilterQueryParameters(query, predicates);
+        });
+
+        query.setParameterList(getParentIdsParameterName(), parentIds);
+
+        return query;
+    }
+
+    private String getParentAlias() {
+        return FilterPredicate.getTypeAlias(parentType) + "__fetch";
+    }
+
+    private String getParentIdsParameterName() {
+        return getParentAlias() + "_ids";
+    }
+
+    private String buildQueryText() {
+        String childAlias = FilterPredicate.getTypeAlias(childType);
+        String parentAlias = getParentAlias();
+        String parentName = parentType.getCanonicalName();
+        String parentIdsClause = parentAlias + PERIOD + dictionary.getIdFieldName(parentType)
+                + " IN (:" + getParentIdsParameterName() + ")";
+
+        if (isFetchJoin()) {
+            //SELECT DISTINCT parent FROM Parent parent LEFT JOIN FETCH parent.children WHERE parent.id IN (:ids)
+            return SELECT
+                    + DISTINCT
+                    + parentAlias
+                    + FROM
+                    + parentName + SPACE + parentAlias
+                    + LEFT + JOIN + FETCH.trim() + SPACE
+                    + parentAlias + PERIOD + relationshipName
+                    + " WHERE " + parentIdsClause;
+        }
+
+        return filterExpression.map(fe -> {
+            String filterClause = queryOptions.getFilterTranslator().apply(fe, USE_ALIAS);
+
+            String joinClause = getJoinClauseFromFilters(fe)
+                    + extractToOneMergeJoins(childType, childAlias);
+
+            //SELECT parent, parent_children FROM Parent parent JOIN parent.children parent_children
+            return SELECT
+                    + parentAlias + COMMA + SPACE + childAlias
+                    + FROM
+                    + parentName + SPACE + parentAlias
+                    + JOIN
+                    + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                    + extractLazyAttributeFetch(childType)
+                    + joinClause
+                    + SPACE
+                    + filterClause
+                    + " AND " + parentIdsClause
+                    + getSortClause(sorting, childType, USE_ALIAS);
+        }).orElseGet(() -> SELECT
+                + parentAlias + COMMA + SPACE + childAlias
+                + FROM
+                + parentName + SPACE + parentAlias
+                + JOIN
+                + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                + extractLazyAttributeFetch(childType)
+                + extractToOneMergeJoins(childType, childAlias)
+                + " WHERE " + parentIdsClause
+                + getSortClause(sorting, childType, USE_ALIAS));
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+import com.yahoo.elide.utils.coerce.CoerceUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Loads a to-many relationship of many parents with one query per {@link #MAX_BATCH_SIZE} parents.
+ *
+ * Only relationships backed by a persistent collection of the ORM are queried.  Data stores supply how queries are
+ * run and how the persistent collections of their ORM are recognized.
+ */
+public abstract class SubCollectionBatchLoader {
+
+    /**
+     * The maximum number of parents whose relationship is loaded by a single query.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final Session session;
+
+    protected SubCollectionBatchLoader(Session session) {
+        this.session = session;
+    }
+
+    /**
+     * Runs a query built by this loader.
+     *
+     * @param query the query
+     * @return the result rows
+     */
+    protected abstract List<?> list(Query query);
+
+    /**
+     * Gets the query options of the data store, such as its filter translator and query caches.
+     *
+     * @return the query options of the data store
+     */
+    protected abstract HQLQueryOptions getQueryOptions();
+
+    /**
+     * Tests whether a relationship value is an ORM collection which can be filled from a batch.
+     *
+     * @param value the value of a relationship
+     * @return whether the value is a collection managed by the ORM
+     */
+    protected abstract boolean isPersistentCollection(Object value);
+
+    /**
+     * Tests whether a persistent collection has already been fetched, in which case it is not batch loaded.
+     *
+     * @param entity the parent entity
+     * @param relationName the relationship
+     * @param value the persistent collection of the relationship
+     * @return whether the collection has been initialized
+     */
+    protected abstract boolean isLoaded(Object entity, String relationName, Object value);
+
+    /**
+     * Relationships can be loaded in batches when they are to-many and are not paginated, since pagination applies to
+     * each parent's collection individually.
+     *
+     * @param entities the parent entities, all of the same type
+     * @param relationName the relationship
+     * @param pagination the requested pagination
+     * @param dictionary the entity dictionary
+     * @return whether the relationship of the entities can be loaded in batches
+     */
+    public static boolean isBatchable(Collection<?> entities,
+                                      String relationName,
+                                      Optional<Pagination> pagination,
+                                      EntityDictionary dictionary) {
+        if (entities.isEmpty() || (pagination.isPresent() && !pagination.get().isDefaultInstance())) {
+            return false;
+        }
+        Class<?> parentType = dictionary.lookupEntityClass(entities.iterator().next().getClass());
+        return dictionary.getRelationshipType(parentType, relationName).isToMany();
+    }
+
+    /**
+     * Loads the members of a relationship for many parents.
+     *
+     * @param entities the parent entities, which must be {@link #isBatchable batchable}
+     * @param relationName the relationship
+     * @param filterExpression the filter applied to the members
+     * @param sorting the sorting applied to the members
+     * @param scope the request scope
+     * @param unbatched loads the relationship of a parent whose relationship is not a persistent collection
+     * @return the members of the relationship keyed by parent identity
+     */
+    public Map<Object, Object> getRelations(Collection<?> entities,
+                                            String relationName,
+                                            Optional<FilterExpression> filterExpression,
+                                            Optional<Sorting> sorting,
+                                            RequestScope scope,
+                                            Function<Object, Object> unbatched) {
+        EntityDictionary dictionary = scope.getDictionary();
+        Class<?> parentType = dictionary.lookupEntityClass(entities.iterator().next().getClass());
+        Class<?> relationClass = dictionary.getParameterizedType(parentType, relationName);
+        Class<?> idType = dictionary.getIdType(parentType);
+
+        /*
+         * Proxies which are already loaded only need a query if the data store must filter or sort them.
+         */
+        boolean queryRequired = filterExpression.isPresent() || sorting.isPresent();
+
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        Map<Object, Object> batch = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            Object val = PersistentResource.getValue(entity, relationName, scope);
+            if (isPersistentCollection(val) && (queryRequired || !isLoaded(entity, relationName, val))) {
+                batch.put(CoerceUtil.coerce(dictionary.getId(entity), idType), entity);
+            } else {
+                relations.put(entity, unbatched.apply(entity));
+            }
+        }
+
+        List<Object> batchIds = new ArrayList<>(batch.keySet());
+        for (int start = 0; start < batchIds.size(); start += MAX_BATCH_SIZE) {
+            List<Object> parentIds = batchIds.subList(start, Math.min(start + MAX_BATCH_SIZE, batchIds.size()));
+
+            SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(parentType,
+                    relationClass, relationName, parentIds, dictionary, session);
+            builder.withPossibleFilterExpression(filterExpression);
+            builder.withPossibleSorting(sorting);
+            builder.withPossibleProjection(scope.getSparseFields(relationClass));
+            builder.withQueryOptions(getQueryOptions());
+
+            List<?> results = list(builder.build());
+
+            if (builder.isFetchJoin()) {
+                //The proxies are now initialized.
+                parentIds.forEach(id -> relations.put(batch.get(id),
+                        PersistentResource.getValue(batch.get(id), relationName, scope)));
+                continue;
+            }
+
+            parentIds.forEach(id -> relations.put(batch.get(id), new ArrayList<>()));
+            for (Object result : results) {
+                Object[] row = (Object[]) result;
+                Object parent = batch.get(CoerceUtil.coerce(dictionary.getId(row[0]), idType));
+                ((List<Object>) relations.get(parent)).add(row[1]);
+            }
+        }
+        return relations;
+    }
+
+    /**
+     * Loads the identifiers of the members of a relationship for many parents without loading the members.
+     *
+     * @param entities the parent entities, which must be {@link #isBatchable batchable}
+     * @param relationName the relationship
+     * @param scope the request scope
+     * @param unbatched reads the identifiers of parents whose relationship is already loaded
+     * @return the identifiers of the members, formatted like {@link EntityDictionary#getId}, keyed by parent identity
+     */
+    public Map<Object, Collection<String>> getRelationIds(
+            Collection<?> entities,
+            String relationName,
+            RequestScope scope,
+            Function<Collection<?>, Map<Object, Collection<String>>> unbatched) {
+        EntityDictionary dictionary = scope.getDictionary();
+        Class<?> parentType = dictionary.lookupEntityClass(entities.iterator().next().getClass());
+        Class<?> relationClass = dictionary.getParameterizedType(parentType, relationName);
+        Class<?> idType = dictionary.getIdType(parentType);
+        Class<?> relationIdType = dictionary.getIdType(relationClass);
+
+        /*
+         * Collections which are already loaded are read directly.  Otherwise, only the identifiers are queried.
+         */
+        List<Object> loaded = new ArrayList<>();
+        Map<Object, Object> batch = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            Object val = PersistentResource.getValue(entity, relationName, scope);
+            if (isPersistentCollection(val) && !isLoaded(entity, relationName, val)) {
+                batch.put(CoerceUtil.coerce(dictionary.getId(entity), idType), entity);
+            } else {
+                loaded.add(entity);
+            }
+        }
+
+        Map<Object, Collection<String>> relationIds = new IdentityHashMap<>(unbatched.apply(loaded));
+
+        List<Object> batchIds = new ArrayList<>(batch.keySet());
+        for (int start = 0; start < batchIds.size(); start += MAX_BATCH_SIZE) {
+            List<Object> parentIds = batchIds.subList(start, Math.min(start + MAX_BATCH_SIZE, batchIds.size()));
+
+            Query query = new SubCollectionIdsQueryBuilder(parentType, relationClass,
+                    relationName, parentIds, dictionary, session)
+                    .withQueryOptions(getQueryOptions())
+                    .build();
+
+            parentIds.forEach(id -> relationIds.put(batch.get(id), new ArrayList<>()));
+            for (Object result : list(query)) {
+                Object[] row = (Object[]) result;
+                Object parent = batch.get(CoerceUtil.coerce(row[0], idType));
+
+                //Identifiers are coerced to the declared type of the id field, as EntityDictionary.getId reads it.
+                relationIds.get(parent).add(String.valueOf(CoerceUtil.coerce(row[1], relationIdType)));
+            }
+        }
+        return relationIds;
+    }
+}
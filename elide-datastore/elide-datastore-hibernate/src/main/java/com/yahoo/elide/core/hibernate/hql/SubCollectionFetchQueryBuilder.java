@@ -7,11 +7,12 @@ package com.yahoo.elide.core.hibernate.hql;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.filter.FilterPredicate;
-import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.hibernate.Query;
 import com.yahoo.elide.core.hibernate.Session;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.function.Function;
 
@@ -61,50 +62,61 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
             return null;
         }
 
+        String parentAlias = FilterPredicate.getTypeAlias(relationship.getParentType()) + "__fetch";
+
+        Query query = session.createQuery(getQueryText(
+                Arrays.asList(relationship.getParentType(), relationship.getChildType(),
+                        relationship.getRelationshipName()),
+                this::buildQueryText));
+
+        filterExpression.ifPresent(fe -> {
+            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor(new ArrayList<>());
+            Collection<FilterPredicate> predicates = fe.accept(extractor);
+
+            supplyFilterQueryParameters(query, predicates);
+        });
+
+        query.setParameter(parentAlias, relationship.getParent());
+
+        addPaginationToQuery(query);
+        return query;
+    }
+
+    private String buildQueryText() {
         String childAlias = FilterPredicate.getTypeAlias(relationship.getChildType());
         String parentAlias = FilterPredicate.getTypeAlias(relationship.getParentType()) + "__fetch";
         String parentName = relationship.getParentType().getCanonicalName();
         String relationshipName = relationship.getRelationshipName();
 
-        Query query = filterExpression.map(fe -> {
-            PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
-            Collection<FilterPredicate> predicates = fe.accept(extractor);
-            String filterClause = new FilterTranslator().apply(fe, USE_ALIAS);
+        return filterExpression.map(fe -> {
+            String filterClause = queryOptions.getFilterTranslator().apply(fe, USE_ALIAS);
 
             String joinClause =  getJoinClauseFromFilters(filterExpression.get())
                     + extractToOneMergeJoins(relationship.getChildType(), childAlias);
 
             //SELECT parent_children from Parent parent JOIN parent.children parent_children
-            Query q = session.createQuery(SELECT
-                            + childAlias
-                            + FROM
-                            + parentName + SPACE + parentAlias
-                            + JOIN
-                            + parentAlias + PERIOD + relationshipName + SPACE + childAlias
-                            + joinClause
-                            + SPACE
-                            + filterClause
-                            + " AND " + parentAlias + "=:" + parentAlias
-                            + SPACE
-                            + getSortClause(sorting, relationship.getChildType(), USE_ALIAS)
-            );
-
-            supplyFilterQueryParameters(q, predicates);
-            return q;
-        }).orElse(session.createQuery(SELECT
-                            + childAlias
-                            + FROM
-                            + parentName + SPACE + parentAlias
-                            + JOIN
-                            + parentAlias + PERIOD + relationshipName + SPACE + childAlias
-                            + extractToOneMergeJoins(relationship.getChildType(), childAlias)
-                            + " WHERE " + parentAlias + "=:" + parentAlias
-                            + getSortClause(sorting, relationship.getChildType(), USE_ALIAS)
-        ));
-
-        query.setParameter(parentAlias, relationship.getParent());
-
-        addPaginationToQuery(query);
-        return query;
+            return SELECT
+                    + childAlias
+                    + FROM
+                    + parentName + SPACE + parentAlias
+                    + JOIN
+                    + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                    + extractLazyAttributeFetch(relationship.getChildType())
+                    + joinClause
+                    + SPACE
+                    + filterClause
+                    + " AND " + parentAlias + "=:" + parentAlias
+                    + SPACE
+                    + getSortClause(sorting, relationship.getChildType(), USE_ALIAS);
+        }).orElseGet(() -> SELECT
+                + childAlias
+                + FROM
+                + parentName + SPACE + parentAlias
+                + JOIN
+                + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                + extractLazyAttributeFetch(relationship.getChildType())
+                + extractToOneMergeJoins(relationship.getChildType(), childAlias)
+                + " WHERE " + parentAlias + "=:" + parentAlias
+                + getSortClause(sorting, relationship.getChildType(), USE_ALIAS));
     }
 }
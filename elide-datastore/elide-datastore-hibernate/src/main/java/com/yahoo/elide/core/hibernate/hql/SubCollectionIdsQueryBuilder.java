@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.hibernate.hql;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.Session;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Constructs a HQL query that returns (parent id, child id) pairs for the members of a relationship
+ * for many parents at once.  The related entities are never loaded.
+ */
+public class SubCollectionIdsQueryBuilder extends AbstractHQLQueryBuilder {
+
+    private final Class<?> parentType;
+    private final Class<?> childType;
+    private final String relationshipName;
+    private final Collection<?> parentIds;
+
+    public SubCollectionIdsQueryBuilder(Class<?> parentType,
+                                        Class<?> childType,
+                                        String relationshipName,
+                                        Collection<?> parentIds,
+                                        EntityDictionary dictionary,
+                                        Session session) {
+        super(dictionary, session);
+        this.parentType = parentType;
+        this.childType = childType;
+        this.relationshipName = relationshipName;
+        this.parentIds = parentIds;
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleFilterExpression(Optional<FilterExpression> filterExpression) {
+        if (filterExpression.isPresent()) {
+            throw new UnsupportedOperationException("Relationship identifiers cannot be filtered");
+        }
+        return this;
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossibleSorting(final Optional<Sorting> possibleSorting) {
+        if (possibleSorting.isPresent()) {
+            throw new UnsupportedOperationException("Relationship identifiers cannot be sorted");
+        }
+        return this;
+    }
+
+    @Override
+    public AbstractHQLQueryBuilder withPossiblePagination(final Optional<Pagination> possiblePagination) {
+        if (possiblePagination.isPresent()) {
+            throw new UnsupportedOperationException("Relationship identifiers cannot be paginated");
+        }
+        return this;
+    }
+
+    /**
+     * Constructs a query that returns the identifiers of the members of a relationship for a collection of parents.
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        Query query = session.createQuery(getQueryText(
+                Arrays.asList(parentType, childType, relationshipName),
+                this::buildQueryText));
+
+        query.setParameterList(getParentIdsParameterName(), parentIds);
+
+        return query;
+    }
+
+    private String getParentAlias() {
+        return FilterPredicate.getTypeAlias(parentType) + "__fetch";
+    }
+
+    private String getParentIdsParameterName() {
+        return getParentAlias() + "_ids";
+    }
+
+    private String buildQueryText() {
+        String childAlias = FilterPredicate.getTypeAlias(childType);
+        String parentAlias = getParentAlias();
+        String parentIdField = parentAlias + PERIOD + dictionary.getIdFieldName(parentType);
+
+        //SELECT parent.id, parent_children.id FROM Parent parent JOIN parent.children parent_children
+        return SELECT
+                + parentIdField + COMMA + SPACE
+                + childAlias + PERIOD + dictionary.getIdFieldName(childType)
+                + FROM
+                + parentType.getCanonicalName() + SPACE + parentAlias
+                + JOIN
+                + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                + " WHERE " + parentIdField + " IN (:" + getParentIdsParameterName() + ")";
+    }
+}
@@ -8,7 +8,6 @@ package com.yahoo.elide.core.hibernate.hql;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path.PathElement;
 import com.yahoo.elide.core.filter.FilterPredicate;
-import com.yahoo.elide.core.filter.FilterTranslator;
 import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.ExpressionScopingVisitor;
@@ -21,6 +20,7 @@ import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.utils.coerce.CoerceUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -74,14 +74,7 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
         FilterPredicate idExpression = new InPredicate(new PathElement(parentType, idType, idField), idVal);
 
         Collection<FilterPredicate> predicates = new ArrayList<>();
-        String joinClause = "";
-        String filterClause = "";
-
-        String relationshipName = relationship.getRelationshipName();
-
-        //Relationship alias is Author_books
-        String parentAlias = FilterPredicate.getTypeAlias(parentType);
-        String relationshipAlias = parentAlias + UNDERSCORE + relationshipName;
+        FilterExpression joinedExpression = idExpression;
 
         if (filterExpression.isPresent()) {
             // Copy and scope the filter expression for the join clause
@@ -96,18 +89,34 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
             PredicateExtractionVisitor extractor = new PredicateExtractionVisitor(new ArrayList<>());
 
             predicates = scoped.accept(extractor);
-            predicates.add(idExpression);
 
             //Join together the provided filter expression with the expression which selects the collection owner.
-            FilterExpression joinedExpression = new AndFilterExpression(scoped, idExpression);
+            joinedExpression = new AndFilterExpression(scoped, idExpression);
+        }
+        predicates.add(idExpression);
 
+        FilterExpression expression = joinedExpression;
+        Query query = session.createQuery(getQueryText(
+                Arrays.asList(parentType, relationship.getChildType(), relationship.getRelationshipName()),
+                () -> buildQueryText(parentType, expression)));
+
+        //Fill in the query parameters
+        supplyFilterQueryParameters(query, predicates);
+        return query;
+    }
+
+    private String buildQueryText(Class<?> parentType, FilterExpression joinedExpression) {
+        String joinClause;
+        String relationshipName = relationship.getRelationshipName();
+
+        //Relationship alias is Author_books
+        String parentAlias = FilterPredicate.getTypeAlias(parentType);
+        String relationshipAlias = parentAlias + UNDERSCORE + relationshipName;
+
+        if (filterExpression.isPresent()) {
             //Build the JOIN clause from the filter predicate
             joinClause = getJoinClauseFromFilters(joinedExpression, true);
-
-            //Build the WHERE clause
-            filterClause = new FilterTranslator().apply(joinedExpression, USE_ALIAS);
         } else {
-
             //If there is no filter, we still need to explicitly JOIN book and authors.
             joinClause = JOIN
                     + parentAlias
@@ -115,26 +124,21 @@ public class SubCollectionPageTotalsQueryBuilder extends AbstractHQLQueryBuilder
                     + SPACE
                     + relationshipAlias
                     + SPACE;
-
-            filterClause = new FilterTranslator().apply(idExpression, USE_ALIAS);
-            predicates.add(idExpression);
         }
 
-        Query query = session.createQuery(
-                "SELECT COUNT(DISTINCT "
-                        + relationshipAlias
-                        + ") "
-                        + FROM
-                        + parentType.getCanonicalName()
-                        + AS
-                        + parentAlias
-                        + SPACE
-                        + joinClause
-                        + SPACE
-                        + filterClause);
-
-        //Fill in the query parameters
-        supplyFilterQueryParameters(query, predicates);
-        return query;
+        //Build the WHERE clause
+        String filterClause = queryOptions.getFilterTranslator().apply(joinedExpression, USE_ALIAS);
+
+        return "SELECT COUNT(DISTINCT "
+                + relationshipAlias
+                + ") "
+                + FROM
+                + parentType.getCanonicalName()
+                + AS
+                + parentAlias
+                + SPACE
+                + joinClause
+                + SPACE
+                + filterClause;
     }
 }
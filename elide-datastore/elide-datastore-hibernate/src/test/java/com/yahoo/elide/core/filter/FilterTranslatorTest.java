@@ -66,11 +66,11 @@ public class FilterTranslatorTest {
         FilterTranslator filterOp = new FilterTranslator();
         String query = filterOp.apply(not, false);
 
-        String p1Params = p1.getParameters().stream()
+        String p1Params = p1.getParameters(3).stream()
                 .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String p2Params = p2.getParameters().stream()
+        String p2Params = p2.getParameters(0).stream()
                 .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String p3Params = p3.getParameters().stream()
+        String p3Params = p3.getParameters(1).stream()
                 .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
         String expected = "WHERE NOT (((name IN (" + p2Params + ") OR genre IN (" + p3Params + ")) "
                 + "AND (authors IS NOT EMPTY AND authors.name IN (" + p1Params + "))))";
@@ -90,9 +90,9 @@ public class FilterTranslatorTest {
         FilterTranslator filterOp = new FilterTranslator();
         String query = filterOp.apply(and, false);
 
-        String p1Params = p1.getParameters().stream()
+        String p1Params = p1.getParameters(0).stream()
                 .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
-        String p2Params = p2.getParameters().stream()
+        String p2Params = p2.getParameters(1).stream()
                 .map(FilterPredicate.FilterParameter::getPlaceholder).collect(Collectors.joining(", "));
         String expected = "WHERE (" + p1Params + " MEMBER OF awards "
                 + "AND " + p2Params + " NOT MEMBER OF awards)";
@@ -169,4 +169,40 @@ public class FilterTranslatorTest {
             FilterTranslator.registerJPQLGenerator(Operator.INFIX_CASE_INSENSITIVE, old);
         }
     }
+
+    @Test
+    public void testParameterNamesIgnoreValues() throws Exception {
+        List<Path.PathElement> path = Arrays.asList(
+                new Path.PathElement(Book.class, String.class, "name")
+        );
+        FilterTranslator filterOp = new FilterTranslator();
+
+        String first = filterOp.apply(new OrFilterExpression(
+                new InPredicate(new Path(path), "foo"),
+                new InPredicate(new Path(path), "bar")), false);
+        String second = filterOp.apply(new OrFilterExpression(
+                new InPredicate(new Path(path), "baz"),
+                new InPredicate(new Path(path), "qux")), false);
+
+        assertEquals("WHERE (name IN (:name_0_0) OR name IN (:name_1_0))", first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testInListPadding() throws Exception {
+        List<Path.PathElement> path = Arrays.asList(
+                new Path.PathElement(Book.class, String.class, "name")
+        );
+        FilterPredicate in = new InPredicate(new Path(path), "a", "b", "c");
+        FilterPredicate single = new InPredicate(new Path(path), "a");
+        FilterPredicate lessThan = new FilterPredicate(new Path(path), Operator.LT, Arrays.asList("a", "b", "c"));
+
+        FilterTranslator padding = new FilterTranslator(true);
+        assertEquals("name IN (:name_0_0, :name_0_1, :name_0_2, :name_0_3)", padding.apply(in));
+        assertEquals("name IN (:name_0_0)", padding.apply(single));
+        assertEquals("c", padding.getParameters(in, 0).get(3).getValue());
+        assertEquals(3, padding.getParameters(lessThan, 0).size());
+
+        assertEquals("name IN (:name_0_0, :name_0_1, :name_0_2)", new FilterTranslator().apply(in));
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.datastore.DataStoreMetrics;
+import com.yahoo.elide.core.datastore.DataStoreMetrics.Operation;
+import com.yahoo.elide.core.hibernate.DeferredOperations;
+
+import example.Author;
+import example.Book;
+import example.Editor;
+import example.Publisher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+public class DeferredOperationsTest {
+    private EntityDictionary dictionary;
+    private DeferredOperations operations;
+    private List<String> executed;
+    private List<String> batches;
+    private DataStoreMetrics metrics;
+
+    @BeforeEach
+    public void setup() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Editor.class);
+
+        operations = new DeferredOperations();
+        executed = new ArrayList<>();
+        batches = new ArrayList<>();
+        metrics = new DataStoreMetrics() {
+            @Override
+            public void writeBatchFlushed(Class<?> entityClass, Operation operation, int size) {
+                batches.add(operation + " " + entityClass.getSimpleName() + " " + size);
+            }
+        };
+
+        operations.add(Operation.CREATE, new Author(), () -> executed.add("author1"));
+        operations.add(Operation.CREATE, new Book(), () -> executed.add("book1"));
+        operations.add(Operation.UPDATE, new Author(), () -> executed.add("author2"));
+        operations.add(Operation.CREATE, new Author(), () -> executed.add("author3"));
+        operations.add(Operation.CREATE, new Book(), () -> executed.add("book2"));
+        operations.add(Operation.DELETE, new Book(), () -> executed.add("book3"));
+    }
+
+    @Test
+    public void testUnbatched() {
+        operations.run(1, dictionary, metrics);
+
+        assertEquals(Arrays.asList("author1", "book1", "author2", "author3", "book2", "book3"), executed);
+        assertTrue(batches.isEmpty());
+        assertTrue(operations.isEmpty());
+    }
+
+    @Test
+    public void testBatched() {
+        operations.run(50, dictionary, metrics);
+
+        assertEquals(Arrays.asList("author1", "author3", "book1", "book2", "author2", "book3"), executed);
+        assertEquals(Arrays.asList("CREATE Author 2", "CREATE Book 2", "UPDATE Author 1", "DELETE Book 1"), batches);
+        assertTrue(operations.isEmpty());
+    }
+
+    @Test
+    public void testBatchesAreBoundedByBatchSize() {
+        operations.add(Operation.CREATE, new Author(), () -> executed.add("author4"));
+        operations.add(Operation.CREATE, new Author(), () -> executed.add("author5"));
+
+        operations.run(3, dictionary, metrics);
+
+        assertEquals(Arrays.asList("author1", "author3", "author4", "author5", "book1", "book2", "author2", "book3"),
+                executed);
+        assertEquals(Arrays.asList("CREATE Author 3", "CREATE Author 1", "CREATE Book 2", "UPDATE Author 1",
+                "DELETE Book 1"), batches);
+        assertTrue(operations.isEmpty());
+    }
+
+    @Test
+    public void testBatchedCreatesFollowReferencedTypes() {
+        operations.clear();
+        operations.add(Operation.CREATE, new Book(), () -> executed.add("book0"));
+        operations.add(Operation.CREATE, new Publisher(), () -> executed.add("publisher1"));
+        operations.add(Operation.CREATE, new Book(), () -> executed.add("book1"));
+
+        operations.run(50, dictionary, metrics);
+
+        //Books reference their publisher, which must be inserted first.
+        assertEquals(Arrays.asList("publisher1", "book0", "book1"), executed);
+        assertEquals(Arrays.asList("CREATE Publisher 1", "CREATE Book 2"), batches);
+    }
+
+    @Test
+    public void testBatchedDeletesPrecedeReferencedTypes() {
+        operations.clear();
+        operations.add(Operation.DELETE, new Publisher(), () -> executed.add("publisher0"));
+        operations.add(Operation.DELETE, new Book(), () -> executed.add("book1"));
+        operations.add(Operation.DELETE, new Publisher(), () -> executed.add("publisher1"));
+
+        operations.run(50, dictionary, metrics);
+
+        //Books reference their publisher, which must be deleted last.
+        assertEquals(Arrays.asList("book1", "publisher0", "publisher1"), executed);
+        assertEquals(Arrays.asList("DELETE Book 1", "DELETE Publisher 2"), batches);
+    }
+
+    @Test
+    public void testNotReorderedWithoutDictionary() {
+        operations.run(50, null, metrics);
+
+        assertEquals(Arrays.asList("author1", "book1", "author2", "author3", "book2", "book3"), executed);
+        assertEquals(Arrays.asList("CREATE Author 1", "CREATE Book 1", "UPDATE Author 1", "CREATE Author 1",
+                "CREATE Book 1", "DELETE Book 1"), batches);
+    }
+}
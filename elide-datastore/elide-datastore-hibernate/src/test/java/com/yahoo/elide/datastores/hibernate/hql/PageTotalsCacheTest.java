@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.annotation.Paginate;
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.filter.dialect.CaseSensitivityStrategy;
+import com.yahoo.elide.core.filter.dialect.ParseException;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
+import com.yahoo.elide.core.hibernate.hql.PageTotalsCache;
+import com.yahoo.elide.core.pagination.Pagination;
+
+import example.Book;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PageTotalsCacheTest {
+    private EntityDictionary dictionary;
+    private RSQLFilterDialect filterParser;
+    private PageTotalsCache cache;
+    private AtomicLong counts;
+
+    @BeforeEach
+    public void setup() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        filterParser = new RSQLFilterDialect(dictionary, new CaseSensitivityStrategy.UseColumnCollation());
+        cache = new PageTotalsCache(PageTotalsCache.DEFAULT_MAXIMUM_SIZE, 1, TimeUnit.MINUTES);
+        counts = new AtomicLong();
+    }
+
+    @Test
+    public void testExactTotalsAreCounted() throws ParseException {
+        List<Object> key = PageTotalsCache.getKey(Book.class, filter("title==Dune"));
+
+        Pagination first = pagination(ExactTotals.class);
+        cache.setPageTotals(first, key, this::count);
+        Pagination second = pagination(ExactTotals.class);
+        cache.setPageTotals(second, key, this::count);
+
+        assertEquals(2, counts.get());
+        assertEquals(2, second.getPageTotals());
+        assertFalse(second.isPageTotalsApproximate());
+    }
+
+    @Test
+    public void testCachedTotalsAreApproximate() throws ParseException {
+        Pagination first = pagination(CachedTotals.class);
+        cache.setPageTotals(first, PageTotalsCache.getKey(Book.class, filter("title==Dune")), this::count);
+        assertEquals(1, first.getPageTotals());
+        assertFalse(first.isPageTotalsApproximate());
+
+        Pagination second = pagination(CachedTotals.class);
+        cache.setPageTotals(second, PageTotalsCache.getKey(Book.class, filter("title==Dune")), this::count);
+        assertEquals(1, counts.get());
+        assertEquals(1, second.getPageTotals());
+        assertTrue(second.isPageTotalsApproximate());
+        assertEquals(1, cache.getHitCount());
+
+        // Other filter values are counted separately
+        Pagination third = pagination(CachedTotals.class);
+        cache.setPageTotals(third, PageTotalsCache.getKey(Book.class, filter("title==Hyperion")), this::count);
+        assertEquals(2, counts.get());
+        assertFalse(third.isPageTotalsApproximate());
+    }
+
+    @Test
+    public void testRelationshipKeys() throws ParseException {
+        assertEquals(PageTotalsCache.getKey(Book.class, "1", "authors", filter("title==Dune")),
+                PageTotalsCache.getKey(Book.class, "1", "authors", filter("title==Dune")));
+        assertNotEquals(PageTotalsCache.getKey(Book.class, "1", "authors", filter("title==Dune")),
+                PageTotalsCache.getKey(Book.class, "2", "authors", filter("title==Dune")));
+        assertNotEquals(PageTotalsCache.getKey(Book.class, "1", "authors", Optional.empty()),
+                PageTotalsCache.getKey(Book.class, "1", "chapters", Optional.empty()));
+    }
+
+    @Test
+    public void testCachesAreOwnedByQueryOptions() throws ParseException {
+        List<Object> key = PageTotalsCache.getKey(Book.class, filter("title==Dune"));
+        PageTotalsCache first = new HQLQueryOptions().getPageTotalsCache();
+        PageTotalsCache second = new HQLQueryOptions().getPageTotalsCache();
+
+        first.setPageTotals(pagination(CachedTotals.class), key, this::count);
+        Pagination other = pagination(CachedTotals.class);
+        second.setPageTotals(other, key, this::count);
+
+        assertEquals(2, counts.get());
+        assertFalse(other.isPageTotalsApproximate());
+    }
+
+    @Test
+    public void testZeroSizeDisablesCaching() throws ParseException {
+        List<Object> key = PageTotalsCache.getKey(Book.class, filter("title==Dune"));
+        PageTotalsCache uncached = new HQLQueryOptions.Builder()
+                .withPageTotalsCacheSize(0)
+                .build()
+                .getPageTotalsCache();
+
+        uncached.setPageTotals(pagination(CachedTotals.class), key, this::count);
+        Pagination second = pagination(CachedTotals.class);
+        uncached.setPageTotals(second, key, this::count);
+
+        assertEquals(2, counts.get());
+        assertEquals(2, second.getPageTotals());
+        assertFalse(second.isPageTotalsApproximate());
+        assertEquals(0, uncached.size());
+    }
+
+    private long count() {
+        return counts.incrementAndGet();
+    }
+
+    private Optional<FilterExpression> filter(String filter) throws ParseException {
+        return Optional.of(filterParser.parseFilterExpression(filter, Book.class, true));
+    }
+
+    private static Pagination pagination(Class<?> paginated) {
+        return Pagination.fromOffsetAndLimit(10, 0, true).evaluate(paginated);
+    }
+
+    private static class ExactTotals {
+    }
+
+    @Paginate(totals = Paginate.Totals.CACHED)
+    private static class CachedTotals {
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.FilterTranslator;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.dialect.CaseSensitivityStrategy;
+import com.yahoo.elide.core.filter.dialect.ParseException;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
+import com.yahoo.elide.core.hibernate.hql.QueryShapeCache;
+import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashMap;
+import java.util.Optional;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class QueryShapeCacheTest {
+    private EntityDictionary dictionary;
+    private RSQLFilterDialect filterParser;
+    private HQLQueryOptions queryOptions;
+    private QueryShapeCache cache;
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+        filterParser = new RSQLFilterDialect(dictionary, new CaseSensitivityStrategy.UseColumnCollation());
+    }
+
+    @BeforeEach
+    public void setupCache() {
+        queryOptions = new HQLQueryOptions();
+        cache = queryOptions.getQueryShapeCache();
+    }
+
+    @Test
+    public void testSameShapeDifferentValuesHits() throws ParseException {
+        TestQueryWrapper first = fetch("title=in=('ABC','DEF')", Optional.empty());
+        TestQueryWrapper second = fetch("title=in=('GHI','JKL')", Optional.empty());
+
+        assertEquals(first.getQueryText(), second.getQueryText());
+        assertEquals("JKL", second.getParameters().get("title_0_1"));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testDifferentShapesMiss() throws ParseException {
+        TestQueryWrapper first = fetch("title=in=('ABC','DEF')", Optional.empty());
+        TestQueryWrapper second = fetch("title=in=('ABC')", Optional.empty());
+        TestQueryWrapper third = fetch("title=in=('ABC')", Optional.of(Sorting.parseSortRule("-title")));
+        TestQueryWrapper fourth = fetch("genre=in=('ABC')", Optional.of(Sorting.parseSortRule("-title")));
+
+        assertNotEquals(first.getQueryText(), second.getQueryText());
+        assertNotEquals(second.getQueryText(), third.getQueryText());
+        assertNotEquals(third.getQueryText(), fourth.getQueryText());
+        assertEquals(4, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void testPaginationIsPartOfShape() throws ParseException {
+        FilterExpression expression = filterParser.parseFilterExpression("books.title=='ABC'", Author.class, true);
+
+        TestQueryWrapper unpaginated = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Author.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(expression))
+                .withQueryOptions(queryOptions)
+                .build();
+
+        TestQueryWrapper paginated = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Author.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(expression))
+                .withPossiblePagination(Optional.of(Pagination.fromOffsetAndLimit(10, 0, false)))
+                .withQueryOptions(queryOptions)
+                .build();
+
+        assertNotEquals(unpaginated.getQueryText(), paginated.getQueryText());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testFailuresAreNotCached() throws ParseException {
+        FilterExpression expression = filterParser.parseFilterExpression("books.title=='ABC'", Author.class, true);
+
+        for (int i = 0; i < 2; i++) {
+            RootCollectionFetchQueryBuilder builder = new RootCollectionFetchQueryBuilder(
+                    Author.class, dictionary, new TestSessionWrapper());
+            builder.withPossibleFilterExpression(Optional.of(expression));
+            builder.withPossiblePagination(Optional.of(Pagination.fromOffsetAndLimit(10, 0, false)));
+            builder.withPossibleSorting(Optional.of(Sorting.parseSortRule("-books.title")));
+            builder.withQueryOptions(queryOptions);
+
+            assertThrows(InvalidValueException.class, builder::build);
+        }
+
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testRegisteringGeneratorInvalidates() throws ParseException {
+        TestQueryWrapper before = fetch("title=in=('ABC')", Optional.empty());
+
+        FilterTranslator.registerJPQLGenerator(Operator.IN, Book.class, "title", (alias, params) -> "1 = 1");
+        try {
+            TestQueryWrapper after = fetch("title=in=('ABC')", Optional.empty());
+
+            assertNotEquals(before.getQueryText(), after.getQueryText());
+            assertTrue(after.getQueryText().contains("1 = 1"));
+            assertEquals(2, cache.getMissCount());
+            assertEquals(0, cache.getHitCount());
+        } finally {
+            FilterTranslator.registerJPQLGenerator(Operator.IN, Book.class, "title", null);
+        }
+    }
+
+    @Test
+    public void testCachesAreOwnedByQueryOptions() throws ParseException {
+        fetch("title=in=('ABC')", Optional.empty());
+
+        HQLQueryOptions otherOptions = new HQLQueryOptions();
+        new RootCollectionFetchQueryBuilder(Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(
+                        filterParser.parseFilterExpression("title=in=('DEF')", Book.class, true)))
+                .withQueryOptions(otherOptions)
+                .build();
+
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, otherOptions.getQueryShapeCache().getMissCount());
+        assertEquals(1, otherOptions.getQueryShapeCache().size());
+    }
+
+    @Test
+    public void testNoCachingOptions() throws ParseException {
+        QueryShapeCache uncached = HQLQueryOptions.NO_CACHING.getQueryShapeCache();
+        new RootCollectionFetchQueryBuilder(Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(
+                        filterParser.parseFilterExpression("title=in=('ABC')", Book.class, true)))
+                .build();
+
+        assertEquals(0, uncached.size());
+        assertEquals(0, uncached.getMissCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    private TestQueryWrapper fetch(String filter, Optional<Sorting> sorting) throws ParseException {
+        return (TestQueryWrapper) new RootCollectionFetchQueryBuilder(Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(filterParser.parseFilterExpression(filter, Book.class, true)))
+                .withPossibleSorting(sorting)
+                .withQueryOptions(queryOptions)
+                .build();
+    }
+}
@@ -7,6 +7,7 @@ package com.yahoo.elide.datastores.hibernate.hql;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
@@ -18,6 +19,7 @@ import com.yahoo.elide.core.filter.dialect.ParseException;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
@@ -25,13 +27,20 @@ import com.yahoo.elide.core.sort.Sorting;
 import example.Author;
 import example.Book;
 import example.Chapter;
+import example.Editor;
+import example.Manuscript;
+import example.OneToOneNonRoot;
+import example.OneToOneRoot;
 import example.Publisher;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 
@@ -49,6 +58,10 @@ public class RootCollectionFetchQueryBuilderTest {
         dictionary.bindEntity(Author.class);
         dictionary.bindEntity(Publisher.class);
         dictionary.bindEntity(Chapter.class);
+        dictionary.bindEntity(Editor.class);
+        dictionary.bindEntity(OneToOneRoot.class);
+        dictionary.bindEntity(OneToOneNonRoot.class);
+        dictionary.bindEntity(Manuscript.class);
         filterParser = new RSQLFilterDialect(dictionary, new CaseSensitivityStrategy.UseColumnCollation());
     }
 
@@ -106,13 +119,10 @@ public class RootCollectionFetchQueryBuilderTest {
                 + "LEFT JOIN example_Author.books example_Author_books  "
                 + "LEFT JOIN example_Author_books.chapters example_Book_chapters   "
                 + "LEFT JOIN example_Author_books.publisher example_Book_publisher  "
-                + "WHERE (example_Book_chapters.title IN (:books_chapters_title_XXX, :books_chapters_title_XXX) "
-                + "OR example_Book_publisher.name IN (:books_publisher_name_XXX)) ";
+                + "WHERE (example_Book_chapters.title IN (:books_chapters_title_0_0, :books_chapters_title_0_1) "
+                + "OR example_Book_publisher.name IN (:books_publisher_name_1_0)) ";
 
         String actual = query.getQueryText();
-        actual = actual.replaceFirst(":books_chapters_title_\\w\\w\\w\\w+", ":books_chapters_title_XXX");
-        actual = actual.replaceFirst(":books_chapters_title_\\w\\w\\w\\w+", ":books_chapters_title_XXX");
-        actual = actual.replaceFirst(":books_publisher_name_\\w\\w\\w\\w+", ":books_publisher_name_XXX");
 
         assertEquals(expected, actual);
     }
@@ -141,13 +151,10 @@ public class RootCollectionFetchQueryBuilderTest {
                 + "LEFT JOIN example_Author.books example_Author_books  "
                 + "LEFT JOIN example_Author_books.chapters example_Book_chapters   "
                 + "LEFT JOIN example_Author_books.publisher example_Book_publisher  "
-                + "WHERE (example_Book_chapters.title IN (:books_chapters_title_XXX, :books_chapters_title_XXX) "
-                + "OR example_Book_publisher.name IN (:books_publisher_name_XXX)) ";
+                + "WHERE (example_Book_chapters.title IN (:books_chapters_title_0_0, :books_chapters_title_0_1) "
+                + "OR example_Book_publisher.name IN (:books_publisher_name_1_0)) ";
 
         String actual = query.getQueryText();
-        actual = actual.replaceFirst(":books_chapters_title_\\w\\w\\w\\w+", ":books_chapters_title_XXX");
-        actual = actual.replaceFirst(":books_chapters_title_\\w\\w\\w\\w+", ":books_chapters_title_XXX");
-        actual = actual.replaceFirst(":books_publisher_name_\\w\\w\\w\\w+", ":books_publisher_name_XXX");
 
         assertEquals(expected, actual);
     }
@@ -197,4 +204,163 @@ public class RootCollectionFetchQueryBuilderTest {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void testRootFetchWithFilterValuesSharesQueryText() throws ParseException {
+        TestQueryWrapper first = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(
+                        filterParser.parseFilterExpression("title=='ABC',title=='DEF'", Book.class, true)))
+                .build();
+
+        TestQueryWrapper second = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(
+                        filterParser.parseFilterExpression("title=='GHI',title=='JKL'", Book.class, true)))
+                .build();
+
+        String expected = "SELECT example_Book FROM example.Book AS example_Book   "
+                + "LEFT JOIN FETCH example_Book.publisher  "
+                + "WHERE (example_Book.title IN (:title_0_0) OR example_Book.title IN (:title_1_0)) ";
+
+        assertEquals(expected, first.getQueryText());
+        assertEquals(expected, second.getQueryText());
+        assertEquals("ABC", first.getParameters().get("title_0_0"));
+        assertEquals("DEF", first.getParameters().get("title_1_0"));
+        assertEquals("JKL", second.getParameters().get("title_1_0"));
+    }
+
+    @Test
+    public void testRootFetchWithIncludedRelationships() {
+        TestQueryWrapper query = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withIncludedRelationships(new HashSet<>(Arrays.asList("publisher.editor", "authors")))
+                .build();
+
+        String expected = "SELECT example_Book FROM example.Book AS example_Book  "
+                + "LEFT JOIN FETCH example_Book.publisher example_Book_publisher  "
+                + "LEFT JOIN FETCH example_Book_publisher.editor example_Publisher_editor  ";
+
+        assertEquals(expected, query.getQueryText());
+    }
+
+    @Test
+    public void testRootFetchWithIncludedRelationshipsReusesFilterJoins() throws ParseException {
+        FilterExpression expression = filterParser.parseFilterExpression("publisher.name=='Pub1'", Book.class, true);
+
+        TestQueryWrapper query = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withIncludedRelationships(new HashSet<>(Arrays.asList("publisher.editor")))
+                .withPossibleFilterExpression(Optional.of(expression))
+                .build();
+
+        String expected = "SELECT example_Book FROM example.Book AS example_Book  "
+                + "LEFT JOIN FETCH example_Book.publisher example_Book_publisher  "
+                + "LEFT JOIN FETCH example_Book_publisher.editor example_Publisher_editor  "
+                + "WHERE example_Book_publisher.name IN (:publisher_name_0_0) ";
+
+        assertEquals(expected, query.getQueryText());
+    }
+
+    @Test
+    public void testRootFetchWithProjectionSkipsLazyRelationships() {
+        TestQueryWrapper unprojected = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                OneToOneRoot.class, dictionary, new TestSessionWrapper())
+                .build();
+
+        TestQueryWrapper projected = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                OneToOneRoot.class, dictionary, new TestSessionWrapper())
+                .withPossibleProjection(Optional.of(Collections.singleton("name")))
+                .build();
+
+        TestQueryWrapper projectedRelationship = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                OneToOneRoot.class, dictionary, new TestSessionWrapper())
+                .withPossibleProjection(Optional.of(Collections.singleton("otherObject")))
+                .build();
+
+        assertEquals("SELECT example_OneToOneRoot FROM example.OneToOneRoot AS example_OneToOneRoot  "
+                + "LEFT JOIN FETCH example_OneToOneRoot.otherObject  ", unprojected.getQueryText());
+        assertEquals("SELECT example_OneToOneRoot FROM example.OneToOneRoot AS example_OneToOneRoot  ",
+                projected.getQueryText());
+        assertEquals(unprojected.getQueryText(), projectedRelationship.getQueryText());
+    }
+
+    @Test
+    public void testRootFetchWithProjectionFetchesLazyAttributes() {
+        TestSessionWrapper hibernateSession = new TestSessionWrapper() {
+            @Override
+            public boolean supportsFetchAllProperties() {
+                return true;
+            }
+        };
+
+        TestQueryWrapper unprojected = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Manuscript.class, dictionary, hibernateSession)
+                .build();
+
+        TestQueryWrapper projectedLazy = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Manuscript.class, dictionary, hibernateSession)
+                .withPossibleProjection(Optional.of(Collections.singleton("content")))
+                .build();
+
+        TestQueryWrapper projectedEager = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Manuscript.class, dictionary, hibernateSession)
+                .withPossibleProjection(Optional.of(Collections.singleton("title")))
+                .build();
+
+        //FETCH ALL PROPERTIES is not JPQL and is never sent to other providers.
+        TestQueryWrapper otherProvider = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Manuscript.class, dictionary, new TestSessionWrapper())
+                .withPossibleProjection(Optional.of(Collections.singleton("content")))
+                .build();
+
+        assertEquals("SELECT example_Manuscript FROM example.Manuscript AS example_Manuscript  ",
+                unprojected.getQueryText());
+        assertEquals("SELECT example_Manuscript FROM example.Manuscript AS example_Manuscript "
+                + "FETCH ALL PROPERTIES  ", projectedLazy.getQueryText());
+        assertEquals(unprojected.getQueryText(), projectedEager.getQueryText());
+        assertEquals(unprojected.getQueryText(), otherProvider.getQueryText());
+    }
+
+    @Test
+    public void testRootFetchWithProjectionKeepsEagerRelationships() {
+        TestQueryWrapper book = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleProjection(Optional.of(Collections.singleton(TITLE)))
+                .build();
+
+        //The inverse side of a one-to-one relationship cannot be loaded lazily.
+        TestQueryWrapper nonRoot = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                OneToOneNonRoot.class, dictionary, new TestSessionWrapper())
+                .withPossibleProjection(Optional.of(Collections.singleton("test")))
+                .build();
+
+        assertEquals("SELECT example_Book FROM example.Book AS example_Book  "
+                + "LEFT JOIN FETCH example_Book.publisher  ", book.getQueryText());
+        assertEquals("SELECT example_OneToOneNonRoot FROM example.OneToOneNonRoot AS example_OneToOneNonRoot  "
+                + "LEFT JOIN FETCH example_OneToOneNonRoot.root  ", nonRoot.getQueryText());
+    }
+
+    @Test
+    public void testRootFetchWithInListPadding() throws ParseException {
+        FilterExpression expression = filterParser.parseFilterExpression("title=in=('ABC','DEF','GHI')",
+                Book.class, true);
+        HQLQueryOptions queryOptions = new HQLQueryOptions.Builder().withInListPadding(true).build();
+
+        TestQueryWrapper padded = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(expression))
+                .withQueryOptions(queryOptions)
+                .build();
+
+        TestQueryWrapper unpadded = (TestQueryWrapper) new RootCollectionFetchQueryBuilder(
+                Book.class, dictionary, new TestSessionWrapper())
+                .withPossibleFilterExpression(Optional.of(expression))
+                .build();
+
+        assertTrue(padded.getQueryText().contains(
+                "example_Book.title IN (:title_0_0, :title_0_1, :title_0_2, :title_0_3)"));
+        assertEquals("GHI", padded.getParameters().get("title_0_3"));
+        assertTrue(unpadded.getQueryText().contains("example_Book.title IN (:title_0_0, :title_0_1, :title_0_2)"));
+    }
 }
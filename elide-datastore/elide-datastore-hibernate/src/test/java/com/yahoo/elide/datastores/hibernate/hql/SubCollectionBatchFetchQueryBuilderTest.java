@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.filter.FilterPredicate;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchFetchQueryBuilder;
+import com.yahoo.elide.core.pagination.Pagination;
+import com.yahoo.elide.core.sort.Sorting;
+
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SubCollectionBatchFetchQueryBuilderTest {
+
+    private EntityDictionary dictionary;
+
+    private static final String TITLE = "title";
+    private static final String BOOKS = "books";
+    private static final String NAME = "name";
+    private static final String PUBLISHER = "publisher";
+    private static final String PUB1 = "Pub1";
+    private static final List<Long> AUTHOR_IDS = Arrays.asList(1L, 2L, 3L);
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testBatchFetchInitializesProxies() {
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(Author.class,
+                Book.class, BOOKS, AUTHOR_IDS, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT DISTINCT example_Author__fetch FROM example.Author example_Author__fetch "
+                + "LEFT JOIN FETCH example_Author__fetch.books "
+                + "WHERE example_Author__fetch.id IN (:example_Author__fetch_ids)";
+
+        assertTrue(builder.isFetchJoin());
+        assertEquals(expected, query.getQueryText());
+        assertEquals(AUTHOR_IDS, query.getParameters().get("example_Author__fetch_ids"));
+    }
+
+    @Test
+    public void testBatchFetchWithSorting() {
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(Author.class,
+                Book.class, BOOKS, AUTHOR_IDS, dictionary, new TestSessionWrapper());
+
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.asc);
+
+        builder.withPossibleSorting(Optional.of(new Sorting(sorting)));
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book LEFT JOIN FETCH example_Book.publisher  "
+                + "WHERE example_Author__fetch.id IN (:example_Author__fetch_ids) order by example_Book.title asc";
+
+        assertFalse(builder.isFetchJoin());
+        assertEquals(expected, query.getQueryText());
+    }
+
+    @Test
+    public void testBatchFetchWithSortingAndFilters() {
+        List<Path.PathElement> publisherNamePath = Arrays.asList(
+                new Path.PathElement(Book.class, Publisher.class, PUBLISHER),
+                new Path.PathElement(Publisher.class, String.class, NAME)
+        );
+
+        FilterPredicate publisherNamePredicate = new InPredicate(new Path(publisherNamePath), PUB1);
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(Author.class,
+                Book.class, BOOKS, AUTHOR_IDS, dictionary, new TestSessionWrapper());
+
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.asc);
+
+        builder.withPossibleFilterExpression(Optional.of(publisherNamePredicate));
+        builder.withPossibleSorting(Optional.of(new Sorting(sorting)));
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book "
+                + "LEFT JOIN FETCH example_Book.publisher example_Book_publisher  "
+                + "WHERE example_Book_publisher.name IN (:publisher_name_0_0) "
+                + "AND example_Author__fetch.id IN (:example_Author__fetch_ids) order by example_Book.title asc";
+
+        assertFalse(builder.isFetchJoin());
+        assertEquals(expected, query.getQueryText());
+        assertEquals(PUB1, query.getParameters().get("publisher_name_0_0"));
+        assertEquals(AUTHOR_IDS, query.getParameters().get("example_Author__fetch_ids"));
+    }
+
+    @Test
+    public void testBatchFetchWithPaginationUnsupported() {
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(Author.class,
+                Book.class, BOOKS, AUTHOR_IDS, dictionary, new TestSessionWrapper());
+
+        assertThrows(UnsupportedOperationException.class, () ->
+                builder.withPossiblePagination(Optional.of(Pagination.fromOffsetAndLimit(10, 0, false))));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.InPredicate;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchLoader;
+import com.yahoo.elide.core.pagination.Pagination;
+
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class SubCollectionBatchLoaderTest {
+    private static final String BOOKS = "books";
+
+    private EntityDictionary dictionary;
+    private RequestScope scope;
+    private List<String> queries;
+    private List<Object[]> rows;
+    private Author author1;
+    private Author author2;
+    private Author author3;
+    private Book book1;
+    private Book book2;
+
+    private SubCollectionBatchLoader loader = new SubCollectionBatchLoader(new TestSessionWrapper()) {
+        private final HQLQueryOptions queryOptions = new HQLQueryOptions();
+
+        @Override
+        protected List<?> list(Query query) {
+            queries.add(((TestQueryWrapper) query).getQueryText());
+            return rows;
+        }
+
+        @Override
+        protected HQLQueryOptions getQueryOptions() {
+            return queryOptions;
+        }
+
+        @Override
+        protected boolean isPersistentCollection(Object value) {
+            return value instanceof Collection;
+        }
+
+        @Override
+        protected boolean isLoaded(Object entity, String relationName, Object value) {
+            return !((Collection<?>) value).isEmpty();
+        }
+    };
+
+    @BeforeEach
+    public void setup() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+        when(scope.getSparseFields(Book.class)).thenReturn(Optional.empty());
+
+        queries = new ArrayList<>();
+        rows = new ArrayList<>();
+
+        author1 = new Author();
+        author1.setId(1L);
+        author2 = new Author();
+        author2.setId(2L);
+        author3 = new Author();
+        author3.setId(3L);
+
+        book1 = new Book();
+        book1.setId(10L);
+        book2 = new Book();
+        book2.setId(11L);
+
+        //The books of the third author are already loaded.
+        author3.setBooks(new ArrayList<>(Collections.singletonList(book2)));
+    }
+
+    @Test
+    public void testIsBatchable() {
+        List<Author> authors = Arrays.asList(author1, author2);
+        Pagination page = Pagination.fromOffsetAndLimit(10, 0, false);
+
+        assertTrue(SubCollectionBatchLoader.isBatchable(authors, BOOKS, Optional.empty(), dictionary));
+        assertFalse(SubCollectionBatchLoader.isBatchable(authors, BOOKS, Optional.of(page), dictionary));
+        assertFalse(SubCollectionBatchLoader.isBatchable(Collections.emptyList(), BOOKS, Optional.empty(),
+                dictionary));
+        assertFalse(SubCollectionBatchLoader.isBatchable(Arrays.asList(book1), "publisher", Optional.empty(),
+                dictionary));
+    }
+
+    @Test
+    public void testGetRelations() {
+        FilterExpression filter = new InPredicate(new Path(Book.class, dictionary, "genre"),
+                "Literary Fiction");
+        rows.add(new Object[] {author1, book1});
+        rows.add(new Object[] {author1, book2});
+        rows.add(new Object[] {author3, book2});
+
+        Map<Object, Object> relations = loader.getRelations(Arrays.asList(author1, author2, author3), BOOKS,
+                Optional.of(filter), Optional.empty(), scope, entity -> {
+                    throw new IllegalStateException();
+                });
+
+        assertEquals(1, queries.size());
+        assertEquals(Arrays.asList(book1, book2), relations.get(author1));
+        assertEquals(Collections.emptyList(), relations.get(author2));
+        assertEquals(Arrays.asList(book2), relations.get(author3));
+    }
+
+    @Test
+    public void testGetRelationIds() {
+        //Drivers may return identifiers of a different numeric type than the id field.
+        rows.add(new Object[] {1, 10});
+        rows.add(new Object[] {1, 11});
+
+        Map<Object, Collection<String>> relationIds = loader.getRelationIds(
+                Arrays.asList(author1, author2, author3), BOOKS, scope, loaded -> {
+                    assertEquals(Arrays.asList(author3), loaded);
+                    return Collections.singletonMap(author3, Arrays.asList(dictionary.getId(book2)));
+                });
+
+        assertEquals(1, queries.size());
+        assertEquals(Arrays.asList("10", "11"), relationIds.get(author1));
+        assertEquals(Collections.emptyList(), relationIds.get(author2));
+        assertEquals(Arrays.asList("11"), relationIds.get(author3));
+    }
+}
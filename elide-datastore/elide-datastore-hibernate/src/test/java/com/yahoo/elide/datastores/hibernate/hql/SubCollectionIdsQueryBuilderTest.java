@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionIdsQueryBuilder;
+import com.yahoo.elide.core.sort.Sorting;
+
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Publisher;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SubCollectionIdsQueryBuilderTest {
+
+    private EntityDictionary dictionary;
+
+    private static final String BOOKS = "books";
+    private static final List<Long> AUTHOR_IDS = Arrays.asList(1L, 2L, 3L);
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+    }
+
+    @Test
+    public void testSubCollectionIds() {
+        SubCollectionIdsQueryBuilder builder = new SubCollectionIdsQueryBuilder(Author.class, Book.class, BOOKS,
+                AUTHOR_IDS, dictionary, new TestSessionWrapper());
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch.id, example_Book.id "
+                + "FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book "
+                + "WHERE example_Author__fetch.id IN (:example_Author__fetch_ids)";
+
+        assertEquals(expected, query.getQueryText());
+        assertEquals(AUTHOR_IDS, query.getParameters().get("example_Author__fetch_ids"));
+    }
+
+    @Test
+    public void testSubCollectionIdsWithSortingUnsupported() {
+        SubCollectionIdsQueryBuilder builder = new SubCollectionIdsQueryBuilder(Author.class, Book.class, BOOKS,
+                AUTHOR_IDS, dictionary, new TestSessionWrapper());
+
+        assertThrows(UnsupportedOperationException.class, () ->
+                builder.withPossibleSorting(Optional.of(Sorting.parseSortRule("title"))));
+    }
+}
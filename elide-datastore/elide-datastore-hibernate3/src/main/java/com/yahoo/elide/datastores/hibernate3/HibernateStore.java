@@ -9,10 +9,12 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.datastore.JPQLDataStore;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
 
 import com.google.common.base.Preconditions;
 
 import org.hibernate.EntityMode;
+import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
@@ -60,6 +62,22 @@ public class HibernateStore implements JPQLDataStore {
         this.transactionSupplier = transactionSupplier;
     }
 
+    /**
+     * Constructor.
+     *
+     * @param aSessionFactory Session factory
+     * @param isScrollEnabled Whether or not scrolling is enabled on driver
+     * @param scrollMode Scroll mode to use for scrolling driver
+     * @param queryOptions The options of the queries of the store, which are passed to its transactions
+     */
+    protected HibernateStore(SessionFactory aSessionFactory,
+                             boolean isScrollEnabled,
+                             ScrollMode scrollMode,
+                             HQLQueryOptions queryOptions) {
+        this(aSessionFactory, isScrollEnabled, scrollMode,
+                (session, scroll, mode) -> new HibernateTransaction(session, scroll, mode, queryOptions));
+    }
+
     /**
      * Builder object to configuration hibernate transaction.
      */
@@ -67,11 +85,13 @@ public class HibernateStore implements JPQLDataStore {
         private final SessionFactory sessionFactory;
         private boolean isScrollEnabled;
         private ScrollMode scrollMode;
+        private HQLQueryOptions queryOptions;
 
         public Builder(final SessionFactory sessionFactory) {
             this.sessionFactory = sessionFactory;
             this.isScrollEnabled = true;
             this.scrollMode = ScrollMode.FORWARD_ONLY;
+            this.queryOptions = new HQLQueryOptions();
         }
 
         public Builder withScrollEnabled(final boolean isScrollEnabled) {
@@ -84,8 +104,18 @@ public class HibernateStore implements JPQLDataStore {
             return this;
         }
 
+        /**
+         * Sets the options of the queries of the store.
+         * @param queryOptions the query options
+         * @return the builder
+         */
+        public Builder withQueryOptions(final HQLQueryOptions queryOptions) {
+            this.queryOptions = queryOptions;
+            return this;
+        }
+
         public HibernateStore build() {
-            return new HibernateStore(sessionFactory, isScrollEnabled, scrollMode);
+            return new HibernateStore(sessionFactory, isScrollEnabled, scrollMode, queryOptions);
         }
     }
 
@@ -132,6 +162,7 @@ public class HibernateStore implements JPQLDataStore {
         Preconditions.checkNotNull(session);
         session.beginTransaction();
         session.setDefaultReadOnly(true);
+        session.setFlushMode(FlushMode.MANUAL);
         return transactionSupplier.get(session, isScrollEnabled, scrollMode);
     }
 
@@ -29,6 +29,11 @@ public class SessionWrapper implements Session {
         return new QueryWrapper(session.createQuery(queryText));
     }
 
+    @Override
+    public boolean supportsFetchAllProperties() {
+        return true;
+    }
+
     private static void logQuery(String queryText) {
         log.debug("HQL Query: {}", queryText);
     }
@@ -8,23 +8,34 @@ package com.yahoo.elide.datastores.hibernate5;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.datastore.JPQLDataStore;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
 
+import org.hibernate.FlushMode;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.jpa.HibernateEntityManagerFactory;
 
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.metamodel.EntityType;
+import javax.transaction.Synchronization;
 
 /**
  * Hibernate interface library.
  */
+@Slf4j
 public abstract class AbstractHibernateStore implements JPQLDataStore {
     protected final SessionFactory sessionFactory;
     protected final boolean isScrollEnabled;
     protected final ScrollMode scrollMode;
     protected final HibernateTransactionSupplier transactionSupplier;
+    protected final int jdbcBatchSize;
+    protected final HQLQueryOptions queryOptions;
 
     /**
      * Constructor.
@@ -52,10 +63,59 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
                                      boolean isScrollEnabled,
                                      ScrollMode scrollMode,
                                      HibernateTransactionSupplier transactionSupplier) {
+        this(aSessionFactory, isScrollEnabled, scrollMode, transactionSupplier, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aSessionFactory Session factory
+     * @param isScrollEnabled Whether or not scrolling is enabled on driver
+     * @param scrollMode Scroll mode to use for scrolling driver
+     * @param transactionSupplier Supplier for transaction
+     * @param jdbcBatchSize The JDBC batch size of sessions or zero for the session factory setting.  Writes are
+     *                      flushed in batches when it is greater than one.
+     */
+    protected AbstractHibernateStore(SessionFactory aSessionFactory,
+                                     boolean isScrollEnabled,
+                                     ScrollMode scrollMode,
+                                     HibernateTransactionSupplier transactionSupplier,
+                                     int jdbcBatchSize) {
+        this(aSessionFactory, isScrollEnabled, scrollMode, transactionSupplier, jdbcBatchSize,
+                new HQLQueryOptions());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aSessionFactory Session factory
+     * @param isScrollEnabled Whether or not scrolling is enabled on driver
+     * @param scrollMode Scroll mode to use for scrolling driver
+     * @param jdbcBatchSize The JDBC batch size of sessions or zero for the session factory setting
+     * @param queryOptions The options of the queries of the store, which are passed to its transactions
+     */
+    protected AbstractHibernateStore(SessionFactory aSessionFactory,
+                                     boolean isScrollEnabled,
+                                     ScrollMode scrollMode,
+                                     int jdbcBatchSize,
+                                     HQLQueryOptions queryOptions) {
+        this(aSessionFactory, isScrollEnabled, scrollMode,
+                (session, scroll, mode) -> new HibernateTransaction(session, scroll, mode, queryOptions),
+                jdbcBatchSize, queryOptions);
+    }
+
+    private AbstractHibernateStore(SessionFactory aSessionFactory,
+                                   boolean isScrollEnabled,
+                                   ScrollMode scrollMode,
+                                   HibernateTransactionSupplier transactionSupplier,
+                                   int jdbcBatchSize,
+                                   HQLQueryOptions queryOptions) {
         this.sessionFactory = aSessionFactory;
         this.isScrollEnabled = isScrollEnabled;
         this.scrollMode = scrollMode;
         this.transactionSupplier = transactionSupplier;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.queryOptions = queryOptions;
     }
 
     /**
@@ -66,6 +126,8 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
         private boolean isScrollEnabled;
         private ScrollMode scrollMode;
         private EntityManagerFactory emf;
+        private int jdbcBatchSize;
+        private HQLQueryOptions queryOptions = new HQLQueryOptions();
 
         public Builder(final SessionFactory sessionFactory) {
             this.sessionFactory = sessionFactory;
@@ -99,11 +161,32 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
             return this;
         }
 
+        /**
+         * Sets the JDBC batch size of sessions, overriding hibernate.jdbc.batch_size.
+         * @param jdbcBatchSize the maximum number of statements sent in one batch
+         * @return the builder
+         */
+        public Builder withJdbcBatchSize(final int jdbcBatchSize) {
+            this.jdbcBatchSize = jdbcBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the options of the queries of the store.
+         * @param queryOptions the query options
+         * @return the builder
+         */
+        public Builder withQueryOptions(final HQLQueryOptions queryOptions) {
+            this.queryOptions = queryOptions;
+            return this;
+        }
+
         public AbstractHibernateStore build() {
             if (sessionFactory != null) {
-                return new HibernateSessionFactoryStore(sessionFactory, isScrollEnabled, scrollMode);
+                return new HibernateSessionFactoryStore(sessionFactory, isScrollEnabled, scrollMode, jdbcBatchSize,
+                        queryOptions);
             } else if (emf != null) {
-                return new HibernateEntityManagerStore(emf, isScrollEnabled, scrollMode);
+                return new HibernateEntityManagerStore(emf, isScrollEnabled, scrollMode, jdbcBatchSize, queryOptions);
             }
             throw new IllegalStateException("Either an EntityManager or SessionFactory is required!");
         }
@@ -131,6 +214,68 @@ public abstract class AbstractHibernateStore implements JPQLDataStore {
     @Override
     abstract public DataStoreTransaction beginTransaction();
 
+    /**
+     * Creates the transaction of a session.
+     *
+     * @param session The session with an active transaction
+     * @return transaction
+     */
+    protected DataStoreTransaction newTransaction(Session session) {
+        if (jdbcBatchSize > 0) {
+            session.setJdbcBatchSize(jdbcBatchSize);
+        }
+        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+    }
+
+    /**
+     * Creates a read only transaction of a session.  Loaded entities are read only, so the session keeps no
+     * snapshots of them for dirty checking, and the session is never flushed.  The JDBC connection is marked read
+     * only for the duration of the transaction, which lets drivers route to replicas and databases skip write
+     * bookkeeping.
+     *
+     * @param session The session with an active transaction
+     * @return transaction
+     */
+    protected DataStoreTransaction newReadTransaction(Session session) {
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        session.doWork(connection -> {
+            if (!connection.isReadOnly()) {
+                connection.setReadOnly(true);
+                session.getTransaction().registerSynchronization(new ReadWriteConnectionReset(connection));
+            }
+        });
+        return newTransaction(session);
+    }
+
+    /**
+     * Marks a connection read write again once its transaction completes (drivers refuse to change the flag
+     * in the middle of a transaction).  Pools which reset connections on return may already have done so.
+     */
+    private static class ReadWriteConnectionReset implements Synchronization {
+        private final Connection connection;
+
+        private ReadWriteConnectionReset(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            // Nothing to do
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            try {
+                if (!connection.isClosed()) {
+                    connection.setReadOnly(false);
+                }
+            } catch (SQLException e) {
+                log.debug("Unable to reset read only connection", e);
+            }
+        }
+    }
+
     /**
      * Functional interface for describing a method to supply a custom Hibernate transaction.
      */
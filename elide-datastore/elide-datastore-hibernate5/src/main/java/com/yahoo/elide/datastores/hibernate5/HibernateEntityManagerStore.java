@@ -7,6 +7,7 @@ package com.yahoo.elide.datastores.hibernate5;
 
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
@@ -24,7 +25,23 @@ public class HibernateEntityManagerStore extends AbstractHibernateStore {
     public HibernateEntityManagerStore(EntityManagerFactory entityManagerFactory,
                                        boolean isScrollEnabled,
                                        ScrollMode scrollMode) {
-        super(null, isScrollEnabled, scrollMode);
+        this(entityManagerFactory, isScrollEnabled, scrollMode, 0);
+    }
+
+    public HibernateEntityManagerStore(EntityManagerFactory entityManagerFactory,
+                                       boolean isScrollEnabled,
+                                       ScrollMode scrollMode,
+                                       int jdbcBatchSize) {
+        super(null, isScrollEnabled, scrollMode, HibernateTransaction::new, jdbcBatchSize);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public HibernateEntityManagerStore(EntityManagerFactory entityManagerFactory,
+                                       boolean isScrollEnabled,
+                                       ScrollMode scrollMode,
+                                       int jdbcBatchSize,
+                                       HQLQueryOptions queryOptions) {
+        super(null, isScrollEnabled, scrollMode, jdbcBatchSize, queryOptions);
         this.entityManagerFactory = entityManagerFactory;
     }
 
@@ -40,7 +57,17 @@ public class HibernateEntityManagerStore extends AbstractHibernateStore {
         Session session = manager.unwrap(Session.class);
         session.beginTransaction();
         session.clear();
-        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        return newTransaction(session);
+    }
+
+    @Override
+    @SuppressWarnings("resource")
+    public DataStoreTransaction beginReadTransaction() {
+        EntityManager manager = entityManagerFactory.createEntityManager();
+        Session session = manager.unwrap(Session.class);
+        session.beginTransaction();
+        session.clear();
+        return newReadTransaction(session);
     }
 
     @Override
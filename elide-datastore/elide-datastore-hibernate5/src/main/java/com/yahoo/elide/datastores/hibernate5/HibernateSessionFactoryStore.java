@@ -6,6 +6,7 @@
 package com.yahoo.elide.datastores.hibernate5;
 
 import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
 
 import com.google.common.base.Preconditions;
 
@@ -24,6 +25,21 @@ public class HibernateSessionFactoryStore extends AbstractHibernateStore {
         super(aSessionFactory, isScrollEnabled, scrollMode);
     }
 
+    public HibernateSessionFactoryStore(SessionFactory aSessionFactory,
+                                        boolean isScrollEnabled,
+                                        ScrollMode scrollMode,
+                                        int jdbcBatchSize) {
+        super(aSessionFactory, isScrollEnabled, scrollMode, HibernateTransaction::new, jdbcBatchSize);
+    }
+
+    public HibernateSessionFactoryStore(SessionFactory aSessionFactory,
+                                        boolean isScrollEnabled,
+                                        ScrollMode scrollMode,
+                                        int jdbcBatchSize,
+                                        HQLQueryOptions queryOptions) {
+        super(aSessionFactory, isScrollEnabled, scrollMode, jdbcBatchSize, queryOptions);
+    }
+
     /**
      * Start Hibernate transaction.
      *
@@ -34,6 +50,14 @@ public class HibernateSessionFactoryStore extends AbstractHibernateStore {
         Session session = sessionFactory.getCurrentSession();
         Preconditions.checkNotNull(session);
         session.beginTransaction();
-        return transactionSupplier.get(session, isScrollEnabled, scrollMode);
+        return newTransaction(session);
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        Session session = sessionFactory.getCurrentSession();
+        Preconditions.checkNotNull(session);
+        session.beginTransaction();
+        return newReadTransaction(session);
     }
 }
@@ -9,18 +9,21 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreMetrics.Operation;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.filter.FalsePredicate;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.InPredicate;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
-import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
+import com.yahoo.elide.core.hibernate.DeferredOperations;
+import com.yahoo.elide.core.hibernate.Query;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
+import com.yahoo.elide.core.hibernate.hql.PageTotalsLoader;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
-import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchLoader;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
-import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.datastores.hibernate5.porting.QueryWrapper;
@@ -28,6 +31,7 @@ import com.yahoo.elide.datastores.hibernate5.porting.SessionWrapper;
 import com.yahoo.elide.security.User;
 
 import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.ScrollMode;
 import org.hibernate.Session;
@@ -38,7 +42,9 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.persistence.PersistenceException;
@@ -51,8 +57,11 @@ public class HibernateTransaction implements DataStoreTransaction {
 
     private final Session session;
     private final SessionWrapper sessionWrapper;
-    private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
+    private final DeferredOperations deferredOperations = new DeferredOperations();
+    private final SubCollectionBatchLoader batchLoader;
+    private final PageTotalsLoader pageTotalsLoader;
     private final boolean isScrollEnabled;
+    private final HQLQueryOptions queryOptions;
 
     /**
      * Constructor.
@@ -62,6 +71,19 @@ public class HibernateTransaction implements DataStoreTransaction {
      * @param scrollMode Scroll mode to use if scrolling enabled
      */
     protected HibernateTransaction(Session session, boolean isScrollEnabled, ScrollMode scrollMode) {
+        this(session, isScrollEnabled, scrollMode, HQLQueryOptions.NO_CACHING);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param session Hibernate session
+     * @param isScrollEnabled Whether or not scrolling is enabled
+     * @param scrollMode Scroll mode to use if scrolling enabled
+     * @param queryOptions The query options of the data store
+     */
+    protected HibernateTransaction(Session session, boolean isScrollEnabled, ScrollMode scrollMode,
+                                   HQLQueryOptions queryOptions) {
         this.session = session;
         // Elide must not flush until all beans are ready
         FlushMode flushMode = session.getHibernateFlushMode();
@@ -69,24 +91,56 @@ public class HibernateTransaction implements DataStoreTransaction {
             session.setHibernateFlushMode(FlushMode.COMMIT);
         }
         this.sessionWrapper = new SessionWrapper(session);
+        this.batchLoader = new SubCollectionBatchLoader(sessionWrapper) {
+            @Override
+            protected List<?> list(Query query) {
+                return ((QueryWrapper) query).getQuery().list();
+            }
+
+            @Override
+            protected HQLQueryOptions getQueryOptions() {
+                return queryOptions;
+            }
+
+            @Override
+            protected boolean isPersistentCollection(Object value) {
+                return value instanceof AbstractPersistentCollection;
+            }
+
+            @Override
+            protected boolean isLoaded(Object entity, String relationName, Object value) {
+                return Hibernate.isInitialized(value);
+            }
+        };
+        this.pageTotalsLoader = new PageTotalsLoader(sessionWrapper) {
+            @Override
+            protected Long uniqueResult(Query query) {
+                return (Long) ((QueryWrapper) query).getQuery().uniqueResult();
+            }
+
+            @Override
+            protected HQLQueryOptions getQueryOptions() {
+                return queryOptions;
+            }
+        };
         this.isScrollEnabled = isScrollEnabled;
+        this.queryOptions = queryOptions;
     }
 
     @Override
     public void delete(Object object, RequestScope scope) {
-        deferredTasks.add(() -> session.delete(object));
+        deferredOperations.add(Operation.DELETE, object, () -> session.delete(object));
     }
 
     @Override
     public void save(Object object, RequestScope scope) {
-        deferredTasks.add(() -> session.saveOrUpdate(object));
+        deferredOperations.add(Operation.UPDATE, object, () -> session.saveOrUpdate(object));
     }
 
     @Override
     public void flush(RequestScope requestScope) {
         try {
-            deferredTasks.forEach(Runnable::run);
-            deferredTasks.clear();
+            deferredOperations.run(getJdbcBatchSize(), requestScope);
             hibernateFlush(requestScope);
         } catch (PersistenceException e) {
             log.error("Caught hibernate exception during flush", e);
@@ -94,6 +148,19 @@ public class HibernateTransaction implements DataStoreTransaction {
         }
     }
 
+    /**
+     * Writes are sent in JDBC batches when the batch size of the session is greater than one.
+     *
+     * @return the JDBC batch size of the session
+     */
+    private int getJdbcBatchSize() {
+        Integer batchSize = session.getJdbcBatchSize();
+        if (batchSize == null) {
+            batchSize = session.getSessionFactory().getSessionFactoryOptions().getJdbcBatchSize();
+        }
+        return batchSize;
+    }
+
     protected void hibernateFlush(RequestScope requestScope) {
         FlushMode flushMode = session.getHibernateFlushMode();
         if (flushMode != FlushMode.MANUAL) {
@@ -113,7 +180,7 @@ public class HibernateTransaction implements DataStoreTransaction {
 
     @Override
     public void createObject(Object entity, RequestScope scope) {
-        deferredTasks.add(() -> session.persist(entity));
+        deferredOperations.add(Operation.CREATE, entity, () -> session.persist(entity));
     }
 
     /**
@@ -151,6 +218,7 @@ public class HibernateTransaction implements DataStoreTransaction {
             QueryWrapper query =
                     (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, dictionary, sessionWrapper)
                     .withPossibleFilterExpression(Optional.of(joinedExpression))
+                    .withQueryOptions(queryOptions)
                     .build();
 
             return query.getQuery().uniqueResult();
@@ -167,24 +235,33 @@ public class HibernateTransaction implements DataStoreTransaction {
             Optional<Pagination> pagination,
             RequestScope scope) {
 
-        pagination.ifPresent(p -> {
-            if (p.isGenerateTotals()) {
-                p.setPageTotals(getTotalRecords(entityClass, filterExpression, scope.getDictionary()));
-            }
-        });
+        EntityDictionary dictionary = scope.getDictionary();
+        Optional<Pagination> totals = pagination.filter(Pagination::isGenerateTotals);
+        if (totals.filter(Pagination::isTotalsOnly).isPresent()) {
+            pageTotalsLoader.setPageTotals(totals.get(), entityClass, filterExpression, dictionary);
+            return Collections.emptyList();
+        }
 
         final QueryWrapper query =
                 (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, scope.getDictionary(), sessionWrapper)
+                        .withIncludedRelationships(scope.getIncludedRelationships(entityClass))
                         .withPossibleFilterExpression(filterExpression)
                         .withPossibleSorting(sorting)
                         .withPossiblePagination(pagination)
+                        .withPossibleProjection(scope.getSparseFields(entityClass))
+                        .withQueryOptions(queryOptions)
                         .build();
 
 
         if (isScrollEnabled) {
+            totals.ifPresent(p -> pageTotalsLoader.setPageTotals(p, entityClass, filterExpression, dictionary));
             return new ScrollableIterator<>(query.getQuery().scroll());
         }
-        return (Iterable) query.getQuery().list();
+
+        List<?> results = query.getQuery().list();
+        totals.filter(p -> !p.setPageTotalsFromPage(results.size()))
+                .ifPresent(p -> pageTotalsLoader.setPageTotals(p, entityClass, filterExpression, dictionary));
+        return (Iterable) results;
     }
 
     @Override
@@ -221,66 +298,65 @@ public class HibernateTransaction implements DataStoreTransaction {
                         entity,
                         filteredVal);
 
-                pagination.ifPresent(p -> {
-                    if (p.isGenerateTotals()) {
-                        p.setPageTotals(getTotalRecords(relationship, filterExpression, dictionary));
-                    }
-                });
+                Optional<Pagination> totals = pagination.filter(Pagination::isGenerateTotals);
+                if (totals.filter(Pagination::isTotalsOnly).isPresent()) {
+                    pageTotalsLoader.setPageTotals(totals.get(), relationship, filterExpression, dictionary);
+                    return Collections.emptyList();
+                }
 
                 final QueryWrapper query = (QueryWrapper)
                         new SubCollectionFetchQueryBuilder(relationship, dictionary, sessionWrapper)
                                 .withPossibleFilterExpression(filterExpression)
                                 .withPossibleSorting(sorting)
                                 .withPossiblePagination(pagination)
+                                .withPossibleProjection(scope.getSparseFields(relationClass))
+                                .withQueryOptions(queryOptions)
                                 .build();
 
                 if (query != null) {
-                    return query.getQuery().list();
+                    List<?> results = query.getQuery().list();
+                    totals.filter(p -> !p.setPageTotalsFromPage(results.size()))
+                            .ifPresent(p -> pageTotalsLoader.setPageTotals(p, relationship, filterExpression,
+                                    dictionary));
+                    return results;
                 }
             }
         }
         return val;
     }
 
-    /**
-     * Returns the total record count for a root entity and an optional filter expression.
-     * @param entityClass The entity type to count
-     * @param filterExpression optional security and request filters
-     * @param dictionary the entity dictionary
-     * @param <T> The type of entity
-     * @return The total row count.
-     */
-    private <T> Long getTotalRecords(Class<T> entityClass,
-                                     Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
-
+    @Override
+    public Map<Object, Object> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<?> entities,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            Optional<Pagination> pagination,
+            RequestScope scope) {
 
-        QueryWrapper query = (QueryWrapper)
-                new RootCollectionPageTotalsQueryBuilder(entityClass, dictionary, sessionWrapper)
-                .withPossibleFilterExpression(filterExpression)
-                .build();
+        if (!SubCollectionBatchLoader.isBatchable(entities, relationName, pagination, scope.getDictionary())) {
+            return DataStoreTransaction.super.getRelations(relationTx, entities, relationName,
+                    filterExpression, sorting, pagination, scope);
+        }
 
-        return (Long) query.getQuery().uniqueResult();
+        return batchLoader.getRelations(entities, relationName, filterExpression, sorting, scope,
+                entity -> getRelation(relationTx, entity, relationName, filterExpression, sorting, pagination, scope));
     }
 
-    /**
-     * Returns the total record count for a entity relationship
-     * @param relationship The relationship
-     * @param filterExpression optional security and request filters
-     * @param dictionary the entity dictionary
-     * @param <T> The type of entity
-     * @return The total row count.
-     */
-    private <T> Long getTotalRecords(AbstractHQLQueryBuilder.Relationship relationship,
-                                     Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
+    @Override
+    public Map<Object, Collection<String>> getRelationIds(
+            DataStoreTransaction relationTx,
+            Collection<?> entities,
+            String relationName,
+            RequestScope scope) {
 
-        QueryWrapper query = (QueryWrapper)
-                new SubCollectionPageTotalsQueryBuilder(relationship, dictionary, sessionWrapper)
-                .withPossibleFilterExpression(filterExpression)
-                .build();
+        if (!SubCollectionBatchLoader.isBatchable(entities, relationName, Optional.empty(), scope.getDictionary())) {
+            return DataStoreTransaction.super.getRelationIds(relationTx, entities, relationName, scope);
+        }
 
-        return (Long) query.getQuery().uniqueResult();
+        return batchLoader.getRelationIds(entities, relationName, scope,
+                loaded -> DataStoreTransaction.super.getRelationIds(relationTx, loaded, relationName, scope));
     }
 
     @Override
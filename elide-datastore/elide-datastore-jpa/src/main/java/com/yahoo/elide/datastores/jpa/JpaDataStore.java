@@ -8,6 +8,7 @@ package com.yahoo.elide.datastores.jpa;
 import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.datastore.JPQLDataStore;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
 import com.yahoo.elide.datastores.jpa.transaction.JpaTransaction;
 
 import java.util.HashSet;
@@ -24,14 +25,33 @@ public class JpaDataStore implements JPQLDataStore {
     protected final JpaTransactionSupplier readTransactionSupplier;
     protected final JpaTransactionSupplier writeTransactionSupplier;
     protected final Set<Class<?>> modelsToBind;
+    protected final HQLQueryOptions queryOptions;
 
     public JpaDataStore(EntityManagerSupplier entityManagerSupplier,
                         JpaTransactionSupplier readTransactionSupplier,
                         JpaTransactionSupplier writeTransactionSupplier,
                         Class<?> ... models) {
+        this(entityManagerSupplier, readTransactionSupplier, writeTransactionSupplier, new HQLQueryOptions(), models);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param entityManagerSupplier Supplies the entity manager of each transaction
+     * @param readTransactionSupplier Supplies read transactions
+     * @param writeTransactionSupplier Supplies write transactions
+     * @param queryOptions The options of the queries of the store, which are passed to its transactions
+     * @param models The models to bind or none to bind the entities of the entity manager
+     */
+    public JpaDataStore(EntityManagerSupplier entityManagerSupplier,
+                        JpaTransactionSupplier readTransactionSupplier,
+                        JpaTransactionSupplier writeTransactionSupplier,
+                        HQLQueryOptions queryOptions,
+                        Class<?> ... models) {
         this.entityManagerSupplier = entityManagerSupplier;
         this.readTransactionSupplier = readTransactionSupplier;
         this.writeTransactionSupplier = writeTransactionSupplier;
+        this.queryOptions = queryOptions;
         this.modelsToBind = new HashSet<>();
         for (Class<?> model : models) {
             modelsToBind.add(model);
@@ -74,6 +94,8 @@ public class JpaDataStore implements JPQLDataStore {
     public DataStoreTransaction beginReadTransaction() {
         EntityManager entityManager = entityManagerSupplier.get();
         JpaTransaction transaction = readTransactionSupplier.get(entityManager);
+        transaction.setReadOnly(true);
+        transaction.setQueryOptions(queryOptions);
         transaction.begin();
         return transaction;
     }
@@ -82,6 +104,7 @@ public class JpaDataStore implements JPQLDataStore {
     public DataStoreTransaction beginTransaction() {
         EntityManager entityManager = entityManagerSupplier.get();
         JpaTransaction transaction = writeTransactionSupplier.get(entityManager);
+        transaction.setQueryOptions(queryOptions);
         transaction.begin();
         return transaction;
     }
@@ -9,17 +9,19 @@ import com.yahoo.elide.core.DataStoreTransaction;
 import com.yahoo.elide.core.EntityDictionary;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreMetrics.Operation;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.filter.FilterPredicate;
 import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
-import com.yahoo.elide.core.hibernate.hql.AbstractHQLQueryBuilder;
+import com.yahoo.elide.core.hibernate.DeferredOperations;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
+import com.yahoo.elide.core.hibernate.hql.PageTotalsLoader;
 import com.yahoo.elide.core.hibernate.hql.RelationshipImpl;
 import com.yahoo.elide.core.hibernate.hql.RootCollectionFetchQueryBuilder;
-import com.yahoo.elide.core.hibernate.hql.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.core.hibernate.hql.SubCollectionBatchLoader;
 import com.yahoo.elide.core.hibernate.hql.SubCollectionFetchQueryBuilder;
-import com.yahoo.elide.core.hibernate.hql.SubCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.core.pagination.Pagination;
 import com.yahoo.elide.core.sort.Sorting;
 import com.yahoo.elide.datastores.jpa.porting.EntityManagerWrapper;
@@ -31,15 +33,19 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.FlushModeType;
 import javax.persistence.NoResultException;
+import javax.persistence.Query;
 import javax.validation.ConstraintViolationException;
 
 /**
@@ -50,23 +56,113 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
     private static final Predicate<Collection<?>> IS_PERSISTENT_COLLECTION =
             new PersistentCollectionChecker();
 
+    /**
+     * JPA has no standard fetch size hint, so the hints of the common providers are set.  Providers ignore the
+     * hints of others.
+     */
+    private static final String HIBERNATE_FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+    private static final String ECLIPSELINK_FETCH_SIZE_HINT = "eclipselink.jdbc.fetch-size";
+
+    /**
+     * Likewise, the JDBC batch size is read from the properties of the common providers.
+     */
+    private static final String HIBERNATE_BATCH_SIZE_PROPERTY = "hibernate.jdbc.batch_size";
+    private static final String ECLIPSELINK_BATCH_SIZE_PROPERTY = "eclipselink.jdbc.batch-writing.size";
+
+    /**
+     * Hibernate loads entities without dirty checking snapshots for read only queries and never flushes sessions in
+     * manual flush mode.  Other providers ignore these.
+     */
+    private static final String HIBERNATE_READ_ONLY_HINT = "org.hibernate.readOnly";
+    private static final String HIBERNATE_FLUSH_MODE_PROPERTY = "org.hibernate.flushMode";
+
     protected final EntityManager em;
     private final EntityManagerWrapper emWrapper;
-    private final LinkedHashSet<Runnable> deferredTasks = new LinkedHashSet<>();
+    private final DeferredOperations deferredOperations = new DeferredOperations();
+    private final SubCollectionBatchLoader batchLoader;
+    private final PageTotalsLoader pageTotalsLoader;
+    private final boolean isScrollEnabled;
+    private final int fetchSize;
+    private final List<Stream<?>> openStreams = new ArrayList<>();
+    private boolean readOnly;
+    private HQLQueryOptions queryOptions = HQLQueryOptions.NO_CACHING;
 
     protected AbstractJpaTransaction(EntityManager em) {
+        this(em, false, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param em The entity manager
+     * @param isScrollEnabled Whether root collections and filtered, sorted or paginated relationships are read
+     *                        from a database cursor rather than a result list.
+     *                        Entities are detached once they are serialized, which releases their persistence
+     *                        context snapshots.  Elide still holds the resources of the page until the response
+     *                        is written, so memory grows with the page size.
+     * @param fetchSize The JDBC fetch size of queries or zero for the driver default
+     */
+    protected AbstractJpaTransaction(EntityManager em, boolean isScrollEnabled, int fetchSize) {
         this.em = em;
         this.emWrapper = new EntityManagerWrapper(em);
+        this.batchLoader = new SubCollectionBatchLoader(emWrapper) {
+            @Override
+            protected List<?> list(com.yahoo.elide.core.hibernate.Query query) {
+                return withHints(((QueryWrapper) query).getQuery()).getResultList();
+            }
+
+            @Override
+            protected HQLQueryOptions getQueryOptions() {
+                return queryOptions;
+            }
+
+            @Override
+            protected boolean isPersistentCollection(Object value) {
+                return value instanceof Collection && IS_PERSISTENT_COLLECTION.test((Collection<?>) value);
+            }
+
+            @Override
+            protected boolean isLoaded(Object entity, String relationName, Object value) {
+                return em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(entity, relationName);
+            }
+        };
+        this.pageTotalsLoader = new PageTotalsLoader(emWrapper) {
+            @Override
+            protected Long uniqueResult(com.yahoo.elide.core.hibernate.Query query) {
+                return (Long) ((QueryWrapper) query).getQuery().getSingleResult();
+            }
+
+            @Override
+            protected HQLQueryOptions getQueryOptions() {
+                return queryOptions;
+            }
+        };
+        this.isScrollEnabled = isScrollEnabled;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+        if (readOnly) {
+            em.setFlushMode(FlushModeType.COMMIT);
+            em.setProperty(HIBERNATE_FLUSH_MODE_PROPERTY, "MANUAL");
+        }
+    }
+
+    @Override
+    public void setQueryOptions(HQLQueryOptions queryOptions) {
+        this.queryOptions = queryOptions;
     }
 
     @Override
     public void delete(Object object, RequestScope scope) {
-        deferredTasks.add(() -> em.remove(object));
+        deferredOperations.add(Operation.DELETE, object, () -> em.remove(object));
     }
 
     @Override
     public void save(Object object, RequestScope scope) {
-        deferredTasks.add(() -> {
+        deferredOperations.add(Operation.UPDATE, object, () -> {
             if (!em.contains(object)) {
                 em.merge(object);
             }
@@ -75,12 +171,11 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
 
     @Override
     public void flush(RequestScope requestScope) {
-        if (!isOpen()) {
+        if (!isOpen() || (readOnly && deferredOperations.isEmpty())) {
             return;
         }
         try {
-            deferredTasks.forEach(Runnable::run);
-            deferredTasks.clear();
+            deferredOperations.run(getJdbcBatchSize(), requestScope);
             FlushModeType flushMode = em.getFlushMode();
             if (flushMode == FlushModeType.AUTO && isOpen()) {
                 em.flush();
@@ -100,25 +195,50 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
         }
     }
 
+    /**
+     * Writes are sent in JDBC batches when the batch size of the provider is greater than one.
+     *
+     * @return the JDBC batch size of the provider or zero if unknown
+     */
+    private int getJdbcBatchSize() {
+        if (em.getEntityManagerFactory() == null) {
+            return 0;
+        }
+        Map<String, Object> properties = em.getEntityManagerFactory().getProperties();
+        Object batchSize = properties.getOrDefault(HIBERNATE_BATCH_SIZE_PROPERTY,
+                properties.get(ECLIPSELINK_BATCH_SIZE_PROPERTY));
+        if (batchSize == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(batchSize.toString().trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     @Override
     public abstract boolean isOpen();
 
     @Override
     public void commit(RequestScope scope) {
+        closeStreams();
         flush(scope);
     }
 
     @Override
     public void rollback() {
-        deferredTasks.clear();
+        closeStreams();
+        deferredOperations.clear();
     }
 
     @Override
     public void close() throws IOException {
+        closeStreams();
         if (isOpen()) {
             rollback();
         }
-        if (deferredTasks.size() > 0) {
+        if (!deferredOperations.isEmpty()) {
             throw new IOException("Transaction not closed");
         }
     }
@@ -126,7 +246,7 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
     @Override
     public void createObject(Object entity, RequestScope scope) {
 
-         deferredTasks.add(() -> {
+         deferredOperations.add(Operation.CREATE, entity, () -> {
             if (!em.contains(entity)) {
                 em.persist(entity);
             }
@@ -168,9 +288,10 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
             QueryWrapper query =
                     (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, dictionary, emWrapper)
                             .withPossibleFilterExpression(Optional.of(joinedExpression))
+                            .withQueryOptions(queryOptions)
                             .build();
 
-            return query.getQuery().getSingleResult();
+            return withHints(query.getQuery()).getSingleResult();
         } catch (NoResultException e) {
             return null;
         }
@@ -184,20 +305,42 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
             Optional<Pagination> pagination,
             RequestScope scope) {
 
-        pagination.ifPresent(p -> {
-            if (p.isGenerateTotals()) {
-                p.setPageTotals(getTotalRecords(entityClass, filterExpression, scope.getDictionary()));
-            }
-        });
+        EntityDictionary dictionary = scope.getDictionary();
+        Optional<Pagination> totals = pagination.filter(Pagination::isGenerateTotals);
+        if (totals.filter(Pagination::isTotalsOnly).isPresent()) {
+            pageTotalsLoader.setPageTotals(totals.get(), entityClass, filterExpression, dictionary);
+            return Collections.emptyList();
+        }
 
         QueryWrapper query =
                 (QueryWrapper) new RootCollectionFetchQueryBuilder(entityClass, scope.getDictionary(), emWrapper)
+                        .withIncludedRelationships(scope.getIncludedRelationships(entityClass))
                         .withPossibleFilterExpression(filterExpression)
                         .withPossibleSorting(sorting)
                         .withPossiblePagination(pagination)
+                        .withPossibleProjection(scope.getSparseFields(entityClass))
+                        .withQueryOptions(queryOptions)
                         .build();
 
-        return query.getQuery().getResultList();
+        if (isScrollEnabled) {
+            totals.ifPresent(p -> pageTotalsLoader.setPageTotals(p, entityClass, filterExpression, dictionary));
+            Stream<Object> results = withHints(query.getQuery()).getResultStream();
+            openStreams.add(results);
+            return results::iterator;
+        }
+
+        List<Object> results = withHints(query.getQuery()).getResultList();
+        totals.filter(p -> !p.setPageTotalsFromPage(results.size()))
+                .ifPresent(p -> pageTotalsLoader.setPageTotals(p, entityClass, filterExpression, dictionary));
+        return results;
+    }
+
+    @Override
+    public void evict(Object entity, RequestScope scope) {
+        // Only streamed reads detach entities: they are never modified or lazily loaded after serialization
+        if (isScrollEnabled && em.contains(entity)) {
+            em.detach(entity);
+        }
     }
 
     @Override
@@ -234,68 +377,98 @@ public abstract class AbstractJpaTransaction implements JpaTransaction {
                         entity,
                         filteredVal);
 
-                pagination.ifPresent(p -> {
-                    if (p.isGenerateTotals()) {
-                        p.setPageTotals(getTotalRecords(relationship, filterExpression, dictionary));
-                    }
-                });
+                Optional<Pagination> totals = pagination.filter(Pagination::isGenerateTotals);
+                if (totals.filter(Pagination::isTotalsOnly).isPresent()) {
+                    pageTotalsLoader.setPageTotals(totals.get(), relationship, filterExpression, dictionary);
+                    return Collections.emptyList();
+                }
 
                 QueryWrapper query = (QueryWrapper)
                         new SubCollectionFetchQueryBuilder(relationship, dictionary, emWrapper)
                                 .withPossibleFilterExpression(filterExpression)
                                 .withPossibleSorting(sorting)
                                 .withPossiblePagination(pagination)
+                                .withPossibleProjection(scope.getSparseFields(relationClass))
+                                .withQueryOptions(queryOptions)
                                 .build();
 
                 if (query != null) {
-                    return query.getQuery().getResultList();
+                    if (isScrollEnabled) {
+                        totals.ifPresent(p -> pageTotalsLoader.setPageTotals(p, relationship, filterExpression,
+                                dictionary));
+                        Stream<Object> results = withHints(query.getQuery()).getResultStream();
+                        openStreams.add(results);
+                        return (Iterable<Object>) results::iterator;
+                    }
+
+                    List<Object> results = withHints(query.getQuery()).getResultList();
+                    totals.filter(p -> !p.setPageTotalsFromPage(results.size()))
+                            .ifPresent(p -> pageTotalsLoader.setPageTotals(p, relationship, filterExpression,
+                                    dictionary));
+                    return results;
                 }
             }
         }
         return val;
     }
 
-    /**
-     * Returns the total record count for a root entity and an optional filter expression.
-     *
-     * @param entityClass      The entity type to count
-     * @param filterExpression optional security and request filters
-     * @param dictionary       the entity dictionary
-     * @param <T>              The type of entity
-     * @return The total row count.
-     */
-    private <T> Long getTotalRecords(Class<T> entityClass,
-                                     Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
+    @Override
+    public Map<Object, Object> getRelations(
+            DataStoreTransaction relationTx,
+            Collection<?> entities,
+            String relationName,
+            Optional<FilterExpression> filterExpression,
+            Optional<Sorting> sorting,
+            Optional<Pagination> pagination,
+            RequestScope scope) {
 
+        if (!SubCollectionBatchLoader.isBatchable(entities, relationName, pagination, scope.getDictionary())) {
+            return JpaTransaction.super.getRelations(relationTx, entities, relationName,
+                    filterExpression, sorting, pagination, scope);
+        }
 
-        QueryWrapper query = (QueryWrapper)
-                new RootCollectionPageTotalsQueryBuilder(entityClass, dictionary, emWrapper)
-                        .withPossibleFilterExpression(filterExpression)
-                        .build();
+        return batchLoader.getRelations(entities, relationName, filterExpression, sorting, scope,
+                entity -> getRelation(relationTx, entity, relationName, filterExpression, sorting, pagination, scope));
+    }
+
+    @Override
+    public Map<Object, Collection<String>> getRelationIds(
+            DataStoreTransaction relationTx,
+            Collection<?> entities,
+            String relationName,
+            RequestScope scope) {
 
-        return (Long) query.getQuery().getSingleResult();
+        if (!SubCollectionBatchLoader.isBatchable(entities, relationName, Optional.empty(), scope.getDictionary())) {
+            return JpaTransaction.super.getRelationIds(relationTx, entities, relationName, scope);
+        }
+
+        return batchLoader.getRelationIds(entities, relationName, scope,
+                loaded -> JpaTransaction.super.getRelationIds(relationTx, loaded, relationName, scope));
     }
 
     /**
-     * Returns the total record count for a entity relationship.
+     * Applies the configured JDBC fetch size and read only mode to a query.
      *
-     * @param relationship     The relationship
-     * @param filterExpression optional security and request filters
-     * @param dictionary       the entity dictionary
-     * @param <T>              The type of entity
-     * @return The total row count.
+     * @param query The query
+     * @return The query
      */
-    private <T> Long getTotalRecords(AbstractHQLQueryBuilder.Relationship relationship,
-                                     Optional<FilterExpression> filterExpression,
-                                     EntityDictionary dictionary) {
-
-        QueryWrapper query = (QueryWrapper)
-                new SubCollectionPageTotalsQueryBuilder(relationship, dictionary, emWrapper)
-                        .withPossibleFilterExpression(filterExpression)
-                        .build();
+    private Query withHints(Query query) {
+        if (fetchSize > 0) {
+            query.setHint(HIBERNATE_FETCH_SIZE_HINT, fetchSize);
+            query.setHint(ECLIPSELINK_FETCH_SIZE_HINT, fetchSize);
+        }
+        if (readOnly) {
+            query.setHint(HIBERNATE_READ_ONLY_HINT, true);
+        }
+        return query;
+    }
 
-        return (Long) query.getQuery().getSingleResult();
+    /**
+     * Closes the result streams (and their cursors) of the transaction.
+     */
+    private void closeStreams() {
+        openStreams.forEach(Stream::close);
+        openStreams.clear();
     }
 
     @Override
@@ -6,6 +6,7 @@
 package com.yahoo.elide.datastores.jpa.transaction;
 
 import com.yahoo.elide.core.DataStoreTransaction;
+import com.yahoo.elide.core.hibernate.hql.HQLQueryOptions;
 
 /**
  * Extended for JPA DataStoreTransaction.
@@ -13,6 +14,23 @@ import com.yahoo.elide.core.DataStoreTransaction;
 public interface JpaTransaction extends DataStoreTransaction {
     void begin();
 
+    /**
+     * Marks the transaction as read only before it begins.  Implementations may then skip dirty checking and
+     * flushing.
+     *
+     * @param readOnly whether the transaction only reads
+     */
+    default void setReadOnly(boolean readOnly) {
+    }
+
+    /**
+     * Configures the queries of the transaction with the options of its data store before it begins.
+     *
+     * @param queryOptions the query options of the data store
+     */
+    default void setQueryOptions(HQLQueryOptions queryOptions) {
+    }
+
     void rollback();
 
     boolean isOpen();
@@ -28,7 +28,23 @@ public class JtaTransaction extends AbstractJpaTransaction {
     }
 
     public JtaTransaction(EntityManager entityManager, UserTransaction transaction) {
-        super(entityManager);
+        this(entityManager, transaction, false, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param entityManager The entity manager
+     * @param transaction The user transaction
+     * @param isScrollEnabled Whether root collections and filtered, sorted or paginated relationships are read
+     *                        from a database cursor rather than a result list.
+     *                        Elide still holds the resources of the page, so this only releases the persistence
+     *                        context snapshots of serialized entities.
+     * @param fetchSize The JDBC fetch size of queries or zero for the driver default
+     */
+    public JtaTransaction(EntityManager entityManager, UserTransaction transaction,
+                          boolean isScrollEnabled, int fetchSize) {
+        super(entityManager, isScrollEnabled, fetchSize);
         this.transaction = transaction;
     }
 
@@ -21,7 +21,21 @@ public class NonJtaTransaction extends AbstractJpaTransaction {
     private final EntityTransaction transaction;
 
     public NonJtaTransaction(EntityManager entityManager) {
-        super(entityManager);
+        this(entityManager, false, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param entityManager The entity manager
+     * @param isScrollEnabled Whether root collections and filtered, sorted or paginated relationships are read
+     *                        from a database cursor rather than a result list.
+     *                        Elide still holds the resources of the page, so this only releases the persistence
+     *                        context snapshots of serialized entities.
+     * @param fetchSize The JDBC fetch size of queries or zero for the driver default
+     */
+    public NonJtaTransaction(EntityManager entityManager, boolean isScrollEnabled, int fetchSize) {
+        super(entityManager, isScrollEnabled, fetchSize);
         this.transaction = entityManager.getTransaction();
         entityManager.clear();
     }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpa.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.RequestScope;
+
+import com.google.common.collect.Lists;
+
+import example.Person;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityTransaction;
+import javax.persistence.FlushModeType;
+import javax.persistence.Query;
+
+public class JpaTransactionTest {
+    private EntityManager entityManager;
+    private Query query;
+    private RequestScope scope;
+    private Person person;
+
+    @BeforeEach
+    public void setup() {
+        EntityDictionary dictionary = new EntityDictionary(new HashMap<>());
+        dictionary.bindEntity(Person.class);
+
+        entityManager = mock(EntityManager.class);
+        query = mock(Query.class);
+        when(entityManager.getTransaction()).thenReturn(mock(EntityTransaction.class));
+        when(entityManager.createQuery(anyString())).thenReturn(query);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        person = new Person();
+        person.setId(1);
+        when(entityManager.contains(person)).thenReturn(true);
+    }
+
+    @Test
+    public void testStreamedLoad() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(query.getResultStream()).thenReturn(Stream.of(person).onClose(() -> closed.set(true)));
+
+        NonJtaTransaction transaction = new NonJtaTransaction(entityManager, true, 100);
+        Iterable<Object> loaded = transaction.loadObjects(Person.class, Optional.empty(), Optional.empty(),
+                Optional.empty(), scope);
+
+        assertEquals(Collections.singletonList(person), Lists.newArrayList(loaded));
+        verify(query, never()).getResultList();
+        verify(query).setHint("org.hibernate.fetchSize", 100);
+
+        transaction.evict(person, scope);
+        verify(entityManager).detach(person);
+
+        transaction.close();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testListLoad() {
+        when(query.getResultList()).thenReturn(Collections.singletonList(person));
+
+        NonJtaTransaction transaction = new NonJtaTransaction(entityManager);
+        Iterable<Object> loaded = transaction.loadObjects(Person.class, Optional.empty(), Optional.empty(),
+                Optional.empty(), scope);
+
+        assertEquals(Collections.singletonList(person), loaded);
+        verify(query, never()).getResultStream();
+        verify(query, never()).setHint(anyString(), any());
+
+        // Entities loaded in full stay managed
+        transaction.evict(person, scope);
+        verify(entityManager, never()).detach(any());
+    }
+
+    @Test
+    public void testReadOnlyLoad() {
+        when(query.getResultList()).thenReturn(Collections.singletonList(person));
+
+        NonJtaTransaction transaction = new NonJtaTransaction(entityManager);
+        transaction.setReadOnly(true);
+        verify(entityManager).setFlushMode(FlushModeType.COMMIT);
+        verify(entityManager).setProperty("org.hibernate.flushMode", "MANUAL");
+
+        transaction.loadObjects(Person.class, Optional.empty(), Optional.empty(), Optional.empty(), scope);
+        verify(query).setHint("org.hibernate.readOnly", true);
+
+        transaction.flush(scope);
+        verify(entityManager, never()).flush();
+    }
+}
@@ -69,6 +69,11 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         getTransaction(entity).createObject(entity, scope);
     }
 
+    @Override
+    public void evict(Object entity, RequestScope scope) {
+        getTransaction(entity).evict(entity, scope);
+    }
+
 
     @Override
     public Object loadObject(Class<?> entityClass,
@@ -48,13 +48,17 @@ public class PageInfoContainer implements GraphQLContainer {
             switch (fieldName) {
                 case PAGE_INFO_HAS_NEXT_PAGE_KEYWORD: {
                     int numResults = ids.size();
+                    if (pageValue.isKeyset() && !pageValue.isGenerateTotals()) {
+                        // Without totals, a full page is assumed to have a successor
+                        return numResults >= pageValue.getLimit();
+                    }
                     int nextOffset = numResults + pageValue.getOffset();
                     return nextOffset < pageValue.getPageTotals();
                 }
                 case PAGE_INFO_START_CURSOR_KEYWORD:
-                    return pageValue.getOffset();
+                    return pageValue.isKeyset() ? pageValue.getStartCursor() : pageValue.getOffset();
                 case PAGE_INFO_END_CURSOR_KEYWORD:
-                    return pageValue.getOffset() + ids.size();
+                    return pageValue.isKeyset() ? pageValue.getEndCursor() : pageValue.getOffset() + ids.size();
                 case PAGE_INFO_TOTAL_RECORDS_KEYWORD:
                     return pageValue.getPageTotals();
                 default:
@@ -87,6 +87,11 @@ public class FetcherFetchTest extends PersistentResourceFetcherTest {
         runComparisonTest("rootCollectionPaginateWithOffset");
     }
 
+    @Test
+    public void testRootCollectionPaginateWithCursor() throws Exception {
+        runComparisonTest("rootCollectionPaginateWithCursor");
+    }
+
     @Test
     public void testNestedCollectionPaginate() throws Exception {
         runComparisonTest("nestedCollectionPaginate");
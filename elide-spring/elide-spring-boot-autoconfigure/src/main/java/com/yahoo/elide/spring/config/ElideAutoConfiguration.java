@@ -12,10 +12,13 @@ import com.yahoo.elide.audit.Slf4jLogger;
 import com.yahoo.elide.contrib.swagger.SwaggerBuilder;
 import com.yahoo.elide.core.DataStore;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.core.datastore.DataStoreMetrics;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.datastores.jpa.JpaDataStore;
 import com.yahoo.elide.datastores.jpa.transaction.NonJtaTransaction;
+import com.yahoo.elide.security.PermissionMetrics;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -42,22 +45,30 @@ public class ElideAutoConfiguration {
      * @param dictionary Stores the static metadata about Elide models.
      * @param dataStore The persistence store.
      * @param settings Elide settings.
+     * @param permissionMetrics Receives permission evaluation metrics if a bean is defined or Micrometer is
+     *                          available.
+     * @param dataStoreMetrics Receives data store write metrics if a bean is defined.
      * @return A new elide instance.
      */
     @Bean
     @ConditionalOnMissingBean
     public Elide initializeElide(EntityDictionary dictionary,
-                          DataStore dataStore, ElideConfigProperties settings) {
+                          DataStore dataStore, ElideConfigProperties settings,
+                          ObjectProvider<PermissionMetrics> permissionMetrics,
+                          ObjectProvider<DataStoreMetrics> dataStoreMetrics) {
 
         ElideSettingsBuilder builder = new ElideSettingsBuilder(dataStore)
                 .withEntityDictionary(dictionary)
                 .withDefaultMaxPageSize(settings.getMaxPageSize())
                 .withDefaultPageSize(settings.getPageSize())
+                .withStreamResponses(settings.isStreamResponses())
                 .withUseFilterExpressions(true)
                 .withJoinFilterDialect(new RSQLFilterDialect(dictionary))
                 .withSubqueryFilterDialect(new RSQLFilterDialect(dictionary))
                 .withAuditLogger(new Slf4jLogger())
                 .withEncodeErrorResponses(true)
+                .withPermissionMetrics(permissionMetrics.getIfAvailable(() -> PermissionMetrics.NONE))
+                .withDataStoreMetrics(dataStoreMetrics.getIfAvailable(() -> DataStoreMetrics.NONE))
                 .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"));
 
         return new Elide(builder.build());
@@ -40,4 +40,11 @@ public class ElideConfigProperties {
      * The maximum pagination size a client can request.
      */
     private int maxPageSize = 10000;
+
+    /**
+     * Whether JSON-API read responses are written directly to the response output stream.  The response status
+     * is sent before the read transaction commits, so a commit failure after the first byte results in a
+     * truncated 200 response.
+     */
+    private boolean streamResponses = false;
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.config;
+
+import com.yahoo.elide.security.PermissionMetrics;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Auto Configuration that records Elide permission metrics in the Micrometer registry of the application.
+ * Define a PermissionMetrics bean to record different metrics.
+ */
+@Configuration
+@ConditionalOnClass(MeterRegistry.class)
+@AutoConfigureAfter(
+        name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+public class ElideMicrometerAutoConfiguration {
+
+    /**
+     * Creates the permission metrics.
+     * @param registry The Micrometer registry.
+     * @return An instance of MicrometerPermissionMetrics.
+     */
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean
+    public PermissionMetrics buildPermissionMetrics(MeterRegistry registry) {
+        return new MicrometerPermissionMetrics(registry);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.config;
+
+import com.yahoo.elide.security.PermissionMetrics;
+import com.yahoo.elide.security.checks.Check;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records permission metrics in a Micrometer {@link MeterRegistry}.
+ *
+ * Check evaluations are timed under {@code elide.checks.evaluations} and expression cache hits are counted under
+ * {@code elide.checks.cache.hits}, both tagged with the check class.  User permission cache lookups are counted under
+ * {@code elide.permissions.user.cache} tagged with the permission and the result, and the size of the commit check
+ * queue is recorded in the {@code elide.permissions.commit.checks} distribution summary.
+ */
+public class MicrometerPermissionMetrics implements PermissionMetrics {
+    public static final String CHECK_EVALUATIONS = "elide.checks.evaluations";
+    public static final String CHECK_CACHE_HITS = "elide.checks.cache.hits";
+    public static final String USER_PERMISSION_CACHE = "elide.permissions.user.cache";
+    public static final String COMMIT_CHECKS = "elide.permissions.commit.checks";
+
+    private final MeterRegistry registry;
+
+    public MicrometerPermissionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void checkEvaluated(Class<? extends Check> checkClass, long durationNanos) {
+        registry.timer(CHECK_EVALUATIONS, "check", checkClass.getName()).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void checkCacheHit(Class<? extends Check> checkClass) {
+        registry.counter(CHECK_CACHE_HITS, "check", checkClass.getName()).increment();
+    }
+
+    @Override
+    public void userPermissionCacheLookup(Class<? extends Annotation> annotationClass, boolean hit) {
+        registry.counter(USER_PERMISSION_CACHE, "permission", annotationClass.getSimpleName(),
+                "result", hit ? "hit" : "miss").increment();
+    }
+
+    @Override
+    public void commitChecksExecuted(int queueSize) {
+        registry.summary(COMMIT_CHECKS).record(queueSize);
+    }
+}
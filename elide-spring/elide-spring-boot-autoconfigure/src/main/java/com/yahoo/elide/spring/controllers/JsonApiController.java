@@ -27,9 +27,11 @@ import org.springframework.web.servlet.HandlerMapping;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.MultivaluedHashMap;
 
 /**
@@ -57,10 +59,23 @@ public class JsonApiController {
 
     @GetMapping(value = "/**", produces = JSON_API_CONTENT_TYPE)
     public ResponseEntity<String> elideGet(@RequestParam Map<String, String> allRequestParams,
-                                           HttpServletRequest request, Principal authentication) {
+                                           HttpServletRequest request, HttpServletResponse servletResponse,
+                                           Principal authentication) throws IOException {
         String pathname = getJsonApiPath(request, settings.getJsonApi().getPath());
 
         ElideResponse response = elide.get(pathname, new MultivaluedHashMap<>(allRequestParams), authentication);
+        if (response.isStreaming()) {
+            // Written synchronously so the body is serialized on the thread which owns the transaction
+            try {
+                servletResponse.setStatus(response.getResponseCode());
+                servletResponse.setContentType(JSON_API_CONTENT_TYPE);
+                response.getStreamingBody().write(servletResponse.getOutputStream());
+            } finally {
+                //Releases the transaction if the body could not be written
+                response.close();
+            }
+            return null;
+        }
         return ResponseEntity.status(response.getResponseCode()).body(response.getBody());
     }
 
@@ -7,6 +7,10 @@ package com.yahoo.elide.spring;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,4 +23,9 @@ public class App {
     public static void main(String[] args) throws Exception {
         SpringApplication.run(App.class, args);
     }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
 }
@@ -28,15 +28,22 @@ import static io.restassured.RestAssured.given;
 import static io.restassured.RestAssured.when;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.yahoo.elide.contrib.testhelpers.graphql.GraphQLDSL;
 import com.yahoo.elide.core.HttpStatus;
+import com.yahoo.elide.spring.config.MicrometerPermissionMetrics;
 import com.yahoo.elide.spring.controllers.JsonApiController;
 import com.yahoo.elide.spring.models.ArtifactGroup;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlMergeMode;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import javax.ws.rs.core.MediaType;
 
 /**
@@ -49,6 +56,9 @@ import javax.ws.rs.core.MediaType;
 @Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
         statements = "DELETE FROM ArtifactVersion; DELETE FROM ArtifactProduct; DELETE FROM ArtifactGroup;")
 public class ControllerTest extends IntegrationTest {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * This test demonstrates an example test using the JSON-API DSL.
      */
@@ -313,4 +323,18 @@ public class ControllerTest extends IntegrationTest {
                 .body("errors", contains("ForbiddenAccessException"))
                 .statusCode(200);
     }
+
+    @Test
+    public void permissionMetricsTest() {
+        when()
+                .get("/json/group")
+                .then()
+                .statusCode(HttpStatus.SC_OK);
+
+        Counter misses = meterRegistry.find(MicrometerPermissionMetrics.USER_PERMISSION_CACHE)
+                .tags("permission", "ReadPermission", "result", "miss")
+                .counter();
+        assertNotNull(misses);
+        assertTrue(misses.count() > 0);
+    }
 }
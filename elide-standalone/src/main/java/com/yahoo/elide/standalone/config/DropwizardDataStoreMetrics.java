@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.standalone.config;
+
+import com.yahoo.elide.core.datastore.DataStoreMetrics;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Locale;
+
+/**
+ * Records data store metrics in a Dropwizard {@link MetricRegistry}.
+ *
+ * The sizes of JDBC write batches are recorded in a histogram per entity class and kind of write under
+ * {@code elide.datastore.<entity class>.<operation>.batchSize}.
+ */
+public class DropwizardDataStoreMetrics implements DataStoreMetrics {
+    public static final String DATASTORE_PREFIX = "elide.datastore";
+
+    private final MetricRegistry registry;
+
+    public DropwizardDataStoreMetrics(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void writeBatchFlushed(Class<?> entityClass, Operation operation, int size) {
+        registry.histogram(MetricRegistry.name(DATASTORE_PREFIX, entityClass.getName(),
+                operation.name().toLowerCase(Locale.ENGLISH), "batchSize")).update(size);
+    }
+}
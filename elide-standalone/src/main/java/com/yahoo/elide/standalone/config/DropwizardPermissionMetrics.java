@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.standalone.config;
+
+import com.yahoo.elide.security.PermissionMetrics;
+import com.yahoo.elide.security.checks.Check;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records permission metrics in a Dropwizard {@link MetricRegistry}.
+ *
+ * Every check class gets a timer (invocation count and latency percentiles) and a cache hit meter under
+ * {@code elide.checks.<check class>}.  User permission cache lookups are counted per permission under
+ * {@code elide.permissions.<annotation>} and the size of the commit check queue is recorded in a histogram.
+ */
+public class DropwizardPermissionMetrics implements PermissionMetrics {
+    public static final String CHECK_PREFIX = "elide.checks";
+    public static final String PERMISSION_PREFIX = "elide.permissions";
+
+    private final MetricRegistry registry;
+
+    public DropwizardPermissionMetrics(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void checkEvaluated(Class<? extends Check> checkClass, long durationNanos) {
+        registry.timer(MetricRegistry.name(CHECK_PREFIX, checkClass.getName(), "evaluations"))
+                .update(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void checkCacheHit(Class<? extends Check> checkClass) {
+        registry.meter(MetricRegistry.name(CHECK_PREFIX, checkClass.getName(), "cacheHits")).mark();
+    }
+
+    @Override
+    public void userPermissionCacheLookup(Class<? extends Annotation> annotationClass, boolean hit) {
+        registry.counter(MetricRegistry.name(PERMISSION_PREFIX, annotationClass.getSimpleName(),
+                hit ? "userCacheHits" : "userCacheMisses")).inc();
+    }
+
+    @Override
+    public void commitChecksExecuted(int queueSize) {
+        registry.histogram(MetricRegistry.name(PERMISSION_PREFIX, "commitCheckQueueSize")).update(queueSize);
+    }
+}
@@ -95,6 +95,8 @@ public class ElideResourceConfig extends ResourceConfig {
             }
         });
 
+        register(StreamingResponseCloser.class);
+
         registerFilters(settings.getFilters());
 
         additionalConfiguration(settings.getApplicationConfigurator());
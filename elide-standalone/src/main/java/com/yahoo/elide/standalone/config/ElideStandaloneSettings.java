@@ -88,12 +88,19 @@ public interface ElideStandaloneSettings {
                 .withEntityDictionary(dictionary)
                 .withJoinFilterDialect(new RSQLFilterDialect(dictionary))
                 .withSubqueryFilterDialect(new RSQLFilterDialect(dictionary))
-                .withAuditLogger(getAuditLogger());
+                .withAuditLogger(getAuditLogger())
+                .withStreamResponses(enableStreamResponses());
 
         if (enableIS06081Dates()) {
             builder = builder.withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"));
         }
 
+        if (enableServiceMonitoring()) {
+            builder = builder.withPermissionMetrics(
+                    new DropwizardPermissionMetrics(ElideResourceConfig.getMetricRegistry()))
+                    .withDataStoreMetrics(new DropwizardDataStoreMetrics(ElideResourceConfig.getMetricRegistry()));
+        }
+
         return builder.build();
     }
 
@@ -187,6 +194,17 @@ public interface ElideStandaloneSettings {
         return true;
     }
 
+    /**
+     * Whether read-only JSON-API responses should be written directly to the response stream.
+     *
+     * The response status is sent before the read transaction commits, so a commit failure after the first byte
+     * results in a truncated 200 response.
+     * @return
+     */
+    default boolean enableStreamResponses() {
+        return false;
+    }
+
     /**
      * Whether or not Codahale metrics, healthchecks, thread, ping, and admin servlet
      * should be enabled.
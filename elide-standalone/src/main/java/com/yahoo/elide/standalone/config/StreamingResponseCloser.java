@@ -0,0 +1,33 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.standalone.config;
+
+import com.yahoo.elide.SingleUseStreamingOutput;
+
+import org.glassfish.jersey.server.CloseableService;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+
+/**
+ * Closes streamed response bodies once Jersey finishes the request.  A body which is never written (for example
+ * because the client disconnected) would otherwise hold its read transaction open.  Closing a written body does
+ * nothing.
+ */
+public class StreamingResponseCloser implements ContainerResponseFilter {
+    @Inject
+    private Provider<CloseableService> closeableService;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (responseContext.getEntity() instanceof SingleUseStreamingOutput) {
+            closeableService.get().add((SingleUseStreamingOutput) responseContext.getEntity());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.standalone;
+
+import static com.yahoo.elide.Elide.JSONAPI_CONTENT_TYPE;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.attr;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.attributes;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.datum;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.id;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.resource;
+import static com.yahoo.elide.contrib.testhelpers.jsonapi.JsonApiDSL.type;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.yahoo.elide.standalone.config.ElideStandaloneSettings;
+
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the ElideStandalone tests with read-only responses written directly to the response stream.
+ */
+public class ElideStandaloneStreamingTest extends ElideStandaloneTest {
+
+    @Override
+    protected ElideStandaloneSettings getSettings() {
+        return new ElideStandaloneTestSettings() {
+            @Override
+            public boolean enableStreamResponses() {
+                return true;
+            }
+        };
+    }
+
+    @Test
+    public void testStreamedJsonAPIGet() {
+        given()
+            .contentType(JSONAPI_CONTENT_TYPE)
+            .accept(JSONAPI_CONTENT_TYPE)
+            .body(
+                datum(
+                    resource(
+                        type("post"),
+                        id("4"),
+                        attributes(
+                            attr("content", "This is a streamed post."),
+                            attr("date", "2019-01-03T00:00Z")
+                        )
+                    )
+                )
+            )
+            .post("/api/v1/post")
+            .then()
+            .statusCode(HttpStatus.SC_CREATED);
+
+        given()
+            .accept(JSONAPI_CONTENT_TYPE)
+            .get("/api/v1/post/4")
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .body("data.attributes.content", equalTo("This is a streamed post."));
+    }
+}
@@ -17,6 +17,7 @@ import static org.hamcrest.Matchers.hasKey;
 
 import com.yahoo.elide.contrib.swagger.SwaggerBuilder;
 import com.yahoo.elide.core.EntityDictionary;
+import com.yahoo.elide.standalone.checks.AdminCheck;
 import com.yahoo.elide.standalone.config.ElideStandaloneSettings;
 import com.yahoo.elide.standalone.models.Post;
 
@@ -42,51 +43,59 @@ import java.util.Properties;
 public class ElideStandaloneTest {
     private ElideStandalone elide;
 
+    /**
+     * Settings of the test service.
+     */
+    protected static class ElideStandaloneTestSettings implements ElideStandaloneSettings {
+        @Override
+        public Properties getDatabaseProperties() {
+            Properties options = new Properties();
+
+            options.put("hibernate.show_sql", "true");
+            options.put("hibernate.hbm2ddl.auto", "create");
+            options.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+            options.put("hibernate.current_session_context_class", "thread");
+            options.put("hibernate.jdbc.use_scrollable_resultset", "true");
+            options.put("hibernate.jdbc.batch_size", "50");
+
+            options.put("javax.persistence.jdbc.driver", "org.h2.Driver");
+            options.put("javax.persistence.jdbc.url", "jdbc:h2:mem:db1;DB_CLOSE_DELAY=-1;MVCC=TRUE;");
+            options.put("javax.persistence.jdbc.user", "sa");
+            options.put("javax.persistence.jdbc.password", "");
+            return options;
+        }
+
+        @Override
+        public String getModelPackageName() {
+            return Post.class.getPackage().getName();
+        }
+
+        @Override
+        public Map<String, Swagger> enableSwagger() {
+            EntityDictionary dictionary = new EntityDictionary(Maps.newHashMap());
+
+            dictionary.bindEntity(Post.class);
+            Info info = new Info().title("Test Service").version("1.0");
+
+            SwaggerBuilder builder = new SwaggerBuilder(dictionary, info);
+            Swagger swagger = builder.build();
+
+            Map<String, Swagger> docs = new HashMap<>();
+            docs.put("test", swagger);
+            return docs;
+        }
+    }
+
     @BeforeAll
     public void init() throws Exception {
-        elide = new ElideStandalone(new ElideStandaloneSettings() {
-
-            @Override
-            public Properties getDatabaseProperties() {
-                Properties options = new Properties();
-
-                options.put("hibernate.show_sql", "true");
-                options.put("hibernate.hbm2ddl.auto", "create");
-                options.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
-                options.put("hibernate.current_session_context_class", "thread");
-                options.put("hibernate.jdbc.use_scrollable_resultset", "true");
-
-                options.put("javax.persistence.jdbc.driver", "org.h2.Driver");
-                options.put("javax.persistence.jdbc.url", "jdbc:h2:mem:db1;DB_CLOSE_DELAY=-1;MVCC=TRUE;");
-                options.put("javax.persistence.jdbc.user", "sa");
-                options.put("javax.persistence.jdbc.password", "");
-                return options;
-            }
-
-            @Override
-            public String getModelPackageName() {
-                return Post.class.getPackage().getName();
-            }
-
-            @Override
-            public Map<String, Swagger> enableSwagger() {
-                EntityDictionary dictionary = new EntityDictionary(Maps.newHashMap());
-
-                dictionary.bindEntity(Post.class);
-                Info info = new Info().title("Test Service").version("1.0");
-
-                SwaggerBuilder builder = new SwaggerBuilder(dictionary, info);
-                Swagger swagger = builder.build();
-
-                Map<String, Swagger> docs = new HashMap<>();
-                docs.put("test", swagger);
-                return docs;
-            }
-
-        });
+        elide = new ElideStandalone(getSettings());
         elide.start(false);
     }
 
+    protected ElideStandaloneSettings getSettings() {
+        return new ElideStandaloneTestSettings();
+    }
+
     @AfterAll
     public void shutdown() throws Exception {
         elide.stop();
@@ -149,6 +158,47 @@ public class ElideStandaloneTest {
                 .body("meters", hasKey("com.codahale.metrics.servlet.InstrumentedFilter.responseCodes.ok"));
     }
 
+    @Test
+    public void testPermissionMetrics() throws Exception {
+        testForbiddenJsonAPIPost();
+
+        given()
+                .when()
+                .get("/stats/metrics")
+                .then()
+                .statusCode(200)
+                .body("timers", hasKey("elide.checks." + AdminCheck.class.getName() + ".evaluations"));
+    }
+
+    @Test
+    public void testDataStoreMetrics() throws Exception {
+        given()
+            .contentType(JSONAPI_CONTENT_TYPE)
+            .accept(JSONAPI_CONTENT_TYPE)
+            .body(
+                datum(
+                    resource(
+                        type("post"),
+                        id("3"),
+                        attributes(
+                            attr("content", "This is my second post."),
+                            attr("date", "2019-01-02T00:00Z")
+                        )
+                    )
+                )
+            )
+            .post("/api/v1/post")
+            .then()
+            .statusCode(HttpStatus.SC_CREATED);
+
+        given()
+                .when()
+                .get("/stats/metrics")
+                .then()
+                .statusCode(200)
+                .body("histograms", hasKey("elide.datastore." + Post.class.getName() + ".create.batchSize"));
+    }
+
     @Test
     public void testHealthCheckServlet() throws Exception {
             given()